@@ -18,6 +18,7 @@ import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.impl.selection.DifferentialEvolutionSelection;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
@@ -43,6 +44,8 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
 
   protected SolutionListEvaluator<DoubleSolution> evaluator;
 
+  protected SolutionPool<DoubleSolution> solutionPool;
+
   /**
    * Constructor
    */
@@ -147,8 +150,27 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
       }
     }
     Ranking<DoubleSolution> ranking = computeRanking(tmpList);
+    List<DoubleSolution> newPopulation = crowdingDistanceSelection(ranking);
+
+    if (solutionPool != null) {
+      solutionPool.releaseAllExcept(population, newPopulation);
+      solutionPool.releaseAllExcept(offspringPopulation, newPopulation);
+    }
+
+    return newPopulation;
+  }
 
-    return crowdingDistanceSelection(ranking);
+  public SolutionPool<DoubleSolution> getSolutionPool() {
+    return solutionPool;
+  }
+
+  /**
+   * Sets a pool to reuse the solutions discarded in the replacement; the crossover operator takes
+   * its copies from it. A null pool disables the reuse.
+   */
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    this.solutionPool = solutionPool;
+    crossoverOperator.setSolutionPool(solutionPool);
   }
 
   @Override public List<DoubleSolution> getResult() {
@@ -27,6 +27,7 @@ import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.impl.selection.DifferentialEvolutionSelection;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.AlgorithmBuilder;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
@@ -46,6 +47,8 @@ public class GDE3Builder implements AlgorithmBuilder<GDE3> {
 
   protected SolutionListEvaluator<DoubleSolution> evaluator;
 
+  protected boolean solutionPooling;
+
   /** Constructor */
   public GDE3Builder(DoubleProblem problem) {
     this.problem = problem;
@@ -87,8 +90,23 @@ public class GDE3Builder implements AlgorithmBuilder<GDE3> {
     return this ;
   }
 
+  /**
+   * Enables the reuse of the solutions discarded in the replacement through a {@link SolutionPool}
+   */
+  public GDE3Builder setSolutionPooling(boolean solutionPooling) {
+    this.solutionPooling = solutionPooling ;
+
+    return this ;
+  }
+
   public GDE3 build() {
-    return new GDE3(problem, populationSize, maxEvaluations, selectionOperator, crossoverOperator, evaluator) ;
+    GDE3 algorithm = new GDE3(problem, populationSize, maxEvaluations, selectionOperator,
+        crossoverOperator, evaluator) ;
+    if (solutionPooling) {
+      algorithm.setSolutionPool(new SolutionPool<DoubleSolution>(2 * populationSize));
+    }
+
+    return algorithm ;
   }
 
   /* Getters */
@@ -108,5 +126,9 @@ public class GDE3Builder implements AlgorithmBuilder<GDE3> {
     return maxEvaluations;
   }
 
+  public boolean isSolutionPooling() {
+    return solutionPooling;
+  }
+
 }
 
@@ -31,25 +31,41 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.parallel.ParallelLoop;
 import org.uma.jmetal.util.solutionattribute.impl.Fitness;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * This class implements the IBEA algorithm
+ * This class implements the IBEA algorithm.
+ *
+ * The indicator values of each pair of solutions are stored in a primitive matrix, whose rows can
+ * be computed by several threads (one by default); the result is the same for any number of
+ * threads. When a solution is removed from the archive, the fitness of the remaining ones is
+ * updated in O(N) without rebuilding the matrix: the removed solution is only dropped from the
+ * index of rows in use.
  */
 public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
   private Problem<S> problem;
 
   public static final int TOURNAMENTS_ROUNDS = 1;
 
-  private List<List<Double>> indicatorValues;
+  private static final double KAPPA = 0.05;
+
+  /** Indicator values of the solutions stored row by row; the matrix is reused between calls */
+  private double[] indicatorValues;
+  private int matrixSize;
+  /** rows[i] is the row (and column) of the matrix of the i-th solution of the current list */
+  private int[] rows;
   private double maxIndicatorValue;
 
   private int populationSize;
   private int archiveSize;
   private int maxEvaluations;
+  private ParallelLoop parallelLoop;
 
   private List<S> archive;
 
@@ -57,6 +73,8 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
   private MutationOperator<S> mutationOperator;
   private SelectionOperator<List<S>, S> selectionOperator;
 
+  private SolutionListEvaluator<S> evaluator;
+
   private Fitness<S> solutionFitness = new Fitness<S>();
 
   /**
@@ -65,6 +83,16 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
   public IBEA(Problem<S> problem, int populationSize, int archiveSize, int maxEvaluations,
       SelectionOperator<List<S>, S> selectionOperator, CrossoverOperator<S> crossoverOperator,
       MutationOperator<S> mutationOperator) {
+    this(problem, populationSize, archiveSize, maxEvaluations, selectionOperator,
+        crossoverOperator, mutationOperator, new SequentialSolutionListEvaluator<S>());
+  }
+
+  /**
+   * Constructor
+   */
+  public IBEA(Problem<S> problem, int populationSize, int archiveSize, int maxEvaluations,
+      SelectionOperator<List<S>, S> selectionOperator, CrossoverOperator<S> crossoverOperator,
+      MutationOperator<S> mutationOperator, SolutionListEvaluator<S> evaluator) {
     this.problem = problem;
     this.populationSize = populationSize;
     this.archiveSize = archiveSize;
@@ -72,68 +100,70 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     this.crossoverOperator = crossoverOperator;
     this.mutationOperator = mutationOperator;
     this.selectionOperator = selectionOperator;
+    this.evaluator = evaluator;
+    this.parallelLoop = new ParallelLoop(1);
   }
 
   /**
    * Execute() method
    */
   @Override public void run() {
-    int evaluations;
-    List<S> solutionSet, offSpringSolutionSet;
-
-    //Initialize the variables
-    solutionSet = new ArrayList<>(populationSize);
-    archive = new ArrayList<>(archiveSize);
-    evaluations = 0;
-
-    //-> Create the initial solutionSet
-    S newSolution;
-    for (int i = 0; i < populationSize; i++) {
-      newSolution = problem.createSolution();
-      problem.evaluate(newSolution);
-      evaluations++;
-      solutionSet.add(newSolution);
-    }
-
-    while (evaluations < maxEvaluations) {
-      List<S> union = new ArrayList<>();
-      union.addAll(solutionSet);
-      union.addAll(archive);
-      calculateFitness(union);
-      archive = union;
-
-      while (archive.size() > populationSize) {
-        removeWorst(archive);
+    try {
+      int evaluations;
+      List<S> solutionSet, offSpringSolutionSet;
+
+      //Initialize the variables
+      solutionSet = new ArrayList<>(populationSize);
+      archive = new ArrayList<>(archiveSize);
+      evaluations = 0;
+
+      //-> Create the initial solutionSet
+      for (int i = 0; i < populationSize; i++) {
+        solutionSet.add(problem.createSolution());
       }
-      // Create a new offspringPopulation
-      offSpringSolutionSet = new ArrayList<>(populationSize);
-      S parent1;
-      S parent2;
-      while (offSpringSolutionSet.size() < populationSize) {
-        int j = 0;
-        do {
-          j++;
-          parent1 = selectionOperator.execute(archive);
-        } while (j < IBEA.TOURNAMENTS_ROUNDS);
-        int k = 0;
-        do {
-          k++;
-          parent2 = selectionOperator.execute(archive);
-        } while (k < IBEA.TOURNAMENTS_ROUNDS);
-
-        List<S> parents = new ArrayList<>(2);
-        parents.add(parent1);
-        parents.add(parent2);
-
-        //make the crossover
-        List<S> offspring = crossoverOperator.execute(parents);
-        mutationOperator.execute(offspring.get(0));
-        problem.evaluate(offspring.get(0));
-        //problem.evaluateConstraints(offSpring[0]);
-        offSpringSolutionSet.add(offspring.get(0));
-        evaluations++;
+      solutionSet = evaluator.evaluate(solutionSet, problem);
+      evaluations += populationSize;
+
+      while (evaluations < maxEvaluations) {
+        List<S> union = new ArrayList<>();
+        union.addAll(solutionSet);
+        union.addAll(archive);
+        calculateFitness(union);
+        archive = union;
+
+        while (archive.size() > populationSize) {
+          removeWorst(archive);
+        }
+        // Create a new offspringPopulation
+        offSpringSolutionSet = new ArrayList<>(populationSize);
+        S parent1;
+        S parent2;
+        while (offSpringSolutionSet.size() < populationSize) {
+          int j = 0;
+          do {
+            j++;
+            parent1 = selectionOperator.execute(archive);
+          } while (j < IBEA.TOURNAMENTS_ROUNDS);
+          int k = 0;
+          do {
+            k++;
+            parent2 = selectionOperator.execute(archive);
+          } while (k < IBEA.TOURNAMENTS_ROUNDS);
+
+          List<S> parents = new ArrayList<>(2);
+          parents.add(parent1);
+          parents.add(parent2);
+
+          //make the crossover
+          List<S> offspring = crossoverOperator.execute(parents);
+          mutationOperator.execute(offspring.get(0));
+          offSpringSolutionSet.add(offspring.get(0));
+        }
+        solutionSet = evaluator.evaluate(offSpringSolutionSet, problem);
+        evaluations += offSpringSolutionSet.size();
       }
-      solutionSet = offSpringSolutionSet;
+    } finally {
+      parallelLoop.shutdown();
     }
   }
 
@@ -141,6 +171,20 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     return SolutionListUtils.getNondominatedSolutions(archive);
   }
 
+  public int getNumberOfThreads() {
+    return parallelLoop.getNumberOfThreads();
+  }
+
+  /**
+   * Sets the number of threads used to compute the indicator values and the fitness. The threads
+   * are shared by all the generations and released at the end of the run
+   */
+  public void setNumberOfThreads(int numberOfThreads) {
+    ParallelLoop loop = new ParallelLoop(numberOfThreads);
+    parallelLoop.shutdown();
+    this.parallelLoop = loop;
+  }
+
   /**
    * Calculates the hypervolume of that portion of the objective space that
    * is dominated by individual a but not by individual b
@@ -188,41 +232,51 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
   /**
    * This structure stores the indicator values of each pair of elements
    */
-  public void computeIndicatorValuesHD(List<S> solutionSet, double[] maximumValues,
-      double[] minimumValues) {
-    List<S> A, B;
-    // Initialize the structures
-    indicatorValues = new ArrayList<List<Double>>();
-    maxIndicatorValue = -Double.MAX_VALUE;
+  public void computeIndicatorValuesHD(final List<S> solutionSet, final double[] maximumValues,
+      final double[] minimumValues) {
+    final int size = solutionSet.size();
+    if ((indicatorValues == null) || (indicatorValues.length < size * size)) {
+      indicatorValues = new double[size * size];
+    }
+    matrixSize = size;
+    rows = new int[size];
+    for (int i = 0; i < size; i++) {
+      rows[i] = i;
+    }
 
-    for (int j = 0; j < solutionSet.size(); j++) {
-      A = new ArrayList<>(1);
-      A.add(solutionSet.get(j));
-
-      List<Double> aux = new ArrayList<Double>();
-      for (S solution : solutionSet) {
-        B = new ArrayList<>(1);
-        B.add(solution);
-
-        int flag = (new DominanceComparator<S>()).compare(A.get(0), B.get(0));
-
-        double value;
-        if (flag == -1) {
-          value =
-              -calculateHypervolumeIndicator(A.get(0), B.get(0), problem.getNumberOfObjectives(),
-                  maximumValues, minimumValues);
-        } else {
-          value = calculateHypervolumeIndicator(B.get(0), A.get(0), problem.getNumberOfObjectives(),
-              maximumValues, minimumValues);
+    final double[] rowMaxima = new double[size];
+    parallelLoop.execute(size, new ParallelLoop.Body() {
+      private final DominanceComparator<S> dominanceComparator = new DominanceComparator<S>();
+
+      @Override public void execute(int j) {
+        S solutionA = solutionSet.get(j);
+        double rowMaximum = -Double.MAX_VALUE;
+        for (int k = 0; k < size; k++) {
+          S solutionB = solutionSet.get(k);
+
+          double value;
+          if (dominanceComparator.compare(solutionA, solutionB) == -1) {
+            value = -calculateHypervolumeIndicator(solutionA, solutionB,
+                problem.getNumberOfObjectives(), maximumValues, minimumValues);
+          } else {
+            value = calculateHypervolumeIndicator(solutionB, solutionA,
+                problem.getNumberOfObjectives(), maximumValues, minimumValues);
+          }
+
+          if (Math.abs(value) > rowMaximum) {
+            rowMaximum = Math.abs(value);
+          }
+          indicatorValues[j * size + k] = value;
         }
+        rowMaxima[j] = rowMaximum;
+      }
+    });
 
-        //Update the max value of the indicator
-        if (Math.abs(value) > maxIndicatorValue) {
-          maxIndicatorValue = Math.abs(value);
-        }
-        aux.add(value);
+    maxIndicatorValue = -Double.MAX_VALUE;
+    for (double rowMaximum : rowMaxima) {
+      if (rowMaximum > maxIndicatorValue) {
+        maxIndicatorValue = rowMaximum;
       }
-      indicatorValues.add(aux);
     }
   }
 
@@ -230,15 +284,20 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
    * Calculate the fitness for the individual at position pos
    */
   public void fitness(List<S> solutionSet, int pos) {
+    solutionFitness.setAttribute(solutionSet.get(pos), computeFitness(solutionSet.size(), pos));
+  }
+
+  private double computeFitness(int size, int pos) {
     double fitness = 0.0;
-    double kappa = 0.05;
+    int column = rows[pos];
 
-    for (int i = 0; i < solutionSet.size(); i++) {
+    for (int i = 0; i < size; i++) {
       if (i != pos) {
-        fitness += Math.exp((-1 * indicatorValues.get(i).get(pos) / maxIndicatorValue) / kappa);
+        fitness += Math.exp((-1 * indicatorValues[rows[i] * matrixSize + column] /
+            maxIndicatorValue) / KAPPA);
       }
     }
-    solutionFitness.setAttribute(solutionSet.get(pos), fitness);
+    return fitness;
   }
 
   /**
@@ -267,8 +326,16 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     }
 
     computeIndicatorValuesHD(solutionSet, maximumValues, minimumValues);
-    for (int pos = 0; pos < solutionSet.size(); pos++) {
-      fitness(solutionSet, pos);
+
+    final int size = solutionSet.size();
+    final double[] fitness = new double[size];
+    parallelLoop.execute(size, new ParallelLoop.Body() {
+      @Override public void execute(int pos) {
+        fitness[pos] = computeFitness(size, pos);
+      }
+    });
+    for (int pos = 0; pos < size; pos++) {
+      solutionFitness.setAttribute(solutionSet.get(pos), fitness[pos]);
     }
   }
 
@@ -280,7 +347,6 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     // Find the worst;
     double worst = (double) solutionFitness.getAttribute(solutionSet.get(0));
     int worstIndex = 0;
-    double kappa = 0.05;
 
     for (int i = 1; i < solutionSet.size(); i++) {
       if ((double) solutionFitness.getAttribute(solutionSet.get(i)) > worst) {
@@ -290,19 +356,17 @@ public class IBEA<S extends Solution<?>> implements Algorithm<List<S>> {
     }
 
     // Update the population
+    int worstRow = rows[worstIndex] * matrixSize;
     for (int i = 0; i < solutionSet.size(); i++) {
       if (i != worstIndex) {
         double fitness = (double) solutionFitness.getAttribute(solutionSet.get(i));
-        fitness -= Math.exp((-indicatorValues.get(worstIndex).get(i) / maxIndicatorValue) / kappa);
+        fitness -= Math.exp((-indicatorValues[worstRow + rows[i]] / maxIndicatorValue) / KAPPA);
         solutionFitness.setAttribute(solutionSet.get(i), fitness);
       }
     }
 
-    // remove worst from the indicatorValues list
-    indicatorValues.remove(worstIndex);
-    for (List<Double> anIndicatorValues_ : indicatorValues) {
-      anIndicatorValues_.remove(worstIndex);
-    }
+    // remove worst from the index of rows
+    System.arraycopy(rows, worstIndex + 1, rows, worstIndex, solutionSet.size() - worstIndex - 1);
 
     solutionSet.remove(worstIndex);
   }
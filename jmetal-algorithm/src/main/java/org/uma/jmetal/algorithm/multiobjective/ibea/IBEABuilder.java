@@ -32,6 +32,8 @@ import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.AlgorithmBuilder;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 import java.util.List;
 
@@ -39,6 +41,8 @@ import java.util.List;
  * This class implements the IBEA algorithm
  */
 public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
+  public enum IBEAVariant {IBEA, Measures}
+
   private Problem<DoubleSolution> problem;
   private int populationSize;
   private int archiveSize;
@@ -48,6 +52,10 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
   private MutationOperator<DoubleSolution> mutation;
   private SelectionOperator<List<DoubleSolution>, DoubleSolution> selection;
 
+  private SolutionListEvaluator<DoubleSolution> evaluator;
+  private int numberOfThreads;
+  private IBEAVariant variant;
+
   /**
    * Constructor
    * @param problem
@@ -67,6 +75,10 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
     mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
 
     selection = new BinaryTournamentSelection<DoubleSolution>();
+
+    evaluator = new SequentialSolutionListEvaluator<DoubleSolution>();
+    numberOfThreads = 1;
+    variant = IBEAVariant.IBEA;
   }
 
   /* Getters */
@@ -94,6 +106,18 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
     return selection;
   }
 
+  public SolutionListEvaluator<DoubleSolution> getSolutionListEvaluator() {
+    return evaluator;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  public IBEAVariant getVariant() {
+    return variant;
+  }
+
   /* Setters */
   public IBEABuilder setPopulationSize(int populationSize) {
     this.populationSize = populationSize;
@@ -131,8 +155,39 @@ public class IBEABuilder implements AlgorithmBuilder<IBEA<DoubleSolution>> {
     return this;
   }
 
+  public IBEABuilder setSolutionListEvaluator(SolutionListEvaluator<DoubleSolution> evaluator) {
+    this.evaluator = evaluator;
+
+    return this;
+  }
+
+  /**
+   * Sets the number of threads used to compute the indicator values and the fitness of the
+   * solutions. It does not affect the evaluation, which depends on the solution list evaluator
+   */
+  public IBEABuilder setNumberOfThreads(int numberOfThreads) {
+    this.numberOfThreads = numberOfThreads;
+
+    return this;
+  }
+
+  public IBEABuilder setVariant(IBEAVariant variant) {
+    this.variant = variant;
+
+    return this;
+  }
+
   public IBEA<DoubleSolution> build() {
-    return new IBEA<DoubleSolution>(problem, populationSize, archiveSize, maxEvaluations, selection, crossover,
-        mutation);
+    IBEA<DoubleSolution> algorithm = null;
+    if (variant.equals(IBEAVariant.IBEA)) {
+      algorithm = new IBEA<DoubleSolution>(problem, populationSize, archiveSize,
+          maxEvaluations, selection, crossover, mutation, evaluator);
+    } else if (variant.equals(IBEAVariant.Measures)) {
+      algorithm = new IBEAMeasures<DoubleSolution>(problem, populationSize, archiveSize,
+          maxEvaluations, selection, crossover, mutation, evaluator);
+    }
+    algorithm.setNumberOfThreads(numberOfThreads);
+
+    return algorithm;
   }
 }
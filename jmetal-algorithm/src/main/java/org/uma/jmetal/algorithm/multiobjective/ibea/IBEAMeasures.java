@@ -0,0 +1,129 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.ibea;
+
+import org.uma.jmetal.measure.Measurable;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
+import org.uma.jmetal.measure.impl.PhaseDurationMeasure;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+import java.util.List;
+
+/**
+ * IBEA providing the measures of {@link AlgorithmMeasures}. The operators and the evaluator are
+ * wrapped to account their time to the corresponding phases, and the fitness assignment and the
+ * removal of the worst solutions are accounted as the replacement. The population is the last
+ * list of offspring evaluated, and the hypervolume measure is computed on the archive
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class IBEAMeasures<S extends Solution<?>> extends IBEA<S> implements Measurable {
+  protected AlgorithmMeasures<S> measures ;
+  private final int populationSize ;
+
+  /**
+   * Constructor
+   */
+  public IBEAMeasures(Problem<S> problem, int populationSize, int archiveSize, int maxEvaluations,
+      SelectionOperator<List<S>, S> selectionOperator, CrossoverOperator<S> crossoverOperator,
+      MutationOperator<S> mutationOperator) {
+    this(problem, populationSize, archiveSize, maxEvaluations, selectionOperator,
+        crossoverOperator, mutationOperator, new SequentialSolutionListEvaluator<S>()) ;
+  }
+
+  /**
+   * Constructor
+   */
+  public IBEAMeasures(Problem<S> problem, int populationSize, int archiveSize, int maxEvaluations,
+      SelectionOperator<List<S>, S> selectionOperator, CrossoverOperator<S> crossoverOperator,
+      MutationOperator<S> mutationOperator, SolutionListEvaluator<S> evaluator) {
+    this(problem, populationSize, archiveSize, maxEvaluations, selectionOperator,
+        crossoverOperator, mutationOperator, evaluator, new AlgorithmMeasures<S>()) ;
+  }
+
+  private IBEAMeasures(Problem<S> problem, int populationSize, int archiveSize, int maxEvaluations,
+      SelectionOperator<List<S>, S> selectionOperator, CrossoverOperator<S> crossoverOperator,
+      MutationOperator<S> mutationOperator, SolutionListEvaluator<S> evaluator,
+      AlgorithmMeasures<S> measures) {
+    super(problem, populationSize, archiveSize, maxEvaluations,
+        measures.measureSelection(selectionOperator), measures.measureCrossover(crossoverOperator),
+        measures.measureMutation(mutationOperator),
+        updatingPopulation(measures.measureEvaluation(evaluator), measures)) ;
+
+    this.measures = measures ;
+    this.populationSize = populationSize ;
+  }
+
+  /**
+   * Returns an evaluator updating the population measures after evaluating the solutions
+   */
+  private static <S extends Solution<?>> SolutionListEvaluator<S> updatingPopulation(
+      final SolutionListEvaluator<S> evaluator, final AlgorithmMeasures<S> measures) {
+    return new SolutionListEvaluator<S>() {
+      @Override public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+        List<S> evaluatedSolutions = evaluator.evaluate(solutionList, problem) ;
+        measures.updatePopulation(evaluatedSolutions);
+
+        return evaluatedSolutions ;
+      }
+
+      @Override public void shutdown() {
+        evaluator.shutdown();
+      }
+    } ;
+  }
+
+  @Override public void run() {
+    measures.start();
+    super.run();
+    measures.stop();
+  }
+
+  @Override public void calculateFitness(List<S> solutionSet) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    super.calculateFitness(solutionSet);
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override public void removeWorst(List<S> solutionSet) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    super.removeWorst(solutionSet);
+    measures.exitPhase(previousPhase);
+
+    if (solutionSet.size() <= populationSize) {
+      measures.updateArchive(solutionSet);
+      measures.updateHypervolume(solutionSet);
+    }
+  }
+
+  @Override public MeasureManager getMeasureManager() {
+    return measures ;
+  }
+
+  @Override public String getName() {
+    return "IBEAM" ;
+  }
+
+  @Override public String getDescription() {
+    return "Indicator based Evolutionary Algorithm. Version using measures" ;
+  }
+}
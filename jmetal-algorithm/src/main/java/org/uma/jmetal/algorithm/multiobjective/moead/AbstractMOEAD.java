@@ -17,9 +17,12 @@ import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.PooledOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.io.BufferedReader;
@@ -76,6 +79,11 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   protected CrossoverOperator<S> crossoverOperator ;
   protected MutationOperator<S> mutationOperator ;
 
+  protected SolutionPool<S> solutionPool ;
+
+  protected SolutionListEvaluator<S> evaluator ;
+  protected int evaluationBlockSize ;
+
   public AbstractMOEAD(Problem<S> problem, int populationSize, int resultPopulationSize,
       int maxEvaluations, CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutation,
       FunctionType functionType, String dataDirectory, double neighborhoodSelectionProbability,
@@ -92,6 +100,9 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
     this.maximumNumberOfReplacedSolutions = maximumNumberOfReplacedSolutions ;
     this.neighborSize = neighborSize ;
 
+    evaluator = null ;
+    evaluationBlockSize = 1 ;
+
     randomGenerator = JMetalRandom.getInstance() ;
 
     population = new ArrayList<>(populationSize);
@@ -296,7 +307,12 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
       f2 = fitnessFunction(individual, lambda[k]);
 
       if (f2 < f1) {
-        population.set(k, (S)individual.copy());
+        if (solutionPool == null) {
+          population.set(k, (S)individual.copy());
+        } else {
+          solutionPool.release(population.get(k));
+          population.set(k, solutionPool.copy(individual));
+        }
         time++;
       }
 
@@ -306,6 +322,65 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
     }
   }
 
+  /**
+   * Evaluates a list of solutions with the solution list evaluator or, if there is none, one by
+   * one with the problem
+   */
+  protected void evaluate(List<S> solutionList) {
+    if (evaluator == null) {
+      for (S solution : solutionList) {
+        problem.evaluate(solution);
+      }
+    } else {
+      evaluator.evaluate(solutionList, problem) ;
+    }
+  }
+
+  public SolutionListEvaluator<S> getEvaluator() {
+    return evaluator ;
+  }
+
+  /**
+   * Sets the evaluator of the offspring and the initial population. A null evaluator makes the
+   * algorithm evaluate the solutions one by one with the problem
+   */
+  public void setEvaluator(SolutionListEvaluator<S> evaluator) {
+    this.evaluator = evaluator ;
+  }
+
+  public int getEvaluationBlockSize() {
+    return evaluationBlockSize ;
+  }
+
+  /**
+   * Sets the number of subproblems whose offspring are generated and evaluated together before
+   * updating their neighborhoods. With a block size of one (the default) the algorithm behaves as
+   * the original MOEA/D; larger blocks allow a parallel evaluator to evaluate several offspring at
+   * the same time, at the cost of generating them from a slightly older population
+   */
+  public void setEvaluationBlockSize(int evaluationBlockSize) {
+    if (evaluationBlockSize < 1) {
+      throw new JMetalException("The evaluation block size must be positive: " + evaluationBlockSize) ;
+    }
+    this.evaluationBlockSize = evaluationBlockSize ;
+  }
+
+  public SolutionPool<S> getSolutionPool() {
+    return solutionPool ;
+  }
+
+  /**
+   * Sets a pool to reuse the solutions replaced in the neighborhoods. It is also given to the
+   * crossover operator if it implements {@link PooledOperator}. A null pool disables the reuse.
+   */
+  @SuppressWarnings("unchecked")
+  public void setSolutionPool(SolutionPool<S> solutionPool) {
+    this.solutionPool = solutionPool ;
+    if (crossoverOperator instanceof PooledOperator) {
+      ((PooledOperator<S>) crossoverOperator).setSolutionPool(solutionPool) ;
+    }
+  }
+
   double fitnessFunction(S individual, double[] lambda) throws JMetalException {
     double fitness;
 
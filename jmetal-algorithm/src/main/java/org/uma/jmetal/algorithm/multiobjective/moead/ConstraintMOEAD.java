@@ -22,6 +22,7 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.comparator.impl.ViolationThresholdComparator;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -70,25 +71,34 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution>  {
       int[] permutation = new int[populationSize];
       MOEADUtils.randomPermutation(permutation, populationSize);
 
-      for (int i = 0; i < populationSize; i++) {
-        int subProblemId = permutation[i];
+      for (int i = 0; i < populationSize; i += evaluationBlockSize) {
+        int blockSize = Math.min(evaluationBlockSize, populationSize - i) ;
+        NeighborType[] neighborTypes = new NeighborType[blockSize] ;
+        List<DoubleSolution> offspring = new ArrayList<>(blockSize) ;
 
-        NeighborType neighborType = chooseNeighborType() ;
-        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
+        for (int j = 0; j < blockSize; j++) {
+          int subProblemId = permutation[i + j];
 
-        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+          neighborTypes[j] = chooseNeighborType() ;
+          List<DoubleSolution> parents = parentSelection(subProblemId, neighborTypes[j]) ;
 
-        DoubleSolution child = children.get(0) ;
-        mutationOperator.execute(child);
-        problem.evaluate(child);
-        if (problem instanceof ConstrainedProblem) {
-          ((ConstrainedProblem<DoubleSolution>) problem).evaluateConstraints(child);
+          differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+          List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+
+          DoubleSolution child = children.get(0) ;
+          mutationOperator.execute(child);
+          offspring.add(child) ;
         }
-        evaluations++;
 
-        updateIdealPoint(child);
-        updateNeighborhood(child, subProblemId, neighborType);
+        evaluate(offspring) ;
+
+        for (int j = 0; j < blockSize; j++) {
+          DoubleSolution child = offspring.get(j) ;
+          evaluations++;
+
+          updateIdealPoint(child);
+          updateNeighborhood(child, permutation[i + j], neighborTypes[j]);
+        }
       }
 
       violationThresholdComparator.updateThreshold(population);
@@ -99,12 +109,21 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution>  {
   public void initializePopulation() {
     for (int i = 0; i < populationSize; i++) {
       DoubleSolution newSolution = (DoubleSolution)problem.createSolution() ;
+      population.add(newSolution);
+    }
+
+    evaluate(population) ;
+  }
 
-      problem.evaluate(newSolution);
-      if (problem instanceof ConstrainedProblem) {
-        ((ConstrainedProblem<DoubleSolution>) problem).evaluateConstraints(newSolution);
+  /**
+   * The constraints are evaluated too when there is no evaluator (the evaluators already do it)
+   */
+  @Override protected void evaluate(List<DoubleSolution> solutionList) {
+    super.evaluate(solutionList);
+    if ((evaluator == null) && (problem instanceof ConstrainedProblem)) {
+      for (DoubleSolution solution : solutionList) {
+        ((ConstrainedProblem<DoubleSolution>) problem).evaluateConstraints(solution);
       }
-      population.add(newSolution);
     }
   }
 
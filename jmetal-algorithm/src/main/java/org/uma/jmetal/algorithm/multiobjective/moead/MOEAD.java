@@ -20,6 +20,7 @@ import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.DoubleSolution;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -63,35 +64,59 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
       int[] permutation = new int[populationSize];
       MOEADUtils.randomPermutation(permutation, populationSize);
 
-      for (int i = 0; i < populationSize; i++) {
-        int subProblemId = permutation[i];
+      for (int i = 0; i < populationSize; i += evaluationBlockSize) {
+        int blockSize = Math.min(evaluationBlockSize, populationSize - i) ;
+        NeighborType[] neighborTypes = new NeighborType[blockSize] ;
+        List<DoubleSolution> offspring = new ArrayList<>(blockSize) ;
 
-        NeighborType neighborType = chooseNeighborType() ;
-        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
+        for (int j = 0; j < blockSize; j++) {
+          int subProblemId = permutation[i + j];
 
-        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+          neighborTypes[j] = chooseNeighborType() ;
+          List<DoubleSolution> parents = parentSelection(subProblemId, neighborTypes[j]) ;
 
-        DoubleSolution child = children.get(0) ;
-        mutationOperator.execute(child);
-        problem.evaluate(child);
+          offspring.add(reproduction(subProblemId, parents)) ;
+        }
 
-        evaluations++;
+        evaluate(offspring) ;
 
-        updateIdealPoint(child);
-        updateNeighborhood(child, subProblemId, neighborType);
+        for (int j = 0; j < blockSize; j++) {
+          DoubleSolution child = offspring.get(j) ;
+          evaluations++;
+
+          updateIdealPoint(child);
+          updateNeighborhood(child, permutation[i + j], neighborTypes[j]);
+
+          if (solutionPool != null) {
+            solutionPool.release(child);
+          }
+        }
       }
     } while (evaluations < maxEvaluations);
 
   }
 
+  /**
+   * Creates the child of a subproblem by applying the differential evolution crossover, with the
+   * solution of the subproblem as current solution, and the mutation operator
+   */
+  protected DoubleSolution reproduction(int subProblemId, List<DoubleSolution> parents) {
+    differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+    List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+
+    DoubleSolution child = children.get(0) ;
+    mutationOperator.execute(child);
+
+    return child ;
+  }
+
   protected void initializePopulation() {
     for (int i = 0; i < populationSize; i++) {
       DoubleSolution newSolution = (DoubleSolution)problem.createSolution();
-
-      problem.evaluate(newSolution);
       population.add(newSolution);
     }
+
+    evaluate(population) ;
   }
 
   @Override public String getName() {
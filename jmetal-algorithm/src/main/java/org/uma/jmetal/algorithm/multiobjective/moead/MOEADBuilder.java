@@ -19,7 +19,9 @@ import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.AlgorithmBuilder;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
 /**
  * Builder class for algorithm MOEA/D and variants
@@ -28,7 +30,7 @@ import org.uma.jmetal.util.AlgorithmBuilder;
  * @version 1.0
  */
 public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSolution>> {
-  public enum Variant {MOEAD, ConstraintMOEAD, MOEADDRA, MOEADSTM} ;
+  public enum Variant {MOEAD, ConstraintMOEAD, MOEADDRA, MOEADSTM, Measures} ;
 
   protected Problem<DoubleSolution> problem ;
 
@@ -53,6 +55,10 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
   protected int numberOfThreads ;
 
   protected Variant moeadVariant ;
+  protected boolean solutionPooling ;
+
+  protected SolutionListEvaluator<DoubleSolution> evaluator ;
+  protected int evaluationBlockSize ;
 
   /** Constructor */
   public MOEADBuilder(Problem<DoubleSolution> problem, Variant variant) {
@@ -69,6 +75,9 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
     neighborSize = 20 ;
     numberOfThreads = 1 ;
     moeadVariant = variant ;
+    solutionPooling = false ;
+    evaluator = null ;
+    evaluationBlockSize = 1 ;
   }
 
   /* Getters/Setters */
@@ -116,6 +125,18 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
     return numberOfThreads ;
   }
 
+  public boolean isSolutionPooling() {
+    return solutionPooling ;
+  }
+
+  public SolutionListEvaluator<DoubleSolution> getSolutionListEvaluator() {
+    return evaluator ;
+  }
+
+  public int getEvaluationBlockSize() {
+    return evaluationBlockSize ;
+  }
+
   public MOEADBuilder setPopulationSize(int populationSize) {
     this.populationSize = populationSize;
 
@@ -182,6 +203,36 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
     return this ;
   }
 
+  /**
+   * Enables the reuse of the replaced solutions through a {@link SolutionPool} in the MOEAD and
+   * Measures variants. It has no effect on the other variants
+   */
+  public MOEADBuilder setSolutionPooling(boolean solutionPooling) {
+    this.solutionPooling = solutionPooling ;
+
+    return this ;
+  }
+
+  /**
+   * Sets the evaluator of the solutions. By default, there is none and the solutions are evaluated
+   * one by one with the problem
+   */
+  public MOEADBuilder setSolutionListEvaluator(SolutionListEvaluator<DoubleSolution> evaluator) {
+    this.evaluator = evaluator ;
+
+    return this ;
+  }
+
+  /**
+   * Sets the number of offspring generated before evaluating them together with the solution list
+   * evaluator. The default value, 1, keeps the behavior of the original algorithms
+   */
+  public MOEADBuilder setEvaluationBlockSize(int evaluationBlockSize) {
+    this.evaluationBlockSize = evaluationBlockSize ;
+
+    return this ;
+  }
+
   public AbstractMOEAD<DoubleSolution> build() {
     AbstractMOEAD<DoubleSolution> algorithm = null ;
     if (moeadVariant.equals(Variant.MOEAD)) {
@@ -200,6 +251,18 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
         algorithm =  new MOEADSTM(problem, populationSize, resultPopulationSize, maxEvaluations, mutation,
                 crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
                 maximumNumberOfReplacedSolutions, neighborSize);
+    } else if (moeadVariant.equals(Variant.Measures)) {
+      algorithm = new MOEADMeasures(problem, populationSize, resultPopulationSize, maxEvaluations,
+          mutation, crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+          maximumNumberOfReplacedSolutions, neighborSize);
+    }
+
+    algorithm.setEvaluator(evaluator);
+    algorithm.setEvaluationBlockSize(evaluationBlockSize);
+
+    if (solutionPooling && (moeadVariant.equals(Variant.MOEAD) ||
+        moeadVariant.equals(Variant.Measures))) {
+      algorithm.setSolutionPool(new SolutionPool<DoubleSolution>(populationSize));
     }
 
     return algorithm ;
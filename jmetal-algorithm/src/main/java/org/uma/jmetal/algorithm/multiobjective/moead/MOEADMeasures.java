@@ -0,0 +1,136 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.uma.jmetal.measure.Measurable;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
+import org.uma.jmetal.measure.impl.PhaseDurationMeasure;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MOEA/D-DE providing the measures of {@link AlgorithmMeasures}. The population and the
+ * hypervolume measures are updated once every population size evaluations
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class MOEADMeasures extends MOEAD implements Measurable {
+  protected AlgorithmMeasures<DoubleSolution> measures ;
+  private long nextPopulationUpdate ;
+
+  public MOEADMeasures(Problem<DoubleSolution> problem,
+      int populationSize,
+      int resultPopulationSize,
+      int maxEvaluations,
+      MutationOperator<DoubleSolution> mutation,
+      CrossoverOperator<DoubleSolution> crossover,
+      FunctionType functionType,
+      String dataDirectory,
+      double neighborhoodSelectionProbability,
+      int maximumNumberOfReplacedSolutions,
+      int neighborSize) {
+    super(problem, populationSize, resultPopulationSize, maxEvaluations, mutation, crossover,
+        functionType, dataDirectory, neighborhoodSelectionProbability,
+        maximumNumberOfReplacedSolutions, neighborSize);
+
+    measures = new AlgorithmMeasures<>() ;
+  }
+
+  @Override public void run() {
+    measures.start();
+    nextPopulationUpdate = populationSize ;
+    super.run();
+    measures.stop();
+  }
+
+  @Override protected void evaluate(List<DoubleSolution> solutionList) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getEvaluationTime()) ;
+    super.evaluate(solutionList);
+    measures.exitPhase(previousPhase);
+    measures.getEvaluations().increment(solutionList.size());
+
+    if (measures.getEvaluations().get() >= nextPopulationUpdate) {
+      nextPopulationUpdate += populationSize ;
+      measures.updatePopulation(copyPopulation());
+      measures.updateHypervolume(population);
+    }
+  }
+
+  /**
+   * The population is modified in place, so the listeners receive a copy of it. The solutions are
+   * copied too when the replaced solutions are reused through a solution pool
+   */
+  protected List<DoubleSolution> copyPopulation() {
+    if (solutionPool == null) {
+      return new ArrayList<>(population) ;
+    }
+
+    List<DoubleSolution> copy = new ArrayList<>(population.size()) ;
+    for (DoubleSolution solution : population) {
+      copy.add((DoubleSolution) solution.copy()) ;
+    }
+
+    return copy ;
+  }
+
+  @Override protected List<DoubleSolution> parentSelection(int subProblemId,
+      NeighborType neighborType) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getSelectionTime()) ;
+    List<DoubleSolution> parents = super.parentSelection(subProblemId, neighborType) ;
+    measures.exitPhase(previousPhase);
+
+    return parents ;
+  }
+
+  @Override protected DoubleSolution reproduction(int subProblemId,
+      List<DoubleSolution> parents) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReproductionTime()) ;
+    DoubleSolution child = super.reproduction(subProblemId, parents) ;
+    measures.exitPhase(previousPhase);
+
+    return child ;
+  }
+
+  @Override protected void updateIdealPoint(DoubleSolution individual) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    super.updateIdealPoint(individual);
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override protected void updateNeighborhood(DoubleSolution individual, int subProblemId,
+      NeighborType neighborType) throws JMetalException {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    super.updateNeighborhood(individual, subProblemId, neighborType);
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override public MeasureManager getMeasureManager() {
+    return measures ;
+  }
+
+  @Override public String getName() {
+    return "MOEADM" ;
+  }
+
+  @Override public String getDescription() {
+    return "Multi-Objective Evolutionary Algorithm based on Decomposition. Version using measures" ;
+  }
+}
@@ -81,27 +81,38 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
 			MOEADUtils.randomPermutation(permutation, populationSize);
 			offspringPopulation.clear();
 
-			for (int i = 0; i < populationSize; i++) {
-				int subProblemId = permutation[i];
-				frequency[subProblemId]++;
+			for (int i = 0; i < populationSize; i += evaluationBlockSize) {
+				int blockSize = Math.min(evaluationBlockSize, populationSize - i);
+				NeighborType[] neighborTypes = new NeighborType[blockSize];
+				List<DoubleSolution> offspring = new ArrayList<>(blockSize);
 
-				NeighborType neighborType = chooseNeighborType();
-				List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
+				for (int j = 0; j < blockSize; j++) {
+					int subProblemId = permutation[i + j];
+					frequency[subProblemId]++;
 
-				differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-				List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+					neighborTypes[j] = chooseNeighborType();
+					List<DoubleSolution> parents = parentSelection(subProblemId, neighborTypes[j]);
 
-				DoubleSolution child = children.get(0);
-				mutationOperator.execute(child);
-				problem.evaluate(child);
+					differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+					List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
 
-				evaluations++;
+					DoubleSolution child = children.get(0);
+					mutationOperator.execute(child);
+					offspring.add(child);
+				}
+
+				evaluate(offspring);
 
-				updateIdealPoint(child);
-				updateNadirPoint(child);
-				updateNeighborhood(child, subProblemId, neighborType);
+				for (int j = 0; j < blockSize; j++) {
+					DoubleSolution child = offspring.get(j);
+					evaluations++;
 
-				offspringPopulation.add(child);
+					updateIdealPoint(child);
+					updateNadirPoint(child);
+					updateNeighborhood(child, permutation[i + j], neighborTypes[j]);
+
+					offspringPopulation.add(child);
+				}
 			}
 
 			// Combine the parent and the current offspring populations
@@ -128,10 +139,12 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
 
 		for (int i = 0; i < populationSize; i++) {
 			DoubleSolution newSolution = (DoubleSolution) problem.createSolution();
-
-			problem.evaluate(newSolution);
 			population.add(newSolution);
-			savedValues[i] = (DoubleSolution) newSolution.copy();
+		}
+
+		evaluate(population);
+		for (int i = 0; i < populationSize; i++) {
+			savedValues[i] = (DoubleSolution) population.get(i).copy();
 		}
 	}
 
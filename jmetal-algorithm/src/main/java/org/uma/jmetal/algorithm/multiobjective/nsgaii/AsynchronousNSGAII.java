@@ -0,0 +1,128 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.uma.jmetal.algorithm.impl.AbstractAsynchronousGeneticAlgorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalDominanceRanking;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Asynchronous steady-state version of NSGA-II. Each evaluated offspring is inserted into the
+ * subfronts kept by an {@link IncrementalDominanceRanking}, and the solution with the lowest
+ * crowding distance of the last subfront is removed. The workers never wait for a generation
+ * to be completed, so this version is intended for problems whose evaluation times vary among
+ * solutions.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousNSGAII<S extends Solution<?>>
+    extends AbstractAsynchronousGeneticAlgorithm<S, List<S>> {
+  protected final int maxEvaluations ;
+
+  private IncrementalDominanceRanking<S> ranking ;
+  private CrowdingDistance<S> crowdingDistance ;
+
+  /**
+   * Constructor
+   */
+  public AsynchronousNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, int numberOfWorkers) {
+    super(problem, numberOfWorkers);
+    this.maxEvaluations = maxEvaluations;
+    setMaxPopulationSize(populationSize);
+
+    this.crossoverOperator = crossoverOperator;
+    this.mutationOperator = mutationOperator;
+    this.selectionOperator = selectionOperator;
+
+    crowdingDistance = new CrowdingDistance<S>() ;
+  }
+
+  @Override protected List<S> createInitialPopulation() {
+    ranking = null ;
+    return super.createInitialPopulation() ;
+  }
+
+  @Override protected void initProgress() {
+    ranking = new IncrementalDominanceRanking<S>() ;
+    ranking.computeRanking(getPopulation()) ;
+    computeCrowdingDistances(ranking) ;
+  }
+
+  /**
+   * The population is kept ranked by {@link #replacement} once it is full. Until
+   * then, the solutions evaluated so far are ranked before selecting the parents, so that the
+   * selection operator compares them by rank and crowding distance
+   */
+  @Override protected S createOffspring(List<S> population) {
+    if (ranking == null) {
+      IncrementalDominanceRanking<S> partialRanking = new IncrementalDominanceRanking<S>() ;
+      partialRanking.computeRanking(population) ;
+      computeCrowdingDistances(partialRanking) ;
+    }
+
+    return super.createOffspring(population) ;
+  }
+
+  @Override protected boolean isStoppingConditionReached() {
+    return getEvaluations() + getPendingEvaluations() >= maxEvaluations ;
+  }
+
+  @Override protected List<S> replacement(List<S> population, S offspring) {
+    ranking.add(offspring) ;
+
+    while (ranking.getNumberOfSolutions() > getMaxPopulationSize()) {
+      List<S> lastSubfront = ranking.getSubfront(ranking.getNumberOfSubfronts() - 1) ;
+      crowdingDistance.computeDensityEstimator(lastSubfront);
+
+      ranking.remove(Collections.max(lastSubfront, new CrowdingDistanceComparator<S>())) ;
+    }
+
+    // The insertion can move solutions among subfronts, so the crowding distances used by the
+    // selection operator are updated
+    computeCrowdingDistances(ranking) ;
+
+    return ranking.getSolutionList() ;
+  }
+
+  private void computeCrowdingDistances(IncrementalDominanceRanking<S> ranking) {
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      crowdingDistance.computeDensityEstimator(ranking.getSubfront(i));
+    }
+  }
+
+  @Override public List<S> getResult() {
+    return SolutionListUtils.getNondominatedSolutions(getPopulation());
+  }
+
+  @Override public String getName() {
+    return "asyncNSGAII" ;
+  }
+
+  @Override public String getDescription() {
+    return "Nondominated Sorting Genetic Algorithm version II. Asynchronous steady-state version" ;
+  }
+}
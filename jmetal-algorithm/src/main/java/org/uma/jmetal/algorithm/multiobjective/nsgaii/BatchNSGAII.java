@@ -0,0 +1,100 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.crossover.BatchSBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.BatchPolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.DoubleSolutionMatrix;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NSGA-II for continuous problems whose reproduction step applies a {@link BatchSBXCrossover} and
+ * a {@link BatchPolynomialMutation} to the whole mating pool. The variables of the mating pool are
+ * copied once to a matrix, the crossover writes the children into another one and the mutation
+ * modifies them in place; both matrices are allocated in the first generation and reused in the
+ * following ones.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class BatchNSGAII extends NSGAII<DoubleSolution> {
+  private final BatchSBXCrossover batchCrossover ;
+  private final BatchPolynomialMutation batchMutation ;
+
+  private double[] lowerBounds ;
+  private double[] upperBounds ;
+  private double[] parents ;
+  private double[] offspring ;
+
+  /**
+   * Constructor
+   */
+  public BatchNSGAII(DoubleProblem problem, int maxEvaluations, int populationSize,
+      BatchSBXCrossover crossover, BatchPolynomialMutation mutation,
+      SelectionOperator<List<DoubleSolution>, DoubleSolution> selectionOperator,
+      SolutionListEvaluator<DoubleSolution> evaluator) {
+    super(problem, maxEvaluations, populationSize, null, null, selectionOperator, evaluator);
+    this.batchCrossover = crossover ;
+    this.batchMutation = mutation ;
+
+    lowerBounds = new double[problem.getNumberOfVariables()] ;
+    upperBounds = new double[problem.getNumberOfVariables()] ;
+    for (int j = 0; j < problem.getNumberOfVariables(); j++) {
+      lowerBounds[j] = problem.getLowerBound(j) ;
+      upperBounds[j] = problem.getUpperBound(j) ;
+    }
+  }
+
+  @Override protected List<DoubleSolution> reproduction(List<DoubleSolution> matingPool) {
+    int size = matingPool.size() * lowerBounds.length ;
+    parents = DoubleSolutionMatrix.getVariables(matingPool, parents) ;
+    if ((offspring == null) || (offspring.length < size)) {
+      offspring = new double[size] ;
+    }
+
+    batchCrossover.execute(parents, offspring, matingPool.size(), lowerBounds, upperBounds);
+    batchMutation.execute(offspring, matingPool.size(), lowerBounds, upperBounds);
+
+    List<DoubleSolution> offspringPopulation = new ArrayList<>(matingPool.size()) ;
+    for (DoubleSolution solution : matingPool) {
+      offspringPopulation.add((solutionPool == null) ?
+          (DoubleSolution) solution.copy() : solutionPool.copy(solution)) ;
+    }
+    DoubleSolutionMatrix.setVariables(offspring, offspringPopulation);
+
+    return offspringPopulation ;
+  }
+
+  public BatchSBXCrossover getBatchCrossover() {
+    return batchCrossover ;
+  }
+
+  public BatchPolynomialMutation getBatchMutation() {
+    return batchMutation ;
+  }
+
+  @Override public String getName() {
+    return "BatchNSGAII" ;
+  }
+
+  @Override public String getDescription() {
+    return "Nondominated Sorting Genetic Algorithm version II with batch variation operators" ;
+  }
+}
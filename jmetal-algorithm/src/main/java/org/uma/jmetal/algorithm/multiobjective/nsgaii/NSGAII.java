@@ -3,15 +3,17 @@ package org.uma.jmetal.algorithm.multiobjective.nsgaii;
 import org.uma.jmetal.algorithm.impl.AbstractGeneticAlgorithm;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.PooledOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.RankingFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,6 +29,8 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
 
   protected int evaluations;
 
+  protected SolutionPool<S> solutionPool ;
+
   /**
    * Constructor
    */
@@ -68,8 +72,30 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
     jointPopulation.addAll(offspringPopulation);
 
     Ranking<S> ranking = computeRanking(jointPopulation);
+    List<S> nextPopulation = crowdingDistanceSelection(ranking);
+
+    if (solutionPool != null) {
+      solutionPool.releaseAllExcept(jointPopulation, nextPopulation);
+    }
+
+    return nextPopulation ;
+  }
+
+  /**
+   * Sets a pool to reuse the solutions discarded in the replacement step. The pool is also given
+   * to the crossover operator, if it implements {@link PooledOperator}, to create the offspring.
+   * A null value disables the pooling
+   */
+  @SuppressWarnings("unchecked")
+  public void setSolutionPool(SolutionPool<S> solutionPool) {
+    this.solutionPool = solutionPool ;
+    if (crossoverOperator instanceof PooledOperator) {
+      ((PooledOperator<S>) crossoverOperator).setSolutionPool(solutionPool);
+    }
+  }
 
-    return crowdingDistanceSelection(ranking);
+  public SolutionPool<S> getSolutionPool() {
+    return solutionPool ;
   }
 
   @Override public List<S> getResult() {
@@ -77,7 +103,8 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
   }
 
   protected Ranking<S> computeRanking(List<S> solutionList) {
-    Ranking<S> ranking = new DominanceRanking<S>();
+    Ranking<S> ranking = new RankingFactory().createRanking(solutionList.size(),
+        getProblem().getNumberOfObjectives());
     ranking.computeRanking(solutionList);
 
     return ranking;
@@ -6,6 +6,7 @@ import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.AlgorithmBuilder;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
@@ -18,7 +19,7 @@ import java.util.List;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NSGAII<S>> {
-  public enum NSGAIIVariant {NSGAII, SteadyStateNSGAII, Measures, NSGAII45}
+  public enum NSGAIIVariant {NSGAII, SteadyStateNSGAII, Measures, NSGAII45, AsynchronousNSGAII}
 
   /**
    * NSGAIIBuilder class
@@ -30,8 +31,11 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
   private MutationOperator<S> mutationOperator;
   private SelectionOperator<List<S>, S> selectionOperator;
   private SolutionListEvaluator<S> evaluator;
+  private int numberOfWorkers;
 
   private NSGAIIVariant variant;
+  private boolean incrementalRanking ;
+  private boolean solutionPooling ;
 
   /**
    * NSGAIIBuilder constructor
@@ -45,8 +49,11 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
     this.mutationOperator = mutationOperator ;
     selectionOperator = new BinaryTournamentSelection<S>(new RankingAndCrowdingDistanceComparator<S>()) ;
     evaluator = new SequentialSolutionListEvaluator<S>();
+    numberOfWorkers = Runtime.getRuntime().availableProcessors();
 
     this.variant = NSGAIIVariant.NSGAII ;
+    this.incrementalRanking = false ;
+    this.solutionPooling = false ;
   }
 
   public NSGAIIBuilder<S> setMaxEvaluations(int maxEvaluations) {
@@ -87,28 +94,86 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
   }
 
 
+  /**
+   * Number of solutions evaluated concurrently by the {@link NSGAIIVariant#AsynchronousNSGAII}
+   * variant, which does not use the solution list evaluator
+   */
+  public NSGAIIBuilder<S> setNumberOfWorkers(int numberOfWorkers) {
+    if (numberOfWorkers < 1) {
+      throw new JMetalException("The number of workers must be positive: " + numberOfWorkers) ;
+    }
+    this.numberOfWorkers = numberOfWorkers;
+
+    return this;
+  }
+
   public NSGAIIBuilder<S> setVariant(NSGAIIVariant variant) {
     this.variant = variant;
 
     return this;
   }
 
+  /**
+   * Enables the incremental ranking of the {@link SteadyStateNSGAII} variant. It has no effect on
+   * the other variants
+   */
+  public NSGAIIBuilder<S> setIncrementalRanking(boolean incrementalRanking) {
+    this.incrementalRanking = incrementalRanking;
+
+    return this;
+  }
+
+  /**
+   * Enables the reuse of the discarded solutions through a {@link SolutionPool} in the NSGAII
+   * and SteadyStateNSGAII variants. It has no effect on the other variants
+   */
+  public NSGAIIBuilder<S> setSolutionPooling(boolean solutionPooling) {
+    this.solutionPooling = solutionPooling;
+
+    return this;
+  }
+
+  /**
+   * Builds the selected variant. The {@link NSGAIIVariant#AsynchronousNSGAII} variant is not a
+   * subclass of {@link NSGAII}, so it is built with {@link #buildAsynchronous()}
+   */
   public NSGAII<S> build() {
+    if (variant.equals(NSGAIIVariant.AsynchronousNSGAII)) {
+      throw new JMetalException("The AsynchronousNSGAII variant is built with buildAsynchronous()") ;
+    }
+
     NSGAII<S> algorithm = null ;
     if (variant.equals(NSGAIIVariant.NSGAII)) {
       algorithm = new NSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
           mutationOperator, selectionOperator, evaluator);
     } else if (variant.equals(NSGAIIVariant.SteadyStateNSGAII)) {
       algorithm = new SteadyStateNSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
-          mutationOperator, selectionOperator, evaluator);
+          mutationOperator, selectionOperator, evaluator, incrementalRanking);
     } else if (variant.equals(NSGAIIVariant.Measures)) {
       algorithm = new NSGAIIMeasures<S>(problem, maxEvaluations, populationSize, crossoverOperator,
           mutationOperator, selectionOperator, evaluator);
     }
 
+    if (solutionPooling && (variant.equals(NSGAIIVariant.NSGAII) ||
+        variant.equals(NSGAIIVariant.SteadyStateNSGAII))) {
+      algorithm.setSolutionPool(new SolutionPool<S>(2 * populationSize));
+    }
+
     return algorithm ;
   }
 
+  /**
+   * Builds the {@link NSGAIIVariant#AsynchronousNSGAII} variant
+   */
+  public AsynchronousNSGAII<S> buildAsynchronous() {
+    if (!variant.equals(NSGAIIVariant.AsynchronousNSGAII)) {
+      throw new JMetalException("The " + variant + " variant is built with build()") ;
+    }
+
+    return new AsynchronousNSGAII<S>(problem, maxEvaluations, populationSize, crossoverOperator,
+        mutationOperator, selectionOperator, numberOfWorkers) ;
+  }
+
   /* Getters */
   public Problem<S> getProblem() {
     return problem;
@@ -137,4 +202,16 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
   public SolutionListEvaluator<S> getSolutionListEvaluator() {
     return evaluator;
   }
+
+  public int getNumberOfWorkers() {
+    return numberOfWorkers;
+  }
+
+  public boolean isIncrementalRanking() {
+    return incrementalRanking;
+  }
+
+  public boolean isSolutionPooling() {
+    return solutionPooling;
+  }
 }
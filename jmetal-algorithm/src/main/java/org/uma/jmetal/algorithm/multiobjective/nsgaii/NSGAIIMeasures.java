@@ -2,9 +2,11 @@ package org.uma.jmetal.algorithm.multiobjective.nsgaii;
 
 import org.uma.jmetal.measure.Measurable;
 import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
 import org.uma.jmetal.measure.impl.BasicMeasure;
 import org.uma.jmetal.measure.impl.CountingMeasure;
 import org.uma.jmetal.measure.impl.DurationMeasure;
+import org.uma.jmetal.measure.impl.PhaseDurationMeasure;
 import org.uma.jmetal.measure.impl.SimpleMeasureManager;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
@@ -17,12 +19,16 @@ import org.uma.jmetal.util.solutionattribute.Ranking;
 import java.util.List;
 
 /**
+ * NSGA-II providing the measures of {@link AlgorithmMeasures} plus the number of non-dominated
+ * solutions in the population
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class NSGAIIMeasures<S extends Solution<?>> extends NSGAII<S> implements Measurable {
   protected CountingMeasure evaluations ;
   protected DurationMeasure durationMeasure ;
   protected SimpleMeasureManager measureManager ;
+  protected AlgorithmMeasures<S> measures ;
 
   protected BasicMeasure<List<S>> solutionListMeasure ;
   protected BasicMeasure<Integer> numberOfNonDominatedSolutionsInPopulation ;
@@ -46,7 +52,8 @@ public class NSGAIIMeasures<S extends Solution<?>> extends NSGAII<S> implements
   @Override protected void updateProgress() {
     evaluations.increment(getMaxPopulationSize());
 
-    solutionListMeasure.push(getPopulation());
+    measures.updatePopulation(getPopulation());
+    measures.updateHypervolume(getPopulation());
   }
 
   @Override protected boolean isStoppingConditionReached() {
@@ -55,27 +62,22 @@ public class NSGAIIMeasures<S extends Solution<?>> extends NSGAII<S> implements
 
   @Override
   public void run() {
-    durationMeasure.reset();
-    durationMeasure.start();
+    measures.start();
     super.run();
-    durationMeasure.stop();
+    measures.stop();
   }
 
   /* Measures code */
   private void initMeasures() {
-    durationMeasure = new DurationMeasure() ;
-    evaluations = new CountingMeasure(0) ;
+    measures = new AlgorithmMeasures<>() ;
+    durationMeasure = measures.getExecutionTime() ;
+    evaluations = measures.getEvaluations() ;
     numberOfNonDominatedSolutionsInPopulation = new BasicMeasure<>() ;
-    solutionListMeasure = new BasicMeasure<>() ;
+    solutionListMeasure = measures.getCurrentPopulation() ;
 
-    measureManager = new SimpleMeasureManager() ;
-    measureManager.setPullMeasure("currentExecutionTime", durationMeasure);
-    measureManager.setPullMeasure("currentEvaluation", evaluations);
+    measureManager = measures ;
     measureManager.setPullMeasure("numberOfNonDominatedSolutionsInPopulation",
         numberOfNonDominatedSolutionsInPopulation);
-
-    measureManager.setPushMeasure("currentPopulation", solutionListMeasure);
-    measureManager.setPushMeasure("currentEvaluation", evaluations);
   }
 
   @Override
@@ -83,9 +85,35 @@ public class NSGAIIMeasures<S extends Solution<?>> extends NSGAII<S> implements
     return measureManager ;
   }
 
+  @Override protected List<S> evaluatePopulation(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getEvaluationTime()) ;
+    List<S> evaluatedPopulation = super.evaluatePopulation(population) ;
+    measures.exitPhase(previousPhase);
+
+    return evaluatedPopulation ;
+  }
+
+  @Override protected List<S> selection(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getSelectionTime()) ;
+    List<S> matingPopulation = super.selection(population) ;
+    measures.exitPhase(previousPhase);
+
+    return matingPopulation ;
+  }
+
+  @Override protected List<S> reproduction(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReproductionTime()) ;
+    List<S> offspringPopulation = super.reproduction(population) ;
+    measures.exitPhase(previousPhase);
+
+    return offspringPopulation ;
+  }
+
   @Override protected List<S> replacement(List<S> population,
       List<S> offspringPopulation) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
     List<S> pop = super.replacement(population, offspringPopulation) ;
+    measures.exitPhase(previousPhase);
 
     Ranking<S> ranking = computeRanking(pop);
     numberOfNonDominatedSolutionsInPopulation.set(ranking.getSubfront(0).size());
@@ -5,29 +5,99 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalDominanceRanking;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
+  protected final boolean incrementalRanking ;
+
+  private IncrementalDominanceRanking<S> ranking ;
+  private CrowdingDistance<S> crowdingDistance ;
+
   /**
    * Constructor
    */
   public SteadyStateNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
       CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
       SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator) {
+    this(problem, maxEvaluations, populationSize, crossoverOperator, mutationOperator,
+        selectionOperator, evaluator, false);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param incrementalRanking If true, the subfronts are kept between iterations with an
+   *                           {@link IncrementalDominanceRanking} instead of ranking the whole
+   *                           population after each evaluation
+   */
+  public SteadyStateNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator,
+      boolean incrementalRanking) {
     super(problem, maxEvaluations, populationSize, crossoverOperator, mutationOperator,
         selectionOperator, evaluator);
+
+    this.incrementalRanking = incrementalRanking ;
+  }
+
+  @Override protected void initProgress() {
+    super.initProgress();
+
+    if (incrementalRanking) {
+      ranking = new IncrementalDominanceRanking<S>() ;
+      ranking.computeRanking(getPopulation()) ;
+      crowdingDistance = new CrowdingDistance<S>() ;
+      computeCrowdingDistances() ;
+    }
   }
 
   @Override protected void updateProgress() {
     evaluations ++ ;
   }
 
+  @Override protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+    if (!incrementalRanking) {
+      return super.replacement(population, offspringPopulation) ;
+    }
+
+    for (S solution : offspringPopulation) {
+      ranking.add(solution) ;
+    }
+
+    while (ranking.getNumberOfSolutions() > getMaxPopulationSize()) {
+      List<S> lastSubfront = ranking.getSubfront(ranking.getNumberOfSubfronts() - 1) ;
+      crowdingDistance.computeDensityEstimator(lastSubfront);
+
+      S discardedSolution = Collections.max(lastSubfront, new CrowdingDistanceComparator<S>()) ;
+      ranking.remove(discardedSolution) ;
+      if (solutionPool != null) {
+        solutionPool.release(discardedSolution);
+      }
+    }
+
+    // The offspring and the solutions moved among subfronts by the ranking have outdated crowding
+    // distances, so they are updated for the selection operator
+    computeCrowdingDistances() ;
+
+    return ranking.getSolutionList() ;
+  }
+
+  private void computeCrowdingDistances() {
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      crowdingDistance.computeDensityEstimator(ranking.getSubfront(i));
+    }
+  }
+
 
   @Override protected List<S> selection(List<S> population) {
     List<S> matingPopulation = new ArrayList<>(2);
@@ -48,11 +118,20 @@ public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
     List<S> offspring = crossoverOperator.execute(parents);
 
     mutationOperator.execute(offspring.get(0));
+    if (solutionPool != null) {
+      for (int i = 1; i < offspring.size(); i++) {
+        solutionPool.release(offspring.get(i));
+      }
+    }
 
     offspringPopulation.add(offspring.get(0));
     return offspringPopulation;
   }
 
+  public boolean isIncrementalRanking() {
+    return incrementalRanking ;
+  }
+
   @Override public String getName() {
     return "ssNSGAII" ;
   }
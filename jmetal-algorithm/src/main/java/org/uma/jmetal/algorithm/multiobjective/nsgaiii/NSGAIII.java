@@ -7,6 +7,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.parallel.ParallelLoop;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
@@ -27,6 +28,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   protected int maxIterations ;
 
   protected SolutionListEvaluator<S> evaluator ;
+  protected ParallelLoop parallelLoop ;
 
   protected Vector<Integer> numberOfDivisions  ;
   protected List<ReferencePoint<S>> referencePoints = new Vector<>() ;
@@ -41,6 +43,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     selectionOperator =  builder.getSelectionOperator() ;
 
     evaluator = builder.getEvaluator() ;
+    parallelLoop = new ParallelLoop(builder.getNumberOfThreads()) ;
 
     /// NSGAIII
     numberOfDivisions = new Vector<>(1) ;
@@ -59,6 +62,16 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     JMetalLogger.logger.info("rpssize: " + referencePoints.size()); ;
   }
 
+  /** The threads used in the environmental selection are released at the end of the run */
+  @Override
+  public void run() {
+    try {
+      super.run() ;
+    } finally {
+      parallelLoop.shutdown() ;
+    }
+  }
+
   @Override
   protected void initProgress() {
     iterations = 1 ;
@@ -111,15 +124,6 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     return offspringPopulation ;
   }
 
-  
-  private List<ReferencePoint<S>> getReferencePointsCopy() {
-	  List<ReferencePoint<S>> copy = new ArrayList<>();
-	  for (ReferencePoint<S> r : this.referencePoints) {
-		  copy.add(new ReferencePoint<>(r));
-	  }
-	  return copy;
-  }
-  
   @Override
   protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
    
@@ -142,10 +146,10 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
       rankingIndex++;
     }
     
-    // A copy of the reference list should be used as parameter of the environmental selection
+    // The environmental selection does not modify the reference points, so they are not copied
     EnvironmentalSelection<S> selection =
-            new EnvironmentalSelection<>(fronts,getMaxPopulationSize(),getReferencePointsCopy(),
-                    getProblem().getNumberOfObjectives());
+            new EnvironmentalSelection<>(fronts,getMaxPopulationSize(),referencePoints,
+                    getProblem().getNumberOfObjectives(), parallelLoop);
     
     pop = selection.execute(pop);
      
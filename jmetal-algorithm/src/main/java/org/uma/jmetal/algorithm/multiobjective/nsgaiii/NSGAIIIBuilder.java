@@ -6,6 +6,7 @@ import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.AlgorithmBuilder;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
@@ -24,6 +25,7 @@ public class NSGAIIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<N
   private SelectionOperator<List<S>, S> selectionOperator ;
 
   private SolutionListEvaluator<S> evaluator ;
+  private int numberOfThreads ;
   
   /** Builder constructor */
   public NSGAIIIBuilder(Problem<S> problem) {
@@ -31,6 +33,7 @@ public class NSGAIIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<N
     maxIterations = 250 ;
     populationSize = 100 ;
     evaluator = new SequentialSolutionListEvaluator<S>() ;
+    numberOfThreads = 1 ;
   }
 
   public NSGAIIIBuilder<S> setMaxIterations(int maxIterations) {
@@ -69,6 +72,20 @@ public class NSGAIIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<N
     return this ;
   }
 
+  /**
+   * Sets the number of threads used to associate the solutions with the reference points in the
+   * environmental selection. It does not affect the evaluation, which depends on the solution list
+   * evaluator
+   */
+  public NSGAIIIBuilder<S> setNumberOfThreads(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+    this.numberOfThreads = numberOfThreads ;
+
+    return this ;
+  }
+
   public SolutionListEvaluator<S> getEvaluator() {
     return evaluator;
   }
@@ -97,6 +114,10 @@ public class NSGAIIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<N
     return selectionOperator;
   }
 
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
   public NSGAIII<S> build() {
     return new NSGAIII<>(this) ;
   }
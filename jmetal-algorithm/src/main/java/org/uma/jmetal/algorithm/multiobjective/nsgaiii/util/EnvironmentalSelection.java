@@ -4,12 +4,24 @@ package org.uma.jmetal.algorithm.multiobjective.nsgaiii.util;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.parallel.ParallelLoop;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.solutionattribute.SolutionAttribute;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Environmental selection of NSGA-III. The translated and normalized objectives of the solutions
+ * in the fronts, the ideal point, the intercepts and the reference directions are stored in
+ * arrays of doubles, so that the normalization, the association and the niching do not allocate
+ * memory per solution or per reference point. The association of the solutions to the reference
+ * points can be computed by the threads of a {@link ParallelLoop} (sequentially by default); the
+ * result does not depend on the number of threads. The reference points are not modified.
+ *
+ * The methods of the previous implementation, based on lists and on a solution attribute with the
+ * converted objectives, are kept as deprecated methods which call the new ones.
+ */
 public class EnvironmentalSelection<S extends Solution<?>> implements SelectionOperator<List<S>, List<S>>,
 											   SolutionAttribute<S, List<Double>> {
 
@@ -17,48 +29,75 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
 	private int solutionsToSelect;
 	private List<ReferencePoint<S>> referencePoints;
 	private int numberOfObjectives;
-	
+	private ParallelLoop parallelLoop;
+
+	/** Solutions of the fronts, in order; solutions [lastFrontStart, size) belong to the last front */
+	private List<S> solutions;
+	private int lastFrontStart;
+	/** Translated (and then normalized) objectives of the solutions, one row per solution */
+	private double[] objectives;
+	/** Reference directions, one row per reference point, and their squared norms */
+	private double[] directions;
+	private double[] squaredNorms;
+	/** Reference point associated to each solution and the distance to it */
+	private int[] association;
+	private double[] distances;
+
 	public EnvironmentalSelection(Builder<S> builder) {
-		fronts = builder.getFronts();
-		solutionsToSelect = builder.getSolutionsToSelet();
-		referencePoints = builder.getReferencePoints();
-		numberOfObjectives = builder.getNumberOfObjectives();
+		this(builder.getFronts(), builder.getSolutionsToSelet(), builder.getReferencePoints(),
+				builder.getNumberOfObjectives(), builder.getParallelLoop());
 	}
 	
 	
 	public EnvironmentalSelection(List<List<S>> fronts, int solutionsToSelect, List<ReferencePoint<S>> referencePoints, int numberOfObjectives) {
+		this(fronts, solutionsToSelect, referencePoints, numberOfObjectives, new ParallelLoop(1));
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param parallelLoop Loop associating the solutions to the reference points. It is not shut
+	 *                     down by this class
+	 */
+	public EnvironmentalSelection(List<List<S>> fronts, int solutionsToSelect, List<ReferencePoint<S>> referencePoints,
+			int numberOfObjectives, ParallelLoop parallelLoop) {
+		if (parallelLoop == null) {
+			throw new JMetalException("The parallel loop is null");
+		}
 		this.fronts 			= fronts;
 		this.solutionsToSelect  = solutionsToSelect;
 		this.referencePoints 	= referencePoints;
 		this.numberOfObjectives = numberOfObjectives;
+		this.parallelLoop       = parallelLoop;
 	}
-	
-	public List<Double> translateObjectives(List<S> population) {
-	   List<Double> ideal_point;
-	   ideal_point = new ArrayList<>(numberOfObjectives);
-	   
-	   for (int f=0; f<numberOfObjectives; f+=1){
+
+	/**
+	 * Stores the objectives of the solutions of the fronts minus the ideal point, whose
+	 * components are the minimum values of the first front, and returns the ideal point
+	 */
+	public double[] translateObjectives() {
+		solutions = new ArrayList<>();
+		for (List<S> front : fronts) {
+			lastFrontStart = solutions.size();
+			solutions.addAll(front);
+		}
+
+		double[] idealPoint = new double[numberOfObjectives];
+		objectives = new double[solutions.size() * numberOfObjectives];
+		for (int f = 0; f < numberOfObjectives; f += 1) {
 			double minf = Double.MAX_VALUE;
-			for (int i=0; i<fronts.get(0).size(); i+=1) // min values must appear in the first front
+			for (int i = 0; i < fronts.get(0).size(); i += 1) // min values must appear in the first front
 			{
-				minf = Math.min(minf, fronts.get(0).get(i).getObjective(f));
+				minf = Math.min(minf, solutions.get(i).getObjective(f));
 			}
-			ideal_point.add(minf);
+			idealPoint[f] = minf;
 
-			for (List<S> list : fronts) 
-			{
-				for (S s : list)
-				{
-					if (f==0) // in the first objective we create the vector of conv_objs
-						setAttribute(s, new ArrayList<Double>());
-					
-					getAttribute(s).add(s.getObjective(f)-minf);
-					
-				}
+			for (int i = 0; i < solutions.size(); i++) {
+				objectives[i * numberOfObjectives + f] = solutions.get(i).getObjective(f) - minf;
 			}
 		}
-	   
-	   return ideal_point;
+
+		return idealPoint;
 	}
 
 	
@@ -78,8 +117,8 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
 	}
 	
 	// ----------------------------------------------------------------------
-	private List<S> findExtremePoints(List<S> population) {
-		List<S> extremePoints = new ArrayList<>();
+	private List<S> findExtremePoints() {
+		List<S> extremePoints = new ArrayList<>(numberOfObjectives);
 		S min_indv = null;
 		for (int f=0; f < numberOfObjectives; f+=1)
 		{
@@ -96,43 +135,40 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
 		}
 		return extremePoints;
 	}
-	
-	public List<Double> guassianElimination(List<List<Double>> A, List<Double> b) {
-		List<Double> x = new ArrayList<>();
-
-	    int N = A.size();
-	    for (int i=0; i<N; i+=1)
-	    {
-	    	A.get(i).add(b.get(i));
-	    }
-
-	    for (int base=0; base<N-1; base+=1)
-	    {
-	        for (int target=base+1; target<N; target+=1)
-	        {
-	            double ratio = A.get(target).get(base)/A.get(base).get(base);
-	            for (int term=0; term<A.get(base).size(); term+=1)
-	            {
-	                A.get(target).set(term, A.get(target).get(term) - A.get(base).get(term)*ratio);
-	            }
-	        }
-	    }
-
-	    for (int i = 0; i < N; i++)
-	    	x.add(0.0);
-	    
-	    for (int i=N-1; i>=0; i-=1)
-	    {
-	        for (int known=i+1; known<N; known+=1)
-	        {
-	            A.get(i).set(N, A.get(i).get(N) - A.get(i).get(known)*x.get(known));
-	        }
-	        x.set(i, A.get(i).get(N)/A.get(i).get(i));
-	    }
+
+	/**
+	 * Solves the system A x = b by Gaussian elimination. Neither A nor b are modified
+	 */
+	public double[] gaussianElimination(double[][] A, double[] b) {
+		int N = A.length;
+		double[][] augmented = new double[N][];
+		for (int i = 0; i < N; i += 1) {
+			augmented[i] = new double[N + 1];
+			System.arraycopy(A[i], 0, augmented[i], 0, N);
+			augmented[i][N] = b[i];
+		}
+
+		for (int base = 0; base < N - 1; base += 1) {
+			for (int target = base + 1; target < N; target += 1) {
+				double ratio = augmented[target][base] / augmented[base][base];
+				for (int term = base; term <= N; term += 1) {
+					augmented[target][term] -= augmented[base][term] * ratio;
+				}
+			}
+		}
+
+		double[] x = new double[N];
+		for (int i = N - 1; i >= 0; i -= 1) {
+			for (int known = i + 1; known < N; known += 1) {
+				augmented[i][N] -= augmented[i][known] * x[known];
+			}
+			x[i] = augmented[i][N] / augmented[i][i];
+		}
+
 		return x;
 	}
-	
-	public List<Double> constructHyperplane(List<S> population, List<S> extreme_points) {
+
+	public double[] constructHyperplane(List<S> extreme_points) {
 		// Check whether there are duplicate extreme points.
 		// This might happen but the original paper does not mention how to deal with it.
 		boolean duplicate = false;
@@ -144,199 +180,362 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
 			}
 		}
 
-		List<Double> intercepts = new ArrayList<>();
+		double[] intercepts = new double[numberOfObjectives];
 		
 		if (duplicate) // cannot construct the unique hyperplane (this is a casual method to deal with the condition)
 		{
 			for (int f=0; f<numberOfObjectives; f+=1)
 			{
 				// extreme_points[f] stands for the individual with the largest value of objective f
-				intercepts.add(extreme_points.get(f).getObjective(f));
+				intercepts[f] = extreme_points.get(f).getObjective(f);
 			}
 		}
 		else
 		{
 			// Find the equation of the hyperplane
-			List<Double> b = new ArrayList<>(); //(pop[0].objs().size(), 1.0);
-			for (int i =0; i < numberOfObjectives;i++)
-				b.add(1.0);
-			
-			List<List<Double>> A=new ArrayList<>();
-			for (S s : extreme_points)
-			{
-				List<Double> aux = new ArrayList<>();
-				for (int i = 0; i < numberOfObjectives; i++)
-					aux.add(s.getObjective(i));
-				A.add(aux);
+			double[] b = new double[numberOfObjectives];
+			double[][] A = new double[numberOfObjectives][numberOfObjectives];
+			for (int i = 0; i < numberOfObjectives; i++) {
+				b[i] = 1.0;
+				for (int j = 0; j < numberOfObjectives; j++) {
+					A[i][j] = extreme_points.get(i).getObjective(j);
+				}
 			}
-			List<Double> x = guassianElimination(A, b);
+			double[] x = gaussianElimination(A, b);
 		
 			// Find intercepts
 			for (int f=0; f<numberOfObjectives; f+=1)
 			{
-				intercepts.add(1.0/x.get(f));
-				
+				intercepts[f] = 1.0/x[f];
 			}
 		}
 		return intercepts;
 	}
 	
-	public void normalizeObjectives(List<S> population, List<Double> intercepts, List<Double> ideal_point) {
-		for (int t=0; t<fronts.size(); t+=1)
-		{
-			for (S s : fronts.get(t)) {
-			
-				for (int f = 0; f < numberOfObjectives; f++) {
-					List<Double> conv_obj = (List<Double>)getAttribute(s);
-					if (Math.abs(intercepts.get(f)-ideal_point.get(f))> 10e-10)
-					{
-						conv_obj.set(f,conv_obj.get(f) / (intercepts.get(f)-ideal_point.get(f)));
-					}
-					else
-					{
-						conv_obj.set(f,conv_obj.get(f) / (10e-10));
-					}
-						
-				}
+	public void normalizeObjectives(double[] intercepts, double[] idealPoint) {
+		for (int f = 0; f < numberOfObjectives; f++) {
+			double denominator;
+			if (Math.abs(intercepts[f] - idealPoint[f]) > 10e-10) {
+				denominator = intercepts[f] - idealPoint[f];
+			} else {
+				denominator = 10e-10;
+			}
+			for (int i = f; i < objectives.length; i += numberOfObjectives) {
+				objectives[i] /= denominator;
 			}
 		}
 	}
-	
-	public double perpendicularDistance(List<Double> direction, List<Double> point) {
-	    double numerator = 0, denominator = 0;
-	    for (int i=0; i<direction.size(); i+=1)
-	    {
-	        numerator += direction.get(i)*point.get(i);
-	        denominator += Math.pow(direction.get(i),2.0);
-	    }
-	    double k = numerator/denominator;
-
-	    double d = 0;
-	    for (int i=0; i<direction.size(); i+=1)
-	    {
-	        d += Math.pow(k*direction.get(i) - point.get(i),2.0);
-	    }
-	    return Math.sqrt(d);
+
+	/**
+	 * Distance from a point (a row of the normalized objectives) to the line defined by a
+	 * reference direction
+	 */
+	private double perpendicularDistance(int direction, int point) {
+		int directionOffset = direction * numberOfObjectives;
+		int pointOffset = point * numberOfObjectives;
+		double numerator = 0;
+		for (int i = 0; i < numberOfObjectives; i += 1) {
+			numerator += directions[directionOffset + i] * objectives[pointOffset + i];
+		}
+		double k = numerator / squaredNorms[direction];
+
+		double d = 0;
+		for (int i = 0; i < numberOfObjectives; i += 1) {
+			double difference = k * directions[directionOffset + i] - objectives[pointOffset + i];
+			d += difference * difference;
+		}
+		return Math.sqrt(d);
 	}
-	
-	
-	public void associate(List<S> population) {
 
+	/**
+	 * Associates each solution with its closest reference direction, storing the index of the
+	 * reference point and the distance to it
+	 */
+	public void associate() {
+		int numberOfReferencePoints = referencePoints.size();
+		directions = new double[numberOfReferencePoints * numberOfObjectives];
+		squaredNorms = new double[numberOfReferencePoints];
+		for (int r = 0; r < numberOfReferencePoints; r++) {
+			List<Double> position = referencePoints.get(r).position;
+			for (int i = 0; i < numberOfObjectives; i++) {
+				double value = position.get(i);
+				directions[r * numberOfObjectives + i] = value;
+				squaredNorms[r] += value * value;
+			}
+		}
 
-		for (int t = 0; t < fronts.size(); t++) {
-			for (S s : fronts.get(t)) {
+		association = new int[solutions.size()];
+		distances = new double[solutions.size()];
+		final int referencePointsToCheck = numberOfReferencePoints;
+		parallelLoop.execute(solutions.size(), new ParallelLoop.Body() {
+			@Override public void execute(int s) {
 				int min_rp = -1;
 				double min_dist = Double.MAX_VALUE;
-				for (int r = 0; r < this.referencePoints.size(); r++) {
-					double d = perpendicularDistance(this.referencePoints.get(r).position,
-										             (List<Double>)getAttribute(s));
+				for (int r = 0; r < referencePointsToCheck; r++) {
+					double d = perpendicularDistance(r, s);
 					if (d < min_dist) {
-						min_dist=d;
-						min_rp = r; 
+						min_dist = d;
+						min_rp = r;
 					}
 				}
-				if (t+1 != fronts.size()) {
-					this.referencePoints.get(min_rp).AddMember();
-				} else {
-					this.referencePoints.get(min_rp).AddPotentialMember(s, min_dist);
-				}
+				association[s] = min_rp;
+				distances[s] = min_dist;
 			}
-		}
-		
+		});
 	}
-	
-	int FindNicheReferencePoint()
-	{
-		// find the minimal cluster size
-		int min_size = Integer.MAX_VALUE;
-		for (ReferencePoint<S> referencePoint : this.referencePoints)
-			min_size = Math.min(min_size,referencePoint.MemberSize());
-		
-		// find the reference points with the minimal cluster size Jmin
-		List<Integer> min_rps=new ArrayList<>();
+
+	@Override
+	/* This method performs the environmental Selection indicated in the paper describing NSGAIII*/
+	public List<S> execute(List<S> source) throws JMetalException {
+		// The comments show the C++ code
+
+		// ---------- Steps 9-10 in Algorithm 1 ----------
+		if (source.size() == this.solutionsToSelect) return source;
 		
+
+		// ---------- Step 14 / Algorithm 2 ----------
+		//vector<double> ideal_point = TranslateObjectives(&cur, fronts);
+		double[] idealPoint     = translateObjectives();
+		List<S>  extremePoints  = findExtremePoints();
+		double[] intercepts     = constructHyperplane(extremePoints);
 		
-		for (int r=0; r<this.referencePoints.size(); r+=1)
+		normalizeObjectives(intercepts, idealPoint);
+		// ---------- Step 15 / Algorithm 3, Step 16 ----------
+		associate();
+
+		// ---------- Step 17 / Algorithm 4 ----------
+		niching(source);
+
+		solutions = null;
+		objectives = null;
+		association = null;
+		distances = null;
+
+		return source;
+	}
+
+	/**
+	 * Adds solutions of the last front to the source list, one at a time, taking them from the
+	 * reference points with the fewest associated members. The potential members of the reference
+	 * points are stored in a single array, in consecutive segments, in the order of the last front
+	 */
+	private void niching(List<S> source) {
+		int numberOfReferencePoints = referencePoints.size();
+		int[] memberSize = new int[numberOfReferencePoints];
+		int[] potentialSize = new int[numberOfReferencePoints];
+		for (int i = 0; i < lastFrontStart; i++) {
+			memberSize[association[i]]++;
+		}
+		for (int i = lastFrontStart; i < solutions.size(); i++) {
+			potentialSize[association[i]]++;
+		}
+
+		int[] potentialStart = new int[numberOfReferencePoints];
+		for (int r = 1; r < numberOfReferencePoints; r++) {
+			potentialStart[r] = potentialStart[r - 1] + potentialSize[r - 1];
+		}
+		int[] potentialMembers = new int[solutions.size() - lastFrontStart];
+		int[] filled = new int[numberOfReferencePoints];
+		for (int i = lastFrontStart; i < solutions.size(); i++) {
+			int r = association[i];
+			potentialMembers[potentialStart[r] + filled[r]++] = i;
+		}
+
+		// Reference points not disregarded yet, and the positions of those with fewest members
+		int[] candidates = new int[numberOfReferencePoints];
+		for (int r = 0; r < numberOfReferencePoints; r++) {
+			candidates[r] = r;
+		}
+		int numberOfCandidates = numberOfReferencePoints;
+		int[] minimumPositions = new int[numberOfReferencePoints];
+
+		JMetalRandom random = JMetalRandom.getInstance();
+		while (source.size() < this.solutionsToSelect)
 		{
-			if (this.referencePoints.get(r).MemberSize() == min_size)
+			// find the minimal cluster size and the reference points with it (j-bar)
+			int min_size = Integer.MAX_VALUE;
+			for (int c = 0; c < numberOfCandidates; c++) {
+				min_size = Math.min(min_size, memberSize[candidates[c]]);
+			}
+			int numberOfMinimums = 0;
+			for (int c = 0; c < numberOfCandidates; c++) {
+				if (memberSize[candidates[c]] == min_size) {
+					minimumPositions[numberOfMinimums++] = c;
+				}
+			}
+			int position = minimumPositions[numberOfMinimums > 1 ? random.nextInt(0, numberOfMinimums - 1) : 0];
+			int min_rp = candidates[position];
+
+			int chosen = selectClusterMember(min_rp, memberSize[min_rp], potentialMembers,
+					potentialStart[min_rp], potentialSize[min_rp]);
+			if (chosen == -1) // no potential member in Fl, disregard this reference point
+			{
+				System.arraycopy(candidates, position + 1, candidates, position, numberOfCandidates - position - 1);
+				numberOfCandidates--;
+			}
+			else
 			{
-				min_rps.add(r);
+				memberSize[min_rp]++;
+				int start = potentialStart[min_rp];
+				source.add(solutions.get(potentialMembers[start + chosen]));
+				System.arraycopy(potentialMembers, start + chosen + 1, potentialMembers, start + chosen,
+						potentialSize[min_rp] - chosen - 1);
+				potentialSize[min_rp]--;
 			}
 		}
-		// return a random reference point (j-bar)
-		return min_rps.get(min_rps.size() > 1 ? JMetalRandom.getInstance().nextInt(0, min_rps.size()-1):0);
 	}
-	
+
 	// ----------------------------------------------------------------------
-	// SelectClusterMember():
+	// selectClusterMember():
 	//
 	// Select a potential member (an individual in the front Fl) and associate
-	// it with the reference point.
+	// it with the reference point. Returns its position among the potential
+	// members of the reference point, or -1 if there is none.
 	//
 	// Check the last two paragraphs in Section IV-E in the original paper.
 	// ----------------------------------------------------------------------
-	S SelectClusterMember(ReferencePoint<S> rp)
-	{
-		S chosen = null;
-		if (rp.HasPotentialMember())
-		{
-			if (rp.MemberSize() == 0) // currently has no member
+	private int selectClusterMember(int rp, int memberSize, int[] potentialMembers, int start, int size) {
+		int chosen = -1;
+		if (size > 0) {
+			if (memberSize == 0) // currently has no member
 			{
-				chosen =  rp.FindClosestMember();
+				double minDistance = Double.MAX_VALUE;
+				for (int i = 0; i < size; i++) {
+					if (distances[potentialMembers[start + i]] < minDistance) {
+						minDistance = distances[potentialMembers[start + i]];
+						chosen = i;
+					}
+				}
 			}
 			else
 			{
-				chosen =  rp.RandomMember();
+				chosen = size > 1 ? JMetalRandom.getInstance().nextInt(0, size - 1) : 0;
 			}
 		}
 		return chosen;
 	}
-	
-	@Override
-	/* This method performs the environmental Selection indicated in the paper describing NSGAIII*/
-	public List<S> execute(List<S> source) throws JMetalException {
-		// The comments show the C++ code
 
-		// ---------- Steps 9-10 in Algorithm 1 ----------
-		if (source.size() == this.solutionsToSelect) return source;
-		
+	/**
+	 * Calls {@link #translateObjectives()} and stores the translated objectives of each solution
+	 * of the fronts as its attribute
+	 *
+	 * @deprecated Use {@link #translateObjectives()}
+	 */
+	@Deprecated
+	public List<Double> translateObjectives(List<S> population) {
+		double[] idealPoint = translateObjectives();
+		updateAttributes();
+		return toList(idealPoint);
+	}
 
-		// ---------- Step 14 / Algorithm 2 ----------
-		//vector<double> ideal_point = TranslateObjectives(&cur, fronts);
-		List<Double>   ideal_point    = translateObjectives(source);
-		List<S> extreme_points = 		findExtremePoints(source);
-		List<Double>   intercepts     = constructHyperplane(source, extreme_points);
-		
- 	    normalizeObjectives(source, intercepts, ideal_point);
-		// ---------- Step 15 / Algorithm 3, Step 16 ----------
-		associate(source);
+	/**
+	 * Unlike the previous implementation, A is not modified
+	 *
+	 * @deprecated Use {@link #gaussianElimination(double[][], double[])}
+	 */
+	@Deprecated
+	public List<Double> guassianElimination(List<List<Double>> A, List<Double> b) {
+		double[][] matrix = new double[A.size()][];
+		for (int i = 0; i < A.size(); i++) {
+			matrix[i] = toArray(A.get(i));
+		}
+		return toList(gaussianElimination(matrix, toArray(b)));
+	}
 
-		// ---------- Step 17 / Algorithm 4 ----------
-		while (source.size() < this.solutionsToSelect)
+	/**
+	 * @deprecated Use {@link #constructHyperplane(List)}
+	 */
+	@Deprecated
+	public List<Double> constructHyperplane(List<S> population, List<S> extreme_points) {
+		return toList(constructHyperplane(extreme_points));
+	}
+
+	/**
+	 * Calls {@link #normalizeObjectives(double[], double[])} and stores the normalized objectives
+	 * of each solution of the fronts as its attribute. {@link #translateObjectives(List)} must have
+	 * been called before
+	 *
+	 * @deprecated Use {@link #normalizeObjectives(double[], double[])}
+	 */
+	@Deprecated
+	public void normalizeObjectives(List<S> population, List<Double> intercepts, List<Double> ideal_point) {
+		normalizeObjectives(toArray(intercepts), toArray(ideal_point));
+		updateAttributes();
+	}
+
+	/**
+	 * @deprecated The distances are computed on the arrays of the directions and the normalized
+	 * objectives by {@link #associate()}
+	 */
+	@Deprecated
+	public double perpendicularDistance(List<Double> direction, List<Double> point) {
+		double numerator = 0, denominator = 0;
+		for (int i=0; i<direction.size(); i+=1)
+		{
+			numerator += direction.get(i)*point.get(i);
+			denominator += Math.pow(direction.get(i),2.0);
+		}
+		double k = numerator/denominator;
+
+		double d = 0;
+		for (int i=0; i<direction.size(); i+=1)
 		{
-			int min_rp = FindNicheReferencePoint();
+			d += Math.pow(k*direction.get(i) - point.get(i),2.0);
+		}
+		return Math.sqrt(d);
+	}
 
-			S chosen = SelectClusterMember(this.referencePoints.get(min_rp));
-			if (chosen == null) // no potential member in Fl, disregard this reference point
-			{
-				this.referencePoints.remove(min_rp); 
+	/**
+	 * Calls {@link #associate()} and, as the previous implementation, adds the solutions of the
+	 * last front as potential members of their reference points and counts the rest as members.
+	 * {@link #normalizeObjectives(List, List, List)} must have been called before
+	 *
+	 * @deprecated Use {@link #associate()}, which does not modify the reference points
+	 */
+	@Deprecated
+	public void associate(List<S> population) {
+		associate();
+		for (int i = 0; i < solutions.size(); i++) {
+			if (i < lastFrontStart) {
+				referencePoints.get(association[i]).AddMember();
+			} else {
+				referencePoints.get(association[i]).AddPotentialMember(solutions.get(i), distances[i]);
 			}
-			else
-			{
-				this.referencePoints.get(min_rp).AddMember();
-				this.referencePoints.get(min_rp).RemovePotentialMember(chosen);
-				source.add(chosen);
+		}
+	}
+
+	private void updateAttributes() {
+		for (int i = 0; i < solutions.size(); i++) {
+			List<Double> values = new ArrayList<>(numberOfObjectives);
+			for (int f = 0; f < numberOfObjectives; f++) {
+				values.add(objectives[i * numberOfObjectives + f]);
 			}
+			setAttribute(solutions.get(i), values);
 		}
-		
-		return source;
 	}
-	
+
+	private static double[] toArray(List<Double> list) {
+		double[] array = new double[list.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = list.get(i);
+		}
+		return array;
+	}
+
+	private static List<Double> toList(double[] array) {
+		List<Double> list = new ArrayList<>(array.length);
+		for (double value : array) {
+			list.add(value);
+		}
+		return list;
+	}
+
 	public static class Builder<S extends Solution<?>> {
 		private List<List<S>> fronts;
 		private int solutionsToSelect;
 		private List<ReferencePoint<S>> referencePoints;
 		private int numberOfObjctives;
+		private ParallelLoop parallelLoop = new ParallelLoop(1);
 		
 		// the default constructor is generated by default
 		
@@ -378,21 +577,30 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
 		public int getNumberOfObjectives() {
 			return this.numberOfObjctives;
 		}
-	}
 
-	  @Override
-	  public void setAttribute(S solution, List<Double> value) {
-	    solution.setAttribute(getAttributeID(), value);
-	  }
+		public Builder<S> setParallelLoop(ParallelLoop parallelLoop) {
+			this.parallelLoop = parallelLoop;
+			return this;
+		}
 
-	  @Override
-	  public List<Double> getAttribute(S solution) {
-	    return (List<Double>) solution.getAttribute(getAttributeID());
-	  }
+		public ParallelLoop getParallelLoop() {
+			return this.parallelLoop;
+		}
+	}
 
-	  @Override
-	  public Object getAttributeID() {
-	    return this.getClass();
-	  }
+	@Override
+	public void setAttribute(S solution, List<Double> value) {
+		solution.setAttribute(getAttributeID(), value);
+	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public List<Double> getAttribute(S solution) {
+		return (List<Double>) solution.getAttribute(getAttributeID());
+	}
+
+	@Override
+	public Object getAttributeID() {
+		return this.getClass();
+	}
 }
@@ -24,7 +24,8 @@ package org.uma.jmetal.algorithm.multiobjective.randomsearch;
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.NDTreeArchive;
 
 import java.util.List;
 
@@ -36,13 +37,13 @@ import java.util.List;
 public class RandomSearch<S extends Solution<?>> implements Algorithm<List<S>> {
   private Problem<S> problem ;
   private int maxEvaluations ;
-  NonDominatedSolutionListArchive<S> nonDominatedArchive ;
+  Archive<S> nonDominatedArchive ;
 
   /** Constructor */
   public RandomSearch(Problem<S> problem, int maxEvaluations) {
     this.problem = problem ;
     this.maxEvaluations = maxEvaluations ;
-    nonDominatedArchive = new NonDominatedSolutionListArchive<S>();
+    nonDominatedArchive = new NDTreeArchive<S>();
   }
 
   /* Getter */
@@ -17,6 +17,7 @@ import org.uma.jmetal.algorithm.impl.AbstractParticleSwarmOptimization;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
@@ -69,6 +70,8 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   private SolutionListEvaluator<DoubleSolution> evaluator;
 
+  private SolutionPool<DoubleSolution> solutionPool;
+
   /**
    * Constructor
    */
@@ -163,7 +166,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   @Override protected void initializeParticlesMemory(List<DoubleSolution> swarm) {
     for (DoubleSolution particle : swarm) {
-      localBest.setAttribute(particle, (DoubleSolution) particle.copy());
+      localBest.setAttribute(particle, copy(particle));
     }
   }
 
@@ -173,8 +176,8 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     DoubleSolution bestGlobal;
 
     for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-      DoubleSolution bestParticle = (DoubleSolution) localBest.getAttribute(swarm.get(i)).copy();
+      DoubleSolution particle = swarm.get(i);
+      DoubleSolution bestParticle = localBest.getAttribute(swarm.get(i));
 
       bestGlobal = selectGlobalBest();
 
@@ -223,7 +226,10 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
 
   @Override protected void updateLeaders(List<DoubleSolution> swarm) {
     for (DoubleSolution particle : swarm) {
-      leaders.add((DoubleSolution)particle.copy());
+      DoubleSolution leader = copy(particle);
+      if (!leaders.add(leader) && (solutionPool != null)) {
+        solutionPool.release(leader);
+      }
     }
   }
 
@@ -231,7 +237,10 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     for (int i = 0; i < swarm.size(); i++) {
       int flag = dominanceComparator.compare(swarm.get(i), localBest.getAttribute(swarm.get(i)));
       if (flag != 1) {
-        DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
+        if (solutionPool != null) {
+          solutionPool.release(localBest.getAttribute(swarm.get(i)));
+        }
+        DoubleSolution particle = copy(swarm.get(i));
         localBest.setAttribute(swarm.get(i), particle);
       }
     }
@@ -250,14 +259,34 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     two = leaders.getSolutionList().get(pos2);
 
     if (leaders.getComparator().compare(one, two) < 1) {
-      bestGlobal = (DoubleSolution) one.copy();
+      bestGlobal = one;
     } else {
-      bestGlobal = (DoubleSolution) two.copy();
+      bestGlobal = two;
     }
 
     return bestGlobal;
   }
 
+  public SolutionPool<DoubleSolution> getSolutionPool() {
+    return solutionPool;
+  }
+
+  /**
+   * Sets a pool to reuse the local bests that are replaced and the copies of the particles that
+   * are not accepted by the leaders archive. A null pool disables the reuse.
+   */
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    this.solutionPool = solutionPool;
+  }
+
+  private DoubleSolution copy(DoubleSolution particle) {
+    if (solutionPool == null) {
+      return (DoubleSolution) particle.copy();
+    } else {
+      return solutionPool.copy(particle);
+    }
+  }
+
   private double velocityConstriction(double v, double[] deltaMax, double[] deltaMin,
                                       int variableIndex) {
 
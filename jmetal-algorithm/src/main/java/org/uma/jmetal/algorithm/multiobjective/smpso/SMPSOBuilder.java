@@ -17,6 +17,7 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.AlgorithmBuilder;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
@@ -28,6 +29,8 @@ import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
+  public enum SMPSOVariant {SMPSO, Measures}
+
   private DoubleProblem problem;
 
   private double c1Max;
@@ -54,6 +57,10 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
 
   private SolutionListEvaluator<DoubleSolution> evaluator;
 
+  private boolean solutionPooling;
+
+  private SMPSOVariant variant;
+
   public SMPSOBuilder(DoubleProblem problem, BoundedArchive<DoubleSolution> leaders) {
     this.problem = problem;
     this.leaders = leaders;
@@ -76,6 +83,7 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
 
     mutationOperator = new PolynomialMutation(1.0/problem.getNumberOfVariables(), 20.0) ;
     evaluator = new SequentialSolutionListEvaluator<DoubleSolution>() ;
+    variant = SMPSOVariant.SMPSO ;
   }
 
   /* Getters */
@@ -242,10 +250,37 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
     return this ;
   }
 
+  /**
+   * Enables the reuse of the local bests and leader copies through a {@link SolutionPool}
+   */
+  public SMPSOBuilder setSolutionPooling(boolean solutionPooling) {
+    this.solutionPooling = solutionPooling ;
+
+    return this ;
+  }
+
+  public SMPSOBuilder setVariant(SMPSOVariant variant) {
+    this.variant = variant ;
+
+    return this ;
+  }
+
   public SMPSO build() {
-    return new SMPSO(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max,
-        r2Min, r2Max, c1Min, c1Max, c2Min, c2Max, weightMin, weightMax, changeVelocity1,
-        changeVelocity2, evaluator);
+    SMPSO algorithm = null ;
+    if (variant.equals(SMPSOVariant.SMPSO)) {
+      algorithm = new SMPSO(problem, swarmSize, leaders, mutationOperator, maxIterations,
+          r1Min, r1Max, r2Min, r2Max, c1Min, c1Max, c2Min, c2Max, weightMin, weightMax,
+          changeVelocity1, changeVelocity2, evaluator);
+    } else if (variant.equals(SMPSOVariant.Measures)) {
+      algorithm = new SMPSOMeasures(problem, swarmSize, leaders, mutationOperator, maxIterations,
+          r1Min, r1Max, r2Min, r2Max, c1Min, c1Max, c2Min, c2Max, weightMin, weightMax,
+          changeVelocity1, changeVelocity2, evaluator);
+    }
+    if (solutionPooling) {
+      algorithm.setSolutionPool(new SolutionPool<DoubleSolution>(2 * swarmSize));
+    }
+
+    return algorithm ;
   }
 
   /*
@@ -271,6 +306,14 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
   public SolutionListEvaluator<DoubleSolution> getEvaluator() {
     return evaluator;
   }
+
+  public boolean isSolutionPooling() {
+    return solutionPooling;
+  }
+
+  public SMPSOVariant getVariant() {
+    return variant;
+  }
 }
 
 
@@ -0,0 +1,138 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.smpso;
+
+import org.uma.jmetal.measure.Measurable;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
+import org.uma.jmetal.measure.impl.PhaseDurationMeasure;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.archive.BoundedArchive;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SMPSO providing the measures of {@link AlgorithmMeasures}. The selection of the global best
+ * particles is accounted as the selection, the velocity and position updates and the mutation as
+ * the reproduction, and the update of the leaders and the particle memories as the replacement.
+ * The archive is the leaders archive, on which the hypervolume measure is computed
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SMPSOMeasures extends SMPSO implements Measurable {
+  protected AlgorithmMeasures<DoubleSolution> measures ;
+
+  /**
+   * Constructor
+   */
+  public SMPSOMeasures(DoubleProblem problem, int swarmSize, BoundedArchive<DoubleSolution> leaders,
+      MutationOperator<DoubleSolution> mutationOperator, int maxIterations, double r1Min, double r1Max,
+      double r2Min, double r2Max, double c1Min, double c1Max, double c2Min, double c2Max,
+      double weightMin, double weightMax, double changeVelocity1, double changeVelocity2,
+      SolutionListEvaluator<DoubleSolution> evaluator) {
+    super(problem, swarmSize, leaders, mutationOperator, maxIterations, r1Min, r1Max, r2Min, r2Max,
+        c1Min, c1Max, c2Min, c2Max, weightMin, weightMax, changeVelocity1, changeVelocity2,
+        evaluator) ;
+
+    measures = new AlgorithmMeasures<>() ;
+  }
+
+  @Override public void run() {
+    measures.start();
+    super.run();
+    measures.stop();
+  }
+
+  @Override protected void updateProgress() {
+    super.updateProgress();
+
+    List<DoubleSolution> swarm = new ArrayList<>(getSwarm().size()) ;
+    for (DoubleSolution particle : getSwarm()) {
+      swarm.add((DoubleSolution) particle.copy()) ;
+    }
+    measures.updatePopulation(swarm);
+    measures.updateArchive(getResult());
+    measures.updateHypervolume(getResult());
+  }
+
+  @Override protected List<DoubleSolution> evaluateSwarm(List<DoubleSolution> swarm) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getEvaluationTime()) ;
+    List<DoubleSolution> evaluatedSwarm = super.evaluateSwarm(swarm) ;
+    measures.exitPhase(previousPhase);
+    measures.getEvaluations().increment(swarm.size());
+
+    return evaluatedSwarm ;
+  }
+
+  @Override protected DoubleSolution selectGlobalBest() {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getSelectionTime()) ;
+    DoubleSolution bestGlobal = super.selectGlobalBest() ;
+    measures.exitPhase(previousPhase);
+
+    return bestGlobal ;
+  }
+
+  @Override protected void updateVelocity(List<DoubleSolution> swarm) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReproductionTime()) ;
+    super.updateVelocity(swarm);
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override protected void updatePosition(List<DoubleSolution> swarm) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReproductionTime()) ;
+    super.updatePosition(swarm);
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override protected void perturbation(List<DoubleSolution> swarm) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReproductionTime()) ;
+    super.perturbation(swarm);
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override protected void updateLeaders(List<DoubleSolution> swarm) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    super.updateLeaders(swarm);
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override protected void updateParticlesMemory(List<DoubleSolution> swarm) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    super.updateParticlesMemory(swarm);
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override protected void updateLeadersDensityEstimator() {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    super.updateLeadersDensityEstimator();
+    measures.exitPhase(previousPhase);
+  }
+
+  @Override public MeasureManager getMeasureManager() {
+    return measures ;
+  }
+
+  @Override public String getName() {
+    return "SMPSOM" ;
+  }
+
+  @Override public String getDescription() {
+    return "Speed contrained Multiobjective PSO. Version using measures" ;
+  }
+}
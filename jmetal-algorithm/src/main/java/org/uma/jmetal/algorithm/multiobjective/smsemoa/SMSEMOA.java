@@ -21,7 +21,8 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.solutionattribute.Ranking;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalDominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.RankingFactory;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,7 +36,10 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
 
   protected int evaluations;
 
+  protected final boolean incrementalRanking ;
+
   private Hypervolume<S> hypervolume;
+  private IncrementalDominanceRanking<S> incrementalDominanceRanking ;
 
   /**
    * Constructor
@@ -43,6 +47,21 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   public SMSEMOA(Problem<S> problem, int maxEvaluations, int populationSize, double offset,
       CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
       SelectionOperator<List<S>, S> selectionOperator, Hypervolume<S> hypervolumeImplementation) {
+    this(problem, maxEvaluations, populationSize, offset, crossoverOperator, mutationOperator,
+        selectionOperator, hypervolumeImplementation, false) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param incrementalRanking If true, the subfronts are kept between iterations with an
+   *                           {@link IncrementalDominanceRanking} instead of ranking the whole
+   *                           population after each evaluation
+   */
+  public SMSEMOA(Problem<S> problem, int maxEvaluations, int populationSize, double offset,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, Hypervolume<S> hypervolumeImplementation,
+      boolean incrementalRanking) {
     super(problem) ;
     this.maxEvaluations = maxEvaluations;
     setMaxPopulationSize(populationSize);
@@ -54,10 +73,16 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     this.selectionOperator = selectionOperator;
 
     this.hypervolume = hypervolumeImplementation ;
+    this.incrementalRanking = incrementalRanking ;
   }
 
   @Override protected void initProgress() {
     evaluations = getMaxPopulationSize() ;
+
+    if (incrementalRanking) {
+      incrementalDominanceRanking = new IncrementalDominanceRanking<S>() ;
+      incrementalDominanceRanking.computeRanking(getPopulation()) ;
+    }
   }
 
   @Override protected void updateProgress() {
@@ -101,6 +126,10 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
   }
 
   @Override protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+    if (incrementalRanking) {
+      return incrementalReplacement(offspringPopulation) ;
+    }
+
     List<S> jointPopulation = new ArrayList<>();
     jointPopulation.addAll(population);
     jointPopulation.addAll(offspringPopulation);
@@ -124,17 +153,45 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     return resultPopulation ;
   }
 
+  /**
+   * Replacement using the {@link IncrementalDominanceRanking}: the offspring are inserted into the
+   * subfronts, and the solutions of the last subfront having the lowest hypervolume contribution
+   * are removed
+   */
+  protected List<S> incrementalReplacement(List<S> offspringPopulation) {
+    for (S solution : offspringPopulation) {
+      incrementalDominanceRanking.add(solution) ;
+    }
+
+    while (incrementalDominanceRanking.getNumberOfSolutions() > getMaxPopulationSize()) {
+      List<S> jointPopulation = incrementalDominanceRanking.getSolutionList() ;
+      List<S> lastSubfront = new ArrayList<>(incrementalDominanceRanking.getSubfront(
+          incrementalDominanceRanking.getNumberOfSubfronts() - 1)) ;
+
+      lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation) ;
+
+      incrementalDominanceRanking.remove(lastSubfront.get(lastSubfront.size() - 1)) ;
+    }
+
+    return incrementalDominanceRanking.getSolutionList() ;
+  }
+
   @Override public List<S> getResult() {
     return getPopulation();
   }
 
   protected Ranking<S> computeRanking(List<S> solutionList) {
-    Ranking<S> ranking = new DominanceRanking<S>();
+    Ranking<S> ranking = new RankingFactory().createRanking(solutionList.size(),
+        getProblem().getNumberOfObjectives());
     ranking.computeRanking(solutionList);
 
     return ranking;
   }
 
+  public boolean isIncrementalRanking() {
+    return incrementalRanking ;
+  }
+
   @Override public String getName() {
     return "SMSEMOA" ;
   }
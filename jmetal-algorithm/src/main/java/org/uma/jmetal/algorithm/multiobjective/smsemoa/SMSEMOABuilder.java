@@ -29,6 +29,8 @@ import java.util.List;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<SMSEMOA<S>> {
+  public enum SMSEMOAVariant {SMSEMOA, Measures}
+
   private static final double DEFAULT_OFFSET = 100.0 ;
 
   protected Problem<S> problem;
@@ -44,6 +46,10 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
 
   protected Hypervolume<S> hypervolumeImplementation;
 
+  protected boolean incrementalRanking ;
+
+  protected SMSEMOAVariant variant ;
+
   public SMSEMOABuilder(Problem<S> problem, CrossoverOperator<S> crossoverOperator,
       MutationOperator<S> mutationOperator) {
     this.problem = problem ;
@@ -56,6 +62,8 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
     this.crossoverOperator = crossoverOperator ;
     this.mutationOperator = mutationOperator ;
     this.selectionOperator = new RandomSelection<S>() ;
+    this.variant = SMSEMOAVariant.SMSEMOA ;
+    this.incrementalRanking = false ;
   }
 
   public SMSEMOABuilder<S> setPopulationSize(int populationSize) {
@@ -101,9 +109,31 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
     return this ;
   }
 
+  public SMSEMOABuilder<S> setIncrementalRanking(boolean incrementalRanking) {
+    this.incrementalRanking = incrementalRanking ;
+
+    return this ;
+  }
+
+  public SMSEMOABuilder<S> setVariant(SMSEMOAVariant variant) {
+    this.variant = variant ;
+
+    return this ;
+  }
+
   @Override public SMSEMOA<S> build() {
-    return new SMSEMOA<S>(problem, maxEvaluations, populationSize, offset,
-        crossoverOperator, mutationOperator, selectionOperator, hypervolumeImplementation);
+    SMSEMOA<S> algorithm = null ;
+    if (variant.equals(SMSEMOAVariant.SMSEMOA)) {
+      algorithm = new SMSEMOA<S>(problem, maxEvaluations, populationSize, offset,
+          crossoverOperator, mutationOperator, selectionOperator, hypervolumeImplementation,
+          incrementalRanking);
+    } else if (variant.equals(SMSEMOAVariant.Measures)) {
+      algorithm = new SMSEMOAMeasures<S>(problem, maxEvaluations, populationSize, offset,
+          crossoverOperator, mutationOperator, selectionOperator, hypervolumeImplementation,
+          incrementalRanking);
+    }
+
+    return algorithm ;
   }
 
   /*
@@ -137,4 +167,12 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
   public double getOffset() {
     return offset;
   }
+
+  public boolean isIncrementalRanking() {
+    return incrementalRanking;
+  }
+
+  public SMSEMOAVariant getVariant() {
+    return variant;
+  }
 }
@@ -0,0 +1,121 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.smsemoa;
+
+import org.uma.jmetal.measure.Measurable;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
+import org.uma.jmetal.measure.impl.PhaseDurationMeasure;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.solution.Solution;
+
+import java.util.List;
+
+/**
+ * SMS-EMOA providing the measures of {@link AlgorithmMeasures}. As the algorithm is steady-state,
+ * the hypervolume measure is updated once every population size evaluations
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SMSEMOAMeasures<S extends Solution<?>> extends SMSEMOA<S> implements Measurable {
+  protected AlgorithmMeasures<S> measures ;
+
+  /**
+   * Constructor
+   */
+  public SMSEMOAMeasures(Problem<S> problem, int maxEvaluations, int populationSize, double offset,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, Hypervolume<S> hypervolumeImplementation) {
+    this(problem, maxEvaluations, populationSize, offset, crossoverOperator, mutationOperator,
+        selectionOperator, hypervolumeImplementation, false) ;
+  }
+
+  /**
+   * Constructor
+   */
+  public SMSEMOAMeasures(Problem<S> problem, int maxEvaluations, int populationSize, double offset,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, Hypervolume<S> hypervolumeImplementation,
+      boolean incrementalRanking) {
+    super(problem, maxEvaluations, populationSize, offset, crossoverOperator, mutationOperator,
+        selectionOperator, hypervolumeImplementation, incrementalRanking) ;
+
+    measures = new AlgorithmMeasures<>() ;
+  }
+
+  @Override public void run() {
+    measures.start();
+    super.run();
+    measures.stop();
+  }
+
+  @Override protected void updateProgress() {
+    super.updateProgress();
+
+    measures.updatePopulation(getPopulation());
+    if (evaluations % getMaxPopulationSize() == 0) {
+      measures.updateHypervolume(getPopulation());
+    }
+  }
+
+  @Override protected List<S> evaluatePopulation(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getEvaluationTime()) ;
+    List<S> evaluatedPopulation = super.evaluatePopulation(population) ;
+    measures.exitPhase(previousPhase);
+    measures.getEvaluations().increment(population.size());
+
+    return evaluatedPopulation ;
+  }
+
+  @Override protected List<S> selection(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getSelectionTime()) ;
+    List<S> matingPopulation = super.selection(population) ;
+    measures.exitPhase(previousPhase);
+
+    return matingPopulation ;
+  }
+
+  @Override protected List<S> reproduction(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReproductionTime()) ;
+    List<S> offspringPopulation = super.reproduction(population) ;
+    measures.exitPhase(previousPhase);
+
+    return offspringPopulation ;
+  }
+
+  @Override protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    List<S> newPopulation = super.replacement(population, offspringPopulation) ;
+    measures.exitPhase(previousPhase);
+
+    return newPopulation ;
+  }
+
+  @Override public MeasureManager getMeasureManager() {
+    return measures ;
+  }
+
+  @Override public String getName() {
+    return "SMSEMOAM" ;
+  }
+
+  @Override public String getDescription() {
+    return "S metric selection EMOA. Version using measures" ;
+  }
+}
@@ -21,6 +21,7 @@ import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.parallel.ParallelLoop;
 import org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness;
 
 import java.util.ArrayList;
@@ -34,12 +35,27 @@ public class SPEA2<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
   protected final SolutionListEvaluator<S> evaluator;
   protected int iterations;
   protected List<S> archive;
-  private final StrengthRawFitness<S> strenghtRawFitness = new StrengthRawFitness<S>();
+  private final StrengthRawFitness<S> strenghtRawFitness;
   private final EnvironmentalSelection<S> environmentalSelection;
+  private final ParallelLoop parallelLoop;
 
   public SPEA2(Problem<S> problem, int maxIterations, int populationSize,
       CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
       SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator) {
+    this(problem, maxIterations, populationSize, crossoverOperator, mutationOperator,
+        selectionOperator, evaluator, 1);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads used in the fitness assignment and the truncation
+   *                        of the archive
+   */
+  public SPEA2(Problem<S> problem, int maxIterations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator,
+      int numberOfThreads) {
     super(problem);
     this.maxIterations = maxIterations;
     this.setMaxPopulationSize(populationSize);
@@ -47,13 +63,28 @@ public class SPEA2<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
     this.crossoverOperator = crossoverOperator;
     this.mutationOperator = mutationOperator;
     this.selectionOperator = selectionOperator;
-    this.environmentalSelection = new EnvironmentalSelection<S>(populationSize);
+    this.parallelLoop = new ParallelLoop(numberOfThreads);
+    this.strenghtRawFitness = new StrengthRawFitness<S>(parallelLoop);
+    this.environmentalSelection = new EnvironmentalSelection<S>(populationSize, parallelLoop);
 
     this.archive = new ArrayList<>(populationSize);
 
     this.evaluator = evaluator;
   }
 
+  /**
+   * The threads used in the fitness assignment and the truncation of the archive are released at
+   * the end of the run
+   */
+  @Override
+  public void run() {
+    try {
+      super.run();
+    } finally {
+      parallelLoop.shutdown();
+    }
+  }
+
   @Override
   protected void initProgress() {
     iterations = 1;
@@ -30,6 +30,8 @@ import java.util.List;
  * @author Juan J. Durillo
  */
 public class SPEA2Builder<S extends Solution<?>> implements AlgorithmBuilder<SPEA2<S>> {
+  public enum SPEA2Variant {SPEA2, Measures}
+
   /**
    * SPEA2Builder class
    */
@@ -40,6 +42,8 @@ public class SPEA2Builder<S extends Solution<?>> implements AlgorithmBuilder<SPE
   protected MutationOperator<S> mutationOperator;
   protected SelectionOperator<List<S>, S> selectionOperator;
   protected SolutionListEvaluator<S> evaluator;
+  protected int numberOfThreads;
+  protected SPEA2Variant variant;
 
   /**
    * SPEA2Builder constructor
@@ -53,6 +57,8 @@ public class SPEA2Builder<S extends Solution<?>> implements AlgorithmBuilder<SPE
     this.mutationOperator = mutationOperator ;
     selectionOperator = new BinaryTournamentSelection<S>();
     evaluator = new SequentialSolutionListEvaluator<S>();
+    numberOfThreads = 1;
+    variant = SPEA2Variant.SPEA2;
   }
 
   public SPEA2Builder<S> setMaxIterations(int maxIterations) {
@@ -92,10 +98,34 @@ public class SPEA2Builder<S extends Solution<?>> implements AlgorithmBuilder<SPE
     return this;
   }
 
+  /**
+   * Sets the number of threads used in the fitness assignment and the truncation of the archive.
+   * It does not affect the evaluation, which depends on the solution list evaluator
+   */
+  public SPEA2Builder<S> setNumberOfThreads(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads);
+    }
+    this.numberOfThreads = numberOfThreads;
+
+    return this;
+  }
+
+  public SPEA2Builder<S> setVariant(SPEA2Variant variant) {
+    this.variant = variant;
+
+    return this;
+  }
+
   public SPEA2<S> build() {
     SPEA2<S> algorithm = null ;
-    algorithm = new SPEA2<S>(problem, maxIterations, populationSize, crossoverOperator,
-          mutationOperator, selectionOperator, evaluator);
+    if (variant.equals(SPEA2Variant.SPEA2)) {
+      algorithm = new SPEA2<S>(problem, maxIterations, populationSize, crossoverOperator,
+          mutationOperator, selectionOperator, evaluator, numberOfThreads);
+    } else if (variant.equals(SPEA2Variant.Measures)) {
+      algorithm = new SPEA2Measures<S>(problem, maxIterations, populationSize, crossoverOperator,
+          mutationOperator, selectionOperator, evaluator, numberOfThreads);
+    }
     
     return algorithm ;
   }
@@ -128,4 +158,12 @@ public class SPEA2Builder<S extends Solution<?>> implements AlgorithmBuilder<SPE
   public SolutionListEvaluator<S> getSolutionListEvaluator() {
     return evaluator;
   }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  public SPEA2Variant getVariant() {
+    return variant;
+  }
 }
@@ -0,0 +1,114 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.spea2;
+
+import org.uma.jmetal.measure.Measurable;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
+import org.uma.jmetal.measure.impl.PhaseDurationMeasure;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.List;
+
+/**
+ * SPEA2 providing the measures of {@link AlgorithmMeasures}. The fitness assignment and the
+ * truncation of the archive are accounted as the replacement, and the binary tournaments as the
+ * selection; the hypervolume measure is computed on the archive
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SPEA2Measures<S extends Solution<?>> extends SPEA2<S> implements Measurable {
+  protected AlgorithmMeasures<S> measures ;
+
+  /**
+   * Constructor
+   */
+  public SPEA2Measures(Problem<S> problem, int maxIterations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator) {
+    this(problem, maxIterations, populationSize, crossoverOperator, mutationOperator,
+        selectionOperator, evaluator, 1) ;
+  }
+
+  /**
+   * Constructor
+   */
+  public SPEA2Measures(Problem<S> problem, int maxIterations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, SolutionListEvaluator<S> evaluator,
+      int numberOfThreads) {
+    super(problem, maxIterations, populationSize, crossoverOperator, mutationOperator,
+        selectionOperator, evaluator, numberOfThreads) ;
+
+    measures = new AlgorithmMeasures<>() ;
+    this.selectionOperator = measures.measureSelection(selectionOperator) ;
+  }
+
+  @Override public void run() {
+    measures.start();
+    super.run();
+    measures.stop();
+  }
+
+  @Override protected void updateProgress() {
+    super.updateProgress();
+
+    measures.updatePopulation(getPopulation());
+    measures.updateArchive(archive);
+    measures.updateHypervolume(archive);
+  }
+
+  @Override protected List<S> evaluatePopulation(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getEvaluationTime()) ;
+    List<S> evaluatedPopulation = super.evaluatePopulation(population) ;
+    measures.exitPhase(previousPhase);
+    measures.getEvaluations().increment(population.size());
+
+    return evaluatedPopulation ;
+  }
+
+  @Override protected List<S> selection(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime()) ;
+    List<S> newArchive = super.selection(population) ;
+    measures.exitPhase(previousPhase);
+
+    return newArchive ;
+  }
+
+  @Override protected List<S> reproduction(List<S> population) {
+    PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReproductionTime()) ;
+    List<S> offspringPopulation = super.reproduction(population) ;
+    measures.exitPhase(previousPhase);
+
+    return offspringPopulation ;
+  }
+
+  @Override public MeasureManager getMeasureManager() {
+    return measures ;
+  }
+
+  @Override public String getName() {
+    return "SPEA2M" ;
+  }
+
+  @Override public String getDescription() {
+    return "Strength Pareto. Evolutionary Algorithm. Version using measures" ;
+  }
+}
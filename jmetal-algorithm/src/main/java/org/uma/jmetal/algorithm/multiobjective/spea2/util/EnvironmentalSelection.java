@@ -1,49 +1,79 @@
 package org.uma.jmetal.algorithm.multiobjective.spea2.util;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.StrengthFitnessComparator;
-import org.uma.jmetal.util.solutionattribute.impl.LocationAttribute;
+import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenSolutionsInObjectiveSpace;
+import org.uma.jmetal.util.parallel.ParallelLoop;
 import org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness;
 
 import java.util.*;
 
 /**
+ * Environmental selection of SPEA2. When there are more non-dominated solutions than solutions
+ * to select, the archive is truncated by removing, one at a time, the solution closest to any
+ * of the remaining ones. Ties are resolved in favour of the first solution in the list, which is
+ * what the former implementation did (its comparison of the following distances was made on
+ * boxed values by reference, so it never succeeded).
+ *
+ * The distances from each solution to the others are sorted once, in primitive arrays, and the
+ * rows can be computed by the threads of a {@link ParallelLoop} (sequentially by default). A removed solution is not deleted
+ * from the rows: it is marked as removed and skipped when the rows are traversed.
+ *
  * @author Juanjo Durillo
  * @param <S>
  */
 public class EnvironmentalSelection<S extends Solution<?>> implements SelectionOperator<List<S>,List<S>> {
 
   private int solutionsToSelect = 0;
+  private final ParallelLoop parallelLoop;
   private final StrengthRawFitness<S> strengthRawFitness= new StrengthRawFitness<S>();
+  private final EuclideanDistanceBetweenSolutionsInObjectiveSpace<S> distance =
+      new EuclideanDistanceBetweenSolutionsInObjectiveSpace<S>();
+
+  /** neighbours[i] are the other solutions sorted by their distance to solution i */
+  private int[][] neighbours;
+  private double[][] neighbourDistances;
+  /** Position in neighbours[i] of the closest solution not removed */
+  private int[] firstNeighbour;
+  private boolean[] removed;
 
   public EnvironmentalSelection(int solutionsToSelect) {
+    this(solutionsToSelect, new ParallelLoop(1));
+  }
+
+  /**
+   * Constructor
+   *
+   * @param parallelLoop Loop computing the distances between the solutions. It is not shut down
+   *                     by this class
+   */
+  public EnvironmentalSelection(int solutionsToSelect, ParallelLoop parallelLoop) {
+    if (parallelLoop == null) {
+      throw new JMetalException("The parallel loop is null");
+    }
     this.solutionsToSelect = solutionsToSelect;
+    this.parallelLoop = parallelLoop;
   }
 
   @Override
   public List<S> execute(List<S> source2) {
     int size;
-    List<S> source = new ArrayList<>(source2.size());
-    source.addAll(source2);
     if (source2.size() < this.solutionsToSelect) {
-      size = source.size();
+      size = source2.size();
     } else {
       size = this.solutionsToSelect;
     }
 
-    List<S> aux = new ArrayList<>(source.size());
-
-    int i = 0;
-    while (i < source.size()){
-      double fitness = (double) this.strengthRawFitness.getAttribute(source.get(i));
+    List<S> aux = new ArrayList<>(source2.size());
+    List<S> source = new ArrayList<>(source2.size());
+    for (S solution : source2) {
+      double fitness = (double) this.strengthRawFitness.getAttribute(solution);
       if (fitness<1.0){
-        aux.add(source.get(i));
-        source.remove(i);
+        aux.add(solution);
       } else {
-        i++;
+        source.add(solution);
       }
     }
 
@@ -51,7 +81,7 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
       StrengthFitnessComparator<S> comparator = new StrengthFitnessComparator<S>();
       Collections.sort(source,comparator);
       int remain = size - aux.size();
-      for (i = 0; i < remain; i++){
+      for (int i = 0; i < remain; i++){
         aux.add(source.get(i));
       }
       return aux;
@@ -59,79 +89,130 @@ public class EnvironmentalSelection<S extends Solution<?>> implements SelectionO
       return aux;
     }
 
-    double [][] distance = SolutionListUtils.distanceMatrix(aux);
-    List<List<Pair<Integer, Double>> > distanceList = new ArrayList<>();
-    LocationAttribute<S> location = new LocationAttribute<S>(aux);
-    for (int pos = 0; pos < aux.size(); pos++) {
-      List<Pair<Integer, Double>> distanceNodeList = new ArrayList<>();
-      for (int ref = 0; ref < aux.size(); ref++) {
-        if (pos != ref) {
-          distanceNodeList.add(Pair.of(ref, distance[pos][ref]));
-        }
-      }
-      distanceList.add(distanceNodeList);
-    }
-
+    return truncate(aux, size);
+  }
 
-    for (int q = 0; q < distanceList.size(); q++){
-      Collections.sort(distanceList.get(q),new Comparator<Pair<Integer, Double>> () {
-        @Override
-        public int compare(Pair<Integer, Double> pair1, Pair<Integer, Double> pair2) {
-          if (pair1.getRight()  < pair2.getRight()) {
-            return -1;
-          } else if (pair1.getRight()  > pair2.getRight()) {
-            return 1;
-          } else {
-            return 0;
+  private List<S> truncate(final List<S> aux, int size) {
+    final int n = aux.size();
+    neighbours = new int[n][];
+    neighbourDistances = new double[n][];
+    firstNeighbour = new int[n];
+    removed = new boolean[n];
+
+    parallelLoop.execute(n, new ParallelLoop.Body() {
+      @Override public void execute(int pos) {
+        int[] index = new int[n - 1];
+        double[] distances = new double[n - 1];
+        int k = 0;
+        for (int ref = 0; ref < n; ref++) {
+          if (pos != ref) {
+            index[k] = ref;
+            distances[k] = distance.getDistance(aux.get(pos), aux.get(ref));
+            k++;
           }
         }
-      });
-
-    }
+        sort(distances, index, 0, n - 2);
+        neighbours[pos] = index;
+        neighbourDistances[pos] = distances;
+      }
+    });
 
-    while (aux.size() > size) {
+    int remaining = n;
+    while (remaining > size) {
       double minDistance = Double.MAX_VALUE;
       int toRemove = 0;
-      i = 0;
-      Iterator<List<Pair<Integer, Double>>> iterator = distanceList.iterator();
-      while (iterator.hasNext()){
-        List<Pair<Integer, Double>> dn = iterator.next();
-        if (dn.get(0).getRight() < minDistance){
+      for (int i = 0; i < n; i++) {
+        if (!removed[i] && (neighbourDistances[i][firstNeighbour[i]] < minDistance)) {
           toRemove = i;
-          minDistance = dn.get(0).getRight();
-          //i y toRemove have the same distance to the first solution
-        } else if (dn.get(0).getRight() == minDistance) {
-          int k = 0;
-          while ((dn.get(k).getRight() ==
-              distanceList.get(toRemove).get(k).getRight()) &&
-              k < (distanceList.get(i).size()-1)) {
-            k++;
-          }
+          minDistance = neighbourDistances[i][firstNeighbour[i]];
+        }
+      }
 
-          if (dn.get(k).getRight() <
-              distanceList.get(toRemove).get(k).getRight()) {
-            toRemove = i;
-          }
+      removed[toRemove] = true;
+      remaining--;
+      for (int i = 0; (i < n) && (remaining > size); i++) {
+        if (!removed[i]) {
+          firstNeighbour[i] = nextNeighbour(i, firstNeighbour[i]);
         }
-        i++;
       }
+    }
 
-      int tmp =  (int) location.getAttribute(aux.get(toRemove));
-      aux.remove(toRemove);
-      distanceList.remove(toRemove);
-
-      Iterator<List<Pair<Integer, Double>>> externIterator = distanceList.iterator();
-      while (externIterator.hasNext()){
-        Iterator<Pair<Integer, Double>> interIterator = externIterator.next().iterator();
-        while (interIterator.hasNext()){
-          if (interIterator.next().getLeft() == tmp){
-            interIterator.remove();
-            continue;
-          }
+    List<S> result = new ArrayList<>(size);
+    for (int i = 0; i < n; i++) {
+      if (!removed[i]) {
+        result.add(aux.get(i));
+      }
+    }
+
+    neighbours = null;
+    neighbourDistances = null;
+
+    return result;
+  }
+
+  /**
+   * Returns the first position of neighbours[i], starting at a given one, of a solution not removed
+   */
+  private int nextNeighbour(int i, int position) {
+    while (removed[neighbours[i][position]]) {
+      position++;
+    }
+    return position;
+  }
+
+  /**
+   * Sorts the distances of a row in ascending order, moving the indexes accordingly. The order of
+   * equal distances is not relevant, as only the closest remaining distance is used
+   */
+  private static void sort(double[] distances, int[] index, int left, int right) {
+    while (right - left > 16) {
+      int middle = (left + right) >>> 1;
+      double pivot = medianOfThree(distances[left], distances[middle], distances[right]);
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (distances[i] < pivot) {
+          i++;
+        }
+        while (distances[j] > pivot) {
+          j--;
         }
+        if (i <= j) {
+          swap(distances, index, i, j);
+          i++;
+          j--;
+        }
+      }
+      if (j - left < right - i) {
+        sort(distances, index, left, j);
+        left = i;
+      } else {
+        sort(distances, index, i, right);
+        right = j;
+      }
+    }
+
+    for (int i = left + 1; i <= right; i++) {
+      for (int j = i; (j > left) && (distances[j - 1] > distances[j]); j--) {
+        swap(distances, index, j - 1, j);
       }
     }
-    return aux;
   }
 
+  private static double medianOfThree(double a, double b, double c) {
+    if (a < b) {
+      return (b < c) ? b : ((a < c) ? c : a);
+    } else {
+      return (a < c) ? a : ((b < c) ? c : b);
+    }
+  }
+
+  private static void swap(double[] distances, int[] index, int i, int j) {
+    double distance = distances[i];
+    distances[i] = distances[j];
+    distances[j] = distance;
+    int position = index[i];
+    index[i] = index[j];
+    index[j] = position;
+  }
 }
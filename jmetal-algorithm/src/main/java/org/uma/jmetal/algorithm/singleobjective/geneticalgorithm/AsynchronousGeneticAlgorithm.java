@@ -0,0 +1,86 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+package org.uma.jmetal.algorithm.singleobjective.geneticalgorithm;
+
+import org.uma.jmetal.algorithm.impl.AbstractAsynchronousGeneticAlgorithm;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.ObjectiveComparator;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Asynchronous version of the steady-state genetic algorithm: each evaluated offspring replaces
+ * the worst solution of the population if it is better
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousGeneticAlgorithm<S extends Solution<?>>
+    extends AbstractAsynchronousGeneticAlgorithm<S, S> {
+  private Comparator<S> comparator;
+  private int maxEvaluations;
+
+  /**
+   * Constructor
+   */
+  public AsynchronousGeneticAlgorithm(Problem<S> problem, int maxEvaluations, int populationSize,
+      CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+      SelectionOperator<List<S>, S> selectionOperator, int numberOfWorkers) {
+    super(problem, numberOfWorkers);
+    setMaxPopulationSize(populationSize);
+    this.maxEvaluations = maxEvaluations;
+
+    this.crossoverOperator = crossoverOperator;
+    this.mutationOperator = mutationOperator;
+    this.selectionOperator = selectionOperator;
+
+    comparator = new ObjectiveComparator<S>(0);
+  }
+
+  @Override protected boolean isStoppingConditionReached() {
+    return (getEvaluations() + getPendingEvaluations() >= maxEvaluations);
+  }
+
+  @Override protected List<S> replacement(List<S> population, S offspring) {
+    int worstSolutionIndex = 0 ;
+    for (int i = 1; i < population.size(); i++) {
+      if (comparator.compare(population.get(i), population.get(worstSolutionIndex)) > 0) {
+        worstSolutionIndex = i ;
+      }
+    }
+
+    if (comparator.compare(population.get(worstSolutionIndex), offspring) > 0) {
+      population.set(worstSolutionIndex, offspring);
+    }
+
+    return population;
+  }
+
+  @Override public S getResult() {
+    return Collections.min(getPopulation(), comparator) ;
+  }
+
+  @Override public String getName() {
+    return "asyncGA" ;
+  }
+
+  @Override public String getDescription() {
+    return "Asynchronous Steady-State Genetic Algorithm" ;
+  }
+}
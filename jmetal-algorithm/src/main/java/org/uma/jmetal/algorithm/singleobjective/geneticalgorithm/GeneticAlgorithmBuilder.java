@@ -17,7 +17,7 @@ import java.util.List;
  * Created by ajnebro on 10/12/14.
  */
 public class GeneticAlgorithmBuilder<S extends Solution<?>> {
-  public enum GeneticAlgorithmVariant {GENERATIONAL, STEADY_STATE}
+  public enum GeneticAlgorithmVariant {GENERATIONAL, STEADY_STATE, ASYNCHRONOUS}
   /**
    * Builder class
    */
@@ -28,6 +28,7 @@ public class GeneticAlgorithmBuilder<S extends Solution<?>> {
   private MutationOperator<S> mutationOperator;
   private SelectionOperator<List<S>, S> selectionOperator;
   private SolutionListEvaluator<S> evaluator;
+  private int numberOfWorkers;
 
   private GeneticAlgorithmVariant variant ;
   private SelectionOperator<List<S>, S> defaultSelectionOperator = new BinaryTournamentSelection<S>() ;
@@ -46,6 +47,7 @@ public class GeneticAlgorithmBuilder<S extends Solution<?>> {
     this.selectionOperator = defaultSelectionOperator ;
 
     evaluator = new SequentialSolutionListEvaluator<S>();
+    numberOfWorkers = Runtime.getRuntime().availableProcessors();
 
     this.variant = GeneticAlgorithmVariant.GENERATIONAL ;
   }
@@ -74,6 +76,19 @@ public class GeneticAlgorithmBuilder<S extends Solution<?>> {
     return this;
   }
 
+  /**
+   * Number of solutions evaluated concurrently by the {@link GeneticAlgorithmVariant#ASYNCHRONOUS}
+   * variant
+   */
+  public GeneticAlgorithmBuilder<S> setNumberOfWorkers(int numberOfWorkers) {
+    if (numberOfWorkers < 1) {
+      throw new JMetalException("The number of workers must be positive: " + numberOfWorkers) ;
+    }
+    this.numberOfWorkers = numberOfWorkers;
+
+    return this;
+  }
+
   public GeneticAlgorithmBuilder<S> setVariant(GeneticAlgorithmVariant variant) {
     this.variant = variant;
 
@@ -87,6 +102,9 @@ public class GeneticAlgorithmBuilder<S extends Solution<?>> {
     } else if (variant == GeneticAlgorithmVariant.STEADY_STATE) {
       return new SteadyStateGeneticAlgorithm<S>(problem, maxEvaluations, populationSize,
           crossoverOperator, mutationOperator, selectionOperator);
+    } else if (variant == GeneticAlgorithmVariant.ASYNCHRONOUS) {
+      return new AsynchronousGeneticAlgorithm<S>(problem, maxEvaluations, populationSize,
+          crossoverOperator, mutationOperator, selectionOperator, numberOfWorkers);
     } else {
       throw new JMetalException("Unknown variant: " + variant) ;
     }
@@ -123,6 +141,10 @@ public class GeneticAlgorithmBuilder<S extends Solution<?>> {
     return evaluator;
   }
 
+  public int getNumberOfWorkers() {
+    return numberOfWorkers;
+  }
+
   public GeneticAlgorithmVariant getVariant() {
     return variant ;
   }
@@ -12,6 +12,7 @@ import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -65,4 +66,30 @@ public class GDE3TestIT {
 
     assertTrue(hv > 0.66) ;
   }
+
+  @Test
+  public void shouldTheSolutionPoolingNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population = solveZDT1(false) ;
+    List<DoubleSolution> pooledPopulation = solveZDT1(true) ;
+
+    assertEquals(population.size(), pooledPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), pooledPopulation.get(i)) ;
+    }
+  }
+
+  private List<DoubleSolution> solveZDT1(boolean solutionPooling) {
+    DoubleProblem problem = new ZDT1() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    algorithm = new GDE3Builder(problem)
+            .setMaxEvaluations(5000)
+            .setPopulationSize(100)
+            .setSolutionPooling(solutionPooling)
+            .build() ;
+
+    new AlgorithmRunner.Executor(algorithm).execute();
+
+    return algorithm.getResult();
+  }
 }
\ No newline at end of file
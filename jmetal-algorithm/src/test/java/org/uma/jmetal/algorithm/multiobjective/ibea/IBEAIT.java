@@ -0,0 +1,95 @@
+package org.uma.jmetal.algorithm.multiobjective.ibea;
+
+import org.junit.Test;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IBEAIT {
+  @Test
+  public void shouldTheHypervolumeHaveAMininumValue() throws Exception {
+    List<DoubleSolution> population =
+        solveZDT1(new SequentialSolutionListEvaluator<DoubleSolution>(), 1) ;
+
+    QualityIndicator<List<DoubleSolution>, Double> hypervolume =
+        new PISAHypervolume<>("/referenceFronts/ZDT1.pf") ;
+
+    // Rationale: the default problem is ZDT1, and IBEA, configured with standard settings, should
+    // return find a front with a hypervolume value higher than 0.64
+
+    assertTrue(population.size() >= 98) ;
+    assertTrue(hypervolume.evaluate(population) > 0.64) ;
+  }
+
+  @Test
+  public void shouldTheNumberOfThreadsNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population =
+        solveZDT1(new SequentialSolutionListEvaluator<DoubleSolution>(), 1) ;
+
+    ForkJoinSolutionListEvaluator<DoubleSolution> evaluator =
+        new ForkJoinSolutionListEvaluator<DoubleSolution>(2) ;
+    List<DoubleSolution> parallelPopulation = solveZDT1(evaluator, 2) ;
+    evaluator.shutdown();
+
+    assertEquals(population.size(), parallelPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), parallelPopulation.get(i)) ;
+    }
+  }
+
+  @Test
+  public void shouldTheMeasuresNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population =
+        solveZDT1(new SequentialSolutionListEvaluator<DoubleSolution>(), 1) ;
+
+    DoubleProblem problem = new ZDT1() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    IBEA<DoubleSolution> algorithm = new IBEABuilder(problem)
+        .setMaxEvaluations(25000)
+        .setVariant(IBEABuilder.IBEAVariant.Measures)
+        .build() ;
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    List<DoubleSolution> measuredPopulation = algorithm.getResult() ;
+    assertEquals(population.size(), measuredPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), measuredPopulation.get(i)) ;
+    }
+
+    MeasureManager measureManager = ((IBEAMeasures<DoubleSolution>) algorithm).getMeasureManager() ;
+    assertEquals(25000L, measureManager.getPullMeasure(AlgorithmMeasures.EVALUATIONS).get()) ;
+    assertEquals(100, measureManager.getPullMeasure(AlgorithmMeasures.POPULATION_SIZE).get()) ;
+    assertTrue((Double) measureManager.getPullMeasure(AlgorithmMeasures.HYPERVOLUME).get() > 0.0) ;
+  }
+
+  private List<DoubleSolution> solveZDT1(SolutionListEvaluator<DoubleSolution> evaluator,
+      int numberOfThreads) {
+    DoubleProblem problem = new ZDT1() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    IBEA<DoubleSolution> algorithm = new IBEABuilder(problem)
+        .setMaxEvaluations(25000)
+        .setSolutionListEvaluator(evaluator)
+        .setNumberOfThreads(numberOfThreads)
+        .build() ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    return algorithm.getResult() ;
+  }
+}
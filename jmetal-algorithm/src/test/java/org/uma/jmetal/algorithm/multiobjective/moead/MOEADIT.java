@@ -0,0 +1,193 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.PushMeasure;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.Srinivas;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MOEADIT {
+  Algorithm<List<DoubleSolution>> algorithm;
+
+  @Test
+  public void shouldTheAlgorithmReturnANumberOfSolutionsWhenSolvingASimpleProblem() throws Exception {
+    List<DoubleSolution> population = solveZDT1(false) ;
+
+    /*
+    Rationale: MOEA/D keeps one solution per subproblem, so the result has as many solutions as
+    the population
+    */
+    assertTrue(population.size() == 100) ;
+  }
+
+  @Test
+  public void shouldTheSolutionPoolingNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population = solveZDT1(false) ;
+    List<DoubleSolution> pooledPopulation = solveZDT1(true) ;
+
+    assertEquals(population.size(), pooledPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), pooledPopulation.get(i)) ;
+    }
+  }
+
+  @Test
+  public void shouldABlockOfOneSolutionBehaveAsTheOriginalAlgorithm() throws Exception {
+    for (MOEADBuilder.Variant variant : MOEADBuilder.Variant.values()) {
+      List<DoubleSolution> population = solve(variant, null, 1) ;
+      List<DoubleSolution> batchedPopulation =
+          solve(variant, new SequentialSolutionListEvaluator<DoubleSolution>(), 1) ;
+
+      assertEquals(population.size(), batchedPopulation.size()) ;
+      for (int i = 0; i < population.size(); i++) {
+        assertEquals(population.get(i), batchedPopulation.get(i)) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheParallelEvaluationOfBlocksNotChangeTheResult() throws Exception {
+    for (MOEADBuilder.Variant variant : MOEADBuilder.Variant.values()) {
+      List<DoubleSolution> population =
+          solve(variant, new SequentialSolutionListEvaluator<DoubleSolution>(), 20) ;
+      ForkJoinSolutionListEvaluator<DoubleSolution> evaluator =
+          new ForkJoinSolutionListEvaluator<DoubleSolution>(2) ;
+      List<DoubleSolution> parallelPopulation = solve(variant, evaluator, 20) ;
+      evaluator.shutdown();
+
+      assertEquals(100, parallelPopulation.size()) ;
+      for (int i = 0; i < population.size(); i++) {
+        assertEquals(population.get(i), parallelPopulation.get(i)) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheMeasuresNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population = solveZDT1(false) ;
+
+    DoubleProblem problem = new ZDT1() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+    MOEADMeasures measuredAlgorithm = new MOEADMeasures(problem, 100, 100, 10000,
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+        new DifferentialEvolutionCrossover(), AbstractMOEAD.FunctionType.TCHE, "", 0.1, 2, 20) ;
+    new AlgorithmRunner.Executor(measuredAlgorithm).execute() ;
+
+    List<DoubleSolution> measuredPopulation = measuredAlgorithm.getResult() ;
+    assertEquals(population.size(), measuredPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), measuredPopulation.get(i)) ;
+    }
+
+    MeasureManager measureManager = measuredAlgorithm.getMeasureManager() ;
+    assertEquals(10000L, measureManager.getPullMeasure(AlgorithmMeasures.EVALUATIONS).get()) ;
+    assertEquals(100, measureManager.getPullMeasure(AlgorithmMeasures.POPULATION_SIZE).get()) ;
+    assertTrue((Double) measureManager.getPullMeasure(AlgorithmMeasures.HYPERVOLUME).get() > 0.0) ;
+  }
+
+  @Test
+  public void shouldThePopulationsNotifiedByTheMeasuresNotBeModifiedLater() throws Exception {
+    DoubleProblem problem = new ZDT1() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    algorithm = new MOEADBuilder(problem, MOEADBuilder.Variant.Measures)
+        .setPopulationSize(100)
+        .setResultPopulationSize(100)
+        .setMaxEvaluations(5000)
+        .setSolutionPooling(true)
+        .build() ;
+
+    final List<List<DoubleSolution>> populations = new ArrayList<>() ;
+    final List<double[][]> objectives = new ArrayList<>() ;
+    PushMeasure<List<DoubleSolution>> currentPopulation = ((MOEADMeasures) algorithm)
+        .getMeasureManager().getPushMeasure(AlgorithmMeasures.CURRENT_POPULATION) ;
+    currentPopulation.register(new MeasureListener<List<DoubleSolution>>() {
+      @Override public void measureGenerated(List<DoubleSolution> population) {
+        populations.add(population) ;
+        objectives.add(getObjectives(population)) ;
+      }
+    });
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    assertEquals(50, populations.size()) ;
+    for (int i = 0; i < populations.size(); i++) {
+      double[][] notifiedObjectives = objectives.get(i) ;
+      double[][] currentObjectives = getObjectives(populations.get(i)) ;
+      assertEquals(notifiedObjectives.length, currentObjectives.length) ;
+      for (int j = 0; j < notifiedObjectives.length; j++) {
+        assertArrayEquals(notifiedObjectives[j], currentObjectives[j], 0.0) ;
+      }
+    }
+  }
+
+  private double[][] getObjectives(List<DoubleSolution> population) {
+    double[][] objectives = new double[population.size()][] ;
+    for (int i = 0; i < population.size(); i++) {
+      objectives[i] = new double[population.get(i).getNumberOfObjectives()] ;
+      for (int j = 0; j < objectives[i].length; j++) {
+        objectives[i][j] = population.get(i).getObjective(j) ;
+      }
+    }
+
+    return objectives ;
+  }
+
+  private List<DoubleSolution> solve(MOEADBuilder.Variant variant,
+      SolutionListEvaluator<DoubleSolution> evaluator, int evaluationBlockSize) {
+    DoubleProblem problem ;
+    if (variant == MOEADBuilder.Variant.ConstraintMOEAD) {
+      problem = new Srinivas() ;
+    } else {
+      problem = new ZDT1() ;
+    }
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    algorithm = new MOEADBuilder(problem, variant)
+        .setPopulationSize(100)
+        .setResultPopulationSize(100)
+        .setMaxEvaluations(5000)
+        .setSolutionListEvaluator(evaluator)
+        .setEvaluationBlockSize(evaluationBlockSize)
+        .build() ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    return algorithm.getResult() ;
+  }
+
+  private List<DoubleSolution> solveZDT1(boolean solutionPooling) {
+    DoubleProblem problem = new ZDT1() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    algorithm = new MOEADBuilder(problem, MOEADBuilder.Variant.MOEAD)
+        .setPopulationSize(100)
+        .setResultPopulationSize(100)
+        .setMaxEvaluations(10000)
+        .setSolutionPooling(solutionPooling)
+        .build() ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    return algorithm.getResult() ;
+  }
+}
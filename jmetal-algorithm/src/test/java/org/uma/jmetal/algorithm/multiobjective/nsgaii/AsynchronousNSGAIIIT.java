@@ -0,0 +1,85 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.multiobjective.Kursawe;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class AsynchronousNSGAIIIT {
+  AsynchronousNSGAII<DoubleSolution> algorithm;
+
+  @Test
+  public void shouldTheAlgorithmReturnANumberOfSolutionsWhenSolvingASimpleProblem() throws Exception {
+    Kursawe problem = new Kursawe() ;
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    double crossoverProbability = 0.9 ;
+    double crossoverDistributionIndex = 20.0 ;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    algorithm = new AsynchronousNSGAII<DoubleSolution>(problem, 25000, 100, crossover, mutation,
+        new BinaryTournamentSelection<DoubleSolution>(
+            new RankingAndCrowdingDistanceComparator<DoubleSolution>()), 4) ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    List<DoubleSolution> population = algorithm.getResult() ;
+
+    assertEquals(25000, algorithm.getEvaluations()) ;
+    /*
+    Rationale: the default problem is Kursawe, and usually NSGA-II, configured with standard
+    settings, should return 100 solutions
+    */
+    assertTrue(population.size() >= 98) ;
+  }
+
+  @Test
+  public void shouldTheParentsBeSelectedFromARankedPopulationBeforeItIsFull() throws Exception {
+    Kursawe problem = new Kursawe() ;
+    final DominanceRanking<DoubleSolution> ranking = new DominanceRanking<DoubleSolution>() ;
+    final CrowdingDistance<DoubleSolution> crowdingDistance = new CrowdingDistance<DoubleSolution>() ;
+    SelectionOperator<List<DoubleSolution>, DoubleSolution> selection =
+        new BinaryTournamentSelection<DoubleSolution>(
+            new RankingAndCrowdingDistanceComparator<DoubleSolution>()) {
+          @Override public DoubleSolution execute(List<DoubleSolution> solutionList) {
+            for (DoubleSolution solution : solutionList) {
+              assertNotNull(ranking.getAttribute(solution)) ;
+              assertNotNull(crowdingDistance.getAttribute(solution)) ;
+            }
+            return super.execute(solutionList) ;
+          }
+        } ;
+
+    algorithm = new NSGAIIBuilder<DoubleSolution>(problem, new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setVariant(NSGAIIBuilder.NSGAIIVariant.AsynchronousNSGAII)
+        .setSelectionOperator(selection)
+        .setMaxEvaluations(1000)
+        .setNumberOfWorkers(8)
+        .buildAsynchronous() ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    assertEquals(1000, algorithm.getEvaluations()) ;
+  }
+}
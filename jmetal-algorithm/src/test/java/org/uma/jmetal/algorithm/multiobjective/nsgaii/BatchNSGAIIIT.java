@@ -0,0 +1,39 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.crossover.BatchSBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.BatchPolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.multiobjective.Kursawe;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+import java.util.List;
+
+import static org.junit.Assert.assertTrue;
+
+public class BatchNSGAIIIT {
+  @Test
+  public void shouldTheAlgorithmReturnANumberOfSolutionsWhenSolvingASimpleProblem() throws Exception {
+    Kursawe problem = new Kursawe() ;
+
+    BatchNSGAII algorithm = new BatchNSGAII(problem, 25000, 100,
+        new BatchSBXCrossover(0.9, 20.0),
+        new BatchPolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+        new BinaryTournamentSelection<DoubleSolution>(
+            new RankingAndCrowdingDistanceComparator<DoubleSolution>()),
+        new SequentialSolutionListEvaluator<DoubleSolution>()) ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    List<DoubleSolution> population = algorithm.getResult() ;
+
+    /*
+    Rationale: the default problem is Kursawe, and usually NSGA-II, configured with standard
+    settings, should return 100 solutions
+    */
+    assertTrue(population.size() >= 98) ;
+  }
+}
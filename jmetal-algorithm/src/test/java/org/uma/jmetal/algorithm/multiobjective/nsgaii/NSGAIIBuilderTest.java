@@ -57,6 +57,21 @@ public class NSGAIIBuilderTest {
     assertNotNull(algorithm);
   }
 
+  @Test public void buildAsynchronousAlgorithm() {
+    builder.setVariant(NSGAIIBuilder.NSGAIIVariant.AsynchronousNSGAII).setNumberOfWorkers(2);
+    AsynchronousNSGAII<DoubleSolution> algorithm = builder.buildAsynchronous();
+    assertNotNull(algorithm);
+    assertEquals(2, algorithm.getNumberOfWorkers());
+  }
+
+  @Test(expected = JMetalException.class) public void buildTheAsynchronousVariantWithBuild() {
+    builder.setVariant(NSGAIIBuilder.NSGAIIVariant.AsynchronousNSGAII).build();
+  }
+
+  @Test(expected = JMetalException.class) public void setZeroNumberOfWorkers() {
+    builder.setNumberOfWorkers(0);
+  }
+
   @Test public void getProblem() {
     assertEquals(problem, builder.getProblem());
   }
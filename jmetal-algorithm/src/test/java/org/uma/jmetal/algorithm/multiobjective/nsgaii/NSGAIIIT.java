@@ -6,12 +6,20 @@ import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
 import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
 import org.uma.jmetal.problem.multiobjective.Kursawe;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class NSGAIIIT {
@@ -44,4 +52,93 @@ public class NSGAIIIT {
     */
     assertTrue(population.size() >= 98) ;
   }
+
+  @Test
+  public void shouldTheSolutionPoolingNotChangeTheResult() throws Exception {
+    for (NSGAIIBuilder.NSGAIIVariant variant : new NSGAIIBuilder.NSGAIIVariant[]{
+        NSGAIIBuilder.NSGAIIVariant.NSGAII, NSGAIIBuilder.NSGAIIVariant.SteadyStateNSGAII}) {
+      List<DoubleSolution> population = solveKursawe(variant, false) ;
+      List<DoubleSolution> pooledPopulation = solveKursawe(variant, true) ;
+
+      assertEquals(population.size(), pooledPopulation.size()) ;
+      for (int i = 0; i < population.size(); i++) {
+        assertEquals(population.get(i), pooledPopulation.get(i)) ;
+      }
+    }
+  }
+
+  /**
+   * The survivors of both rankings may differ when several solutions of the last subfront have the
+   * same crowding distance, so the ranks and the crowding distances given by the incremental
+   * ranking are compared to those of a full ranking of the population after each replacement
+   */
+  @Test
+  public void shouldTheIncrementalRankingGiveTheSameRanksAsAFullRanking() throws Exception {
+    Kursawe problem = new Kursawe() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    final int[] numberOfReplacements = {0} ;
+    SteadyStateNSGAII<DoubleSolution> steadyStateNSGAII = new SteadyStateNSGAII<DoubleSolution>(
+        problem, 5000, 100,
+        new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+        new BinaryTournamentSelection<DoubleSolution>(
+            new RankingAndCrowdingDistanceComparator<DoubleSolution>()),
+        new SequentialSolutionListEvaluator<DoubleSolution>(), true) {
+      @Override protected List<DoubleSolution> replacement(List<DoubleSolution> population,
+          List<DoubleSolution> offspringPopulation) {
+        List<DoubleSolution> nextPopulation = super.replacement(population, offspringPopulation) ;
+        assertSameAttributesAsAFullRanking(nextPopulation) ;
+        numberOfReplacements[0]++ ;
+        return nextPopulation ;
+      }
+    } ;
+
+    steadyStateNSGAII.run() ;
+
+    assertEquals(4900, numberOfReplacements[0]) ;
+    assertEquals(100, steadyStateNSGAII.getResult().size()) ;
+  }
+
+  private List<DoubleSolution> solveKursawe(NSGAIIBuilder.NSGAIIVariant variant,
+      boolean solutionPooling) {
+    Kursawe problem = new Kursawe() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    NSGAII<DoubleSolution> nsgaII = new NSGAIIBuilder<DoubleSolution>(problem,
+        new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setMaxEvaluations(5000)
+        .setVariant(variant)
+        .setSolutionPooling(solutionPooling)
+        .build() ;
+
+    new AlgorithmRunner.Executor(nsgaII).execute() ;
+
+    if (solutionPooling) {
+      assertTrue(nsgaII.getSolutionPool().getNumberOfReusedSolutions() > 0) ;
+    }
+
+    return nsgaII.getResult() ;
+  }
+
+  private static void assertSameAttributesAsAFullRanking(List<DoubleSolution> population) {
+    DominanceRanking<DoubleSolution> ranking = new DominanceRanking<DoubleSolution>() ;
+    List<DoubleSolution> copies = new ArrayList<>(population.size()) ;
+    for (DoubleSolution solution : population) {
+      copies.add((DoubleSolution) solution.copy()) ;
+    }
+    ranking.computeRanking(copies) ;
+    CrowdingDistance<DoubleSolution> crowdingDistance = new CrowdingDistance<DoubleSolution>() ;
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      crowdingDistance.computeDensityEstimator(ranking.getSubfront(i));
+    }
+
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals("Rank of solution " + i, ranking.getAttribute(copies.get(i)),
+          ranking.getAttribute(population.get(i))) ;
+      assertEquals("Crowding distance of solution " + i, crowdingDistance.getAttribute(copies.get(i)),
+          crowdingDistance.getAttribute(population.get(i))) ;
+    }
+  }
 }
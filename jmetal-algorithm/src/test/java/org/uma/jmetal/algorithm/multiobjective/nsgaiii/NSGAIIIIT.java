@@ -0,0 +1,120 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaiii;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.EnvironmentalSelection;
+import org.uma.jmetal.algorithm.multiobjective.nsgaiii.util.ReferencePoint;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NSGAIIIIT {
+  @Test
+  public void shouldTheSolutionsBeCloseToTheParetoFrontOfDTLZ2() throws Exception {
+    List<DoubleSolution> population = solveDTLZ2(1) ;
+
+    // Rationale: the Pareto front of DTLZ2 is the unit sphere, and NSGA-III, configured with
+    // standard settings, should return solutions whose distance to the origin is close to one
+
+    assertTrue(population.size() > 80) ;
+    for (DoubleSolution solution : population) {
+      double radius = 0.0 ;
+      for (int i = 0; i < solution.getNumberOfObjectives(); i++) {
+        radius += solution.getObjective(i) * solution.getObjective(i) ;
+      }
+      assertTrue(Math.sqrt(radius) < 1.1) ;
+    }
+  }
+
+  @Test
+  public void shouldTheNumberOfThreadsNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population = solveDTLZ2(1) ;
+    List<DoubleSolution> parallelPopulation = solveDTLZ2(4) ;
+
+    assertEquals(population.size(), parallelPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), parallelPopulation.get(i)) ;
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  public void shouldTheDeprecatedListMethodsOfTheEnvironmentalSelectionCallTheArrayMethods() {
+    DoubleProblem problem = new DTLZ2(12, 3) ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+    List<DoubleSolution> population = new ArrayList<>() ;
+    for (int i = 0; i < 60; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      problem.evaluate(solution);
+      population.add(solution) ;
+    }
+    List<List<DoubleSolution>> fronts = new ArrayList<>() ;
+    Ranking<DoubleSolution> ranking = new DominanceRanking<DoubleSolution>().computeRanking(population) ;
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      fronts.add(ranking.getSubfront(i)) ;
+    }
+    List<ReferencePoint<DoubleSolution>> referencePoints = new ArrayList<>() ;
+    new ReferencePoint<DoubleSolution>().generateReferencePoints(referencePoints, 3,
+        Arrays.asList(12)) ;
+
+    EnvironmentalSelection<DoubleSolution> arraySelection =
+        new EnvironmentalSelection<>(fronts, 50, referencePoints, 3) ;
+    double[] idealPoint = arraySelection.translateObjectives() ;
+    List<DoubleSolution> extremePoints = fronts.get(0).subList(0, 3) ;
+    double[] intercepts = arraySelection.constructHyperplane(extremePoints) ;
+
+    EnvironmentalSelection<DoubleSolution> listSelection =
+        new EnvironmentalSelection<>(fronts, 50, referencePoints, 3) ;
+    List<Double> idealPointList = listSelection.translateObjectives(population) ;
+    List<Double> interceptList = listSelection.constructHyperplane(population, extremePoints) ;
+    for (int i = 0; i < 3; i++) {
+      assertEquals(idealPoint[i], idealPointList.get(i), 0.0) ;
+      assertEquals(intercepts[i], interceptList.get(i), 0.0) ;
+    }
+
+    listSelection.normalizeObjectives(population, interceptList, idealPointList) ;
+    for (DoubleSolution solution : population) {
+      for (int i = 0; i < 3; i++) {
+        assertEquals((solution.getObjective(i) - idealPoint[i]) / (intercepts[i] - idealPoint[i]),
+            listSelection.getAttribute(solution).get(i), 1e-12) ;
+      }
+    }
+
+    listSelection.associate(population) ;
+    int numberOfMembers = 0 ;
+    for (ReferencePoint<DoubleSolution> referencePoint : referencePoints) {
+      numberOfMembers += referencePoint.MemberSize() ;
+    }
+    assertEquals(population.size() - fronts.get(fronts.size() - 1).size(), numberOfMembers) ;
+  }
+
+  private List<DoubleSolution> solveDTLZ2(int numberOfThreads) {
+    DoubleProblem problem = new DTLZ2(12, 3) ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    NSGAIII<DoubleSolution> algorithm = new NSGAIIIBuilder<DoubleSolution>(problem)
+        .setCrossoverOperator(new SBXCrossover(0.9, 30.0))
+        .setMutationOperator(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setSelectionOperator(new BinaryTournamentSelection<DoubleSolution>())
+        .setMaxIterations(300)
+        .setNumberOfThreads(numberOfThreads)
+        .build() ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    return algorithm.getResult() ;
+  }
+}
@@ -2,15 +2,23 @@ package org.uma.jmetal.algorithm.multiobjective.smpso;
 
 import org.junit.Test;
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.PushMeasure;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.problem.multiobjective.zdt.ZDT4;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class SMPSOIT {
@@ -52,4 +60,92 @@ public class SMPSOIT {
 
     assertTrue(hv > 0.64) ;
   }
+
+  @Test
+  public void shouldTheSolutionPoolingNotChangeTheResult() throws Exception {
+    List<DoubleSolution> front = solveZDT4(false) ;
+    List<DoubleSolution> pooledFront = solveZDT4(true) ;
+
+    assertEquals(front.size(), pooledFront.size()) ;
+    for (int i = 0; i < front.size(); i++) {
+      for (int j = 0; j < front.get(i).getNumberOfObjectives(); j++) {
+        assertEquals(front.get(i).getObjective(j), pooledFront.get(i).getObjective(j), 0.0) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheMeasuresNotChangeTheResult() throws Exception {
+    List<DoubleSolution> front = solveZDT4(false) ;
+
+    DoubleProblem problem = new ZDT4() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    algorithm = new SMPSOBuilder(problem, new CrowdingDistanceArchive<DoubleSolution>(100))
+        .setMaxIterations(100)
+        .setVariant(SMPSOBuilder.SMPSOVariant.Measures)
+        .build() ;
+
+    MeasureManager measureManager = ((SMPSOMeasures) algorithm).getMeasureManager() ;
+    final List<List<DoubleSolution>> swarms = new ArrayList<>() ;
+    final List<double[][]> objectives = new ArrayList<>() ;
+    PushMeasure<List<DoubleSolution>> currentPopulation =
+        measureManager.getPushMeasure(AlgorithmMeasures.CURRENT_POPULATION) ;
+    currentPopulation.register(new MeasureListener<List<DoubleSolution>>() {
+      @Override public void measureGenerated(List<DoubleSolution> swarm) {
+        swarms.add(swarm) ;
+        objectives.add(getObjectives(swarm)) ;
+      }
+    });
+
+    algorithm.run();
+
+    List<DoubleSolution> measuredFront = algorithm.getResult() ;
+    assertEquals(front.size(), measuredFront.size()) ;
+    for (int i = 0; i < front.size(); i++) {
+      for (int j = 0; j < front.get(i).getNumberOfObjectives(); j++) {
+        assertEquals(front.get(i).getObjective(j), measuredFront.get(i).getObjective(j), 0.0) ;
+      }
+    }
+
+    assertEquals(10000L, measureManager.getPullMeasure(AlgorithmMeasures.EVALUATIONS).get()) ;
+    assertEquals(100, measureManager.getPullMeasure(AlgorithmMeasures.POPULATION_SIZE).get()) ;
+    assertTrue((Double) measureManager.getPullMeasure(AlgorithmMeasures.HYPERVOLUME).get() > 0.0) ;
+
+    // Rationale: the particles are moved in place, so the swarms notified must be copies of them.
+    // The swarm is notified after each iteration but the initial one
+    assertEquals(99, swarms.size()) ;
+    for (int i = 0; i < swarms.size(); i++) {
+      double[][] currentObjectives = getObjectives(swarms.get(i)) ;
+      for (int j = 0; j < currentObjectives.length; j++) {
+        assertArrayEquals(objectives.get(i)[j], currentObjectives[j], 0.0) ;
+      }
+    }
+  }
+
+  private double[][] getObjectives(List<DoubleSolution> swarm) {
+    double[][] objectives = new double[swarm.size()][] ;
+    for (int i = 0; i < swarm.size(); i++) {
+      objectives[i] = new double[swarm.get(i).getNumberOfObjectives()] ;
+      for (int j = 0; j < objectives[i].length; j++) {
+        objectives[i][j] = swarm.get(i).getObjective(j) ;
+      }
+    }
+
+    return objectives ;
+  }
+
+  private List<DoubleSolution> solveZDT4(boolean solutionPooling) {
+    DoubleProblem problem = new ZDT4() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    algorithm = new SMPSOBuilder(problem, new CrowdingDistanceArchive<DoubleSolution>(100))
+        .setMaxIterations(100)
+        .setSolutionPooling(solutionPooling)
+        .build() ;
+
+    algorithm.run();
+
+    return algorithm.getResult() ;
+  }
 }
@@ -2,6 +2,8 @@ package org.uma.jmetal.algorithm.multiobjective.smsemoa;
 
 import org.junit.Test;
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
@@ -12,12 +14,15 @@ import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
 import org.uma.jmetal.problem.multiobjective.zdt.ZDT4;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.IncrementalHypervolume;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class SMSEMOAIT {
@@ -100,4 +105,120 @@ public class SMSEMOAIT {
 
     assertTrue(hv > 0.65) ;
   }
+
+  @Test
+  public void shouldTheHypervolumeHaveAMinimumValueWhenUsingTheIncrementalRanking() throws Exception {
+    DoubleProblem problem = new ZDT1() ;
+
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    double crossoverProbability = 0.9 ;
+    double crossoverDistributionIndex = 20.0 ;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    Hypervolume<DoubleSolution> hypervolumeImplementation ;
+    hypervolumeImplementation = new PISAHypervolume<>() ;
+    hypervolumeImplementation.setOffset(100.0);
+
+    algorithm = new SMSEMOABuilder<>(problem, crossover, mutation)
+        .setSelectionOperator(new RandomSelection<DoubleSolution>())
+        .setMaxEvaluations(25000)
+        .setPopulationSize(100)
+        .setHypervolumeImplementation(hypervolumeImplementation)
+        .setIncrementalRanking(true)
+        .build();
+
+    AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
+        .execute();
+
+    List<DoubleSolution> population = algorithm.getResult();
+
+    QualityIndicator<List<DoubleSolution>, Double> hypervolume = new PISAHypervolume<>("/referenceFronts/ZDT1.pf") ;
+
+    double hv = (Double)hypervolume.evaluate(population) ;
+
+    assertEquals(100, population.size()) ;
+    assertTrue(hv > 0.65) ;
+  }
+
+  @Test
+  public void shouldTheMeasuresNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population = solveZDT1(SMSEMOABuilder.SMSEMOAVariant.SMSEMOA) ;
+    List<DoubleSolution> measuredPopulation = solveZDT1(SMSEMOABuilder.SMSEMOAVariant.Measures) ;
+
+    assertEquals(population.size(), measuredPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), measuredPopulation.get(i)) ;
+    }
+
+    MeasureManager measureManager = ((SMSEMOAMeasures<DoubleSolution>) algorithm).getMeasureManager() ;
+    assertEquals(10000L, measureManager.getPullMeasure(AlgorithmMeasures.EVALUATIONS).get()) ;
+    assertEquals(100, measureManager.getPullMeasure(AlgorithmMeasures.POPULATION_SIZE).get()) ;
+    assertTrue((Double) measureManager.getPullMeasure(AlgorithmMeasures.HYPERVOLUME).get() > 0.0) ;
+  }
+
+  @Test
+  public void shouldTheHypervolumeHaveAMinimumValueWhenUsingTheIncrementalHypervolume() throws Exception {
+    DoubleProblem problem = new ZDT1() ;
+
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    double crossoverProbability = 0.9 ;
+    double crossoverDistributionIndex = 20.0 ;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex) ;
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables() ;
+    double mutationDistributionIndex = 20.0 ;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex) ;
+
+    Hypervolume<DoubleSolution> hypervolumeImplementation ;
+    hypervolumeImplementation = new IncrementalHypervolume<>() ;
+    hypervolumeImplementation.setOffset(100.0);
+
+    algorithm = new SMSEMOABuilder<>(problem, crossover, mutation)
+        .setSelectionOperator(new RandomSelection<DoubleSolution>())
+        .setMaxEvaluations(25000)
+        .setPopulationSize(100)
+        .setHypervolumeImplementation(hypervolumeImplementation)
+        .setIncrementalRanking(true)
+        .build();
+
+    AlgorithmRunner algorithmRunner = new AlgorithmRunner.Executor(algorithm)
+        .execute();
+
+    List<DoubleSolution> population = algorithm.getResult();
+
+    QualityIndicator<List<DoubleSolution>, Double> hypervolume = new PISAHypervolume<>("/referenceFronts/ZDT1.pf") ;
+
+    double hv = (Double)hypervolume.evaluate(population) ;
+
+    assertEquals(100, population.size()) ;
+    assertTrue(hv > 0.65) ;
+  }
+
+  private List<DoubleSolution> solveZDT1(SMSEMOABuilder.SMSEMOAVariant variant) {
+    DoubleProblem problem = new ZDT1() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    Hypervolume<DoubleSolution> hypervolumeImplementation = new PISAHypervolume<>() ;
+    hypervolumeImplementation.setOffset(100.0);
+
+    algorithm = new SMSEMOABuilder<>(problem, new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setMaxEvaluations(10000)
+        .setPopulationSize(100)
+        .setHypervolumeImplementation(hypervolumeImplementation)
+        .setVariant(variant)
+        .build() ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    return algorithm.getResult() ;
+  }
 }
@@ -0,0 +1,89 @@
+package org.uma.jmetal.algorithm.multiobjective.spea2;
+
+import org.junit.Test;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AlgorithmMeasures;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.AlgorithmRunner;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SPEA2IT {
+  @Test
+  public void shouldTheHypervolumeHaveAMininumValue() throws Exception {
+    List<DoubleSolution> population = solve(new ZDT1(), 1) ;
+
+    QualityIndicator<List<DoubleSolution>, Double> hypervolume =
+        new PISAHypervolume<>("/referenceFronts/ZDT1.pf") ;
+
+    // Rationale: the default problem is ZDT1, and SPEA2, configured with standard settings, should
+    // return find a front with a hypervolume value higher than 0.64
+
+    assertEquals(100, population.size()) ;
+    assertTrue(hypervolume.evaluate(population) > 0.64) ;
+  }
+
+  @Test
+  public void shouldTheNumberOfThreadsNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population = solve(new DTLZ2(12, 3), 1) ;
+    List<DoubleSolution> parallelPopulation = solve(new DTLZ2(12, 3), 4) ;
+
+    assertEquals(population.size(), parallelPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), parallelPopulation.get(i)) ;
+    }
+  }
+
+  @Test
+  public void shouldTheMeasuresNotChangeTheResult() throws Exception {
+    List<DoubleSolution> population = solve(new ZDT1(), 1) ;
+
+    DoubleProblem problem = new ZDT1() ;
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    SPEA2<DoubleSolution> algorithm = createBuilder(problem)
+        .setVariant(SPEA2Builder.SPEA2Variant.Measures)
+        .build() ;
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    List<DoubleSolution> measuredPopulation = algorithm.getResult() ;
+    assertEquals(population.size(), measuredPopulation.size()) ;
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i), measuredPopulation.get(i)) ;
+    }
+
+    MeasureManager measureManager = ((SPEA2Measures<DoubleSolution>) algorithm).getMeasureManager() ;
+    assertEquals(25000L, measureManager.getPullMeasure(AlgorithmMeasures.EVALUATIONS).get()) ;
+    assertEquals(100, measureManager.getPullMeasure(AlgorithmMeasures.POPULATION_SIZE).get()) ;
+    assertEquals(100, measureManager.getPullMeasure(AlgorithmMeasures.ARCHIVE_SIZE).get()) ;
+    assertTrue((Double) measureManager.getPullMeasure(AlgorithmMeasures.HYPERVOLUME).get() > 0.0) ;
+  }
+
+  private SPEA2Builder<DoubleSolution> createBuilder(DoubleProblem problem) {
+    return new SPEA2Builder<DoubleSolution>(problem, new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0)) ;
+  }
+
+  private List<DoubleSolution> solve(DoubleProblem problem, int numberOfThreads) {
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+
+    SPEA2<DoubleSolution> algorithm = createBuilder(problem)
+        .setNumberOfThreads(numberOfThreads)
+        .build() ;
+
+    new AlgorithmRunner.Executor(algorithm).execute() ;
+
+    return algorithm.getResult() ;
+  }
+}
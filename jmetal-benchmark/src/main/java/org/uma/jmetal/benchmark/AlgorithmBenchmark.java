@@ -0,0 +1,135 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.moead.MOEADBuilder;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of complete runs of NSGA-II and MOEA/D with a given number of generations. The
+ * random seed is set before each run, so every invocation performs exactly the same operations.
+ * MOEA/D reads the weight vectors of more than two objectives from the MOEAD_Weights directory,
+ * which only contains files for some population sizes, so the population size is the smallest one
+ * available for the number of objectives: 100 for two and three objectives (W3D_100.dat) and 1000
+ * for five objectives (W5D_1000.dat).
+ *
+ * ZDT1 only has two objectives, so its combinations with three and five objectives are skipped:
+ * their setup fails and JMH reports them as errors and goes on with the next ones (unless it is
+ * run with -foe true). Use -p numberOfObjectives=2 to benchmark only the valid combinations.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AlgorithmBenchmark {
+  @Param({"ZDT1", "DTLZ2", "WFG1"})
+  public String problemName ;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives ;
+
+  @Param({"30"})
+  public int numberOfVariables ;
+
+  @Param({"50"})
+  public int numberOfGenerations ;
+
+  private DoubleProblem problem ;
+  private int populationSize ;
+
+  @Setup
+  public void setup() {
+    if ("ZDT1".equals(problemName) && (numberOfObjectives != 2)) {
+      throw new JMetalException("Skipping ZDT1 with " + numberOfObjectives + " objectives: it only "
+          + "has two objectives") ;
+    }
+    problem = BenchmarkUtils.createProblem(problemName, numberOfVariables, numberOfObjectives) ;
+    populationSize = getPopulationSize(numberOfObjectives) ;
+  }
+
+  /**
+   * Returns the smallest population size for which there is a file of MOEA/D weight vectors
+   */
+  private static int getPopulationSize(int numberOfObjectives) {
+    int populationSize ;
+    if ((numberOfObjectives == 2) || (numberOfObjectives == 3)) {
+      populationSize = 100 ;
+    } else if (numberOfObjectives == 5) {
+      populationSize = 1000 ;
+    } else {
+      throw new JMetalException("There are no MOEA/D weight vectors of " + numberOfObjectives
+          + " objectives") ;
+    }
+
+    return populationSize ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> nsgaII() {
+    JMetalRandom.getInstance().setSeed(BenchmarkUtils.SEED);
+
+    Algorithm<List<DoubleSolution>> algorithm = new NSGAIIBuilder<DoubleSolution>(problem,
+        new SBXCrossover(0.9, 20.0),
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setPopulationSize(populationSize)
+        .setMaxEvaluations(populationSize * (numberOfGenerations + 1))
+        .build() ;
+    algorithm.run();
+
+    return algorithm.getResult() ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> moead() {
+    JMetalRandom.getInstance().setSeed(BenchmarkUtils.SEED);
+
+    Algorithm<List<DoubleSolution>> algorithm = new MOEADBuilder(problem, MOEADBuilder.Variant.MOEAD)
+        .setCrossover(new DifferentialEvolutionCrossover(1.0, 0.5, "rand/1/bin"))
+        .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setPopulationSize(populationSize)
+        .setResultPopulationSize(populationSize)
+        .setMaxEvaluations(populationSize * (numberOfGenerations + 1))
+        .setDataDirectory("MOEAD_Weights")
+        .build() ;
+    algorithm.run();
+
+    return algorithm.getResult() ;
+  }
+}
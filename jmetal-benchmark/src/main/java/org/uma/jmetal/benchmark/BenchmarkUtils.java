@@ -0,0 +1,168 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.benchmark;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG1;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Problems and solution lists shared by the benchmarks. All the random values are taken from
+ * {@link JMetalRandom} after setting the seed, so each benchmark works on the same data in every
+ * run.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BenchmarkUtils {
+  public static final long SEED = 1234L ;
+
+  /**
+   * Creates one of the problems used in the benchmarks: ZDT1 (two objectives), DTLZ2 or WFG1.
+   * The number of position parameters of WFG1 is 2 * (numberOfObjectives - 1) and the rest of
+   * the variables are distance parameters
+   */
+  public static DoubleProblem createProblem(String problemName, int numberOfVariables,
+      int numberOfObjectives) {
+    DoubleProblem problem ;
+    if ("ZDT1".equals(problemName)) {
+      if (numberOfObjectives != 2) {
+        throw new JMetalException("ZDT1 has two objectives: " + numberOfObjectives) ;
+      }
+      problem = new ZDT1(numberOfVariables) ;
+    } else if ("DTLZ2".equals(problemName)) {
+      problem = new DTLZ2(numberOfVariables, numberOfObjectives) ;
+    } else if ("WFG1".equals(problemName)) {
+      int k = 2 * (numberOfObjectives - 1) ;
+      if (numberOfVariables <= k) {
+        throw new JMetalException("WFG1 with " + numberOfObjectives + " objectives requires more "
+            + "than " + k + " variables: " + numberOfVariables) ;
+      }
+      try {
+        problem = new WFG1(k, numberOfVariables - k, numberOfObjectives) ;
+      } catch (ClassNotFoundException e) {
+        throw new JMetalException(e) ;
+      }
+    } else {
+      throw new JMetalException("Unknown problem: " + problemName) ;
+    }
+
+    return problem ;
+  }
+
+  /**
+   * Creates a list of random solutions, evaluated if required
+   */
+  public static List<DoubleSolution> createPopulation(DoubleProblem problem, int populationSize,
+      boolean evaluate) {
+    JMetalRandom.getInstance().setSeed(SEED);
+
+    List<DoubleSolution> population = new ArrayList<>(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      if (evaluate) {
+        problem.evaluate(solution);
+      }
+      population.add(solution) ;
+    }
+
+    return population ;
+  }
+
+  /**
+   * Loads one of the reference fronts of jmetal-problem (e.g., "DTLZ2.3D"), which are packaged in
+   * the benchmarks jar, and returns a list of solutions with the objective values of
+   * numberOfPoints of its points, taken at regular intervals of the file
+   */
+  public static List<DoubleSolution> loadReferenceFront(String frontName, int numberOfPoints) {
+    Front front ;
+    try {
+      front = new ArrayFront("/pareto_fronts/" + frontName + ".pf") ;
+    } catch (FileNotFoundException e) {
+      throw new JMetalException("The reference front " + frontName + " does not exist", e) ;
+    }
+    if (front.getNumberOfPoints() < numberOfPoints) {
+      throw new JMetalException("The reference front " + frontName + " has less than "
+          + numberOfPoints + " points: " + front.getNumberOfPoints()) ;
+    }
+
+    List<DoubleSolution> solutionList = FrontUtils.convertFrontToSolutionList(front) ;
+    List<DoubleSolution> points = new ArrayList<>(numberOfPoints) ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      points.add(solutionList.get((int) ((long) i * front.getNumberOfPoints() / numberOfPoints))) ;
+    }
+
+    return points ;
+  }
+
+  /**
+   * Creates a list of mutually non-dominated solutions whose objective vectors are random points
+   * of the hyperplane where the objectives sum 0.5, as the Pareto front of DTLZ1
+   */
+  public static List<DoubleSolution> createLinearFront(int frontSize, int numberOfObjectives) {
+    DoubleProblem problem = new DTLZ2(numberOfObjectives + 9, numberOfObjectives) ;
+    List<DoubleSolution> front = createPopulation(problem, frontSize, false) ;
+
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    for (DoubleSolution solution : front) {
+      double sum = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        double value = random.nextDouble() ;
+        solution.setObjective(j, value);
+        sum += value ;
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, 0.5 * solution.getObjective(j) / sum);
+      }
+    }
+
+    return front ;
+  }
+
+  /**
+   * Creates a list of mutually non-dominated solutions whose objective vectors are random points
+   * of the positive part of the unit sphere, as the Pareto front of DTLZ2
+   */
+  public static List<DoubleSolution> createNondominatedFront(int frontSize,
+      int numberOfObjectives) {
+    DoubleProblem problem = new DTLZ2(numberOfObjectives + 9, numberOfObjectives) ;
+    List<DoubleSolution> front = createPopulation(problem, frontSize, false) ;
+
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    for (DoubleSolution solution : front) {
+      double norm = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        double value = random.nextDouble() ;
+        solution.setObjective(j, value);
+        norm += value * value ;
+      }
+      norm = Math.sqrt(norm) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, solution.getObjective(j) / norm);
+      }
+    }
+
+    return front ;
+  }
+}
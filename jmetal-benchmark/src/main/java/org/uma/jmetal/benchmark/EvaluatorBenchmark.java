@@ -0,0 +1,97 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the solution list evaluators. The parallel evaluators use as many threads as
+ * available processors.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EvaluatorBenchmark {
+  @Param({"sequential", "multithreaded", "forkJoin"})
+  public String evaluatorName ;
+
+  @Param({"DTLZ2", "WFG1"})
+  public String problemName ;
+
+  @Param({"100", "1000"})
+  public int populationSize ;
+
+  @Param({"3"})
+  public int numberOfObjectives ;
+
+  @Param({"30"})
+  public int numberOfVariables ;
+
+  private DoubleProblem problem ;
+  private List<DoubleSolution> population ;
+  private SolutionListEvaluator<DoubleSolution> evaluator ;
+
+  @Setup
+  public void setup() {
+    problem = BenchmarkUtils.createProblem(problemName, numberOfVariables, numberOfObjectives) ;
+    population = BenchmarkUtils.createPopulation(problem, populationSize, false) ;
+
+    int numberOfThreads = Runtime.getRuntime().availableProcessors() ;
+    if ("sequential".equals(evaluatorName)) {
+      evaluator = new SequentialSolutionListEvaluator<>() ;
+    } else if ("multithreaded".equals(evaluatorName)) {
+      evaluator = new MultithreadedSolutionListEvaluator<>(numberOfThreads, problem) ;
+    } else if ("forkJoin".equals(evaluatorName)) {
+      evaluator = new ForkJoinSolutionListEvaluator<>(numberOfThreads) ;
+    } else {
+      throw new JMetalException("Unknown evaluator: " + evaluatorName) ;
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    evaluator.shutdown();
+  }
+
+  @Benchmark
+  public List<DoubleSolution> evaluate() {
+    return evaluator.evaluate(population, problem) ;
+  }
+}
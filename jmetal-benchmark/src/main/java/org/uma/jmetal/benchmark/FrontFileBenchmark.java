@@ -0,0 +1,99 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.BinaryFrontFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of writing and reading a front in the text and binary formats
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FrontFileBenchmark {
+  @Param({"1000", "100000"})
+  public int frontSize ;
+
+  @Param({"3"})
+  public int numberOfObjectives ;
+
+  private List<DoubleSolution> front ;
+  private File textFile ;
+  private File binaryFile ;
+
+  @Setup
+  public void setup() throws IOException {
+    front = BenchmarkUtils.createNondominatedFront(frontSize, numberOfObjectives) ;
+    textFile = File.createTempFile("FUN", ".tsv") ;
+    binaryFile = File.createTempFile("FUN", ".bin") ;
+    writeText() ;
+    writeBinary() ;
+  }
+
+  @TearDown
+  public void tearDown() {
+    textFile.delete() ;
+    binaryFile.delete() ;
+  }
+
+  @Benchmark
+  public File writeText() {
+    new SolutionListOutput(front).setSeparator("\t")
+        .printObjectivesToFile(new DefaultFileOutputContext(textFile.getPath()), front);
+    return textFile ;
+  }
+
+  @Benchmark
+  public File writeBinary() {
+    BinaryFrontFile.writeObjectives(front, null, binaryFile.getPath());
+    return binaryFile ;
+  }
+
+  @Benchmark
+  public Front readText() throws IOException {
+    return new ArrayFront(textFile.getPath()) ;
+  }
+
+  @Benchmark
+  public Front readBinary() throws IOException {
+    return new ArrayFront(binaryFile.getPath()) ;
+  }
+}
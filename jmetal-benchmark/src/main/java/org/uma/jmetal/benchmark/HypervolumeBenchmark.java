@@ -0,0 +1,123 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.ArrayWFGHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.WFGHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the hypervolume implementations on samples of the reference fronts of the DTLZ
+ * and WFG problems. The parallel version of {@link ArrayWFGHypervolume} uses as many threads as
+ * available processors.
+ *
+ * With two and three objectives the WFG algorithm uses its sweep methods, so the fronts of DTLZ1
+ * and DTLZ2 with five and eight objectives are also used to measure its recursion. As there are
+ * no reference fronts with more than three objectives in jmetal-problem, these fronts are random
+ * points of the hyperplane (DTLZ1) or the sphere (DTLZ2) of the Pareto front.
+ * {@link PISAHypervolume} takes minutes to evaluate the fronts with eight objectives and more than
+ * 50 points, so the parameters can be restricted with the -p option of JMH
+ * (e.g., -p referenceFront=DTLZ1.5D,DTLZ2.8D).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class HypervolumeBenchmark {
+  @Param({"50", "100", "200"})
+  public int populationSize ;
+
+  @Param({"DTLZ1.3D", "DTLZ2.2D", "DTLZ2.3D", "DTLZ7.3D", "WFG1.2D", "WFG1.3D", "WFG3.3D", "WFG4.3D",
+      "DTLZ1.5D", "DTLZ1.8D", "DTLZ2.5D", "DTLZ2.8D"})
+  public String referenceFront ;
+
+  private List<DoubleSolution> front ;
+  private WFGHypervolume<DoubleSolution> wfgHypervolume ;
+  private PISAHypervolume<DoubleSolution> pisaHypervolume ;
+  private ArrayWFGHypervolume<DoubleSolution> arrayWfgHypervolume ;
+  private ArrayWFGHypervolume<DoubleSolution> parallelArrayWfgHypervolume ;
+
+  @Setup
+  public void setup() {
+    front = createFront(referenceFront, populationSize) ;
+
+    wfgHypervolume = new WFGHypervolume<>() ;
+    pisaHypervolume = new PISAHypervolume<>(new ArrayFront(front)) ;
+    arrayWfgHypervolume = new ArrayWFGHypervolume<>() ;
+    parallelArrayWfgHypervolume = new ArrayWFGHypervolume<>() ;
+    parallelArrayWfgHypervolume.setNumberOfThreads(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Benchmark
+  public double wfg() {
+    return wfgHypervolume.evaluate(new ArrayList<>(front)) ;
+  }
+
+  @Benchmark
+  public double pisa() {
+    return pisaHypervolume.evaluate(front) ;
+  }
+
+  @Benchmark
+  public double arrayWfg() {
+    return arrayWfgHypervolume.evaluate(front) ;
+  }
+
+  @Benchmark
+  public double parallelArrayWfg() {
+    return parallelArrayWfgHypervolume.evaluate(front) ;
+  }
+
+  /**
+   * Loads the reference front with the given name (e.g., "DTLZ2.3D") or, if it has more than three
+   * objectives, generates it
+   */
+  private static List<DoubleSolution> createFront(String frontName, int numberOfPoints) {
+    String problemName = frontName.substring(0, frontName.indexOf('.')) ;
+    int numberOfObjectives = Integer.parseInt(
+        frontName.substring(frontName.indexOf('.') + 1, frontName.length() - 1)) ;
+
+    if (numberOfObjectives <= 3) {
+      return BenchmarkUtils.loadReferenceFront(frontName, numberOfPoints) ;
+    } else if ("DTLZ1".equals(problemName)) {
+      return BenchmarkUtils.createLinearFront(numberOfPoints, numberOfObjectives) ;
+    } else if ("DTLZ2".equals(problemName)) {
+      return BenchmarkUtils.createNondominatedFront(numberOfPoints, numberOfObjectives) ;
+    } else {
+      throw new JMetalException("The front " + frontName + " can not be generated") ;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
+import org.uma.jmetal.util.front.util.FrontNormalizer;
+import org.uma.jmetal.util.front.util.FrontUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the distance based quality indicators and of the normalization of fronts, using
+ * a reference front stored as an {@link ArrayFront} (which the indicators copy to a
+ * {@link FlatArrayFront} in each evaluation) or as a {@link FlatArrayFront}
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class IndicatorBenchmark {
+  @Param({"1000", "10000"})
+  public int referenceFrontSize ;
+
+  @Param({"100"})
+  public int frontSize ;
+
+  @Param({"3"})
+  public int numberOfObjectives ;
+
+  private List<DoubleSolution> front ;
+  private Front referenceFront ;
+  private FlatArrayFront flatReferenceFront ;
+  private FrontNormalizer normalizer ;
+  private GenerationalDistance<DoubleSolution> generationalDistance ;
+
+  @Setup
+  public void setup() {
+    front = BenchmarkUtils.createPopulation(
+        BenchmarkUtils.createProblem("DTLZ2", numberOfObjectives + 9, numberOfObjectives),
+        frontSize, true) ;
+    referenceFront = new ArrayFront(
+        BenchmarkUtils.createNondominatedFront(referenceFrontSize, numberOfObjectives)) ;
+    flatReferenceFront = new FlatArrayFront(referenceFront) ;
+    normalizer = new FrontNormalizer(referenceFront) ;
+    generationalDistance = new GenerationalDistance<>(flatReferenceFront) ;
+  }
+
+  /**
+   * IGD computed through the {@link org.uma.jmetal.util.point.Point} interface, as the indicator
+   * did before having a fast path for {@link FlatArrayFront}
+   */
+  @Benchmark
+  public double igdPoints() {
+    Front approximation = new ArrayFront(front) ;
+    double sum = 0.0 ;
+    for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+      sum += Math.pow(FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i), approximation), 2.0) ;
+    }
+    return Math.sqrt(sum) / referenceFront.getNumberOfPoints() ;
+  }
+
+  @Benchmark
+  public double igdArrayFront() {
+    return new InvertedGenerationalDistance<DoubleSolution>(referenceFront).evaluate(front) ;
+  }
+
+  @Benchmark
+  public double igdFlatArrayFront() {
+    return new InvertedGenerationalDistance<DoubleSolution>(flatReferenceFront).evaluate(front) ;
+  }
+
+  /**
+   * GD computed with a sequential scan of the reference front for each point
+   */
+  @Benchmark
+  public double gdSequentialScan() {
+    FlatArrayFront approximation = new FlatArrayFront(front) ;
+    double sum = 0.0 ;
+    for (int i = 0; i < approximation.getNumberOfPoints(); i++) {
+      sum += Math.pow(FrontUtils.distanceToClosestPoint(approximation, i, flatReferenceFront), 2.0) ;
+    }
+    return Math.sqrt(sum) / approximation.getNumberOfPoints() ;
+  }
+
+  /**
+   * GD using the k-d tree of the reference front, which is built in the first invocation
+   */
+  @Benchmark
+  public double gdFlatArrayFront() {
+    return generationalDistance.evaluate(front) ;
+  }
+
+  @Benchmark
+  public double igdPlusFlatArrayFront() {
+    return new InvertedGenerationalDistancePlus<DoubleSolution>(flatReferenceFront).evaluate(front) ;
+  }
+
+  @Benchmark
+  public double epsilonFlatArrayFront() {
+    return new Epsilon<DoubleSolution>(flatReferenceFront).evaluate(front) ;
+  }
+
+  @Benchmark
+  public Front normalizeArrayFront() {
+    return normalizer.normalize(referenceFront) ;
+  }
+
+  @Benchmark
+  public Front normalizeFlatArrayFront() {
+    FlatArrayFront normalizedFront = new FlatArrayFront(flatReferenceFront) ;
+    normalizer.normalizeInPlace(normalizedFront);
+    return normalizedFront ;
+  }
+}
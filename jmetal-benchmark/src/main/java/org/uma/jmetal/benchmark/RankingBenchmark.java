@@ -0,0 +1,127 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.NDTreeArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.DivideAndConquerRanking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking;
+import org.uma.jmetal.util.solutionattribute.impl.RankingFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the non-dominated sorting, the crowding distance and the non-dominated archives
+ * on random solutions of DTLZ2, which are spread over several fronts. Every {@link Ranking}
+ * implementation is measured, as well as the one chosen by {@link RankingFactory} for each
+ * population size and number of objectives.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RankingBenchmark {
+  @Param({"100", "400", "1000"})
+  public int populationSize ;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives ;
+
+  @Param({"30"})
+  public int numberOfVariables ;
+
+  private List<DoubleSolution> population ;
+  private List<DoubleSolution> firstFront ;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkUtils.createPopulation(
+        BenchmarkUtils.createProblem("DTLZ2", numberOfVariables, numberOfObjectives),
+        populationSize, true) ;
+    firstFront = new DominanceRanking<DoubleSolution>().computeRanking(population).getSubfront(0) ;
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> dominanceRanking() {
+    return new DominanceRanking<DoubleSolution>().computeRanking(population) ;
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> ensBinaryRanking() {
+    return new EfficientNonDominatedSortRanking<DoubleSolution>(
+        EfficientNonDominatedSortRanking.SearchStrategy.BINARY).computeRanking(population) ;
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> ensSequentialRanking() {
+    return new EfficientNonDominatedSortRanking<DoubleSolution>(
+        EfficientNonDominatedSortRanking.SearchStrategy.SEQUENTIAL).computeRanking(population) ;
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> divideAndConquerRanking() {
+    return new DivideAndConquerRanking<DoubleSolution>().computeRanking(population) ;
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> rankingFactoryRanking() {
+    return new RankingFactory().<DoubleSolution>createRanking(populationSize, numberOfObjectives)
+        .computeRanking(population) ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> crowdingDistance() {
+    new CrowdingDistance<DoubleSolution>().computeDensityEstimator(firstFront);
+    return firstFront ;
+  }
+
+  @Benchmark
+  public NonDominatedSolutionListArchive<DoubleSolution> nonDominatedArchiveAdd() {
+    NonDominatedSolutionListArchive<DoubleSolution> archive =
+        new NonDominatedSolutionListArchive<>() ;
+    for (DoubleSolution solution : population) {
+      archive.add(solution) ;
+    }
+    return archive ;
+  }
+
+  @Benchmark
+  public NDTreeArchive<DoubleSolution> ndTreeArchiveAdd() {
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>() ;
+    for (DoubleSolution solution : population) {
+      archive.add(solution) ;
+    }
+    return archive ;
+  }
+}
@@ -0,0 +1,124 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.uma.jmetal.operator.impl.crossover.BatchSBXCrossover;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.BatchPolynomialMutation;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.DoubleSolutionMatrix;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the SBX crossover and the polynomial mutation applied to a whole population, as
+ * it is done in each generation of NSGA-II, using the list based operators and the batch operators
+ * working on a matrix of variables.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VariationBenchmark {
+  @Param({"100", "1000"})
+  public int populationSize ;
+
+  @Param({"30", "300"})
+  public int numberOfVariables ;
+
+  private List<DoubleSolution> population ;
+  private SBXCrossover crossover ;
+  private PolynomialMutation mutation ;
+  private BatchSBXCrossover batchCrossover ;
+  private BatchPolynomialMutation batchMutation ;
+  private double[] lowerBounds ;
+  private double[] upperBounds ;
+  private double[] parents ;
+  private double[] offspring ;
+
+  @Setup
+  public void setup() {
+    DoubleProblem problem = BenchmarkUtils.createProblem("ZDT1", numberOfVariables, 2) ;
+    population = BenchmarkUtils.createPopulation(problem, populationSize, false) ;
+
+    crossover = new SBXCrossover(0.9, 20.0) ;
+    mutation = new PolynomialMutation(1.0 / numberOfVariables, 20.0) ;
+
+    batchCrossover = new BatchSBXCrossover(0.9, 20.0) ;
+    batchMutation = new BatchPolynomialMutation(1.0 / numberOfVariables, 20.0) ;
+    lowerBounds = DoubleSolutionMatrix.getLowerBounds(population.get(0)) ;
+    upperBounds = DoubleSolutionMatrix.getUpperBounds(population.get(0)) ;
+    parents = DoubleSolutionMatrix.getVariables(population, null) ;
+    offspring = new double[parents.length] ;
+  }
+
+  @Benchmark
+  public void sbxCrossover(Blackhole blackhole) {
+    for (int i = 0; i + 1 < population.size(); i += 2) {
+      blackhole.consume(crossover.execute(Arrays.asList(population.get(i), population.get(i + 1))));
+    }
+  }
+
+  @Benchmark
+  public void polynomialMutation(Blackhole blackhole) {
+    for (DoubleSolution solution : population) {
+      blackhole.consume(mutation.execute(solution));
+    }
+  }
+
+  @Benchmark
+  public double[] batchSbxCrossover() {
+    batchCrossover.execute(parents, offspring, populationSize, lowerBounds, upperBounds);
+    return offspring ;
+  }
+
+  @Benchmark
+  public double[] batchPolynomialMutation() {
+    batchMutation.execute(offspring, populationSize, lowerBounds, upperBounds);
+    return offspring ;
+  }
+
+  /**
+   * Whole reproduction step: copy of the population to a matrix, crossover, mutation and copy of
+   * the matrix back to the solutions
+   */
+  @Benchmark
+  public List<DoubleSolution> batchReproduction() {
+    parents = DoubleSolutionMatrix.getVariables(population, parents) ;
+    batchCrossover.execute(parents, offspring, populationSize, lowerBounds, upperBounds);
+    batchMutation.execute(offspring, populationSize, lowerBounds, upperBounds);
+    DoubleSolutionMatrix.setVariables(offspring, population);
+    return population ;
+  }
+}
@@ -0,0 +1,227 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Abstract class representing an asynchronous steady-state evolutionary algorithm following a
+ * master/worker scheme. The master creates the solutions and the workers evaluate them; there
+ * is no barrier between generations: as soon as an evaluation finishes, the solution is inserted
+ * into the population and a new offspring is created for the free worker. In this way, the
+ * workers are kept busy even if the evaluation times of the solutions are very different.
+ *
+ * All the methods but {@link Problem#evaluate(Solution)} and
+ * {@link ConstrainedProblem#evaluateConstraints(Solution)} are invoked from the thread running
+ * the algorithm, so the operators do not need to be thread-safe, but the problem does.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ * @param <S> Solution
+ * @param <R> Result
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractAsynchronousEvolutionaryAlgorithm<S extends Solution<?>, R>
+    implements Algorithm<R> {
+  private List<S> population ;
+  private int maxPopulationSize ;
+  private Problem<S> problem ;
+  private int numberOfWorkers ;
+
+  private int evaluations ;
+  private int pendingEvaluations ;
+
+  /**
+   * Constructor
+   *
+   * @param problem The problem to solve
+   * @param numberOfWorkers Number of solutions evaluated concurrently
+   */
+  public AbstractAsynchronousEvolutionaryAlgorithm(Problem<S> problem, int numberOfWorkers) {
+    if (numberOfWorkers < 1) {
+      throw new JMetalException("The number of workers must be positive: " + numberOfWorkers) ;
+    }
+    this.problem = problem ;
+    this.numberOfWorkers = numberOfWorkers ;
+  }
+
+  public List<S> getPopulation() {
+    return population;
+  }
+  public void setPopulation(List<S> population) {
+    this.population = population;
+  }
+
+  public void setMaxPopulationSize(int maxPopulationSize) {
+    this.maxPopulationSize = maxPopulationSize ;
+  }
+  public int getMaxPopulationSize() {
+    return maxPopulationSize ;
+  }
+
+  public void setProblem(Problem<S> problem) {
+    this.problem = problem ;
+  }
+  public Problem<S> getProblem() {
+    return problem ;
+  }
+
+  public int getNumberOfWorkers() {
+    return numberOfWorkers ;
+  }
+
+  /** Number of evaluations already finished */
+  public int getEvaluations() {
+    return evaluations ;
+  }
+
+  /** Number of solutions being evaluated by the workers */
+  public int getPendingEvaluations() {
+    return pendingEvaluations ;
+  }
+
+  /**
+   * Invoked when the population is full for the first time
+   */
+  protected void initProgress() {
+  }
+
+  /**
+   * Invoked after each replacement
+   */
+  protected void updateProgress() {
+  }
+
+  /**
+   * Invoked before submitting each new solution to a worker. Implementations based on a number
+   * of evaluations should take into account both the finished and the pending evaluations
+   */
+  protected abstract boolean isStoppingConditionReached();
+
+  protected List<S> createInitialPopulation() {
+    List<S> population = new ArrayList<>(maxPopulationSize);
+    for (int i = 0; i < maxPopulationSize; i++) {
+      population.add(problem.createSolution());
+    }
+    return population;
+  }
+
+  /**
+   * Creates a new solution to be evaluated. The population may not be full yet if some of the
+   * initial solutions are still being evaluated
+   */
+  protected abstract S createOffspring(List<S> population) ;
+
+  /**
+   * Inserts an evaluated solution into a full population
+   */
+  protected abstract List<S> replacement(List<S> population, S offspring) ;
+
+  @Override public abstract R getResult();
+
+  @Override public void run() {
+    population = new ArrayList<>(maxPopulationSize) ;
+    evaluations = 0 ;
+    pendingEvaluations = 0 ;
+
+    List<S> initialPopulation = createInitialPopulation() ;
+    int nextInitialSolution = 0 ;
+    boolean populationIsFull = false ;
+
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfWorkers) ;
+    CompletionService<S> completionService = new ExecutorCompletionService<>(executor) ;
+    try {
+      while (true) {
+        while ((pendingEvaluations < numberOfWorkers) && !isStoppingConditionReached()) {
+          S solution ;
+          if (nextInitialSolution < initialPopulation.size()) {
+            solution = initialPopulation.get(nextInitialSolution++) ;
+          } else if (!population.isEmpty()) {
+            solution = createOffspring(population) ;
+          } else {
+            break ;
+          }
+
+          completionService.submit(new EvaluationTask<S>(problem, solution)) ;
+          pendingEvaluations++ ;
+        }
+
+        if (pendingEvaluations == 0) {
+          break ;
+        }
+
+        S evaluatedSolution = waitForEvaluation(completionService) ;
+        pendingEvaluations-- ;
+        evaluations++ ;
+
+        if (!populationIsFull) {
+          population.add(evaluatedSolution) ;
+          if (population.size() >= maxPopulationSize) {
+            populationIsFull = true ;
+            initProgress();
+          }
+        } else {
+          population = replacement(population, evaluatedSolution) ;
+          updateProgress();
+        }
+      }
+    } finally {
+      executor.shutdownNow() ;
+    }
+  }
+
+  private S waitForEvaluation(CompletionService<S> completionService) {
+    try {
+      return completionService.take().get() ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for an evaluation", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error evaluating solution", e) ;
+    }
+  }
+
+  /**
+   * Task evaluating a solution in a worker thread
+   */
+  private static class EvaluationTask<S extends Solution<?>> implements Callable<S> {
+    private final Problem<S> problem ;
+    private final S solution ;
+
+    public EvaluationTask(Problem<S> problem, S solution) {
+      this.problem = problem ;
+      this.solution = solution ;
+    }
+
+    @Override public S call() {
+      problem.evaluate(solution);
+      if (problem instanceof ConstrainedProblem) {
+        ((ConstrainedProblem<S>) problem).evaluateConstraints(solution);
+      }
+      return solution ;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.impl;
+
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Abstract class representing an asynchronous steady-state genetic algorithm. Each offspring is
+ * obtained by selecting two parents, applying the crossover operator and mutating the first
+ * solution it returns.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractAsynchronousGeneticAlgorithm<S extends Solution<?>, Result>
+    extends AbstractAsynchronousEvolutionaryAlgorithm<S, Result> {
+  protected SelectionOperator<List<S>, S> selectionOperator ;
+  protected CrossoverOperator<S> crossoverOperator ;
+  protected MutationOperator<S> mutationOperator ;
+
+  /* Getters */
+  public SelectionOperator<List<S>, S> getSelectionOperator() {
+    return selectionOperator;
+  }
+
+  public CrossoverOperator<S> getCrossoverOperator() {
+    return crossoverOperator;
+  }
+
+  public MutationOperator<S> getMutationOperator() {
+    return mutationOperator;
+  }
+
+  /**
+   * Constructor
+   * @param problem The problem to solve
+   * @param numberOfWorkers Number of solutions evaluated concurrently
+   */
+  public AbstractAsynchronousGeneticAlgorithm(Problem<S> problem, int numberOfWorkers) {
+    super(problem, numberOfWorkers);
+  }
+
+  @Override protected S createOffspring(List<S> population) {
+    List<S> parents = new ArrayList<>(2);
+    parents.add(selectionOperator.execute(population));
+    parents.add(selectionOperator.execute(population));
+
+    S offspring = crossoverOperator.execute(parents).get(0);
+    mutationOperator.execute(offspring);
+
+    return offspring;
+  }
+}
@@ -0,0 +1,307 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.List;
+
+/**
+ * {@link MeasureManager} with the measures shared by the algorithms providing
+ * run time information: the number of evaluations and the evaluations per
+ * second, the execution time and the time spent in the selection, the
+ * reproduction, the evaluation and the replacement, the sizes of the population
+ * and the archive, and the hypervolume of the current solutions. The keys of the
+ * measures are the constants of this class.
+ * 
+ * The algorithm must call {@link #start()} and {@link #stop()} at the
+ * beginning and the end of its execution, and enclose each phase between
+ * {@link #enterPhase(PhaseDurationMeasure)} and
+ * {@link #exitPhase(PhaseDurationMeasure)}. Phases can be nested (e.g., a
+ * selection operator invoked during the reproduction); the time is always
+ * accounted to the innermost phase. The operators and evaluators given to the
+ * algorithm can be wrapped with the <code>measure*</code> methods to do it
+ * automatically.
+ * 
+ * All the measures are updated by the thread running the algorithm, and the
+ * pull measures can be read from any other thread.
+ * 
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AlgorithmMeasures<S extends Solution<?>> extends SimpleMeasureManager {
+
+	public static final String EXECUTION_TIME = "currentExecutionTime";
+	public static final String EVALUATIONS = "currentEvaluation";
+	public static final String EVALUATIONS_PER_SECOND = "evaluationsPerSecond";
+	public static final String SELECTION_TIME = "selectionTime";
+	public static final String REPRODUCTION_TIME = "reproductionTime";
+	public static final String EVALUATION_TIME = "evaluationTime";
+	public static final String REPLACEMENT_TIME = "replacementTime";
+	public static final String POPULATION_SIZE = "populationSize";
+	public static final String ARCHIVE_SIZE = "archiveSize";
+	public static final String HYPERVOLUME = "hypervolume";
+	public static final String CURRENT_POPULATION = "currentPopulation";
+
+	private final DurationMeasure executionTime;
+	private final CountingMeasure evaluations;
+	private final SimplePullMeasure<Double> evaluationsPerSecond;
+	private final PhaseDurationMeasure selectionTime;
+	private final PhaseDurationMeasure reproductionTime;
+	private final PhaseDurationMeasure evaluationTime;
+	private final PhaseDurationMeasure replacementTime;
+	private final BasicMeasure<Integer> populationSize;
+	private final BasicMeasure<Integer> archiveSize;
+	private final HypervolumeMeasure hypervolume;
+	private final BasicMeasure<List<S>> currentPopulation;
+
+	private PhaseDurationMeasure currentPhase;
+
+	public AlgorithmMeasures() {
+		this(new HypervolumeMeasure());
+	}
+
+	/**
+	 * @param hypervolume
+	 *            measure used to compute the hypervolume of the population,
+	 *            which allows to set its reference point
+	 */
+	public AlgorithmMeasures(HypervolumeMeasure hypervolume) {
+		executionTime = new DurationMeasure();
+		evaluations = new CountingMeasure("evaluations",
+				"Number of evaluations performed.");
+		evaluationsPerSecond = new SimplePullMeasure<Double>(
+				EVALUATIONS_PER_SECOND,
+				"Number of evaluations per second of execution time.") {
+			@Override
+			public Double get() {
+				long milliseconds = executionTime.get();
+				return (milliseconds == 0) ? 0.0 : evaluations.get() * 1000.0
+						/ milliseconds;
+			}
+		};
+		selectionTime = new PhaseDurationMeasure(SELECTION_TIME,
+				"Time spent in the selection, in milliseconds.");
+		reproductionTime = new PhaseDurationMeasure(REPRODUCTION_TIME,
+				"Time spent in the reproduction, in milliseconds.");
+		evaluationTime = new PhaseDurationMeasure(EVALUATION_TIME,
+				"Time spent in the evaluation, in milliseconds.");
+		replacementTime = new PhaseDurationMeasure(REPLACEMENT_TIME,
+				"Time spent in the replacement, in milliseconds.");
+		populationSize = new BasicMeasure<>();
+		archiveSize = new BasicMeasure<>();
+		this.hypervolume = hypervolume;
+		currentPopulation = new BasicMeasure<>();
+
+		setPullMeasure(EXECUTION_TIME, executionTime);
+		setMeasure(EVALUATIONS, evaluations);
+		setPullMeasure(EVALUATIONS_PER_SECOND, evaluationsPerSecond);
+		setPullMeasure(SELECTION_TIME, selectionTime);
+		setPullMeasure(REPRODUCTION_TIME, reproductionTime);
+		setPullMeasure(EVALUATION_TIME, evaluationTime);
+		setPullMeasure(REPLACEMENT_TIME, replacementTime);
+		setPullMeasure(POPULATION_SIZE, populationSize);
+		setPullMeasure(ARCHIVE_SIZE, archiveSize);
+		setPullMeasure(HYPERVOLUME, hypervolume);
+		setPushMeasure(CURRENT_POPULATION, currentPopulation);
+	}
+
+	/**
+	 * Resets the measures and starts counting the execution time
+	 */
+	public void start() {
+		executionTime.reset();
+		executionTime.start();
+		evaluations.reset();
+		selectionTime.reset();
+		reproductionTime.reset();
+		evaluationTime.reset();
+		replacementTime.reset();
+		currentPhase = null;
+	}
+
+	public void stop() {
+		if (currentPhase != null) {
+			currentPhase.stop();
+			currentPhase = null;
+		}
+		executionTime.stop();
+	}
+
+	/**
+	 * Starts a phase, pausing the current one, if any
+	 * 
+	 * @return the phase paused, which has to be given to
+	 *         {@link #exitPhase(PhaseDurationMeasure)}
+	 */
+	public PhaseDurationMeasure enterPhase(PhaseDurationMeasure phase) {
+		PhaseDurationMeasure previousPhase = currentPhase;
+		if (previousPhase != null) {
+			previousPhase.stop();
+		}
+		phase.start();
+		currentPhase = phase;
+
+		return previousPhase;
+	}
+
+	/**
+	 * Finishes the current phase, resuming the phase paused when it was entered
+	 */
+	public void exitPhase(PhaseDurationMeasure previousPhase) {
+		if (currentPhase != null) {
+			currentPhase.stop();
+		}
+		if (previousPhase != null) {
+			previousPhase.start();
+		}
+		currentPhase = previousPhase;
+	}
+
+	/**
+	 * Updates the population size measure and notifies the listeners of the
+	 * current population. The list is given as is to the listeners, so an
+	 * algorithm which keeps modifying its population list or its solutions
+	 * should give a copy of them.
+	 */
+	public void updatePopulation(List<S> population) {
+		populationSize.set(population.size());
+		currentPopulation.push(population);
+	}
+
+	public void updateArchive(List<S> archive) {
+		archiveSize.set(archive.size());
+	}
+
+	/**
+	 * Updates the hypervolume measure, which is usually computed on the
+	 * solutions the algorithm would return at that point (the archive, if there
+	 * is one)
+	 */
+	public void updateHypervolume(List<S> solutionList) {
+		hypervolume.update(solutionList);
+	}
+
+	public CountingMeasure getEvaluations() {
+		return evaluations;
+	}
+
+	public DurationMeasure getExecutionTime() {
+		return executionTime;
+	}
+
+	public SimplePullMeasure<Double> getEvaluationsPerSecond() {
+		return evaluationsPerSecond;
+	}
+
+	public PhaseDurationMeasure getSelectionTime() {
+		return selectionTime;
+	}
+
+	public PhaseDurationMeasure getReproductionTime() {
+		return reproductionTime;
+	}
+
+	public PhaseDurationMeasure getEvaluationTime() {
+		return evaluationTime;
+	}
+
+	public PhaseDurationMeasure getReplacementTime() {
+		return replacementTime;
+	}
+
+	public BasicMeasure<Integer> getPopulationSize() {
+		return populationSize;
+	}
+
+	public BasicMeasure<Integer> getArchiveSize() {
+		return archiveSize;
+	}
+
+	public HypervolumeMeasure getHypervolume() {
+		return hypervolume;
+	}
+
+	public BasicMeasure<List<S>> getCurrentPopulation() {
+		return currentPopulation;
+	}
+
+	/**
+	 * @return a selection operator accounting the time of the given one to the
+	 *         selection phase
+	 */
+	public <Source, Result> SelectionOperator<Source, Result> measureSelection(
+			final SelectionOperator<Source, Result> operator) {
+		return new SelectionOperator<Source, Result>() {
+			@Override
+			public Result execute(Source source) {
+				PhaseDurationMeasure previousPhase = enterPhase(selectionTime);
+				Result result = operator.execute(source);
+				exitPhase(previousPhase);
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * @return a crossover operator accounting the time of the given one to the
+	 *         reproduction phase
+	 */
+	public CrossoverOperator<S> measureCrossover(final CrossoverOperator<S> operator) {
+		return new CrossoverOperator<S>() {
+			@Override
+			public List<S> execute(List<S> parents) {
+				PhaseDurationMeasure previousPhase = enterPhase(reproductionTime);
+				List<S> offspring = operator.execute(parents);
+				exitPhase(previousPhase);
+				return offspring;
+			}
+
+			@Override
+			public int getNumberOfParents() {
+				return operator.getNumberOfParents();
+			}
+		};
+	}
+
+	/**
+	 * @return a mutation operator accounting the time of the given one to the
+	 *         reproduction phase
+	 */
+	public MutationOperator<S> measureMutation(final MutationOperator<S> operator) {
+		return new MutationOperator<S>() {
+			@Override
+			public S execute(S solution) {
+				PhaseDurationMeasure previousPhase = enterPhase(reproductionTime);
+				S result = operator.execute(solution);
+				exitPhase(previousPhase);
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * @return an evaluator accounting the time of the given one to the
+	 *         evaluation phase and counting the solutions evaluated
+	 */
+	public SolutionListEvaluator<S> measureEvaluation(final SolutionListEvaluator<S> evaluator) {
+		return new SolutionListEvaluator<S>() {
+			@Override
+			public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+				PhaseDurationMeasure previousPhase = enterPhase(evaluationTime);
+				List<S> result = evaluator.evaluate(solutionList, problem);
+				exitPhase(previousPhase);
+				evaluations.increment(solutionList.size());
+				return result;
+			}
+
+			@Override
+			public void shutdown() {
+				evaluator.shutdown();
+			}
+		};
+	}
+}
@@ -0,0 +1,265 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.measure.Measure;
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.measure.PushMeasure;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * {@link AsynchronousPushMeasure} is a {@link PushMeasure} which notifies its
+ * listeners from a dispatcher thread rather than from the thread calling
+ * {@link #push(Object)}. The values pushed are stored in a bounded
+ * {@link RingBuffer}, so pushing a value never blocks nor waits for the
+ * listeners: when they are too slow to follow the algorithm, some values are
+ * discarded as specified by the {@link Policy} of the measure. Pushing a value
+ * while there is no listener registered does nothing.
+ *
+ * As the listeners receive the values later, the values pushed should not be
+ * modified afterwards (push a copy of a list which the algorithm keeps
+ * modifying, for instance). The dispatcher thread is a daemon thread started
+ * when the first value is pushed, and {@link #shutdown()} can be used to
+ * deliver the pending values and stop it.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ *
+ * @param <Value>
+ */
+public class AsynchronousPushMeasure<Value> extends SimpleMeasure<Value>
+		implements PushMeasure<Value> {
+
+	/**
+	 * The values discarded when the listeners do not follow the values pushed.
+	 */
+	public enum Policy {
+		/**
+		 * When the buffer is full, the value pushed is discarded.
+		 */
+		DROP_NEWEST,
+		/**
+		 * When the buffer is full, the oldest value waiting to be notified is
+		 * discarded to store the value pushed.
+		 */
+		DROP_OLDEST,
+		/**
+		 * Only the last value pushed waits to be notified, so the listeners
+		 * receive the most recent value each time they are notified and the
+		 * capacity is ignored.
+		 */
+		COALESCE
+	}
+
+	/**
+	 * Object standing for no value in {@link #latest}, and for the value
+	 * returned by {@link #take()} when there is no value to notify.
+	 */
+	private static final Object NONE = new Object();
+	/**
+	 * Object standing for the <code>null</code> values in {@link #buffer},
+	 * which can not store them.
+	 */
+	private static final Object NULL = new Object();
+
+	private final Policy policy;
+	private final RingBuffer<Object> buffer;
+	private final AtomicReference<Object> latest = new AtomicReference<>(NONE);
+	private final AtomicLong droppedValues = new AtomicLong();
+	private final Set<MeasureListener<Value>> listeners = new CopyOnWriteArraySet<>();
+
+	private volatile Thread dispatcher;
+	private volatile boolean waiting = false;
+	private volatile boolean stopped = false;
+
+	/**
+	 * Create an {@link AsynchronousPushMeasure} with a given name and a given
+	 * description.
+	 *
+	 * @param name
+	 *            the name of the {@link Measure}
+	 * @param description
+	 *            the description of the {@link Measure}
+	 * @param capacity
+	 *            the number of values which can wait to be notified
+	 * @param policy
+	 *            the values discarded when the buffer is full
+	 */
+	public AsynchronousPushMeasure(String name, String description,
+			int capacity, Policy policy) {
+		super(name, description);
+		if (policy == null) {
+			throw new JMetalException("The policy is null");
+		}
+		this.policy = policy;
+		this.buffer = (policy == Policy.COALESCE) ? null : new RingBuffer<>(capacity);
+	}
+
+	/**
+	 * Create an {@link AsynchronousPushMeasure} with the class name as its name
+	 * and a <code>null</code> description.
+	 *
+	 * @param capacity
+	 *            the number of values which can wait to be notified
+	 * @param policy
+	 *            the values discarded when the buffer is full
+	 */
+	public AsynchronousPushMeasure(int capacity, Policy policy) {
+		this(AsynchronousPushMeasure.class.getSimpleName(), null, capacity, policy);
+	}
+
+	@Override
+	public void register(MeasureListener<Value> listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void unregister(MeasureListener<Value> listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Store a value to notify it to the registered listeners from the
+	 * dispatcher thread, discarding a value if the buffer is full.
+	 *
+	 * @param value
+	 *            the value to send to the observers
+	 */
+	public void push(Value value) {
+		if (listeners.isEmpty()) {
+			return;
+		}
+
+		Object storedValue = (value == null) ? NULL : value;
+		if (policy == Policy.COALESCE) {
+			if (latest.getAndSet(storedValue) != NONE) {
+				droppedValues.incrementAndGet();
+			}
+		} else if (policy == Policy.DROP_NEWEST) {
+			if (!buffer.offer(storedValue)) {
+				droppedValues.incrementAndGet();
+				return;
+			}
+		} else {
+			while (!buffer.offer(storedValue)) {
+				if (buffer.poll() != null) {
+					droppedValues.incrementAndGet();
+				}
+			}
+		}
+
+		Thread dispatcher = this.dispatcher;
+		if (dispatcher == null) {
+			startDispatcher();
+		} else if (waiting) {
+			LockSupport.unpark(dispatcher);
+		}
+	}
+
+	/**
+	 * @return the number of values discarded since the creation of the measure
+	 */
+	public long getDroppedValues() {
+		return droppedValues.get();
+	}
+
+	public Policy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Stop the dispatcher thread once it has notified the values waiting in
+	 * the buffer. If a value is pushed later, a new dispatcher is started.
+	 */
+	public synchronized void shutdown() {
+		Thread dispatcher = this.dispatcher;
+		if (dispatcher == null) {
+			return;
+		}
+
+		stopped = true;
+		LockSupport.unpark(dispatcher);
+		try {
+			dispatcher.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		/*
+		 * The dispatcher is forgotten before the last values are taken, so a
+		 * value pushed once they are taken starts a new dispatcher (when this
+		 * method returns, as starting it requires the lock) instead of being
+		 * left in the buffer.
+		 */
+		stopped = false;
+		this.dispatcher = null;
+
+		Object value;
+		while ((value = take()) != NONE) {
+			notifyListeners(value);
+		}
+	}
+
+	private synchronized void startDispatcher() {
+		if (dispatcher != null) {
+			return;
+		}
+
+		Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				dispatch();
+			}
+		}, getClass().getSimpleName() + "-" + getName());
+		thread.setDaemon(true);
+		dispatcher = thread;
+		thread.start();
+	}
+
+	private void dispatch() {
+		while (true) {
+			Object value = take();
+			if (value != NONE) {
+				notifyListeners(value);
+			} else if (stopped) {
+				return;
+			} else {
+				waiting = true;
+				if (isEmpty() && !stopped) {
+					LockSupport.park(this);
+				}
+				waiting = false;
+			}
+		}
+	}
+
+	private Object take() {
+		if (policy == Policy.COALESCE) {
+			return latest.getAndSet(NONE);
+		} else {
+			Object value = buffer.poll();
+			return (value == null) ? NONE : value;
+		}
+	}
+
+	private boolean isEmpty() {
+		return (policy == Policy.COALESCE) ? latest.get() == NONE : buffer.isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void notifyListeners(Object storedValue) {
+		Value value = (storedValue == NULL) ? null : (Value) storedValue;
+		for (MeasureListener<Value> listener : listeners) {
+			try {
+				listener.measureGenerated(value);
+			} catch (RuntimeException e) {
+				JMetalLogger.logger.log(Level.WARNING, "Error in a listener of " + getName(), e);
+			}
+		}
+	}
+}
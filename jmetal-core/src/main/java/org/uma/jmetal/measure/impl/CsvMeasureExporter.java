@@ -0,0 +1,291 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.PullMeasure;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * The {@link CsvMeasureExporter} samples periodically the {@link PullMeasure}s
+ * of a {@link MeasureManager} from a background thread, and appends a line with
+ * their values to a CSV file. The first column is the time of the sample, in
+ * milliseconds since the epoch, and the first line of each file has the keys of
+ * the measures. When the file reaches a maximum size it is renamed to
+ * <code>file.1</code> (the previous <code>file.1</code> to
+ * <code>file.2</code>, and so on, keeping a maximum number of files) and a new
+ * file is started.
+ * 
+ * By default, the exported measures are the pull measures whose values are
+ * numbers, or are not available yet, when the exporter is started, sorted by
+ * key. An existing file is overwritten when the exporter is started.
+ * 
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CsvMeasureExporter {
+
+	private final MeasureManager measureManager;
+	private final File file;
+	private long period = 1000;
+	private long maxFileSize = 10 * 1024 * 1024;
+	private int maxFiles = 5;
+	private List<Object> keys;
+
+	private List<PullMeasure<?>> measures;
+	private String header;
+	private ScheduledExecutorService executor;
+	private Writer writer;
+	private long fileSize;
+
+	public CsvMeasureExporter(MeasureManager measureManager, String fileName) {
+		this.measureManager = measureManager;
+		this.file = new File(fileName);
+	}
+
+	/**
+	 * @param period
+	 *            milliseconds between two samples (1000 by default)
+	 */
+	public CsvMeasureExporter setPeriod(long period) {
+		if (period <= 0) {
+			throw new JMetalException("The period must be positive: " + period);
+		}
+		this.period = period;
+		return this;
+	}
+
+	/**
+	 * @param maxFileSize
+	 *            size, in bytes, from which the file is rolled (10 MB by
+	 *            default)
+	 */
+	public CsvMeasureExporter setMaxFileSize(long maxFileSize) {
+		if (maxFileSize <= 0) {
+			throw new JMetalException("The maximum file size must be positive: " + maxFileSize);
+		}
+		this.maxFileSize = maxFileSize;
+		return this;
+	}
+
+	/**
+	 * @param maxFiles
+	 *            maximum number of files kept, including the current one (5
+	 *            by default)
+	 */
+	public CsvMeasureExporter setMaxFiles(int maxFiles) {
+		if (maxFiles < 1) {
+			throw new JMetalException("The maximum number of files must be positive: " + maxFiles);
+		}
+		this.maxFiles = maxFiles;
+		return this;
+	}
+
+	/**
+	 * Sets the keys of the pull measures to export, in the order of the columns
+	 */
+	public CsvMeasureExporter setKeys(Collection<?> keys) {
+		this.keys = new ArrayList<Object>(keys);
+		return this;
+	}
+
+	/**
+	 * Opens the file and starts sampling the measures
+	 */
+	public synchronized void start() {
+		if (writer != null) {
+			return;
+		}
+
+		List<Object> columns = (keys == null) ? getNumericPullMeasureKeys(measureManager) : keys;
+		measures = new ArrayList<>(columns.size());
+		StringBuilder header = new StringBuilder("timestamp");
+		for (Object key : columns) {
+			PullMeasure<?> measure = measureManager.getPullMeasure(key);
+			if (measure == null) {
+				throw new JMetalException("There is no pull measure with key " + key);
+			}
+			measures.add(measure);
+			header.append(',').append(escape(key.toString()));
+		}
+		this.header = header.append('\n').toString();
+
+		open();
+
+		executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "CsvMeasureExporter");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		executor.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					writeSample();
+				} catch (JMetalException e) {
+					JMetalLogger.logger.log(Level.WARNING, "Error writing the measures to " + file, e);
+				}
+			}
+		}, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops the sampling, writes a last sample and closes the file
+	 */
+	public void stop() {
+		ScheduledExecutorService executor;
+		synchronized (this) {
+			executor = this.executor;
+			this.executor = null;
+		}
+		if (executor == null) {
+			return;
+		}
+
+		executor.shutdown();
+		try {
+			executor.awaitTermination(period, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		synchronized (this) {
+			writeSample();
+			close();
+		}
+	}
+
+	/**
+	 * Appends a line with the current values of the measures to the file
+	 */
+	public synchronized void writeSample() {
+		if (writer == null) {
+			throw new JMetalException("The exporter has not been started");
+		}
+
+		StringBuilder line = new StringBuilder();
+		line.append(System.currentTimeMillis());
+		for (PullMeasure<?> measure : measures) {
+			line.append(',');
+			Object value = measure.get();
+			if (value instanceof Number) {
+				line.append(value);
+			} else if (value != null) {
+				line.append(escape(value.toString()));
+			}
+		}
+		line.append('\n');
+
+		if ((fileSize >= maxFileSize) && (fileSize > header.length())) {
+			close();
+			roll();
+			open();
+		}
+		write(line.toString());
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	private void open() {
+		try {
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+					StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new JMetalException("Error opening the file " + file, e);
+		}
+		fileSize = 0;
+		write(header);
+	}
+
+	private void write(String text) {
+		try {
+			writer.write(text);
+			writer.flush();
+		} catch (IOException e) {
+			throw new JMetalException("Error writing to the file " + file, e);
+		}
+		fileSize += text.getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	private void close() {
+		try {
+			writer.close();
+		} catch (IOException e) {
+			throw new JMetalException("Error closing the file " + file, e);
+		} finally {
+			writer = null;
+		}
+	}
+
+	private void roll() {
+		File oldest = getRolledFile(maxFiles - 1);
+		if (oldest.exists() && !oldest.delete()) {
+			throw new JMetalException("Error deleting the file " + oldest);
+		}
+		for (int i = maxFiles - 2; i >= 0; i--) {
+			File source = getRolledFile(i);
+			if (source.exists() && !source.renameTo(getRolledFile(i + 1))) {
+				throw new JMetalException("Error renaming the file " + source);
+			}
+		}
+	}
+
+	/**
+	 * @return the file with the given index; the index 0 is the current file
+	 */
+	File getRolledFile(int index) {
+		return (index == 0) ? file : new File(file.getPath() + "." + index);
+	}
+
+	private static String escape(String text) {
+		if ((text.indexOf(',') >= 0) || (text.indexOf('"') >= 0) || (text.indexOf('\n') >= 0)) {
+			return '"' + text.replace("\"", "\"\"") + '"';
+		}
+		return text;
+	}
+
+	/**
+	 * @return the keys of the pull measures whose values are numbers or
+	 *         <code>null</code>, sorted by their string representation
+	 */
+	static List<Object> getNumericPullMeasureKeys(MeasureManager measureManager) {
+		List<Object> keys = new ArrayList<>();
+		for (Object key : measureManager.getMeasureKeys()) {
+			PullMeasure<?> measure = measureManager.getPullMeasure(key);
+			if (measure != null) {
+				Object value = measure.get();
+				if ((value == null) || (value instanceof Number)) {
+					keys.add(key);
+				}
+			}
+		}
+		Collections.sort(keys, new Comparator<Object>() {
+			@Override
+			public int compare(Object key1, Object key2) {
+				return key1.toString().compareTo(key2.toString());
+			}
+		});
+		return keys;
+	}
+}
@@ -0,0 +1,129 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeKernel;
+import org.uma.jmetal.solution.Solution;
+
+import java.util.List;
+
+/**
+ * This measure provides the hypervolume (minimization is assumed) of the last
+ * list of solutions given to {@link #update(List)}, so that it can be followed
+ * while an algorithm is running. The update only copies the objective values of
+ * the solutions; the hypervolume is computed by the thread calling
+ * {@link #get()}, and only if the solutions have changed since the previous
+ * call, so that the algorithm is not slowed down by the measure.
+ * 
+ * The reference point can be given to the constructor. Otherwise, it is fixed
+ * the first time the measure is updated as the maximum value of each objective
+ * plus an offset (1.0 by default), so that the values computed along a run can
+ * be compared with each other.
+ * 
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeMeasure extends SimplePullMeasure<Double> {
+
+	private static final double DEFAULT_OFFSET = 1.0;
+
+	private final double offset;
+	private double[] referencePoint;
+
+	private volatile Snapshot snapshot;
+	private Snapshot computedSnapshot;
+	private Double hypervolume;
+	private WfgHypervolumeKernel kernel;
+
+	public HypervolumeMeasure() {
+		this(DEFAULT_OFFSET);
+	}
+
+	/**
+	 * @param offset
+	 *            value added to the maximum values of the objectives in the
+	 *            first update to get the reference point
+	 */
+	public HypervolumeMeasure(double offset) {
+		super("hypervolume",
+				"Provide the hypervolume of the last list of solutions received.");
+		this.offset = offset;
+	}
+
+	public HypervolumeMeasure(double[] referencePoint) {
+		this(DEFAULT_OFFSET);
+		this.referencePoint = referencePoint.clone();
+	}
+
+	/**
+	 * Stores the objective values of a list of solutions. This method is meant
+	 * to be called always from the same thread.
+	 */
+	public void update(List<? extends Solution<?>> solutionList) {
+		if (solutionList.isEmpty()) {
+			return;
+		}
+
+		int numberOfObjectives = solutionList.get(0).getNumberOfObjectives();
+		double[] points = new double[solutionList.size() * numberOfObjectives];
+		for (int i = 0; i < solutionList.size(); i++) {
+			Solution<?> solution = solutionList.get(i);
+			for (int j = 0; j < numberOfObjectives; j++) {
+				points[i * numberOfObjectives + j] = solution.getObjective(j);
+			}
+		}
+
+		if (referencePoint == null) {
+			referencePoint = new double[numberOfObjectives];
+			for (int j = 0; j < numberOfObjectives; j++) {
+				referencePoint[j] = Double.NEGATIVE_INFINITY;
+				for (int i = 0; i < solutionList.size(); i++) {
+					referencePoint[j] = Math.max(referencePoint[j], points[i * numberOfObjectives + j]);
+				}
+				referencePoint[j] += offset;
+			}
+		}
+
+		snapshot = new Snapshot(points, solutionList.size(), referencePoint);
+	}
+
+	/**
+	 * @return the hypervolume of the last list of solutions, or
+	 *         <code>null</code> if the measure has not been updated yet
+	 */
+	@Override
+	public synchronized Double get() {
+		Snapshot current = snapshot;
+		if ((current != null) && (current != computedSnapshot)) {
+			int numberOfObjectives = current.referencePoint.length;
+			if ((kernel == null) || (kernel.getNumberOfObjectives() != numberOfObjectives)) {
+				kernel = new WfgHypervolumeKernel(numberOfObjectives, current.numberOfPoints);
+			}
+			hypervolume = kernel.computeHypervolume(current.points, current.numberOfPoints,
+					current.referencePoint);
+			computedSnapshot = current;
+		}
+		return hypervolume;
+	}
+
+	/**
+	 * @return a copy of the reference point, or <code>null</code> if it has not
+	 *         been fixed yet
+	 */
+	public double[] getReferencePoint() {
+		Snapshot current = snapshot;
+		if (current != null) {
+			return current.referencePoint.clone();
+		}
+		return (referencePoint == null) ? null : referencePoint.clone();
+	}
+
+	private static class Snapshot {
+		private final double[] points;
+		private final int numberOfPoints;
+		private final double[] referencePoint;
+
+		public Snapshot(double[] points, int numberOfPoints, double[] referencePoint) {
+			this.points = points;
+			this.numberOfPoints = numberOfPoints;
+			this.referencePoint = referencePoint;
+		}
+	}
+}
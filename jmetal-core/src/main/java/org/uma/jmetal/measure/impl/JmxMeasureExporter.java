@@ -0,0 +1,157 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.PullMeasure;
+import org.uma.jmetal.util.JMetalException;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link JmxMeasureExporter} publishes the {@link PullMeasure}s of a
+ * {@link MeasureManager} as the attributes of an MBean registered in the
+ * platform MBean server, so that they can be watched with JConsole, VisualVM or
+ * any other JMX client while an algorithm is running. The measures are read
+ * only when a client asks for them, so the exporter adds no work to the
+ * algorithm.
+ * 
+ * The attributes are the pull measures whose values are numbers, or are not
+ * available yet, when {@link #register()} is called. They are published as
+ * {@link Double}s, NaN meaning that the value is not available. The name of
+ * the MBean is <code>org.uma.jmetal:type=Measures,name=&lt;name&gt;</code>.
+ * 
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class JmxMeasureExporter {
+
+	private final MeasureManager measureManager;
+	private final ObjectName objectName;
+	private boolean registered = false;
+
+	public JmxMeasureExporter(MeasureManager measureManager, String name) {
+		this.measureManager = measureManager;
+		try {
+			objectName = new ObjectName("org.uma.jmetal:type=Measures,name="
+					+ ObjectName.quote(name));
+		} catch (JMException e) {
+			throw new JMetalException("Invalid MBean name: " + name, e);
+		}
+	}
+
+	public ObjectName getObjectName() {
+		return objectName;
+	}
+
+	public synchronized void register() {
+		if (!registered) {
+			try {
+				getServer().registerMBean(new MeasuresMBean(), objectName);
+			} catch (JMException e) {
+				throw new JMetalException("Error registering the MBean " + objectName, e);
+			}
+			registered = true;
+		}
+	}
+
+	public synchronized void unregister() {
+		if (registered) {
+			try {
+				getServer().unregisterMBean(objectName);
+			} catch (JMException e) {
+				throw new JMetalException("Error unregistering the MBean " + objectName, e);
+			}
+			registered = false;
+		}
+	}
+
+	private MBeanServer getServer() {
+		return ManagementFactory.getPlatformMBeanServer();
+	}
+
+	/**
+	 * @return the value of a measure as a double, or NaN if it is not a number
+	 */
+	static Double toDouble(Object value) {
+		if (value instanceof Number) {
+			return ((Number) value).doubleValue();
+		} else {
+			return Double.NaN;
+		}
+	}
+
+	private class MeasuresMBean implements DynamicMBean {
+		private final Map<String, PullMeasure<?>> attributes = new LinkedHashMap<>();
+		private final MBeanInfo info;
+
+		public MeasuresMBean() {
+			for (Object key : CsvMeasureExporter.getNumericPullMeasureKeys(measureManager)) {
+				attributes.put(key.toString(), measureManager.getPullMeasure(key));
+			}
+
+			MBeanAttributeInfo[] attributeInfo = new MBeanAttributeInfo[attributes.size()];
+			int i = 0;
+			for (Map.Entry<String, PullMeasure<?>> entry : attributes.entrySet()) {
+				String description = entry.getValue().getDescription();
+				attributeInfo[i++] = new MBeanAttributeInfo(entry.getKey(),
+						Double.class.getName(), (description == null) ? entry.getKey()
+								: description, true, false, false);
+			}
+			info = new MBeanInfo(getClass().getName(), "Measures of a jMetal algorithm",
+					attributeInfo, null, null, null);
+		}
+
+		@Override
+		public Object getAttribute(String attribute) throws AttributeNotFoundException {
+			PullMeasure<?> measure = attributes.get(attribute);
+			if (measure == null) {
+				throw new AttributeNotFoundException(attribute);
+			}
+			return toDouble(measure.get());
+		}
+
+		@Override
+		public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+			throw new AttributeNotFoundException("The attribute " + attribute.getName()
+					+ " is read-only");
+		}
+
+		@Override
+		public AttributeList getAttributes(String[] names) {
+			AttributeList list = new AttributeList();
+			for (String name : names) {
+				PullMeasure<?> measure = attributes.get(name);
+				if (measure != null) {
+					list.add(new Attribute(name, toDouble(measure.get())));
+				}
+			}
+			return list;
+		}
+
+		@Override
+		public AttributeList setAttributes(AttributeList attributes) {
+			return new AttributeList();
+		}
+
+		@Override
+		public Object invoke(String actionName, Object[] params, String[] signature)
+				throws ReflectionException {
+			throw new ReflectionException(new NoSuchMethodException(actionName));
+		}
+
+		@Override
+		public MBeanInfo getMBeanInfo() {
+			return info;
+		}
+	}
+}
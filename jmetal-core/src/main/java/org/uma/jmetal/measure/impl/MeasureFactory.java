@@ -171,6 +171,39 @@ public class MeasureFactory {
 		return push;
 	}
 
+	/**
+	 * Create a {@link PushMeasure} which forwards the notifications of another
+	 * {@link PushMeasure} from its own thread, so that the listeners registered
+	 * to it do not slow down the code feeding the original {@link PushMeasure}
+	 * (typically an algorithm). The values are stored in a bounded buffer
+	 * until they are notified, and when the listeners are too slow some values
+	 * are discarded as specified by the policy. See
+	 * {@link AsynchronousPushMeasure} for the details.
+	 *
+	 * @param push
+	 *            the {@link PushMeasure} to forward
+	 * @param capacity
+	 *            the number of values which can wait to be notified
+	 * @param policy
+	 *            the values discarded when the buffer is full
+	 * @return an {@link AsynchronousPushMeasure} notifying the values of the
+	 *         {@link PushMeasure} to its own listeners
+	 */
+	public <Value> AsynchronousPushMeasure<Value> createAsynchronousPush(
+			PushMeasure<Value> push, int capacity,
+			AsynchronousPushMeasure.Policy policy) {
+		final AsynchronousPushMeasure<Value> asynchronousPush = new AsynchronousPushMeasure<>(
+				push.getName(), push.getDescription(), capacity, policy);
+		push.register(new MeasureListener<Value>() {
+
+			@Override
+			public void measureGenerated(Value value) {
+				asynchronousPush.push(value);
+			}
+		});
+		return asynchronousPush;
+	}
+
 	/**
 	 * Create {@link PullMeasure}s based on the getters available from an
 	 * instance, whatever it is. The {@link Class} of the instance is analyzed
@@ -0,0 +1,75 @@
+package org.uma.jmetal.measure.impl;
+
+/**
+ * This measure accumulates the time spent in a phase of an algorithm (the
+ * selection, the evaluation, etc.), which is usually started and stopped
+ * several times per iteration. Unlike {@link DurationMeasure}, the time is
+ * measured with {@link System#nanoTime()}, so that short phases are accounted
+ * for. The measure is meant to be started and stopped by the thread running the
+ * algorithm, while {@link #get()} can be called from any thread; it returns the
+ * time, in milliseconds, spent in the rounds already finished.
+ * 
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class PhaseDurationMeasure extends SimplePullMeasure<Double> {
+
+	private volatile long previousRoundsDuration = 0;
+	private long roundStart;
+	private boolean running = false;
+
+	public PhaseDurationMeasure(String name, String description) {
+		super(name, description);
+	}
+
+	public PhaseDurationMeasure(String name) {
+		super(name);
+	}
+
+	public PhaseDurationMeasure() {
+		super("phaseDuration",
+				"Provide the time spent in a phase of an algorithm, in milliseconds.");
+	}
+
+	public void start() {
+		if (!running) {
+			roundStart = System.nanoTime();
+			running = true;
+		} else {
+			// already started
+		}
+	}
+
+	public void stop() {
+		if (running) {
+			previousRoundsDuration += System.nanoTime() - roundStart;
+			running = false;
+		} else {
+			// already stopped
+		}
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public Double get() {
+		return previousRoundsDuration / 1000000.0;
+	}
+
+	/**
+	 * @return the time spent in the finished rounds, in nanoseconds
+	 */
+	public long getNanoseconds() {
+		return previousRoundsDuration;
+	}
+
+	public void reset() {
+		previousRoundsDuration = 0;
+		if (running) {
+			roundStart = System.nanoTime();
+		} else {
+			// no round to restart
+		}
+	}
+}
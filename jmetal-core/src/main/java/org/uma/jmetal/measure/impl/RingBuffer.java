@@ -0,0 +1,112 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link RingBuffer} is a bounded FIFO queue which can be used concurrently
+ * by several producers and consumers without locks. Each cell of the buffer
+ * has a sequence number telling whether it is ready to be written or read in
+ * the current lap, so {@link #offer(Object)} and {@link #poll()} only need a
+ * compare-and-set on the tail or the head of the buffer. The capacity is
+ * rounded up to a power of two, and it is at least two.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ *
+ * @param <T>
+ */
+class RingBuffer<T> {
+
+	private final int mask;
+	private final AtomicReferenceArray<T> values;
+	private final AtomicLongArray sequences;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+
+	public RingBuffer(int capacity) {
+		if (capacity < 1) {
+			throw new JMetalException("The capacity must be positive: " + capacity);
+		} else if (capacity > (1 << 30)) {
+			throw new JMetalException("The capacity is too big: " + capacity);
+		}
+
+		int size = 2;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		mask = size - 1;
+		values = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * @return <code>false</code> if the value has not been added because the
+	 *         buffer is full
+	 */
+	public boolean offer(T value) {
+		if (value == null) {
+			throw new JMetalException("Null values can not be stored");
+		}
+
+		long position = tail.get();
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					values.set(index, value);
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * @return the oldest value of the buffer, or <code>null</code> if it is
+	 *         empty
+	 */
+	public T poll() {
+		long position = head.get();
+		while (true) {
+			int index = (int) position & mask;
+			long difference = sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					T value = values.get(index);
+					values.set(index, null);
+					sequences.set(index, position + mask + 1);
+					return value;
+				}
+				position = head.get();
+			} else if (difference < 0) {
+				return null;
+			} else {
+				position = head.get();
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if no value has been added since the last one
+	 *         was taken, even if it is still being written
+	 */
+	public boolean isEmpty() {
+		return head.get() == tail.get();
+	}
+
+	public int getCapacity() {
+		return mask + 1;
+	}
+}
@@ -0,0 +1,32 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.SolutionPool;
+
+/**
+ * Interface of the operators creating copies of solutions which can obtain them from a
+ * {@link SolutionPool} instead of allocating them
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ *
+ * @param <S> The class of the solutions
+ */
+public interface PooledOperator<S extends Solution<?>> {
+  /**
+   * Sets the pool used to create the copies; a null value means allocating them
+   */
+  public void setSolutionPool(SolutionPool<S> solutionPool) ;
+}
@@ -0,0 +1,131 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+
+import java.io.Serializable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Base class of the operators applied to a whole population stored in a primitive matrix. The
+ * rows of the matrix are processed in blocks of a fixed size, which can be distributed among
+ * several threads of a {@link ForkJoinPool}.
+ *
+ * In each execution, a seed is taken from {@link JMetalRandom}, and each block draws its random
+ * numbers from its own stream of {@link RandomStreams}, identified by the index of the block. As
+ * the blocks do not depend on the threads executing them, the result is the same for any number
+ * of threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractBatchOperator implements Serializable {
+  private int numberOfThreads ;
+  private transient ForkJoinPool pool ;
+  protected JMetalRandom randomGenerator ;
+
+  /** Constructor */
+  public AbstractBatchOperator() {
+    numberOfThreads = 1 ;
+    randomGenerator = JMetalRandom.getInstance() ;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads ;
+  }
+
+  /**
+   * Sets the number of threads used to process the blocks. A value of 0 means using all the
+   * available processors
+   */
+  public void setNumberOfThreads(int numberOfThreads) {
+    if (numberOfThreads < 0) {
+      throw new JMetalException("The number of threads cannot be negative: " + numberOfThreads) ;
+    }
+    shutdown();
+    this.numberOfThreads = (numberOfThreads == 0) ?
+        Runtime.getRuntime().availableProcessors() : numberOfThreads ;
+  }
+
+  /**
+   * Releases the threads of the operator, if any. They are created again if needed
+   */
+  public synchronized void shutdown() {
+    if (pool != null) {
+      pool.shutdown();
+      pool = null ;
+    }
+  }
+
+  /**
+   * Executes the blocks [0, numberOfBlocks) of a task
+   */
+  protected void executeBlocks(BlockTask task, int numberOfBlocks) {
+    long seed = ((long)randomGenerator.nextInt(0, Integer.MAX_VALUE - 1) << 31) ^
+        randomGenerator.nextInt(0, Integer.MAX_VALUE - 1) ;
+    RandomStreams streams = new RandomStreams(seed) ;
+
+    if ((numberOfThreads == 1) || (numberOfBlocks < 2)) {
+      for (int block = 0; block < numberOfBlocks; block++) {
+        task.execute(block, streams.getStream(0, block)) ;
+      }
+    } else {
+      getPool().invoke(new BlockAction(task, streams, 0, numberOfBlocks)) ;
+    }
+  }
+
+  private synchronized ForkJoinPool getPool() {
+    if (pool == null) {
+      pool = new ForkJoinPool(numberOfThreads) ;
+    }
+    return pool ;
+  }
+
+  /**
+   * Work applied to a block of rows of a matrix, using the random generator of the block
+   */
+  protected interface BlockTask {
+    void execute(int block, SplitMix64Generator random) ;
+  }
+
+  private static class BlockAction extends RecursiveAction {
+    private final BlockTask task ;
+    private final RandomStreams streams ;
+    private final int from ;
+    private final int to ;
+
+    public BlockAction(BlockTask task, RandomStreams streams, int from, int to) {
+      this.task = task ;
+      this.streams = streams ;
+      this.from = from ;
+      this.to = to ;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        task.execute(from, streams.getStream(0, from)) ;
+      } else {
+        int middle = (from + to) >>> 1 ;
+        invokeAll(new BlockAction(task, streams, from, middle),
+            new BlockAction(task, streams, middle, to)) ;
+      }
+    }
+  }
+}
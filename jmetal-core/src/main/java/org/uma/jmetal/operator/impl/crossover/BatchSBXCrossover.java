@@ -0,0 +1,212 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.crossover;
+
+import org.uma.jmetal.operator.impl.AbstractBatchOperator;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.DoubleSolutionMatrix;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SBX crossover applied to a whole mating pool stored in a matrix (a <code>double[]</code> with a
+ * row of variables per solution). Rows 2k and 2k+1 are crossed, and the two children are written
+ * in the same rows of the offspring matrix; if the number of rows is odd, the last one is copied.
+ * The operator is the same as {@link SBXCrossover}, with the values out of range set to the
+ * bounds.
+ *
+ * For each pair of parents, the random numbers are drawn first into arrays, and then the children
+ * are computed in a loop over the variables reading only primitive arrays and without calls other
+ * than <code>Math.pow</code>. The pairs are processed in blocks which can be executed by several
+ * threads (see {@link AbstractBatchOperator}).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class BatchSBXCrossover extends AbstractBatchOperator {
+  /** EPS defines the minimum difference allowed between real values */
+  private static final double EPS = 1.0e-14;
+  private static final int PAIRS_PER_BLOCK = 16 ;
+
+  private double crossoverProbability ;
+  private double distributionIndex ;
+
+  /** Constructor */
+  public BatchSBXCrossover(double crossoverProbability, double distributionIndex) {
+    if (crossoverProbability < 0) {
+      throw new JMetalException("Crossover probability is negative: " + crossoverProbability) ;
+    } else if (distributionIndex < 0) {
+      throw new JMetalException("Distribution index is negative: " + distributionIndex);
+    }
+
+    this.crossoverProbability = crossoverProbability ;
+    this.distributionIndex = distributionIndex ;
+  }
+
+  /* Getters */
+  public double getCrossoverProbability() {
+    return crossoverProbability;
+  }
+
+  public double getDistributionIndex() {
+    return distributionIndex;
+  }
+
+  /* Setters */
+  public void setCrossoverProbability(double probability) {
+    this.crossoverProbability = probability ;
+  }
+
+  public void setDistributionIndex(double distributionIndex) {
+    this.distributionIndex = distributionIndex ;
+  }
+
+  /**
+   * Crosses the solutions of a mating pool, returning copies of them with the variables of the
+   * children
+   */
+  public List<DoubleSolution> execute(List<DoubleSolution> matingPool) {
+    if (null == matingPool) {
+      throw new JMetalException("Null parameter") ;
+    }
+
+    List<DoubleSolution> offspring = new ArrayList<>(matingPool.size()) ;
+    if (matingPool.isEmpty()) {
+      return offspring ;
+    }
+
+    double[] parents = DoubleSolutionMatrix.getVariables(matingPool, null) ;
+    double[] children = new double[parents.length] ;
+    execute(parents, children, matingPool.size(),
+        DoubleSolutionMatrix.getLowerBounds(matingPool.get(0)),
+        DoubleSolutionMatrix.getUpperBounds(matingPool.get(0))) ;
+
+    for (DoubleSolution solution : matingPool) {
+      offspring.add((DoubleSolution) solution.copy()) ;
+    }
+    DoubleSolutionMatrix.setVariables(children, offspring);
+
+    return offspring ;
+  }
+
+  /**
+   * Crosses the first <code>numberOfSolutions</code> rows of the parents matrix, writing the
+   * children in the offspring matrix. The number of variables is the length of the bounds arrays
+   */
+  public void execute(final double[] parents, final double[] offspring, int numberOfSolutions,
+      final double[] lowerBounds, final double[] upperBounds) {
+    if ((parents == null) || (offspring == null) || (lowerBounds == null) || (upperBounds == null)) {
+      throw new JMetalException("Null parameter") ;
+    } else if (lowerBounds.length != upperBounds.length) {
+      throw new JMetalException("The number of lower bounds (" + lowerBounds.length + ") is not " +
+          "the number of upper bounds (" + upperBounds.length + ")") ;
+    }
+
+    final int numberOfVariables = lowerBounds.length ;
+    int size = numberOfSolutions * numberOfVariables ;
+    if ((parents.length < size) || (offspring.length < size)) {
+      throw new JMetalException("The matrices have not " + numberOfSolutions + " rows of " +
+          numberOfVariables + " variables") ;
+    }
+
+    final int numberOfPairs = numberOfSolutions / 2 ;
+    if (numberOfSolutions % 2 != 0) {
+      System.arraycopy(parents, size - numberOfVariables, offspring, size - numberOfVariables,
+          numberOfVariables);
+    }
+
+    final double probability = crossoverProbability ;
+    executeBlocks(new BlockTask() {
+      @Override public void execute(int block, SplitMix64Generator random) {
+        crossBlock(parents, offspring, numberOfVariables, block * PAIRS_PER_BLOCK,
+            Math.min(numberOfPairs, (block + 1) * PAIRS_PER_BLOCK), lowerBounds, upperBounds,
+            probability, random) ;
+      }
+    }, (numberOfPairs + PAIRS_PER_BLOCK - 1) / PAIRS_PER_BLOCK) ;
+  }
+
+  private void crossBlock(double[] parents, double[] offspring, int numberOfVariables,
+      int fromPair, int toPair, double[] lowerBounds, double[] upperBounds, double probability,
+      SplitMix64Generator random) {
+    double[] selection = new double[numberOfVariables] ;
+    double[] rand = new double[numberOfVariables] ;
+    double[] swap = new double[numberOfVariables] ;
+
+    for (int pair = fromPair; pair < toPair; pair++) {
+      int row1 = 2 * pair * numberOfVariables ;
+      int row2 = row1 + numberOfVariables ;
+      if (random.nextDouble() <= probability) {
+        for (int j = 0; j < numberOfVariables; j++) {
+          selection[j] = random.nextDouble() ;
+          rand[j] = random.nextDouble() ;
+          swap[j] = random.nextDouble() ;
+        }
+        crossPair(parents, offspring, row1, row2, numberOfVariables, lowerBounds, upperBounds,
+            selection, rand, swap) ;
+      } else {
+        System.arraycopy(parents, row1, offspring, row1, 2 * numberOfVariables);
+      }
+    }
+  }
+
+  private void crossPair(double[] parents, double[] offspring, int row1, int row2,
+      int numberOfVariables, double[] lowerBounds, double[] upperBounds, double[] selection,
+      double[] rand, double[] swap) {
+    double exponent = distributionIndex + 1.0 ;
+    double inverseExponent = 1.0 / exponent ;
+
+    for (int j = 0; j < numberOfVariables; j++) {
+      double valueX1 = parents[row1 + j] ;
+      double valueX2 = parents[row2 + j] ;
+      double c1 = valueX1 ;
+      double c2 = valueX2 ;
+
+      double y1 = Math.min(valueX1, valueX2) ;
+      double y2 = Math.max(valueX1, valueX2) ;
+      double distance = y2 - y1 ;
+      if ((selection[j] <= 0.5) && (distance > EPS)) {
+        double lowerBound = lowerBounds[j] ;
+        double upperBound = upperBounds[j] ;
+        double r = rand[j] ;
+
+        double beta = 1.0 + (2.0 * (y1 - lowerBound) / distance) ;
+        double alpha = 2.0 - Math.pow(beta, -exponent) ;
+        double betaq = (r <= (1.0 / alpha)) ?
+            Math.pow(r * alpha, inverseExponent) :
+            Math.pow(1.0 / (2.0 - r * alpha), inverseExponent) ;
+        double child1 = 0.5 * (y1 + y2 - betaq * distance) ;
+
+        beta = 1.0 + (2.0 * (upperBound - y2) / distance) ;
+        alpha = 2.0 - Math.pow(beta, -exponent) ;
+        betaq = (r <= (1.0 / alpha)) ?
+            Math.pow(r * alpha, inverseExponent) :
+            Math.pow(1.0 / (2.0 - r * alpha), inverseExponent) ;
+        double child2 = 0.5 * (y1 + y2 + betaq * distance) ;
+
+        child1 = Math.min(Math.max(child1, lowerBound), upperBound) ;
+        child2 = Math.min(Math.max(child2, lowerBound), upperBound) ;
+
+        boolean swapChildren = swap[j] <= 0.5 ;
+        c1 = swapChildren ? child2 : child1 ;
+        c2 = swapChildren ? child1 : child2 ;
+      }
+
+      offspring[row1 + j] = c1 ;
+      offspring[row2 + j] = c2 ;
+    }
+  }
+}
@@ -14,7 +14,9 @@
 package org.uma.jmetal.operator.impl.crossover;
 
 import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.PooledOperator;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -40,8 +42,11 @@ import java.util.List;
  * - current-to-rand/1 (current-to-best/1)
  * - current-to-rand/1/bin (current-to-best/1/bin)
  * - current-to-rand/1/exp (current-to-best/1/exp)
+ * - The child is a copy of the current individual, which is taken from a {@link SolutionPool} if
+ * one is set.
  */
-public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleSolution> {
+public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleSolution>,
+    PooledOperator<DoubleSolution> {
   private static final double DEFAULT_CR = 0.5;
   private static final double DEFAULT_F = 0.5;
   private static final double DEFAULT_K = 0.5;
@@ -67,6 +72,7 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
   private String variant;
 
   private DoubleSolution currentSolution ;
+  private SolutionPool<DoubleSolution> solutionPool ;
 
   private JMetalRandom randomGenerator ;
 
@@ -117,6 +123,11 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
     this.currentSolution = current ;
   }
 
+  @Override
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    this.solutionPool = solutionPool ;
+  }
+
   /** Execute() method */
   @Override
   public List<DoubleSolution> execute(List<DoubleSolution> parentSolutions) {
@@ -124,7 +135,11 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
 
     int jrand;
 
-    child = (DoubleSolution)currentSolution.copy() ;
+    if (solutionPool == null) {
+      child = (DoubleSolution)currentSolution.copy() ;
+    } else {
+      child = solutionPool.copy(currentSolution) ;
+    }
 
     int numberOfVariables = parentSolutions.get(0).getNumberOfVariables();
     jrand = randomGenerator.nextInt(0, numberOfVariables - 1);
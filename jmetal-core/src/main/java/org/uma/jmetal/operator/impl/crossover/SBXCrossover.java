@@ -14,10 +14,13 @@
 package org.uma.jmetal.operator.impl.crossover;
 
 import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.PooledOperator;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
+import org.uma.jmetal.solution.util.SolutionPool;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.ArrayList;
@@ -31,16 +34,21 @@ import java.util.List;
  * The implementation is based on the NSGA-II code available in
  * <a href="http://www.iitk.ac.in/kangal/codes.shtml">http://www.iitk.ac.in/kangal/codes.shtml</a>
  *
+ * The offspring are copies of the parents, which are taken from a {@link SolutionPool} if one is
+ * set.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
  */
-public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
+public class SBXCrossover implements CrossoverOperator<DoubleSolution>,
+    PooledOperator<DoubleSolution> {
   /** EPS defines the minimum difference allowed between real values */
   private static final double EPS = 1.0e-14;
 
   private double distributionIndex ;
   private double crossoverProbability  ;
   private RepairDoubleSolution solutionRepair ;
+  private SolutionPool<DoubleSolution> solutionPool ;
 
   private JMetalRandom randomGenerator ;
 
@@ -82,6 +90,11 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     this.distributionIndex = distributionIndex ;
   }
 
+  @Override
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    this.solutionPool = solutionPool ;
+  }
+
   /** Execute() method */
   @Override
   public List<DoubleSolution> execute(List<DoubleSolution> solutions) {
@@ -99,8 +112,13 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
       double probability, DoubleSolution parent1, DoubleSolution parent2) {
     List<DoubleSolution> offspring = new ArrayList<DoubleSolution>(2);
 
-    offspring.add((DoubleSolution) parent1.copy()) ;
-    offspring.add((DoubleSolution) parent2.copy()) ;
+    if (solutionPool == null) {
+      offspring.add((DoubleSolution) parent1.copy()) ;
+      offspring.add((DoubleSolution) parent2.copy()) ;
+    } else {
+      offspring.add(solutionPool.copy(parent1)) ;
+      offspring.add(solutionPool.copy(parent2)) ;
+    }
 
     int i;
     double rand;
@@ -111,8 +129,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
 
     if (randomGenerator.nextDouble() <= probability) {
       for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-        valueX1 = parent1.getVariableValue(i);
-        valueX2 = parent2.getVariableValue(i);
+        valueX1 = SolutionUtils.getVariableValueAsDouble(parent1, i);
+        valueX2 = SolutionUtils.getVariableValueAsDouble(parent2, i);
         if (randomGenerator.nextDouble() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
 
@@ -154,19 +172,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound) ;
 
             if (randomGenerator.nextDouble() <= 0.5) {
-              offspring.get(0).setVariableValue(i, c2);
-              offspring.get(1).setVariableValue(i, c1);
+              SolutionUtils.setVariableValueAsDouble(offspring.get(0), i, c2);
+              SolutionUtils.setVariableValueAsDouble(offspring.get(1), i, c1);
             } else {
-              offspring.get(0).setVariableValue(i, c1);
-              offspring.get(1).setVariableValue(i, c2);
+              SolutionUtils.setVariableValueAsDouble(offspring.get(0), i, c1);
+              SolutionUtils.setVariableValueAsDouble(offspring.get(1), i, c2);
             }
           } else {
-            offspring.get(0).setVariableValue(i, valueX1);
-            offspring.get(1).setVariableValue(i, valueX2);
+            SolutionUtils.setVariableValueAsDouble(offspring.get(0), i, valueX1);
+            SolutionUtils.setVariableValueAsDouble(offspring.get(1), i, valueX2);
           }
         } else {
-          offspring.get(0).setVariableValue(i, valueX1);
-          offspring.get(1).setVariableValue(i, valueX2);
+          SolutionUtils.setVariableValueAsDouble(offspring.get(0), i, valueX1);
+          SolutionUtils.setVariableValueAsDouble(offspring.get(1), i, valueX2);
         }
       }
     }
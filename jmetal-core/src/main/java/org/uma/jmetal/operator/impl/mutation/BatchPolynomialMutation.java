@@ -0,0 +1,176 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.mutation;
+
+import org.uma.jmetal.operator.impl.AbstractBatchOperator;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.util.DoubleSolutionMatrix;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+
+import java.util.List;
+
+/**
+ * Polynomial mutation applied to a whole population stored in a matrix (a <code>double[]</code>
+ * with a row of variables per solution), which is modified in place. The operator is the same as
+ * {@link PolynomialMutation}, with the values out of range set to the bounds.
+ *
+ * Instead of drawing a random number per variable to decide whether it is mutated, the number of
+ * variables skipped until the next mutated one is drawn from the geometric distribution, so the
+ * cost of a row depends on the number of mutated variables (one on average, with the usual
+ * probability 1/n) and not on the number of variables. The rows are processed in blocks which can
+ * be executed by several threads (see {@link AbstractBatchOperator}).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class BatchPolynomialMutation extends AbstractBatchOperator {
+  private static final int ROWS_PER_BLOCK = 32 ;
+
+  private double mutationProbability ;
+  private double distributionIndex ;
+
+  /** Constructor */
+  public BatchPolynomialMutation(double mutationProbability, double distributionIndex) {
+    if (mutationProbability < 0) {
+      throw new JMetalException("Mutation probability is negative: " + mutationProbability) ;
+    } else if (distributionIndex < 0) {
+      throw new JMetalException("Distribution index is negative: " + distributionIndex) ;
+    }
+    this.mutationProbability = mutationProbability;
+    this.distributionIndex = distributionIndex;
+  }
+
+  /* Getters */
+  public double getMutationProbability() {
+    return mutationProbability;
+  }
+
+  public double getDistributionIndex() {
+    return distributionIndex;
+  }
+
+  /* Setters */
+  public void setMutationProbability(double probability) {
+    this.mutationProbability = probability ;
+  }
+
+  public void setDistributionIndex(double distributionIndex) {
+    this.distributionIndex = distributionIndex ;
+  }
+
+  /**
+   * Mutates the solutions of a list
+   */
+  public List<DoubleSolution> execute(List<DoubleSolution> solutionList) {
+    if (null == solutionList) {
+      throw new JMetalException("Null parameter") ;
+    } else if (solutionList.isEmpty()) {
+      return solutionList ;
+    }
+
+    double[] matrix = DoubleSolutionMatrix.getVariables(solutionList, null) ;
+    execute(matrix, solutionList.size(),
+        DoubleSolutionMatrix.getLowerBounds(solutionList.get(0)),
+        DoubleSolutionMatrix.getUpperBounds(solutionList.get(0))) ;
+    DoubleSolutionMatrix.setVariables(matrix, solutionList);
+
+    return solutionList ;
+  }
+
+  /**
+   * Mutates the first <code>numberOfSolutions</code> rows of a matrix. The number of variables is
+   * the length of the bounds arrays
+   */
+  public void execute(final double[] solutions, int numberOfSolutions,
+      final double[] lowerBounds, final double[] upperBounds) {
+    if ((solutions == null) || (lowerBounds == null) || (upperBounds == null)) {
+      throw new JMetalException("Null parameter") ;
+    } else if (lowerBounds.length != upperBounds.length) {
+      throw new JMetalException("The number of lower bounds (" + lowerBounds.length + ") is not " +
+          "the number of upper bounds (" + upperBounds.length + ")") ;
+    }
+
+    final int numberOfVariables = lowerBounds.length ;
+    if (solutions.length < numberOfSolutions * numberOfVariables) {
+      throw new JMetalException("The matrix has not " + numberOfSolutions + " rows of " +
+          numberOfVariables + " variables") ;
+    }
+
+    final double probability = mutationProbability ;
+    if ((probability <= 0.0) || (numberOfVariables == 0)) {
+      return ;
+    }
+
+    final int rows = numberOfSolutions ;
+    executeBlocks(new BlockTask() {
+      @Override public void execute(int block, SplitMix64Generator random) {
+        int toRow = Math.min(rows, (block + 1) * ROWS_PER_BLOCK) ;
+        for (int row = block * ROWS_PER_BLOCK; row < toRow; row++) {
+          mutateRow(solutions, row * numberOfVariables, numberOfVariables, lowerBounds,
+              upperBounds, probability, random) ;
+        }
+      }
+    }, (numberOfSolutions + ROWS_PER_BLOCK - 1) / ROWS_PER_BLOCK) ;
+  }
+
+  private void mutateRow(double[] solutions, int offset, int numberOfVariables,
+      double[] lowerBounds, double[] upperBounds, double probability, SplitMix64Generator random) {
+    if (probability >= 1.0) {
+      for (int j = 0; j < numberOfVariables; j++) {
+        solutions[offset + j] = mutate(solutions[offset + j], lowerBounds[j], upperBounds[j],
+            random.nextDouble()) ;
+      }
+    } else {
+      double logComplement = Math.log(1.0 - probability) ;
+      double j = skip(random, logComplement) ;
+      while (j < numberOfVariables) {
+        int index = (int)j ;
+        solutions[offset + index] = mutate(solutions[offset + index], lowerBounds[index],
+            upperBounds[index], random.nextDouble()) ;
+        j += 1.0 + skip(random, logComplement) ;
+      }
+    }
+  }
+
+  /**
+   * Number of variables not mutated before the next mutated one
+   */
+  private static double skip(SplitMix64Generator random, double logComplement) {
+    return Math.floor(Math.log(1.0 - random.nextDouble()) / logComplement) ;
+  }
+
+  private double mutate(double y, double yl, double yu, double rnd) {
+    if (yl == yu) {
+      return yl ;
+    }
+
+    double delta1 = (y - yl) / (yu - yl);
+    double delta2 = (yu - y) / (yu - yl);
+    double mutPow = 1.0 / (distributionIndex + 1.0);
+    double deltaq ;
+    if (rnd <= 0.5) {
+      double xy = 1.0 - delta1;
+      double val = 2.0 * rnd + (1.0 - 2.0 * rnd) * (Math.pow(xy, distributionIndex + 1.0));
+      deltaq = Math.pow(val, mutPow) - 1.0;
+    } else {
+      double xy = 1.0 - delta2;
+      double val = 2.0 * (1.0 - rnd) + 2.0 * (rnd - 0.5) * (Math.pow(xy, distributionIndex + 1.0));
+      deltaq = 1.0 - Math.pow(val, mutPow);
+    }
+
+    double result = y + deltaq * (yu - yl);
+    return Math.min(Math.max(result, yl), yu) ;
+  }
+}
@@ -19,6 +19,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
@@ -108,7 +109,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
 
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
       if (randomGenerator.nextDouble() <= probability) {
-        y = solution.getVariableValue(i);
+        y = SolutionUtils.getVariableValueAsDouble(solution, i);
         yl = solution.getLowerBound(i) ;
         yu = solution.getUpperBound(i) ;
         if (yl == yu) {
@@ -130,7 +131,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
           y = y + deltaq * (yu - yl);
           y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
         }
-        solution.setVariableValue(i, y);
+        SolutionUtils.setVariableValueAsDouble(solution, i, y);
       }
     }
   }
@@ -0,0 +1,49 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package org.uma.jmetal.problem.impl;
+
+import org.uma.jmetal.problem.BinaryProblem;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.util.evaluator.impl.EvaluationCache;
+
+/**
+ * {@link CachingProblem} of a {@link BinaryProblem}, so that it can be used by the operators and
+ * algorithms requiring a binary problem
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class CachingBinaryProblem extends CachingProblem<BinarySolution> implements BinaryProblem {
+  private final BinaryProblem problem ;
+
+  public CachingBinaryProblem(BinaryProblem problem, int maximumSize) {
+    this(problem, new EvaluationCache<BinarySolution>(maximumSize)) ;
+  }
+
+  public CachingBinaryProblem(BinaryProblem problem, EvaluationCache<BinarySolution> cache) {
+    super(problem, cache) ;
+    this.problem = problem ;
+  }
+
+  @Override
+  public int getNumberOfBits(int index) {
+    return problem.getNumberOfBits(index) ;
+  }
+
+  @Override
+  public int getTotalNumberOfBits() {
+    return problem.getTotalNumberOfBits() ;
+  }
+}
@@ -0,0 +1,50 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package org.uma.jmetal.problem.impl;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.impl.EvaluationCache;
+
+/**
+ * {@link CachingProblem} of a {@link DoubleProblem}, so that it can be used by the operators and
+ * algorithms requiring a continuous problem. As the solutions are looked up by the exact values
+ * of their variables, few of them are usually found in the cache
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class CachingDoubleProblem extends CachingProblem<DoubleSolution> implements DoubleProblem {
+  private final DoubleProblem problem ;
+
+  public CachingDoubleProblem(DoubleProblem problem, int maximumSize) {
+    this(problem, new EvaluationCache<DoubleSolution>(maximumSize)) ;
+  }
+
+  public CachingDoubleProblem(DoubleProblem problem, EvaluationCache<DoubleSolution> cache) {
+    super(problem, cache) ;
+    this.problem = problem ;
+  }
+
+  @Override
+  public Double getLowerBound(int index) {
+    return problem.getLowerBound(index) ;
+  }
+
+  @Override
+  public Double getUpperBound(int index) {
+    return problem.getUpperBound(index) ;
+  }
+}
@@ -0,0 +1,49 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package org.uma.jmetal.problem.impl;
+
+import org.uma.jmetal.problem.IntegerProblem;
+import org.uma.jmetal.solution.IntegerSolution;
+import org.uma.jmetal.util.evaluator.impl.EvaluationCache;
+
+/**
+ * {@link CachingProblem} of an {@link IntegerProblem}, so that it can be used by the operators
+ * and algorithms requiring an integer problem
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class CachingIntegerProblem extends CachingProblem<IntegerSolution> implements IntegerProblem {
+  private final IntegerProblem problem ;
+
+  public CachingIntegerProblem(IntegerProblem problem, int maximumSize) {
+    this(problem, new EvaluationCache<IntegerSolution>(maximumSize)) ;
+  }
+
+  public CachingIntegerProblem(IntegerProblem problem, EvaluationCache<IntegerSolution> cache) {
+    super(problem, cache) ;
+    this.problem = problem ;
+  }
+
+  @Override
+  public Integer getLowerBound(int index) {
+    return problem.getLowerBound(index) ;
+  }
+
+  @Override
+  public Integer getUpperBound(int index) {
+    return problem.getUpperBound(index) ;
+  }
+}
@@ -0,0 +1,45 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package org.uma.jmetal.problem.impl;
+
+import org.uma.jmetal.problem.PermutationProblem;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.util.evaluator.impl.EvaluationCache;
+
+/**
+ * {@link CachingProblem} of a {@link PermutationProblem}, so that it can be used by the operators
+ * and algorithms requiring a permutation problem
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class CachingPermutationProblem<S extends PermutationSolution<?>> extends CachingProblem<S>
+    implements PermutationProblem<S> {
+  private final PermutationProblem<S> problem ;
+
+  public CachingPermutationProblem(PermutationProblem<S> problem, int maximumSize) {
+    this(problem, new EvaluationCache<S>(maximumSize)) ;
+  }
+
+  public CachingPermutationProblem(PermutationProblem<S> problem, EvaluationCache<S> cache) {
+    super(problem, cache) ;
+    this.problem = problem ;
+  }
+
+  @Override
+  public int getPermutationLength() {
+    return problem.getPermutationLength() ;
+  }
+}
@@ -0,0 +1,112 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.problem.impl;
+
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.impl.CachingSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.EvaluationCache;
+
+/**
+ * Problem decorator which looks up the solutions in an {@link EvaluationCache} before evaluating
+ * them with the decorated problem, which must be deterministic. It can be used with the
+ * algorithms evaluating the solutions one by one; otherwise, a
+ * {@link CachingSolutionListEvaluator} can be used instead.
+ *
+ * This class only implements {@link Problem}. The operators and algorithms requiring a typed
+ * problem must be given one of its subclasses, which also forward the methods of the decorated
+ * problem: {@link CachingBinaryProblem}, {@link CachingIntegerProblem},
+ * {@link CachingDoubleProblem} and {@link CachingPermutationProblem}.
+ *
+ * If the decorated problem has constraints, they are evaluated (or found in the cache) by
+ * {@link #evaluate(Solution)}, so {@link #evaluateConstraints(Solution)} does nothing.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class CachingProblem<S extends Solution<?>> implements ConstrainedProblem<S> {
+  private final Problem<S> problem ;
+  private final EvaluationCache<S> cache ;
+
+  /**
+   * Constructor
+   *
+   * @param problem Problem to decorate
+   * @param maximumSize Maximum number of evaluations stored in the cache
+   */
+  public CachingProblem(Problem<S> problem, int maximumSize) {
+    this(problem, new EvaluationCache<S>(maximumSize)) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param problem Problem to decorate
+   * @param cache Cache of the evaluations of the problem
+   */
+  public CachingProblem(Problem<S> problem, EvaluationCache<S> cache) {
+    this.problem = problem ;
+    this.cache = cache ;
+  }
+
+  @Override
+  public void evaluate(S solution) {
+    EvaluationCache.Key key = cache.getKey(solution) ;
+    if (!cache.restore(key, solution)) {
+      problem.evaluate(solution);
+      if (problem instanceof ConstrainedProblem) {
+        ((ConstrainedProblem<S>) problem).evaluateConstraints(solution);
+      }
+      cache.store(key, solution);
+    }
+  }
+
+  @Override
+  public void evaluateConstraints(S solution) {
+  }
+
+  @Override
+  public S createSolution() {
+    return problem.createSolution() ;
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return problem.getNumberOfVariables() ;
+  }
+
+  @Override
+  public int getNumberOfObjectives() {
+    return problem.getNumberOfObjectives() ;
+  }
+
+  @Override
+  public int getNumberOfConstraints() {
+    return problem.getNumberOfConstraints() ;
+  }
+
+  @Override
+  public String getName() {
+    return problem.getName() ;
+  }
+
+  public Problem<S> getProblem() {
+    return problem ;
+  }
+
+  public EvaluationCache<S> getCache() {
+    return cache ;
+  }
+}
@@ -24,7 +24,7 @@ package org.uma.jmetal.qualityindicator.impl;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -85,7 +85,7 @@ public class Epsilon<S extends Solution<?>> extends GenericIndicator<S> {
       throw new JMetalException("The pareto front approximation list is null") ;
     }
 
-    return epsilon(new ArrayFront(solutionList), referenceParetoFront);
+    return epsilon(new FlatArrayFront(solutionList), getFlatReferenceParetoFront());
   }
 
   /**
@@ -96,11 +96,13 @@ public class Epsilon<S extends Solution<?>> extends GenericIndicator<S> {
    * @return the value of the epsilon indicator
    * @throws JMetalException
    */
-  private double epsilon(Front front, Front referenceFront) throws JMetalException {
+  private double epsilon(FlatArrayFront front, FlatArrayFront referenceFront) throws JMetalException {
 
     double eps, epsJ = 0.0, epsK = 0.0, epsTemp;
 
     int numberOfObjectives = front.getPointDimensions() ;
+    double[] points = front.getValues() ;
+    double[] referencePoints = referenceFront.getValues() ;
 
     eps = Double.MIN_VALUE;
 
@@ -108,8 +110,8 @@ public class Epsilon<S extends Solution<?>> extends GenericIndicator<S> {
     for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
       for (int j = 0; j < front.getNumberOfPoints(); j++) {
         for (int k = 0; k < numberOfObjectives; k++) {
-          epsTemp = front.getPoint(j).getDimensionValue(k)
-              - referenceFront.getPoint(i).getDimensionValue(k);
+          epsTemp = points[j * numberOfObjectives + k]
+              - referencePoints[i * numberOfObjectives + k];
           if (k == 0) {
             epsK = epsTemp;
           } else if (epsK < epsTemp) {
@@ -17,7 +17,8 @@ import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
+import org.uma.jmetal.util.front.util.FrontKdTree;
 import org.uma.jmetal.util.naming.impl.SimpleDescribedEntity;
 import org.uma.jmetal.util.point.Point;
 
@@ -40,6 +41,7 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
     extends SimpleDescribedEntity
     implements QualityIndicator<Evaluate, Double> {
   private Front referenceParetoFront ;
+  private transient FrontKdTree referenceFrontTree ;
 
   /**
    * Constructor
@@ -53,7 +55,7 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
       throw new JMetalException("The pareto front object is null");
     }
 
-    Front front = new ArrayFront(referenceParetoFrontFile);
+    Front front = new FlatArrayFront(referenceParetoFrontFile);
     referenceParetoFront = front ;
   }
 
@@ -68,7 +70,8 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
       throw new JMetalException("\"The Pareto front approximation is null");
     }
 
-    this.referenceParetoFront = referenceParetoFront ;
+    this.referenceParetoFront = (referenceParetoFront.getNumberOfPoints() == 0) ?
+        referenceParetoFront : FlatArrayFront.valueOf(referenceParetoFront) ;
   }
 
   /**
@@ -80,7 +83,10 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
     if (solutionList == null) {
       throw new JMetalException("The solution list is null") ;
     }
-    return er(new ArrayFront(solutionList), referenceParetoFront);
+    if (referenceParetoFront.getNumberOfPoints() == 0) {
+      return 1.0 ;
+    }
+    return er(new FlatArrayFront(solutionList), (FlatArrayFront) referenceParetoFront);
   }
 
   /**
@@ -92,7 +98,19 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
    * @return the value of the error ratio indicator
    * @throws JMetalException
    */
-  private double er(Front front, Front referenceFront) throws JMetalException {
+  private double er(FlatArrayFront front, FlatArrayFront referenceFront) throws JMetalException {
+    if (FrontKdTree.isWorthUsing(referenceFront.getNumberOfPoints(), referenceFront.getPointDimensions())) {
+      FrontKdTree tree = getReferenceFrontTree(referenceFront) ;
+      double sum = 0 ;
+      for (int i = 0; i < front.getNumberOfPoints(); i++) {
+        if (!tree.contains(front, i)) {
+          sum++ ;
+        }
+      }
+
+      return sum / front.getNumberOfPoints();
+    }
+
     int numberOfObjectives = referenceFront.getPointDimensions() ;
     double sum = 0;
 
@@ -121,6 +139,18 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
     return sum / front.getNumberOfPoints();
   }
 
+  /**
+   * Returns a k-d tree of the reference front, which is built the first time and reused while the
+   * reference front is not modified
+   */
+  private synchronized FrontKdTree getReferenceFrontTree(FlatArrayFront referenceFront) {
+    if ((referenceFrontTree == null) || !referenceFrontTree.isBuiltFrom(referenceFront)) {
+      referenceFrontTree = new FrontKdTree(referenceFront) ;
+    }
+
+    return referenceFrontTree ;
+  }
+
   @Override public String getName() {
     return super.getName() ;
   }
@@ -24,7 +24,8 @@ package org.uma.jmetal.qualityindicator.impl;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
+import org.uma.jmetal.util.front.util.FrontKdTree;
 import org.uma.jmetal.util.front.util.FrontUtils;
 
 import java.io.FileNotFoundException;
@@ -42,6 +43,7 @@ import java.util.List;
  */
 public class GenerationalDistance<S extends Solution<?>> extends GenericIndicator<S> {
   private double pow = 2.0;
+  private transient FrontKdTree referenceFrontTree ;
 
   /**
    * Default constructor
@@ -90,7 +92,7 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
       throw new JMetalException("The pareto front approximation is null") ;
     }
 
-    return generationalDistance(new ArrayFront(solutionList), referenceParetoFront);
+    return generationalDistance(new FlatArrayFront(solutionList), getFlatReferenceParetoFront());
   }
 
   /**
@@ -100,15 +102,37 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
    * @param referenceFront The reference pareto front
    */
   public double generationalDistance(Front front, Front referenceFront) {
+    return generationalDistance(FlatArrayFront.valueOf(front), FlatArrayFront.valueOf(referenceFront)) ;
+  }
+
+  private double generationalDistance(FlatArrayFront flatFront, FlatArrayFront flatReferenceFront) {
     double sum = 0.0;
-    for (int i = 0; i < front.getNumberOfPoints(); i++) {
-      sum += Math.pow(FrontUtils.distanceToClosestPoint(front.getPoint(i),
-          referenceFront), pow);
+    if (FrontKdTree.isWorthUsing(flatReferenceFront.getNumberOfPoints(), flatReferenceFront.getPointDimensions())) {
+      FrontKdTree tree = getReferenceFrontTree(flatReferenceFront) ;
+      for (int i = 0; i < flatFront.getNumberOfPoints(); i++) {
+        sum += Math.pow(tree.distanceToClosestPoint(flatFront, i), pow);
+      }
+    } else {
+      for (int i = 0; i < flatFront.getNumberOfPoints(); i++) {
+        sum += Math.pow(FrontUtils.distanceToClosestPoint(flatFront, i, flatReferenceFront), pow);
+      }
     }
 
     sum = Math.pow(sum, 1.0 / pow);
 
-    return sum / front.getNumberOfPoints();
+    return sum / flatFront.getNumberOfPoints();
+  }
+
+  /**
+   * Returns a k-d tree of the reference front, which is built the first time and reused while the
+   * reference front is the same and it is not modified
+   */
+  private synchronized FrontKdTree getReferenceFrontTree(FlatArrayFront referenceFront) {
+    if ((referenceFrontTree == null) || !referenceFrontTree.isBuiltFrom(referenceFront)) {
+      referenceFrontTree = new FrontKdTree(referenceFront) ;
+    }
+
+    return referenceFrontTree ;
   }
 
   @Override public String getName() {
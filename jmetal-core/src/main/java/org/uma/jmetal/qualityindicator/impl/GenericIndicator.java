@@ -4,7 +4,7 @@ import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
 import org.uma.jmetal.util.naming.impl.SimpleDescribedEntity;
 
 import java.io.FileNotFoundException;
@@ -34,7 +34,7 @@ public abstract class GenericIndicator<S extends Solution<?>>
       throw new JMetalException("The reference pareto front is null");
     }
 
-    this.referenceParetoFront = referenceParetoFront ;
+    this.referenceParetoFront = toFlatArrayFront(referenceParetoFront) ;
   }
 
   public void setReferenceParetoFront(String referenceParetoFrontFile) throws FileNotFoundException {
@@ -42,7 +42,7 @@ public abstract class GenericIndicator<S extends Solution<?>>
       throw new JMetalException("The reference pareto front is null");
     }
 
-    Front front = new ArrayFront(referenceParetoFrontFile);
+    Front front = new FlatArrayFront(referenceParetoFrontFile);
     referenceParetoFront = front ;
   }
 
@@ -51,7 +51,31 @@ public abstract class GenericIndicator<S extends Solution<?>>
       throw new JMetalException("The reference pareto front is null");
     }
 
-    referenceParetoFront = referenceFront ;
+    referenceParetoFront = toFlatArrayFront(referenceFront) ;
+  }
+
+  /**
+   * Returns the reference front as a {@link FlatArrayFront}. The front is stored in that form by
+   * the constructors and the setters, so it is only converted if a subclass has assigned another
+   * kind of front to {@link #referenceParetoFront}
+   */
+  protected FlatArrayFront getFlatReferenceParetoFront() {
+    if (referenceParetoFront == null) {
+      throw new JMetalException("The reference pareto front is null");
+    }
+
+    if (!(referenceParetoFront instanceof FlatArrayFront)) {
+      referenceParetoFront = new FlatArrayFront(referenceParetoFront) ;
+    }
+
+    return (FlatArrayFront) referenceParetoFront ;
+  }
+
+  /**
+   * Empty fronts are kept as they are, as a {@link FlatArrayFront} can not be empty
+   */
+  private static Front toFlatArrayFront(Front front) {
+    return (front.getNumberOfPoints() == 0) ? front : FlatArrayFront.valueOf(front) ;
   }
 
   /**
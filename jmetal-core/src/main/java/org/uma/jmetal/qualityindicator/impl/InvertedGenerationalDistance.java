@@ -15,7 +15,8 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
+import org.uma.jmetal.util.front.util.FrontKdTree;
 import org.uma.jmetal.util.front.util.FrontUtils;
 
 import java.io.FileNotFoundException;
@@ -78,7 +79,7 @@ public class InvertedGenerationalDistance<S extends Solution<?>> extends Generic
    * @return
    */
   @Override public Double evaluate(List<S> solutionList) {
-    return invertedGenerationalDistance(new ArrayFront(solutionList), referenceParetoFront);
+    return invertedGenerationalDistance(new FlatArrayFront(solutionList), getFlatReferenceParetoFront());
   }
 
   /**
@@ -88,15 +89,26 @@ public class InvertedGenerationalDistance<S extends Solution<?>> extends Generic
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistance(Front front, Front referenceFront) {
+    return invertedGenerationalDistance(FlatArrayFront.valueOf(front), FlatArrayFront.valueOf(referenceFront)) ;
+  }
+
+  private double invertedGenerationalDistance(FlatArrayFront flatFront, FlatArrayFront flatReferenceFront) {
+
     double sum = 0.0;
-    for (int i = 0 ; i < referenceFront.getNumberOfPoints(); i++) {
-      sum += Math.pow(FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-          front), pow);
+    if (FrontKdTree.isWorthUsing(flatFront.getNumberOfPoints(), flatFront.getPointDimensions())) {
+      FrontKdTree tree = new FrontKdTree(flatFront) ;
+      for (int i = 0 ; i < flatReferenceFront.getNumberOfPoints(); i++) {
+        sum += Math.pow(tree.distanceToClosestPoint(flatReferenceFront, i), pow);
+      }
+    } else {
+      for (int i = 0 ; i < flatReferenceFront.getNumberOfPoints(); i++) {
+        sum += Math.pow(FrontUtils.distanceToClosestPoint(flatReferenceFront, i, flatFront), pow);
+      }
     }
 
     sum = Math.pow(sum, 1.0 / pow);
 
-    return sum / referenceFront.getNumberOfPoints();
+    return sum / flatReferenceFront.getNumberOfPoints();
   }
 
   @Override public String getName() {
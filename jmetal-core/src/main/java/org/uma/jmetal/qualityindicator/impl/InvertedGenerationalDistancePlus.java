@@ -16,9 +16,9 @@ package org.uma.jmetal.qualityindicator.impl;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
+import org.uma.jmetal.util.front.util.FrontKdTree;
 import org.uma.jmetal.util.front.util.FrontUtils;
-import org.uma.jmetal.util.point.util.distance.DominanceDistance;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -67,7 +67,7 @@ public class InvertedGenerationalDistancePlus<S extends Solution<?>> extends Gen
       throw new JMetalException("The pareto front approximation is null") ;
     }
 
-    return invertedGenerationalDistancePlus(new ArrayFront(solutionList), referenceParetoFront);
+    return invertedGenerationalDistancePlus(new FlatArrayFront(solutionList), getFlatReferenceParetoFront());
   }
 
   /**
@@ -77,15 +77,25 @@ public class InvertedGenerationalDistancePlus<S extends Solution<?>> extends Gen
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistancePlus(Front front, Front referenceFront) {
+    return invertedGenerationalDistancePlus(FlatArrayFront.valueOf(front), FlatArrayFront.valueOf(referenceFront)) ;
+  }
+
+  private double invertedGenerationalDistancePlus(FlatArrayFront flatFront, FlatArrayFront flatReferenceFront) {
 
     double sum = 0.0;
-    for (int i = 0 ; i < referenceFront.getNumberOfPoints(); i++) {
-      sum += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-          front, new DominanceDistance());
+    if (FrontKdTree.isWorthUsing(flatFront.getNumberOfPoints(), flatFront.getPointDimensions())) {
+      FrontKdTree tree = new FrontKdTree(flatFront) ;
+      for (int i = 0 ; i < flatReferenceFront.getNumberOfPoints(); i++) {
+        sum += tree.dominanceDistanceToClosestPoint(flatReferenceFront, i);
+      }
+    } else {
+      for (int i = 0 ; i < flatReferenceFront.getNumberOfPoints(); i++) {
+        sum += FrontUtils.dominanceDistanceToClosestPoint(flatReferenceFront, i, flatFront);
+      }
     }
 
     // STEP 4. Divide the sum by the maximum number of points of the reference Pareto front
-    return sum / referenceFront.getNumberOfPoints();
+    return sum / flatReferenceFront.getNumberOfPoints();
   }
 
   @Override public String getName() {
@@ -23,12 +23,12 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
+import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.util.comparator.LexicographicalPointComparator;
-import org.uma.jmetal.util.point.util.distance.EuclideanDistance;
-import org.uma.jmetal.util.point.util.distance.PointDistance;
 
 import java.io.FileNotFoundException;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -73,7 +73,7 @@ public class Spread <S extends Solution<?>> extends GenericIndicator<S> {
    * @return
    */
   @Override public Double evaluate(List<S> solutionList) {
-    return spread(new ArrayFront(solutionList), referenceParetoFront);
+    return spread(new FlatArrayFront(solutionList), getFlatReferenceParetoFront());
   }
 
   /**
@@ -83,26 +83,39 @@ public class Spread <S extends Solution<?>> extends GenericIndicator<S> {
    * @param referenceFront    The true pareto front.
    */
   public double spread(Front front, Front referenceFront) {
-    PointDistance distance = new EuclideanDistance() ;
+    return spread(FlatArrayFront.valueOf(front), FlatArrayFront.valueOf(referenceFront)) ;
+  }
 
-    // STEP 1. Sort normalizedFront and normalizedParetoFront;
-    front.sort(new LexicographicalPointComparator());
-    referenceFront.sort(new LexicographicalPointComparator());
+  private double spread(FlatArrayFront flatFront, FlatArrayFront flatReferenceFront) {
+
+    // STEP 1. Sort the front and find the first and last points of the reference front in
+    // lexicographical order
+    Comparator<Point> comparator = new LexicographicalPointComparator() ;
+    flatFront.sort(comparator);
+    int firstReferencePoint = 0 ;
+    int lastReferencePoint = 0 ;
+    for (int i = 1; i < flatReferenceFront.getNumberOfPoints(); i++) {
+      Point point = flatReferenceFront.getPoint(i) ;
+      if (comparator.compare(point, flatReferenceFront.getPoint(firstReferencePoint)) < 0) {
+        firstReferencePoint = i ;
+      }
+      if (comparator.compare(point, flatReferenceFront.getPoint(lastReferencePoint)) >= 0) {
+        lastReferencePoint = i ;
+      }
+    }
 
     // STEP 2. Compute df and dl (See specifications in Deb's description of the metric)
-    double df = distance.compute(front.getPoint(0), referenceFront.getPoint(0)) ;
-    double dl = distance.compute(front.getPoint(front.getNumberOfPoints() - 1),
-        referenceFront.getPoint(referenceFront.getNumberOfPoints() - 1)) ;
+    int numberOfPoints = flatFront.getNumberOfPoints() ;
+    double df = distance(flatFront, 0, flatReferenceFront, firstReferencePoint) ;
+    double dl = distance(flatFront, numberOfPoints - 1, flatReferenceFront, lastReferencePoint) ;
 
     double mean = 0.0;
     double diversitySum = df + dl;
 
-    int numberOfPoints = front.getNumberOfPoints() ;
-
     // STEP 3. Calculate the mean of distances between points i and (i - 1).
     // (the points are in lexicografical order)
     for (int i = 0; i < (numberOfPoints - 1); i++) {
-      mean += distance.compute(front.getPoint(i), front.getPoint(i + 1));
+      mean += distance(flatFront, i, flatFront, i + 1);
     }
 
     mean = mean / (double) (numberOfPoints - 1);
@@ -111,8 +124,7 @@ public class Spread <S extends Solution<?>> extends GenericIndicator<S> {
     // metric. In other case, return the worse value (1.0, see metric's description).
     if (numberOfPoints > 1) {
       for (int i = 0; i < (numberOfPoints - 1); i++) {
-        diversitySum += Math.abs(distance.compute(front.getPoint(i),
-            front.getPoint(i + 1)) - mean);
+        diversitySum += Math.abs(distance(flatFront, i, flatFront, i + 1) - mean);
       }
       return diversitySum / (df + dl + (numberOfPoints - 1) * mean);
     } else {
@@ -120,6 +132,23 @@ public class Spread <S extends Solution<?>> extends GenericIndicator<S> {
     }
   }
 
+  /**
+   * Euclidean distance between two points of two fronts
+   */
+  private double distance(FlatArrayFront front, int index, FlatArrayFront otherFront, int otherIndex) {
+    int dimensions = front.getPointDimensions() ;
+    double[] values = front.getValues() ;
+    double[] otherValues = otherFront.getValues() ;
+
+    double distance = 0.0 ;
+    for (int j = 0; j < dimensions; j++) {
+      double difference = values[index * dimensions + j] - otherValues[otherIndex * dimensions + j] ;
+      distance += difference * difference ;
+    }
+
+    return Math.sqrt(distance) ;
+  }
+
   @Override public String getName() {
     return "SPREAD" ;
   }
@@ -0,0 +1,181 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributions;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeKernel;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.point.Point;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * WFG hypervolume indicator computed with a {@link WfgHypervolumeKernel}, which stores the
+ * objective values in a single array and does not allocate memory during the recursion. As in
+ * {@link WFGHypervolume}, objectives are minimized and each component of the reference point is
+ * the maximum value of the evaluated front in that objective (or zero, if it is higher) plus an
+ * offset, but the reference point is used for any number of objectives.
+ *
+ * The top-level terms of the WFG algorithm can be computed by several threads (one by default);
+ * the result is the same for any number of threads.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ArrayWFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
+  private static final double DEFAULT_OFFSET = 100.0 ;
+  private double offset = DEFAULT_OFFSET ;
+  private int numberOfThreads = 1 ;
+
+  /**
+   * Default constructor
+   */
+  public ArrayWFGHypervolume() {
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFrontFile
+   * @throws FileNotFoundException
+   */
+  public ArrayWFGHypervolume(String referenceParetoFrontFile) throws FileNotFoundException {
+    super(referenceParetoFrontFile) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFront
+   */
+  public ArrayWFGHypervolume(Front referenceParetoFront) {
+    super(referenceParetoFront) ;
+  }
+
+  @Override
+  public Double evaluate(List<S> solutionList) {
+    if (solutionList.size() == 0) {
+      return 0.0 ;
+    }
+
+    return computeHypervolume(solutionList, computeReferencePoint(solutionList)) ;
+  }
+
+  /**
+   * Computes the hypervolume of a solution list with respect to a given reference point
+   */
+  public double computeHypervolume(List<S> solutionList, Point referencePoint) {
+    double[] point = new double[referencePoint.getNumberOfDimensions()] ;
+    for (int i = 0; i < point.length; i++) {
+      point[i] = referencePoint.getDimensionValue(i) ;
+    }
+
+    return computeHypervolume(solutionList, point) ;
+  }
+
+  private double computeHypervolume(List<S> solutionList, double[] referencePoint) {
+    if (solutionList.size() == 0) {
+      return 0.0 ;
+    }
+
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[] points = new double[solutionList.size() * numberOfObjectives] ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i * numberOfObjectives + j] = solutionList.get(i).getObjective(j) ;
+      }
+    }
+
+    return new WfgHypervolumeKernel(numberOfObjectives, solutionList.size())
+        .computeHypervolume(points, solutionList.size(), referencePoint, numberOfThreads) ;
+  }
+
+  @Override
+  public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
+    if (solutionList.size() > 1) {
+      int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+      List<double[]> points = new ArrayList<>(solutionList.size()) ;
+      for (S solution : solutionList) {
+        double[] objectives = new double[numberOfObjectives] ;
+        for (int j = 0; j < numberOfObjectives; j++) {
+          objectives[j] = solution.getObjective(j) ;
+        }
+        points.add(objectives) ;
+      }
+
+      HypervolumeContributions contributions = new HypervolumeContributions(numberOfObjectives) ;
+      contributions.computeContributions(points, computeReferencePoint(referenceFrontList)) ;
+
+      HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
+      for (int i = 0; i < solutionList.size(); i++) {
+        hvContribution.setAttribute(solutionList.get(i), contributions.getContribution(i));
+      }
+
+      Collections.sort(solutionList, new HypervolumeContributionComparator<S>());
+    }
+
+    return solutionList ;
+  }
+
+  private double[] computeReferencePoint(List<? extends Solution<?>> solutionList) {
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[] referencePoint = new double[numberOfObjectives] ;
+    for (Solution<?> solution : solutionList) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        if (referencePoint[j] < solution.getObjective(j)) {
+          referencePoint[j] = solution.getObjective(j) ;
+        }
+      }
+    }
+
+    for (int j = 0; j < numberOfObjectives; j++) {
+      referencePoint[j] += offset ;
+    }
+
+    return referencePoint ;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads ;
+  }
+
+  public void setNumberOfThreads(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+    this.numberOfThreads = numberOfThreads ;
+  }
+
+  @Override
+  public double getOffset() {
+    return offset;
+  }
+
+  @Override
+  public void setOffset(double offset) {
+    this.offset = offset ;
+  }
+
+  @Override public String getDescription() {
+    return "WFG implementation of the hypervolume quality indicator on primitive arrays" ;
+  }
+}
@@ -0,0 +1,258 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeContributions;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hypervolume indicator computing the hypervolume contributions with
+ * {@link HypervolumeContributions}. Objectives are minimized. The reference point can be fixed
+ * with {@link #setReferencePoint(double[])}; otherwise, as in {@link WFGHypervolume}, each
+ * component of the reference point is the maximum value of the reference front in that objective
+ * (or zero, if it is higher) plus an offset, so it changes whenever the extreme solutions change.
+ *
+ * The contributions of the last call to {@link #computeHypervolumeContribution(List, List)} are
+ * kept: if the next call has the same reference point and only a few solutions have been
+ * removed or inserted, as it happens in steady-state algorithms such as SMS-EMOA or in a
+ * {@link org.uma.jmetal.util.archive.impl.HypervolumeArchive}, only the contributions of the
+ * neighbours of those solutions are updated. The solutions are identified by reference, so the
+ * ones whose objective values have changed are treated as new solutions.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class IncrementalHypervolume<S extends Solution<?>> extends Hypervolume<S> {
+  private static final double DEFAULT_OFFSET = 100.0 ;
+  private double offset = DEFAULT_OFFSET ;
+  private double[] referencePoint ;
+
+  private transient HypervolumeContributions contributions ;
+  private transient List<S> solutions ;
+  private transient int numberOfIncrementalUpdates ;
+
+  /**
+   * Default constructor
+   */
+  public IncrementalHypervolume() {
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFrontFile
+   * @throws FileNotFoundException
+   */
+  public IncrementalHypervolume(String referenceParetoFrontFile) throws FileNotFoundException {
+    super(referenceParetoFrontFile) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFront
+   */
+  public IncrementalHypervolume(Front referenceParetoFront) {
+    super(referenceParetoFront) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referencePoint Reference point used in all the computations
+   */
+  public IncrementalHypervolume(double[] referencePoint) {
+    setReferencePoint(referencePoint);
+  }
+
+  @Override
+  public Double evaluate(List<S> solutionList) {
+    if (solutionList.size() == 0) {
+      return 0.0 ;
+    }
+
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[][] points = new double[solutionList.size()][] ;
+    for (int i = 0; i < points.length; i++) {
+      points[i] = getObjectives(solutionList.get(i)) ;
+    }
+
+    return HypervolumeContributions.computeHypervolume(points, points.length, numberOfObjectives,
+        computeReferencePoint(solutionList)) ;
+  }
+
+  @Override
+  public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
+    if (solutionList.size() > 1) {
+      double[] referencePoint = computeReferencePoint(referenceFrontList) ;
+      if (!update(solutionList, referencePoint)) {
+        recompute(solutionList, referencePoint) ;
+      }
+
+      HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
+      for (int i = 0; i < solutions.size(); i++) {
+        hvContribution.setAttribute(solutions.get(i), contributions.getContribution(i));
+      }
+
+      Collections.sort(solutionList, new HypervolumeContributionComparator<S>());
+    }
+
+    return solutionList ;
+  }
+
+  private void recompute(List<S> solutionList, double[] referencePoint) {
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    if ((contributions == null) || (contributions.getNumberOfObjectives() != numberOfObjectives)) {
+      contributions = new HypervolumeContributions(numberOfObjectives) ;
+    }
+
+    solutions = new ArrayList<>(solutionList) ;
+    List<double[]> points = new ArrayList<>(solutions.size()) ;
+    for (S solution : solutions) {
+      points.add(getObjectives(solution)) ;
+    }
+
+    contributions.computeContributions(points, referencePoint) ;
+    numberOfIncrementalUpdates = 0 ;
+  }
+
+  /**
+   * Updates the contributions of the previous call by removing and inserting solutions. Returns
+   * false if they have to be computed from scratch: when the reference point has changed, when
+   * the number of changes is large, and periodically, to avoid accumulating rounding errors
+   */
+  private boolean update(List<S> solutionList, double[] referencePoint) {
+    if ((contributions == null) ||
+        (solutionList.get(0).getNumberOfObjectives() != contributions.getNumberOfObjectives()) ||
+        !Arrays.equals(referencePoint, contributions.getReferencePoint())) {
+      return false ;
+    }
+
+    Map<S, Boolean> newSolutions = new IdentityHashMap<>() ;
+    for (S solution : solutionList) {
+      newSolutions.put(solution, Boolean.TRUE) ;
+    }
+    if (newSolutions.size() != solutionList.size()) {
+      return false ;
+    }
+
+    List<Integer> removed = new ArrayList<>() ;
+    for (int i = 0; i < solutions.size(); i++) {
+      S solution = solutions.get(i) ;
+      if (!newSolutions.containsKey(solution)) {
+        removed.add(i) ;
+      } else if (!Arrays.equals(contributions.getPoint(i), getObjectives(solution))) {
+        removed.add(i) ;
+      } else {
+        newSolutions.remove(solution) ;
+      }
+    }
+
+    int numberOfChanges = removed.size() + newSolutions.size() ;
+    numberOfIncrementalUpdates += numberOfChanges ;
+    if ((numberOfChanges > Math.max(2, solutionList.size() / 4)) ||
+        (numberOfIncrementalUpdates > solutionList.size())) {
+      return false ;
+    }
+
+    for (int i = removed.size() - 1; i >= 0; i--) {
+      int index = removed.get(i) ;
+      contributions.remove(index) ;
+      solutions.remove(index) ;
+    }
+
+    for (S solution : solutionList) {
+      if (newSolutions.containsKey(solution)) {
+        contributions.add(getObjectives(solution)) ;
+        solutions.add(solution) ;
+      }
+    }
+
+    return true ;
+  }
+
+  private double[] computeReferencePoint(List<? extends Solution<?>> solutionList) {
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    if (this.referencePoint != null) {
+      if (this.referencePoint.length != numberOfObjectives) {
+        throw new JMetalException("The reference point has " + this.referencePoint.length +
+            " dimensions instead of " + numberOfObjectives) ;
+      }
+      return this.referencePoint ;
+    }
+
+    double[] referencePoint = new double[numberOfObjectives] ;
+    for (Solution<?> solution : solutionList) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        if (referencePoint[j] < solution.getObjective(j)) {
+          referencePoint[j] = solution.getObjective(j) ;
+        }
+      }
+    }
+
+    for (int j = 0; j < numberOfObjectives; j++) {
+      referencePoint[j] += offset ;
+    }
+
+    return referencePoint ;
+  }
+
+  private double[] getObjectives(Solution<?> solution) {
+    double[] objectives = new double[solution.getNumberOfObjectives()] ;
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = solution.getObjective(i) ;
+    }
+    return objectives ;
+  }
+
+  @Override
+  public double getOffset() {
+    return offset;
+  }
+
+  @Override
+  public void setOffset(double offset) {
+    this.offset = offset ;
+  }
+
+  /**
+   * Fixes the reference point, so that the contributions can be updated incrementally even when
+   * the extreme solutions change. The offset is not added to it. A null value restores the
+   * default reference point, computed from the reference front in each call
+   */
+  public void setReferencePoint(double[] referencePoint) {
+    this.referencePoint = (referencePoint == null) ? null : referencePoint.clone() ;
+  }
+
+  public double[] getReferencePoint() {
+    return (referencePoint == null) ? null : referencePoint.clone() ;
+  }
+
+  @Override public String getDescription() {
+    return "Hypervolume quality indicator with incremental computation of the contributions" ;
+  }
+}
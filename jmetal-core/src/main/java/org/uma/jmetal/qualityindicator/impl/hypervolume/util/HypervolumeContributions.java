@@ -0,0 +1,313 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Exclusive hypervolume contributions of a set of points (minimization is assumed). The
+ * contribution of a point p to a set T is the volume dominated by p and by no other point of T,
+ * which is computed as the volume of the box between p and the reference point minus the
+ * hypervolume of the limit set {max(p, q) : q in T, q != p}. The limit sets are usually very small,
+ * so this is much cheaper than computing the hypervolume of T once per removed point.
+ *
+ * The contributions are kept between updates: when a point p is added or removed, the
+ * contribution of another point q only changes by the exclusive contribution of max(p, q), which
+ * is zero (and it is not computed) unless max(p, q) is not dominated by any other point, i.e.,
+ * only the neighbours of p are updated.
+ *
+ * The hypervolume of the limit sets is computed with a {@link WfgHypervolumeKernel}, which reuses
+ * its buffers between calls. Only the contributions of non-dominated sets of two objectives are
+ * computed all together, with a single O(N log N) sweep; with three or more objectives, each
+ * contribution requires the hypervolume of its limit set (computed with the sweep of the kernel
+ * in the case of three objectives).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeContributions {
+  private final int numberOfObjectives ;
+  private double[] referencePoint ;
+  private final List<double[]> points ;
+  private double[] contributions ;
+  private final WfgHypervolumeKernel kernel ;
+  private double[] limitSet ;
+
+  /**
+   * Constructor
+   */
+  public HypervolumeContributions(int numberOfObjectives) {
+    if (numberOfObjectives < 2) {
+      throw new JMetalException("The number of objectives must be at least two: "
+          + numberOfObjectives) ;
+    }
+    this.numberOfObjectives = numberOfObjectives ;
+    points = new ArrayList<>() ;
+    contributions = new double[0] ;
+    kernel = new WfgHypervolumeKernel(numberOfObjectives, 16) ;
+    limitSet = new double[16 * numberOfObjectives] ;
+  }
+
+  /**
+   * Discards the current points and computes the contributions of a new set of points
+   */
+  public void computeContributions(List<double[]> pointList, double[] referencePoint) {
+    if (referencePoint.length != numberOfObjectives) {
+      throw new JMetalException("The reference point has " + referencePoint.length +
+          " dimensions instead of " + numberOfObjectives) ;
+    }
+    this.referencePoint = referencePoint.clone() ;
+    points.clear();
+    points.addAll(pointList) ;
+    contributions = new double[Math.max(16, points.size())] ;
+
+    if ((numberOfObjectives == 2) && isStrictlyNonDominated2D()) {
+      computeContributions2D() ;
+    } else {
+      double[][] others = new double[points.size()][] ;
+      for (int i = 0; i < points.size(); i++) {
+        int count = 0 ;
+        for (int j = 0; j < points.size(); j++) {
+          if (j != i) {
+            others[count++] = points.get(j) ;
+          }
+        }
+        contributions[i] = exclusiveContribution(points.get(i), others, count) ;
+      }
+    }
+  }
+
+  /**
+   * Adds a point, updating the contributions of the points whose exclusive region shrinks
+   */
+  public void add(double[] point) {
+    checkInitialized() ;
+    double[][] others = new double[points.size() + 1][] ;
+    for (int i = 0; i < points.size(); i++) {
+      double[] q = points.get(i) ;
+      double[] corner = max(point, q) ;
+      if (!isDominatedByOtherPoint(corner, i, -1)) {
+        int count = collectOtherPoints(others, i, -1) ;
+        contributions[i] -= exclusiveContribution(corner, others, count) ;
+      }
+    }
+
+    int count = collectOtherPoints(others, -1, -1) ;
+    double contribution = exclusiveContribution(point, others, count) ;
+
+    points.add(point) ;
+    if (points.size() > contributions.length) {
+      contributions = Arrays.copyOf(contributions, 2 * points.size()) ;
+    }
+    contributions[points.size() - 1] = contribution ;
+  }
+
+  /**
+   * Removes the point at a given position, updating the contributions of the points whose
+   * exclusive region grows. The positions of the next points are decreased by one
+   */
+  public void remove(int index) {
+    checkInitialized() ;
+    double[] point = points.get(index) ;
+    double[][] others = new double[points.size()][] ;
+    for (int i = 0; i < points.size(); i++) {
+      if (i != index) {
+        double[] corner = max(point, points.get(i)) ;
+        if (!isDominatedByOtherPoint(corner, i, index)) {
+          int count = collectOtherPoints(others, i, index) ;
+          contributions[i] += exclusiveContribution(corner, others, count) ;
+        }
+      }
+    }
+
+    points.remove(index) ;
+    System.arraycopy(contributions, index + 1, contributions, index, points.size() - index);
+  }
+
+  public double getContribution(int index) {
+    if (index >= points.size()) {
+      throw new JMetalException("Index out of range: " + index) ;
+    }
+    return contributions[index] ;
+  }
+
+  public double[] getPoint(int index) {
+    return points.get(index) ;
+  }
+
+  public int size() {
+    return points.size() ;
+  }
+
+  public double[] getReferencePoint() {
+    return referencePoint ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  private void checkInitialized() {
+    if (referencePoint == null) {
+      throw new JMetalException("The reference point has not been set") ;
+    }
+  }
+
+  /**
+   * Returns true if the point is weakly dominated by a point of the set other than the ones at
+   * positions excluded1 and excluded2
+   */
+  private boolean isDominatedByOtherPoint(double[] point, int excluded1, int excluded2) {
+    for (int i = 0; i < points.size(); i++) {
+      if ((i != excluded1) && (i != excluded2) && weaklyDominates(points.get(i), point,
+          numberOfObjectives)) {
+        return true ;
+      }
+    }
+    return false ;
+  }
+
+  private int collectOtherPoints(double[][] others, int excluded1, int excluded2) {
+    int count = 0 ;
+    for (int i = 0; i < points.size(); i++) {
+      if ((i != excluded1) && (i != excluded2)) {
+        others[count++] = points.get(i) ;
+      }
+    }
+    return count ;
+  }
+
+  private boolean isStrictlyNonDominated2D() {
+    double[][] sorted = sortedCopy(points.toArray(new double[points.size()][]), points.size(), 0) ;
+    for (int i = 0; i < sorted.length; i++) {
+      if ((sorted[i][0] >= referencePoint[0]) || (sorted[i][1] >= referencePoint[1])) {
+        return false ;
+      }
+      if ((i > 0) && ((sorted[i][0] == sorted[i - 1][0]) || (sorted[i][1] >= sorted[i - 1][1]))) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  /**
+   * Sweep over a strictly non-dominated set of two objectives: the exclusive region of each point
+   * is the rectangle delimited by its neighbours
+   */
+  private void computeContributions2D() {
+    Integer[] order = new Integer[points.size()] ;
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i ;
+    }
+    Arrays.sort(order, new Comparator<Integer>() {
+      @Override public int compare(Integer i, Integer j) {
+        return Double.compare(points.get(i)[0], points.get(j)[0]) ;
+      }
+    });
+
+    for (int k = 0; k < order.length; k++) {
+      double[] point = points.get(order[k]) ;
+      double nextX = (k == order.length - 1) ? referencePoint[0] : points.get(order[k + 1])[0] ;
+      double previousY = (k == 0) ? referencePoint[1] : points.get(order[k - 1])[1] ;
+      contributions[order[k]] = (nextX - point[0]) * (previousY - point[1]) ;
+    }
+  }
+
+  /**
+   * Volume dominated by a point and not by any of the others
+   */
+  private double exclusiveContribution(double[] point, double[][] others, int numberOfOthers) {
+    double box = box(point, numberOfObjectives, referencePoint) ;
+    if (box == 0.0) {
+      return 0.0 ;
+    }
+
+    if (limitSet.length < numberOfOthers * numberOfObjectives) {
+      limitSet = new double[2 * numberOfOthers * numberOfObjectives] ;
+    }
+    for (int i = 0; i < numberOfOthers; i++) {
+      boolean equal = true ;
+      int offset = i * numberOfObjectives ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        limitSet[offset + j] = Math.max(point[j], others[i][j]) ;
+        equal &= limitSet[offset + j] == point[j] ;
+      }
+      if (equal) {
+        return 0.0 ;
+      }
+    }
+
+    return box - kernel.computeHypervolume(limitSet, numberOfOthers, referencePoint) ;
+  }
+
+  /**
+   * Computes the hypervolume of a set of points (minimization is assumed) with a
+   * {@link WfgHypervolumeKernel}. Only the first <code>numberOfObjectives</code> coordinates of
+   * the points and the reference point are used, and the points not dominating the reference
+   * point are ignored
+   */
+  public static double computeHypervolume(double[][] points, int size, int numberOfObjectives,
+      double[] referencePoint) {
+    double[] pointArray = new double[size * numberOfObjectives] ;
+    for (int i = 0; i < size; i++) {
+      System.arraycopy(points[i], 0, pointArray, i * numberOfObjectives, numberOfObjectives);
+    }
+
+    return new WfgHypervolumeKernel(numberOfObjectives, size)
+        .computeHypervolume(pointArray, size, referencePoint) ;
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2, int numberOfObjectives) {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (point1[i] > point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static double box(double[] point, int numberOfObjectives, double[] referencePoint) {
+    double volume = 1.0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      volume *= Math.max(0.0, referencePoint[i] - point[i]) ;
+    }
+    return volume ;
+  }
+
+  private static double[] max(double[] point1, double[] point2) {
+    double[] result = new double[point1.length] ;
+    for (int i = 0; i < point1.length; i++) {
+      result[i] = Math.max(point1[i], point2[i]) ;
+    }
+    return result ;
+  }
+
+  private static double[][] sortedCopy(double[][] points, int size, final int objective) {
+    double[][] sorted = Arrays.copyOf(points, size) ;
+    Arrays.sort(sorted, new Comparator<double[]>() {
+      @Override public int compare(double[] point1, double[] point2) {
+        int result = Double.compare(point1[objective], point2[objective]) ;
+        if (result == 0) {
+          result = Double.compare(point1[(objective + 1) % 2], point2[(objective + 1) % 2]) ;
+        }
+        return result ;
+      }
+    });
+    return sorted ;
+  }
+}
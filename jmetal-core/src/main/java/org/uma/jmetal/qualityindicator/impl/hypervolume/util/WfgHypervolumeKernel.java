@@ -0,0 +1,488 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of the WFG hypervolume algorithm (minimization is assumed) working on points
+ * stored row by row in a single <code>double[]</code>.
+ *
+ * The points are sorted from the worst to the best value of the last objective, so the limit set
+ * of each point has the same value in that objective for all its points, and its hypervolume is
+ * computed in one dimension less. Each recursion level therefore works on a different number of
+ * objectives, and the limit sets, the sorting permutations and the 3D staircase are stored in
+ * buffers allocated once per level; no memory is allocated while computing the hypervolume unless
+ * the number of points grows over the capacity. Fronts of two and three objectives (and the
+ * three objective limit sets) are computed with a sweep.
+ *
+ * The terms of the top-level sum can be computed in parallel; they are added in the same order
+ * as in the sequential version, so the result does not depend on the number of threads.
+ *
+ * This class is not thread-safe.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class WfgHypervolumeKernel {
+  private static final int INSERTION_SORT_THRESHOLD = 16 ;
+
+  private final int numberOfObjectives ;
+  private int capacity ;
+
+  /** Points of each recursion level; the level d has numberOfObjectives - d objectives */
+  private double[][] points ;
+  private int[][] orders ;
+  private double[][] keys ;
+  private double[] staircaseX ;
+  private double[] staircaseY ;
+
+  /**
+   * Constructor
+   *
+   * @param numberOfObjectives Number of objectives of the points
+   * @param maxNumberOfPoints Expected maximum number of points; the buffers grow if this value is
+   *                          exceeded
+   */
+  public WfgHypervolumeKernel(int numberOfObjectives, int maxNumberOfPoints) {
+    if (numberOfObjectives < 1) {
+      throw new JMetalException("The number of objectives must be positive: "
+          + numberOfObjectives) ;
+    }
+    this.numberOfObjectives = numberOfObjectives ;
+
+    int numberOfLevels = Math.max(1, numberOfObjectives - 2) ;
+    points = new double[numberOfLevels][] ;
+    orders = new int[numberOfLevels][] ;
+    keys = new double[numberOfLevels][] ;
+    allocate(Math.max(1, maxNumberOfPoints)) ;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives ;
+  }
+
+  /**
+   * Computes the hypervolume of a set of points stored row by row. The points not dominating the
+   * reference point are ignored, and the array is not modified
+   */
+  public double computeHypervolume(double[] pointArray, int numberOfPoints,
+      double[] referencePoint) {
+    int size = prepare(pointArray, numberOfPoints, referencePoint) ;
+
+    return hypervolume(points[0], size, numberOfObjectives, 0, referencePoint) ;
+  }
+
+  /**
+   * Computes the hypervolume of a set of points stored row by row, splitting the top-level terms
+   * of the WFG algorithm among several threads. Each thread uses its own buffers
+   */
+  public double computeHypervolume(final double[] pointArray, int numberOfPoints,
+      final double[] referencePoint, int numberOfThreads) {
+    if ((numberOfThreads <= 1) || (numberOfObjectives < 4)) {
+      return computeHypervolume(pointArray, numberOfPoints, referencePoint) ;
+    }
+
+    final int size = prepare(pointArray, numberOfPoints, referencePoint) ;
+    if (size < 2 * numberOfThreads) {
+      return hypervolume(points[0], size, numberOfObjectives, 0, referencePoint) ;
+    }
+
+    sortByObjective(points[0], size, numberOfObjectives, 0, numberOfObjectives - 1, true) ;
+
+    final double[] terms = new double[size] ;
+    final AtomicInteger nextTerm = new AtomicInteger() ;
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    try {
+      List<Future<Void>> futures = new ArrayList<>(numberOfThreads) ;
+      for (int t = 0; t < numberOfThreads; t++) {
+        final WfgHypervolumeKernel kernel =
+            (t == 0) ? this : new WfgHypervolumeKernel(numberOfObjectives, size) ;
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override public Void call() {
+            int k ;
+            while ((k = nextTerm.getAndIncrement()) < size) {
+              terms[k] = kernel.term(points[0], orders[0], size, numberOfObjectives, 0, k,
+                  referencePoint) ;
+            }
+            return null ;
+          }
+        })) ;
+      }
+
+      for (Future<Void> future : futures) {
+        future.get() ;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while computing the hypervolume", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error computing the hypervolume", e) ;
+    } finally {
+      executor.shutdown();
+    }
+
+    double hv = 0.0 ;
+    for (int k = 0; k < size; k++) {
+      hv += terms[k] ;
+    }
+    return hv ;
+  }
+
+  /**
+   * Copies the points dominating the reference point to the buffer of the first level, discarding
+   * the dominated ones if the WFG recursion is going to be applied
+   */
+  private int prepare(double[] pointArray, int numberOfPoints, double[] referencePoint) {
+    if (pointArray.length < numberOfPoints * numberOfObjectives) {
+      throw new JMetalException("The array has less than " + numberOfPoints + " points") ;
+    }
+    if (numberOfPoints > capacity) {
+      allocate(Math.max(numberOfPoints, 2 * capacity)) ;
+    }
+
+    double[] buffer = points[0] ;
+    int size = 0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      int offset = i * numberOfObjectives ;
+      boolean inside = true ;
+      for (int j = 0; (j < numberOfObjectives) && inside; j++) {
+        inside = pointArray[offset + j] < referencePoint[j] ;
+      }
+      if (inside) {
+        System.arraycopy(pointArray, offset, buffer, size * numberOfObjectives, numberOfObjectives);
+        size++ ;
+      }
+    }
+
+    if (numberOfObjectives >= 4) {
+      size = filterNondominated(buffer, size, numberOfObjectives) ;
+    }
+
+    int[] order = orders[0] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+    }
+
+    return size ;
+  }
+
+  private double hypervolume(double[] buffer, int size, int dimensions, int level,
+      double[] referencePoint) {
+    if (size == 0) {
+      return 0.0 ;
+    } else if (size == 1) {
+      return box(buffer, orders[level][0] * dimensions, dimensions, referencePoint) ;
+    } else if (dimensions == 1) {
+      double best = referencePoint[0] ;
+      for (int i = 0; i < size; i++) {
+        best = Math.min(best, buffer[orders[level][i]]) ;
+      }
+      return referencePoint[0] - best ;
+    } else if (dimensions == 2) {
+      return hypervolume2D(buffer, size, level, referencePoint) ;
+    } else if (dimensions == 3) {
+      return hypervolume3D(buffer, size, level, referencePoint) ;
+    }
+
+    sortByObjective(buffer, size, dimensions, level, dimensions - 1, true) ;
+
+    double hv = 0.0 ;
+    for (int k = 0; k < size; k++) {
+      hv += term(buffer, orders[level], size, dimensions, level, k, referencePoint) ;
+    }
+    return hv ;
+  }
+
+  /**
+   * Exclusive hypervolume of the k-th point with respect to the next ones, which is the volume of
+   * its box minus the hypervolume of its limit set
+   */
+  private double term(double[] buffer, int[] order, int size, int dimensions, int level, int k,
+      double[] referencePoint) {
+    int point = order[k] * dimensions ;
+    int limitSetDimensions = dimensions - 1 ;
+    double[] limitSet = points[level + 1] ;
+
+    int limitSetSize = 0 ;
+    for (int j = k + 1; j < size; j++) {
+      int other = order[j] * dimensions ;
+      int target = limitSetSize * limitSetDimensions ;
+      for (int d = 0; d < limitSetDimensions; d++) {
+        limitSet[target + d] = Math.max(buffer[point + d], buffer[other + d]) ;
+      }
+      limitSetSize++ ;
+    }
+
+    double exclusiveVolume = box(buffer, point, limitSetDimensions, referencePoint) ;
+    if (limitSetSize > 0) {
+      limitSetSize = filterNondominated(limitSet, limitSetSize, limitSetDimensions) ;
+      int[] limitSetOrder = orders[level + 1] ;
+      for (int i = 0; i < limitSetSize; i++) {
+        limitSetOrder[i] = i ;
+      }
+      exclusiveVolume -= hypervolume(limitSet, limitSetSize, limitSetDimensions, level + 1,
+          referencePoint) ;
+    }
+
+    return (referencePoint[limitSetDimensions] - buffer[point + limitSetDimensions]) *
+        exclusiveVolume ;
+  }
+
+  private double hypervolume2D(double[] buffer, int size, int level, double[] referencePoint) {
+    sortByObjective(buffer, size, 2, level, 0, false) ;
+    int[] order = orders[level] ;
+
+    double hv = 0.0 ;
+    double lastY = referencePoint[1] ;
+    for (int i = 0; i < size; i++) {
+      double x = buffer[order[i] * 2] ;
+      double y = buffer[order[i] * 2 + 1] ;
+      if (y < lastY) {
+        hv += (referencePoint[0] - x) * (lastY - y) ;
+        lastY = y ;
+      }
+    }
+    return hv ;
+  }
+
+  /**
+   * Sweep along the third objective keeping the non-dominated staircase of the first two ones,
+   * sorted by the first objective, and its area
+   */
+  private double hypervolume3D(double[] buffer, int size, int level, double[] referencePoint) {
+    sortByObjective(buffer, size, 3, level, 2, false) ;
+    int[] order = orders[level] ;
+
+    int staircaseSize = 0 ;
+    double area = 0.0 ;
+    double volume = 0.0 ;
+    for (int i = 0; i < size; i++) {
+      int point = order[i] * 3 ;
+      double x = buffer[point] ;
+      double y = buffer[point + 1] ;
+
+      int first = lowerBound(staircaseX, staircaseSize, x) ;
+      int floor = upperBound(staircaseX, staircaseSize, x) - 1 ;
+      if ((floor < 0) || (staircaseY[floor] > y)) {
+        double left = x ;
+        double height = (first == 0) ? 0.0 : referencePoint[1] - staircaseY[first - 1] ;
+        double coveredArea = 0.0 ;
+
+        int last = first ;
+        while ((last < staircaseSize) && (staircaseY[last] >= y)) {
+          coveredArea += (staircaseX[last] - left) * height ;
+          left = staircaseX[last] ;
+          height = referencePoint[1] - staircaseY[last] ;
+          last++ ;
+        }
+        double right = (last == staircaseSize) ? referencePoint[0] : staircaseX[last] ;
+        coveredArea += (right - left) * height ;
+        area += (right - x) * (referencePoint[1] - y) - coveredArea ;
+
+        int shift = 1 - (last - first) ;
+        if (shift != 0) {
+          System.arraycopy(staircaseX, last, staircaseX, last + shift, staircaseSize - last);
+          System.arraycopy(staircaseY, last, staircaseY, last + shift, staircaseSize - last);
+        }
+        staircaseX[first] = x ;
+        staircaseY[first] = y ;
+        staircaseSize += shift ;
+      }
+
+      double nextZ = (i == size - 1) ? referencePoint[2] : buffer[order[i + 1] * 3 + 2] ;
+      volume += area * (nextZ - buffer[point + 2]) ;
+    }
+
+    return volume ;
+  }
+
+  /**
+   * Keeps the non-dominated points at the beginning of the buffer, removing duplicates, and
+   * returns their number
+   */
+  static int filterNondominated(double[] buffer, int size, int dimensions) {
+    int count = 0 ;
+    for (int i = 0; i < size; i++) {
+      int candidate = i * dimensions ;
+      boolean dominated = false ;
+      for (int j = 0; (j < count) && !dominated; j++) {
+        dominated = weaklyDominates(buffer, j * dimensions, candidate, dimensions) ;
+      }
+
+      if (!dominated) {
+        int newCount = 0 ;
+        for (int j = 0; j < count; j++) {
+          if (!weaklyDominates(buffer, candidate, j * dimensions, dimensions)) {
+            if (newCount != j) {
+              System.arraycopy(buffer, j * dimensions, buffer, newCount * dimensions, dimensions);
+            }
+            newCount++ ;
+          }
+        }
+        if (newCount != i) {
+          System.arraycopy(buffer, candidate, buffer, newCount * dimensions, dimensions);
+        }
+        count = newCount + 1 ;
+      }
+    }
+    return count ;
+  }
+
+  private static boolean weaklyDominates(double[] buffer, int point1, int point2, int dimensions) {
+    for (int d = 0; d < dimensions; d++) {
+      if (buffer[point1 + d] > buffer[point2 + d]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static double box(double[] buffer, int point, int dimensions, double[] referencePoint) {
+    double volume = 1.0 ;
+    for (int d = 0; d < dimensions; d++) {
+      volume *= referencePoint[d] - buffer[point + d] ;
+    }
+    return volume ;
+  }
+
+  /** Index of the first element not lower than the value */
+  private static int lowerBound(double[] array, int size, double value) {
+    int low = 0 ;
+    int high = size ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (array[middle] < value) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+    return low ;
+  }
+
+  /** Index of the first element greater than the value */
+  private static int upperBound(double[] array, int size, double value) {
+    int low = 0 ;
+    int high = size ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (array[middle] <= value) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+    return low ;
+  }
+
+  /**
+   * Sorts the permutation of a level by the value of an objective
+   */
+  private void sortByObjective(double[] buffer, int size, int dimensions, int level, int objective,
+      boolean descending) {
+    int[] order = orders[level] ;
+    double[] key = keys[level] ;
+    for (int i = 0; i < size; i++) {
+      double value = buffer[order[i] * dimensions + objective] ;
+      key[i] = descending ? -value : value ;
+    }
+    sort(key, order, 0, size - 1) ;
+  }
+
+  /**
+   * Quicksort of the keys in the range [low, high], applying the same permutation to the order
+   */
+  private static void sort(double[] key, int[] order, int low, int high) {
+    while (high - low >= INSERTION_SORT_THRESHOLD) {
+      int middle = (low + high) >>> 1 ;
+      if (key[middle] < key[low]) {
+        swap(key, order, middle, low) ;
+      }
+      if (key[high] < key[low]) {
+        swap(key, order, high, low) ;
+      }
+      if (key[high] < key[middle]) {
+        swap(key, order, high, middle) ;
+      }
+      double pivot = key[middle] ;
+
+      int i = low ;
+      int j = high ;
+      while (i <= j) {
+        while (key[i] < pivot) {
+          i++ ;
+        }
+        while (key[j] > pivot) {
+          j-- ;
+        }
+        if (i <= j) {
+          swap(key, order, i, j) ;
+          i++ ;
+          j-- ;
+        }
+      }
+
+      if (j - low < high - i) {
+        sort(key, order, low, j) ;
+        low = i ;
+      } else {
+        sort(key, order, i, high) ;
+        high = j ;
+      }
+    }
+
+    for (int i = low + 1; i <= high; i++) {
+      double currentKey = key[i] ;
+      int currentOrder = order[i] ;
+      int j = i - 1 ;
+      while ((j >= low) && (key[j] > currentKey)) {
+        key[j + 1] = key[j] ;
+        order[j + 1] = order[j] ;
+        j-- ;
+      }
+      key[j + 1] = currentKey ;
+      order[j + 1] = currentOrder ;
+    }
+  }
+
+  private static void swap(double[] key, int[] order, int i, int j) {
+    double tmpKey = key[i] ;
+    key[i] = key[j] ;
+    key[j] = tmpKey ;
+
+    int tmpOrder = order[i] ;
+    order[i] = order[j] ;
+    order[j] = tmpOrder ;
+  }
+
+  private void allocate(int newCapacity) {
+    capacity = newCapacity ;
+    for (int level = 0; level < points.length; level++) {
+      points[level] = new double[capacity * Math.max(1, numberOfObjectives - level)] ;
+      orders[level] = new int[capacity] ;
+      keys[level] = new double[capacity] ;
+    }
+    staircaseX = new double[capacity] ;
+    staircaseY = new double[capacity] ;
+  }
+}
@@ -0,0 +1,32 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package org.uma.jmetal.solution;
+
+/**
+ * {@link DoubleSolution} whose variables can be read and written as primitive doubles. The
+ * methods are the primitive versions of {@link Solution#getVariableValue(int)} and
+ * {@link Solution#setVariableValue(int, Object)}, and they do not box the values in
+ * implementations storing the variables as doubles (see
+ * {@link org.uma.jmetal.solution.impl.ArrayDoubleSolution}).
+ *
+ * Code reading many variables checks whether a solution implements this interface and
+ * uses the boxed methods otherwise (see {@link org.uma.jmetal.util.SolutionUtils}).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface PrimitiveDoubleSolution extends DoubleSolution {
+  public double getVariableValueAsDouble(int index) ;
+  public void setVariableValueAsDouble(int index, double value) ;
+}
@@ -0,0 +1,32 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution;
+
+/**
+ * Solution whose contents can be copied into an existing solution of the same class, so that
+ * discarded solutions can be reused instead of allocating new ones (see
+ * {@link org.uma.jmetal.solution.util.SolutionPool})
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface ReusableSolution {
+  /**
+   * Copies the variables, objectives, constraint values and attributes of this solution into the
+   * target, which afterwards is equal to the result of {@link Solution#copy()}.
+   *
+   * @throws org.uma.jmetal.util.JMetalException if the target is not of the same class or has not
+   * the same number of variables and objectives
+   */
+  public void copyInto(Solution<?> target) ;
+}
@@ -14,7 +14,9 @@
 package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.ReusableSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.*;
@@ -24,7 +26,8 @@ import java.util.*;
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
-public abstract class AbstractGenericSolution<T, P extends Problem<?>> implements Solution<T> {
+public abstract class AbstractGenericSolution<T, P extends Problem<?>>
+    implements Solution<T>, AttributedSolution, ReusableSolution {
   private double[] objectives;
   private List<T> variables;
   protected P problem ;
@@ -38,7 +41,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
    */
   protected AbstractGenericSolution(P problem) {
     this.problem = problem ;
-    attributes = new HashMap<>() ;
+    attributes = new SolutionAttributes() ;
     randomGenerator = JMetalRandom.getInstance() ;
 
     objectives = new double[problem.getNumberOfObjectives()] ;
@@ -58,6 +61,18 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
     return attributes.get(id) ;
   }
 
+  /**
+   * Returns the attributes of the solution. If a subclass has replaced them with another kind of
+   * {@link Map}, they are converted to a {@link SolutionAttributes} object first
+   */
+  @Override
+  public SolutionAttributes getAttributes() {
+    if (!(attributes instanceof SolutionAttributes)) {
+      attributes = new SolutionAttributes(attributes) ;
+    }
+    return (SolutionAttributes) attributes ;
+  }
+
   @Override
   public void setObjective(int index, double value) {
     objectives[index] = value ;
@@ -88,6 +103,45 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
     return objectives.length;
   }
 
+  @SuppressWarnings("unchecked")
+  @Override
+  public void copyInto(Solution<?> target) {
+    if ((target == null) || (target.getClass() != getClass())) {
+      throw new JMetalException("The target solution is not a " + getClass().getName() + ": " +
+          ((target == null) ? null : target.getClass().getName())) ;
+    }
+
+    AbstractGenericSolution<T, P> solution = (AbstractGenericSolution<T, P>) target ;
+    if ((solution.variables.size() != variables.size()) ||
+        (solution.objectives.length != objectives.length)) {
+      throw new JMetalException("The target solution has " + solution.variables.size() +
+          " variables and " + solution.objectives.length + " objectives instead of " +
+          variables.size() + " and " + objectives.length) ;
+    }
+
+    solution.problem = problem ;
+    System.arraycopy(objectives, 0, solution.objectives, 0, objectives.length);
+    for (int i = 0; i < variables.size(); i++) {
+      solution.variables.set(i, copyVariableValue(variables.get(i), solution.variables.get(i))) ;
+    }
+    solution.overallConstraintViolationDegree = overallConstraintViolationDegree ;
+    solution.numberOfViolatedConstraints = numberOfViolatedConstraints ;
+    solution.getAttributes().copyFrom(getAttributes());
+  }
+
+  /**
+   * Returns the value to store in a variable of a solution being overwritten by
+   * {@link #copyInto(Solution)}. By default it is the same value, which is correct for immutable
+   * types; solutions with mutable variables must override it, copying the value (into the
+   * previous value of the target, if possible)
+   *
+   * @param value Value of the variable in this solution
+   * @param targetValue Value of the variable in the target solution
+   */
+  protected T copyVariableValue(T value, T targetValue) {
+    return value ;
+  }
+
   protected void initializeObjectiveValues() {
     for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
       objectives[i] = 0.0 ;
@@ -0,0 +1,200 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.PrimitiveDoubleSolution;
+import org.uma.jmetal.solution.ReusableSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link PrimitiveDoubleSolution} storing the variables in a <code>double[]</code>
+ * instead of in a list of {@link Double} objects. Reading and writing variables through
+ * {@link #getVariableValueAsDouble(int)} and {@link #setVariableValueAsDouble(int, double)} does
+ * not allocate memory, which is relevant for problems having a large number of variables.
+ *
+ * Problems can use it by returning it from their <code>createSolution()</code> method.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ArrayDoubleSolution implements PrimitiveDoubleSolution, AttributedSolution, ReusableSolution {
+  private double[] objectives;
+  private double[] variables;
+  protected DoubleProblem problem ;
+  protected SolutionAttributes attributes ;
+  protected final JMetalRandom randomGenerator ;
+
+  /**
+   * Constructor
+   */
+  public ArrayDoubleSolution(DoubleProblem problem) {
+    this.problem = problem ;
+    attributes = new SolutionAttributes() ;
+    randomGenerator = JMetalRandom.getInstance() ;
+
+    objectives = new double[problem.getNumberOfObjectives()] ;
+    variables = new double[problem.getNumberOfVariables()] ;
+    for (int i = 0; i < variables.length; i++) {
+      variables[i] = randomGenerator.nextDouble(getLowerBound(i), getUpperBound(i)) ;
+    }
+  }
+
+  /**
+   * Copy constructor
+   */
+  public ArrayDoubleSolution(ArrayDoubleSolution solution) {
+    problem = solution.problem ;
+    randomGenerator = solution.randomGenerator ;
+    objectives = solution.objectives.clone() ;
+    variables = solution.variables.clone() ;
+    attributes = new SolutionAttributes(solution.attributes) ;
+  }
+
+  @Override
+  public void setObjective(int index, double value) {
+    objectives[index] = value ;
+  }
+
+  @Override
+  public double getObjective(int index) {
+    return objectives[index];
+  }
+
+  /**
+   * The value is boxed; use {@link #getVariableValueAsDouble(int)} in performance sensitive code
+   */
+  @Override
+  public Double getVariableValue(int index) {
+    return variables[index];
+  }
+
+  @Override
+  public void setVariableValue(int index, Double value) {
+    variables[index] = value ;
+  }
+
+  @Override
+  public double getVariableValueAsDouble(int index) {
+    return variables[index];
+  }
+
+  @Override
+  public void setVariableValueAsDouble(int index, double value) {
+    variables[index] = value ;
+  }
+
+  @Override
+  public String getVariableValueString(int index) {
+    return Double.toString(variables[index]) ;
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return variables.length;
+  }
+
+  @Override
+  public int getNumberOfObjectives() {
+    return objectives.length;
+  }
+
+  @Override
+  public Double getUpperBound(int index) {
+    return problem.getUpperBound(index);
+  }
+
+  @Override
+  public Double getLowerBound(int index) {
+    return problem.getLowerBound(index) ;
+  }
+
+  @Override
+  public ArrayDoubleSolution copy() {
+    return new ArrayDoubleSolution(this);
+  }
+
+  @Override
+  public void copyInto(Solution<?> target) {
+    if ((target == null) || (target.getClass() != getClass())) {
+      throw new JMetalException("The target solution is not an ArrayDoubleSolution: " +
+          ((target == null) ? null : target.getClass().getName())) ;
+    }
+
+    ArrayDoubleSolution solution = (ArrayDoubleSolution) target ;
+    if ((solution.variables.length != variables.length) ||
+        (solution.objectives.length != objectives.length)) {
+      throw new JMetalException("The target solution has " + solution.variables.length +
+          " variables and " + solution.objectives.length + " objectives instead of " +
+          variables.length + " and " + objectives.length) ;
+    }
+
+    solution.problem = problem ;
+    System.arraycopy(objectives, 0, solution.objectives, 0, objectives.length);
+    System.arraycopy(variables, 0, solution.variables, 0, variables.length);
+    solution.attributes.copyFrom(attributes);
+  }
+
+  @Override
+  public void setAttribute(Object id, Object value) {
+    attributes.setAttribute(id, value) ;
+  }
+
+  @Override
+  public Object getAttribute(Object id) {
+    return attributes.getAttribute(id) ;
+  }
+
+  @Override
+  public SolutionAttributes getAttributes() {
+    return attributes ;
+  }
+
+  @Override
+  public String toString() {
+    return "Variables: " + Arrays.toString(variables) +
+        " Objectives: " + Arrays.toString(objectives) +
+        "\tAlgorithmAttributes: " + attributes + "\n" ;
+  }
+
+  @Override public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    ArrayDoubleSolution that = (ArrayDoubleSolution) o;
+
+    if (!attributes.equals(that.attributes))
+      return false;
+    if (!Arrays.equals(objectives, that.objectives))
+      return false;
+    if (!Arrays.equals(variables, that.variables))
+      return false;
+
+    return true;
+  }
+
+  @Override public int hashCode() {
+    int result = Arrays.hashCode(objectives);
+    result = 31 * result + Arrays.hashCode(variables);
+    result = 31 * result + attributes.hashCode();
+    return result;
+  }
+}
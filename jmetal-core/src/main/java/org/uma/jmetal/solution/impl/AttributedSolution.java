@@ -0,0 +1,25 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.impl;
+
+/**
+ * Interface implemented by the solutions storing their attributes in a {@link SolutionAttributes}
+ * object. {@link org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute} uses it to
+ * access the attributes by slot, avoiding the lookup of the attribute identifier.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public interface AttributedSolution {
+  public SolutionAttributes getAttributes() ;
+}
@@ -17,7 +17,6 @@ import org.uma.jmetal.problem.BinaryProblem;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.binarySet.BinarySet;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of a binary solution
@@ -54,7 +53,7 @@ public class DefaultBinarySolution
     overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
     numberOfViolatedConstraints = solution.numberOfViolatedConstraints ;
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributes = new SolutionAttributes(solution.attributes) ;
   }
 
   private BinarySet createNewBitSet(int numberOfBits) {
@@ -81,6 +80,21 @@ public class DefaultBinarySolution
     return new DefaultBinarySolution(this);
   }
 
+  /**
+   * The bits are copied into the binary set of the target, if it has the same length
+   */
+  @Override
+  protected BinarySet copyVariableValue(BinarySet value, BinarySet targetValue) {
+    if ((targetValue == null) || (targetValue == value) ||
+        (targetValue.getBinarySetLength() != value.getBinarySetLength())) {
+      return (BinarySet) value.clone() ;
+    }
+
+    targetValue.clear();
+    targetValue.or(value);
+    return targetValue ;
+  }
+
   @Override
   public int getTotalNumberOfBits() {
     int sum = 0 ;
@@ -17,7 +17,6 @@ import org.uma.jmetal.problem.DoubleBinaryProblem;
 import org.uma.jmetal.solution.DoubleBinarySolution;
 
 import java.util.BitSet;
-import java.util.HashMap;
 
 /**
  * Description:
@@ -60,7 +59,7 @@ public class DefaultDoubleBinarySolution
     overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
     numberOfViolatedConstraints = solution.numberOfViolatedConstraints ;
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributes = new SolutionAttributes(solution.attributes) ;
   }
 
   private void initializeDoubleVariables() {
@@ -16,7 +16,6 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.IntegerProblem;
 import org.uma.jmetal.solution.IntegerSolution;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of an integer solution
@@ -53,7 +52,7 @@ public class DefaultIntegerSolution
     overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
     numberOfViolatedConstraints = solution.numberOfViolatedConstraints ;
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributes = new SolutionAttributes(solution.attributes) ;
   }
 
   @Override
@@ -0,0 +1,406 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Storage of the attributes of a solution. Each attribute identifier is mapped to a slot by the
+ * {@link SolutionAttributeRegistry}, and the values are kept in arrays indexed by slot. Numeric
+ * attributes (e.g., ranks, crowding distances or fitness values) can be written and read as
+ * primitive values through {@link #setDouble(int, double)}, {@link #setInt(int, int)},
+ * {@link #getDouble(int, double)} and {@link #getInt(int, int)}; when they are read as objects,
+ * the boxed value is created once and cached until the next update.
+ *
+ * The attributes can also be used as a {@link Map} from identifiers to values, as solutions
+ * stored them before; lookups of identifiers not registered do not register them, and
+ * <code>null</code> values are not stored.
+ *
+ * This class is not thread-safe.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SolutionAttributes extends AbstractMap<Object, Object> implements Serializable {
+  private static final byte EMPTY = 0 ;
+  private static final byte OBJECT = 1 ;
+  private static final byte DOUBLE = 2 ;
+  private static final byte INT = 3 ;
+
+  private static final Object[] NO_VALUES = new Object[0] ;
+  private static final double[] NO_NUMERIC_VALUES = new double[0] ;
+  private static final byte[] NO_TYPES = new byte[0] ;
+
+  /** Object values, or the boxed version of numeric values once requested as objects */
+  private transient Object[] values ;
+  private transient double[] numericValues ;
+  private transient byte[] types ;
+
+  /**
+   * Constructor
+   */
+  public SolutionAttributes() {
+    values = NO_VALUES ;
+    numericValues = NO_NUMERIC_VALUES ;
+    types = NO_TYPES ;
+  }
+
+  /**
+   * Copy constructor. If the map is not a {@link SolutionAttributes}, its entries are added one
+   * by one
+   */
+  public SolutionAttributes(Map<?, ?> map) {
+    if (!(map instanceof SolutionAttributes)) {
+      values = NO_VALUES ;
+      numericValues = NO_NUMERIC_VALUES ;
+      types = NO_TYPES ;
+      putAll(map);
+      return ;
+    }
+
+    SolutionAttributes attributes = (SolutionAttributes) map ;
+    if (attributes.types.length == 0) {
+      values = NO_VALUES ;
+      numericValues = NO_NUMERIC_VALUES ;
+      types = NO_TYPES ;
+    } else {
+      values = attributes.values.clone() ;
+      numericValues = attributes.numericValues.clone() ;
+      types = attributes.types.clone() ;
+    }
+  }
+
+  /**
+   * Replaces the attributes with a copy of the given ones, reusing the arrays if they are large
+   * enough
+   */
+  public void copyFrom(SolutionAttributes attributes) {
+    int length = attributes.types.length ;
+    if (types.length < length) {
+      values = new Object[length] ;
+      numericValues = new double[length] ;
+      types = new byte[length] ;
+    }
+
+    System.arraycopy(attributes.values, 0, values, 0, length);
+    System.arraycopy(attributes.numericValues, 0, numericValues, 0, length);
+    System.arraycopy(attributes.types, 0, types, 0, length);
+    Arrays.fill(values, length, values.length, null);
+    Arrays.fill(types, length, types.length, EMPTY);
+  }
+
+  public Object getAttribute(Object id) {
+    return get(SolutionAttributeRegistry.getSlot(id)) ;
+  }
+
+  public void setAttribute(Object id, Object value) {
+    set(SolutionAttributeRegistry.getSlot(id), value) ;
+  }
+
+  public Object get(int slot) {
+    if (slot >= types.length) {
+      return null ;
+    }
+
+    Object value = values[slot] ;
+    if ((value == null) && (types[slot] == DOUBLE)) {
+      value = numericValues[slot] ;
+      values[slot] = value ;
+    } else if ((value == null) && (types[slot] == INT)) {
+      value = (int) numericValues[slot] ;
+      values[slot] = value ;
+    }
+
+    return value ;
+  }
+
+  public void set(int slot, Object value) {
+    ensureCapacity(slot) ;
+    values[slot] = value ;
+    types[slot] = (value == null) ? EMPTY : OBJECT ;
+  }
+
+  /**
+   * Returns the value of a slot as a double, or a default value if the slot is empty
+   */
+  public double getDouble(int slot, double defaultValue) {
+    if (slot >= types.length) {
+      return defaultValue ;
+    }
+
+    switch (types[slot]) {
+      case DOUBLE:
+      case INT:
+        return numericValues[slot] ;
+      case OBJECT:
+        return ((Number) values[slot]).doubleValue() ;
+      default:
+        return defaultValue ;
+    }
+  }
+
+  public void setDouble(int slot, double value) {
+    ensureCapacity(slot) ;
+    numericValues[slot] = value ;
+    values[slot] = null ;
+    types[slot] = DOUBLE ;
+  }
+
+  /**
+   * Returns the value of a slot as an int, or a default value if the slot is empty
+   */
+  public int getInt(int slot, int defaultValue) {
+    if (slot >= types.length) {
+      return defaultValue ;
+    }
+
+    switch (types[slot]) {
+      case DOUBLE:
+      case INT:
+        return (int) numericValues[slot] ;
+      case OBJECT:
+        return ((Number) values[slot]).intValue() ;
+      default:
+        return defaultValue ;
+    }
+  }
+
+  public void setInt(int slot, int value) {
+    ensureCapacity(slot) ;
+    numericValues[slot] = value ;
+    values[slot] = null ;
+    types[slot] = INT ;
+  }
+
+  public boolean contains(int slot) {
+    return (slot < types.length) && (types[slot] != EMPTY) ;
+  }
+
+  @Override
+  public Object get(Object id) {
+    int slot = SolutionAttributeRegistry.findSlot(id) ;
+    return (slot < 0) ? null : get(slot) ;
+  }
+
+  @Override
+  public Object put(Object id, Object value) {
+    int slot = SolutionAttributeRegistry.getSlot(id) ;
+    Object previousValue = get(slot) ;
+    set(slot, value) ;
+    return previousValue ;
+  }
+
+  @Override
+  public Object remove(Object id) {
+    int slot = SolutionAttributeRegistry.findSlot(id) ;
+    if ((slot < 0) || !contains(slot)) {
+      return null ;
+    }
+
+    Object previousValue = get(slot) ;
+    set(slot, null) ;
+    return previousValue ;
+  }
+
+  @Override
+  public boolean containsKey(Object id) {
+    int slot = SolutionAttributeRegistry.findSlot(id) ;
+    return (slot >= 0) && contains(slot) ;
+  }
+
+  @Override
+  public int size() {
+    int size = 0 ;
+    for (byte type : types) {
+      if (type != EMPTY) {
+        size++ ;
+      }
+    }
+    return size ;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(values, null);
+    Arrays.fill(types, EMPTY);
+  }
+
+  @Override
+  public Set<Map.Entry<Object, Object>> entrySet() {
+    return new AbstractSet<Map.Entry<Object, Object>>() {
+      @Override
+      public Iterator<Map.Entry<Object, Object>> iterator() {
+        return new EntryIterator() ;
+      }
+
+      @Override
+      public int size() {
+        return SolutionAttributes.this.size() ;
+      }
+    } ;
+  }
+
+  /**
+   * Iterator over the non empty slots, returning the entries in slot order
+   */
+  private class EntryIterator implements Iterator<Map.Entry<Object, Object>> {
+    private int nextSlot = findNextSlot(0) ;
+    private int lastSlot = -1 ;
+
+    @Override
+    public boolean hasNext() {
+      return nextSlot < types.length ;
+    }
+
+    @Override
+    public Map.Entry<Object, Object> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException() ;
+      }
+
+      lastSlot = nextSlot ;
+      nextSlot = findNextSlot(nextSlot + 1) ;
+      return new SimpleImmutableEntry<>(SolutionAttributeRegistry.getIdentifier(lastSlot), get(lastSlot)) ;
+    }
+
+    @Override
+    public void remove() {
+      if (lastSlot < 0) {
+        throw new IllegalStateException() ;
+      }
+
+      set(lastSlot, null) ;
+      lastSlot = -1 ;
+    }
+
+    private int findNextSlot(int slot) {
+      while ((slot < types.length) && (types[slot] == EMPTY)) {
+        slot++ ;
+      }
+      return slot ;
+    }
+  }
+
+  private void ensureCapacity(int slot) {
+    if (slot >= types.length) {
+      int capacity = Math.max(slot + 1, SolutionAttributeRegistry.getNumberOfSlots()) ;
+      values = Arrays.copyOf(values, capacity) ;
+      numericValues = Arrays.copyOf(numericValues, capacity) ;
+      types = Arrays.copyOf(types, capacity) ;
+    }
+  }
+
+  /**
+   * The attributes are equal to any {@link Map} having the same entries, as specified by
+   * {@link Map#equals(Object)}
+   */
+  @Override public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof SolutionAttributes))
+      return super.equals(o);
+
+    SolutionAttributes that = (SolutionAttributes) o;
+
+    int length = Math.max(types.length, that.types.length) ;
+    for (int i = 0; i < length; i++) {
+      Object value1 = get(i) ;
+      Object value2 = that.get(i) ;
+      if ((value1 == null) ? (value2 != null) : !value1.equals(value2)) {
+        return false ;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * The hash code is computed as in {@link java.util.Map#hashCode()}, so it does not depend on the
+   * assigned slots
+   */
+  @Override public int hashCode() {
+    int result = 0 ;
+    for (int i = 0; i < types.length; i++) {
+      Object value = get(i) ;
+      if (value != null) {
+        result += SolutionAttributeRegistry.getIdentifier(i).hashCode() ^ value.hashCode() ;
+      }
+    }
+    return result;
+  }
+
+  @Override public String toString() {
+    StringBuilder result = new StringBuilder("{") ;
+    for (int i = 0; i < types.length; i++) {
+      Object value = get(i) ;
+      if (value != null) {
+        if (result.length() > 1) {
+          result.append(", ") ;
+        }
+        result.append(SolutionAttributeRegistry.getIdentifier(i)).append('=').append(value) ;
+      }
+    }
+    return result.append('}').toString() ;
+  }
+
+  /**
+   * Slots are only valid inside a JVM, so the attributes are serialized as identifier/value pairs
+   */
+  private void writeObject(ObjectOutputStream stream) throws IOException {
+    stream.defaultWriteObject();
+
+    int size = 0 ;
+    for (int i = 0; i < types.length; i++) {
+      if (get(i) != null) {
+        size++ ;
+      }
+    }
+
+    stream.writeInt(size);
+    for (int i = 0; i < types.length; i++) {
+      Object value = get(i) ;
+      if (value != null) {
+        stream.writeObject(SolutionAttributeRegistry.getIdentifier(i));
+        stream.writeObject(value);
+      }
+    }
+  }
+
+  private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+
+    values = NO_VALUES ;
+    numericValues = NO_NUMERIC_VALUES ;
+    types = NO_TYPES ;
+
+    int size = stream.readInt() ;
+    for (int i = 0; i < size; i++) {
+      Object id = stream.readObject() ;
+      Object value = stream.readObject() ;
+      setAttribute(id, value) ;
+    }
+  }
+}
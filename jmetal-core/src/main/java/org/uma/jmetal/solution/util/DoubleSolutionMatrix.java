@@ -0,0 +1,85 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.util;
+
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
+
+import java.util.List;
+
+/**
+ * Utilities to copy the variables of a list of {@link DoubleSolution}s to a matrix stored in a
+ * <code>double[]</code> (one row per solution) and back, as used by the batch operators
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class DoubleSolutionMatrix {
+  private DoubleSolutionMatrix() {
+  }
+
+  /**
+   * Copies the variables of the solutions into a matrix. The given matrix is used if it is large
+   * enough; otherwise, a new one is returned
+   */
+  public static double[] getVariables(List<? extends DoubleSolution> solutionList, double[] matrix) {
+    if (solutionList.isEmpty()) {
+      return (matrix == null) ? new double[0] : matrix ;
+    }
+
+    int numberOfVariables = solutionList.get(0).getNumberOfVariables() ;
+    int size = solutionList.size() * numberOfVariables ;
+    double[] result = ((matrix == null) || (matrix.length < size)) ? new double[size] : matrix ;
+    int offset = 0 ;
+    for (DoubleSolution solution : solutionList) {
+      if (solution.getNumberOfVariables() != numberOfVariables) {
+        throw new JMetalException("The number of variables of the solutions is not the same: " +
+            solution.getNumberOfVariables() + " instead of " + numberOfVariables) ;
+      }
+      for (int j = 0; j < numberOfVariables; j++) {
+        result[offset++] = SolutionUtils.getVariableValueAsDouble(solution, j) ;
+      }
+    }
+
+    return result ;
+  }
+
+  /**
+   * Copies the rows of a matrix into the variables of the solutions
+   */
+  public static void setVariables(double[] matrix, List<? extends DoubleSolution> solutionList) {
+    int offset = 0 ;
+    for (DoubleSolution solution : solutionList) {
+      for (int j = 0; j < solution.getNumberOfVariables(); j++) {
+        SolutionUtils.setVariableValueAsDouble(solution, j, matrix[offset++]);
+      }
+    }
+  }
+
+  public static double[] getLowerBounds(DoubleSolution solution) {
+    double[] bounds = new double[solution.getNumberOfVariables()] ;
+    for (int j = 0; j < bounds.length; j++) {
+      bounds[j] = solution.getLowerBound(j) ;
+    }
+    return bounds ;
+  }
+
+  public static double[] getUpperBounds(DoubleSolution solution) {
+    double[] bounds = new double[solution.getNumberOfVariables()] ;
+    for (int j = 0; j < bounds.length; j++) {
+      bounds[j] = solution.getUpperBound(j) ;
+    }
+    return bounds ;
+  }
+}
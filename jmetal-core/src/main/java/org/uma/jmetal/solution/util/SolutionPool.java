@@ -0,0 +1,137 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.util;
+
+import org.uma.jmetal.solution.ReusableSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Pool of discarded solutions which are reused to create copies of other solutions. Algorithms
+ * release the solutions they discard (e.g., the ones not selected in the replacement step), and
+ * the operators obtain their copies with {@link #copy(Solution)}, which copies the source into a
+ * released solution of the same class with {@link ReusableSolution#copyInto(Solution)}, and only
+ * allocates a new solution (with {@link Solution#copy()}) if there is none.
+ *
+ * A solution must only be released when it is not referenced anymore by the algorithm: its
+ * contents are overwritten when it is reused. The pool keeps at most a given number of solutions,
+ * and it is not thread-safe.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class SolutionPool<S extends Solution<?>> implements Serializable {
+  private final int capacity ;
+  private final ArrayDeque<S> solutions ;
+  private long reusedSolutions ;
+  private long allocatedSolutions ;
+
+  /**
+   * Constructor
+   *
+   * @param capacity Maximum number of solutions kept in the pool
+   */
+  public SolutionPool(int capacity) {
+    if (capacity < 0) {
+      throw new JMetalException("The capacity of the pool is negative: " + capacity) ;
+    }
+    this.capacity = capacity ;
+    solutions = new ArrayDeque<>(Math.min(capacity, 1024)) ;
+  }
+
+  /**
+   * Returns a copy of a solution, reusing a released solution if possible
+   */
+  @SuppressWarnings("unchecked")
+  public S copy(S source) {
+    if ((source instanceof ReusableSolution) && !solutions.isEmpty()) {
+      S target = solutions.peekLast() ;
+      if ((target.getClass() == source.getClass()) &&
+          (target.getNumberOfVariables() == source.getNumberOfVariables()) &&
+          (target.getNumberOfObjectives() == source.getNumberOfObjectives())) {
+        solutions.pollLast() ;
+        ((ReusableSolution) source).copyInto(target);
+        reusedSolutions++ ;
+        return target ;
+      }
+    }
+
+    allocatedSolutions++ ;
+    return (S) source.copy() ;
+  }
+
+  /**
+   * Adds a solution which is not used anymore to the pool. Solutions not implementing
+   * {@link ReusableSolution} are ignored, as well as the ones exceeding the capacity of the pool
+   */
+  public void release(S solution) {
+    if ((solution instanceof ReusableSolution) && (solutions.size() < capacity)) {
+      solutions.addLast(solution);
+    }
+  }
+
+  public void releaseAll(Collection<? extends S> solutionList) {
+    for (S solution : solutionList) {
+      release(solution);
+    }
+  }
+
+  /**
+   * Releases the solutions of a list which are not contained (by identity) in another one; e.g.,
+   * the solutions of the joint population of an algorithm not selected for the next population
+   */
+  public void releaseAllExcept(Collection<? extends S> solutionList,
+      Collection<? extends S> keptSolutions) {
+    Set<S> kept = Collections.newSetFromMap(new IdentityHashMap<S, Boolean>(keptSolutions.size() * 2)) ;
+    kept.addAll(keptSolutions) ;
+    for (S solution : solutionList) {
+      if (kept.add(solution)) {
+        release(solution);
+      }
+    }
+  }
+
+  public int size() {
+    return solutions.size() ;
+  }
+
+  public int getCapacity() {
+    return capacity ;
+  }
+
+  public void clear() {
+    solutions.clear();
+  }
+
+  /**
+   * Number of copies made by reusing a released solution
+   */
+  public long getNumberOfReusedSolutions() {
+    return reusedSolutions ;
+  }
+
+  /**
+   * Number of copies made by allocating a new solution
+   */
+  public long getNumberOfAllocatedSolutions() {
+    return allocatedSolutions ;
+  }
+}
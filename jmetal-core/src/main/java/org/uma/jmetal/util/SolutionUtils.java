@@ -1,6 +1,7 @@
 package org.uma.jmetal.util;
 
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.PrimitiveDoubleSolution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
@@ -37,6 +38,30 @@ public class SolutionUtils {
 
     return result ;
   }
+
+  /**
+   * Returns the value of a variable of a solution, without boxing it if the solution is a
+   * {@link PrimitiveDoubleSolution}
+   */
+  public static double getVariableValueAsDouble(DoubleSolution solution, int index) {
+    if (solution instanceof PrimitiveDoubleSolution) {
+      return ((PrimitiveDoubleSolution) solution).getVariableValueAsDouble(index) ;
+    } else {
+      return solution.getVariableValue(index) ;
+    }
+  }
+
+  /**
+   * Sets the value of a variable of a solution, without boxing it if the solution is a
+   * {@link PrimitiveDoubleSolution}
+   */
+  public static void setVariableValueAsDouble(DoubleSolution solution, int index, double value) {
+    if (solution instanceof PrimitiveDoubleSolution) {
+      ((PrimitiveDoubleSolution) solution).setVariableValueAsDouble(index, value) ;
+    } else {
+      solution.setVariableValue(index, value) ;
+    }
+  }
   
   
   /**
@@ -14,6 +14,7 @@
 package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.BoundedArchive;
 
 import java.util.List;
@@ -23,12 +24,23 @@ import java.util.List;
  * @param <S>
  */
 public abstract class AbstractBoundedArchive<S extends Solution<?>> implements BoundedArchive<S> {
-	protected NonDominatedSolutionListArchive<S> archive;
+	protected Archive<S> archive;
 	protected int maxSize;
 
 	public AbstractBoundedArchive(int maxSize) {
+		this(maxSize, new NonDominatedSolutionListArchive<S>());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxSize Maximum size of the archive
+	 * @param archive Empty unbounded archive storing the non-dominated solutions, e.g., a
+	 *                {@link NDTreeArchive}
+	 */
+	public AbstractBoundedArchive(int maxSize, Archive<S> archive) {
 		this.maxSize = maxSize;
-		this.archive = new NonDominatedSolutionListArchive<S>();
+		this.archive = archive;
 	}
 
 	@Override
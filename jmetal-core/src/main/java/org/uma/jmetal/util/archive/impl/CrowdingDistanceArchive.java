@@ -15,6 +15,7 @@ package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
@@ -30,7 +31,11 @@ public class CrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoun
   private DensityEstimator<S> crowdingDistance ;
 
   public CrowdingDistanceArchive(int maxSize) {
-    super(maxSize);
+    this(maxSize, new NonDominatedSolutionListArchive<S>()) ;
+  }
+
+  public CrowdingDistanceArchive(int maxSize, Archive<S> archive) {
+    super(maxSize, archive);
     crowdingDistanceComparator = new CrowdingDistanceComparator<S>() ;
     crowdingDistance = new CrowdingDistance<S>() ;
   }
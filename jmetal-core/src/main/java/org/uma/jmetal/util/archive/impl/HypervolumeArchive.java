@@ -16,6 +16,7 @@ package org.uma.jmetal.util.archive.impl;
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
 
 import java.util.Comparator;
@@ -28,7 +29,11 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
   Hypervolume<S> hypervolume ;
 
   public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume) {
-    super(maxSize);
+    this(maxSize, hypervolume, new NonDominatedSolutionListArchive<S>()) ;
+  }
+
+  public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume, Archive<S> archive) {
+    super(maxSize, archive);
     comparator = new HypervolumeContributionComparator<S>() ;
     this.hypervolume = hypervolume ;
   }
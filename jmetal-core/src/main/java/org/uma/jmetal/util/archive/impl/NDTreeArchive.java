@@ -0,0 +1,498 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
+import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Archive of non-dominated solutions indexed by an ND-tree (A. Jaszkiewicz and T. Lust, "ND-Tree-
+ * based update: a fast algorithm for the dynamic non-dominance problem", IEEE Transactions on
+ * Evolutionary Computation, 2018). Each node of the tree keeps the ideal and nadir points of its
+ * subtree, so that checking if a new solution is dominated and removing the solutions it
+ * dominates only visits the nodes whose bounds may contain those solutions, instead of comparing
+ * the new solution with every solution of the archive as {@link NonDominatedSolutionListArchive}
+ * does.
+ *
+ * A solution is accepted under the same conditions as in {@link NonDominatedSolutionListArchive}
+ * with the default {@link org.uma.jmetal.util.comparator.DominanceComparator}: it is first
+ * compared with the archived ones by its overall constraint violation, and then it is rejected if
+ * it is dominated by or equal to (in all the objectives) an archived solution.
+ *
+ * Each entry of the tree keeps its position in the solution list, so the solutions dominated by a
+ * new one are removed from the list by moving the last solution to their position. Therefore, the
+ * order of the list is not kept when {@link #add(Solution)} removes solutions.
+ *
+ * The list returned by {@link #getSolutionList()} is a view of the archive: solutions can be
+ * added, removed, replaced or reordered through it (as the bounded archives do), and the index is
+ * updated accordingly. Solutions added through the view are not checked for dominance.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class NDTreeArchive<S extends Solution<?>> implements Archive<S> {
+  private static final int DEFAULT_MAX_LEAF_SIZE = 20 ;
+
+  private final int maxLeafSize ;
+  private final int numberOfChildren ;
+  private final List<Entry<S>> entryList ;
+  private final List<S> solutionListView ;
+  private final ConstraintViolationComparator<S> constraintViolationComparator ;
+  private Node<S> root ;
+
+  /** Constructor */
+  public NDTreeArchive() {
+    this(DEFAULT_MAX_LEAF_SIZE, 0) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maxLeafSize Maximum number of solutions in a leaf
+   * @param numberOfChildren Number of children of an internal node; if it is zero, the number of
+   *                         objectives plus one is used
+   */
+  public NDTreeArchive(int maxLeafSize, int numberOfChildren) {
+    if (maxLeafSize < 1) {
+      throw new JMetalException("The maximum size of a leaf must be positive: " + maxLeafSize) ;
+    } else if ((numberOfChildren < 0) || (numberOfChildren == 1)) {
+      throw new JMetalException("Invalid number of children: " + numberOfChildren) ;
+    }
+
+    this.maxLeafSize = maxLeafSize ;
+    this.numberOfChildren = numberOfChildren ;
+    entryList = new ArrayList<>() ;
+    solutionListView = new SolutionListView() ;
+    constraintViolationComparator = new OverallConstraintViolationComparator<S>() ;
+    root = new Node<>() ;
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the operation success, and false if the solution is dominated or if an
+   * identical individual exists.
+   */
+  @Override
+  public boolean add(S solution) {
+    if (entryList.size() > 0) {
+      int flag = constraintViolationComparator.compare(solution, entryList.get(0).solution) ;
+      if (flag > 0) {
+        return false ;
+      } else if (flag < 0) {
+        entryList.clear();
+        root = new Node<>() ;
+      }
+    }
+
+    double[] point = getObjectives(solution) ;
+    if (isCovered(root, point)) {
+      return false ;
+    }
+
+    List<Entry<S>> dominatedEntries = new ArrayList<>() ;
+    removeDominated(root, point, dominatedEntries) ;
+    if (root.size == 0) {
+      root = new Node<>() ;
+    }
+    for (Entry<S> entry : dominatedEntries) {
+      removeFromList(entry) ;
+    }
+
+    Entry<S> entry = new Entry<>(solution, point) ;
+    entry.index = entryList.size() ;
+    entryList.add(entry) ;
+    insert(entry) ;
+
+    return true ;
+  }
+
+  @Override
+  public List<S> getSolutionList() {
+    return solutionListView ;
+  }
+
+  @Override public int size() {
+    return entryList.size() ;
+  }
+
+  @Override public S get(int index) {
+    return entryList.get(index).solution ;
+  }
+
+  /**
+   * Returns true if a point of the subtree weakly dominates the given point. If the ideal point
+   * of a node does not weakly dominate the point, none of its points does; if the nadir point
+   * does, all of them do
+   */
+  private boolean isCovered(Node<S> node, double[] point) {
+    if ((node.size == 0) || !weaklyDominates(node.ideal, point)) {
+      return false ;
+    } else if (weaklyDominates(node.nadir, point)) {
+      return true ;
+    }
+
+    if (node.isLeaf()) {
+      for (Entry<S> entry : node.entries) {
+        if (weaklyDominates(entry.point, point)) {
+          return true ;
+        }
+      }
+    } else {
+      for (Node<S> child : node.children) {
+        if (isCovered(child, point)) {
+          return true ;
+        }
+      }
+    }
+
+    return false ;
+  }
+
+  /**
+   * Removes the points of the subtree weakly dominated by the given point, which is assumed not to
+   * be in the tree, and returns the number of removed points
+   */
+  private int removeDominated(Node<S> node, double[] point, List<Entry<S>> removed) {
+    if ((node.size == 0) || !weaklyDominates(point, node.nadir)) {
+      return 0 ;
+    }
+
+    int count = 0 ;
+    if (weaklyDominates(point, node.ideal)) {
+      count = node.size ;
+      collect(node, removed) ;
+    } else if (node.isLeaf()) {
+      for (int i = node.entries.size() - 1; i >= 0; i--) {
+        if (weaklyDominates(point, node.entries.get(i).point)) {
+          removed.add(node.entries.remove(i)) ;
+          count++ ;
+        }
+      }
+    } else {
+      for (int i = node.children.size() - 1; i >= 0; i--) {
+        Node<S> child = node.children.get(i) ;
+        count += removeDominated(child, point, removed) ;
+        if (child.size == 0) {
+          node.children.remove(i) ;
+        }
+      }
+    }
+
+    node.size -= count ;
+    return count ;
+  }
+
+  private void collect(Node<S> node, List<Entry<S>> entries) {
+    if (node.isLeaf()) {
+      entries.addAll(node.entries) ;
+    } else {
+      for (Node<S> child : node.children) {
+        collect(child, entries) ;
+      }
+    }
+  }
+
+  /**
+   * Inserts a point without checking dominance, descending to the child with the closest middle
+   * point and splitting the leaf if it becomes too large
+   */
+  private void insert(Entry<S> entry) {
+    Node<S> node = root ;
+    while (true) {
+      node.update(entry.point) ;
+      node.size++ ;
+      if (node.isLeaf()) {
+        break ;
+      }
+
+      Node<S> closest = null ;
+      double minDistance = Double.POSITIVE_INFINITY ;
+      for (Node<S> child : node.children) {
+        double distance = child.distanceToMiddlePoint(entry.point) ;
+        if (distance < minDistance) {
+          minDistance = distance ;
+          closest = child ;
+        }
+      }
+      node = closest ;
+    }
+
+    node.entries.add(entry) ;
+    if (node.entries.size() > maxLeafSize) {
+      split(node) ;
+    }
+  }
+
+  /**
+   * Transforms a leaf into an internal node. The first child gets the point with the highest
+   * average distance to the others, the next ones the points with the highest average distance
+   * to the points of the previous children, and the rest of points are assigned to the child with
+   * the closest middle point
+   */
+  private void split(Node<S> node) {
+    List<Entry<S>> entries = node.entries ;
+    int children = (numberOfChildren == 0) ? entries.get(0).point.length + 1 : numberOfChildren ;
+    children = Math.min(children, entries.size()) ;
+
+    node.entries = null ;
+    node.children = new ArrayList<>(children) ;
+
+    boolean[] assigned = new boolean[entries.size()] ;
+    double[] distanceSum = new double[entries.size()] ;
+    for (int i = 0; i < entries.size(); i++) {
+      for (int j = i + 1; j < entries.size(); j++) {
+        double distance = distance(entries.get(i).point, entries.get(j).point) ;
+        distanceSum[i] += distance ;
+        distanceSum[j] += distance ;
+      }
+    }
+
+    int seed = argMax(distanceSum, assigned) ;
+    for (int c = 0; c < children; c++) {
+      Node<S> child = new Node<>() ;
+      child.entries.add(entries.get(seed)) ;
+      child.update(entries.get(seed).point) ;
+      child.size = 1 ;
+      node.children.add(child) ;
+      assigned[seed] = true ;
+
+      double[] point = entries.get(seed).point ;
+      for (int i = 0; i < entries.size(); i++) {
+        distanceSum[i] = (c == 0) ? 0.0 : distanceSum[i] ;
+        distanceSum[i] += distance(point, entries.get(i).point) ;
+      }
+      seed = argMax(distanceSum, assigned) ;
+    }
+
+    for (int i = 0; i < entries.size(); i++) {
+      if (!assigned[i]) {
+        Entry<S> entry = entries.get(i) ;
+        Node<S> closest = null ;
+        double minDistance = Double.POSITIVE_INFINITY ;
+        for (Node<S> child : node.children) {
+          double distance = child.distanceToMiddlePoint(entry.point) ;
+          if (distance < minDistance) {
+            minDistance = distance ;
+            closest = child ;
+          }
+        }
+        closest.entries.add(entry) ;
+        closest.update(entry.point) ;
+        closest.size++ ;
+      }
+    }
+  }
+
+  /**
+   * Removes an entry from the tree; the search is guided by the point stored in the entry, which
+   * is inside the bounds of all the nodes containing it as they are never tightened
+   */
+  private void removeFromTree(Entry<S> entry) {
+    remove(root, entry) ;
+    if (root.size == 0) {
+      root = new Node<>() ;
+    }
+  }
+
+  private boolean remove(Node<S> node, Entry<S> entry) {
+    if ((node.size == 0) || !(weaklyDominates(node.ideal, entry.point) &&
+        weaklyDominates(entry.point, node.nadir))) {
+      return false ;
+    }
+
+    boolean removed = false ;
+    if (node.isLeaf()) {
+      removed = node.entries.remove(entry) ;
+    } else {
+      for (int i = 0; (i < node.children.size()) && !removed; i++) {
+        Node<S> child = node.children.get(i) ;
+        if (remove(child, entry)) {
+          if (child.size == 0) {
+            node.children.remove(i) ;
+          }
+          removed = true ;
+        }
+      }
+    }
+
+    if (removed) {
+      node.size-- ;
+    }
+    return removed ;
+  }
+
+  /**
+   * Removes an entry from the list in constant time by moving the last entry to its position
+   */
+  private void removeFromList(Entry<S> entry) {
+    Entry<S> last = entryList.remove(entryList.size() - 1) ;
+    if (last != entry) {
+      entryList.set(entry.index, last) ;
+      last.index = entry.index ;
+    }
+  }
+
+  /**
+   * Updates the position of the entries from the given index, after adding or removing an entry
+   * in the middle of the list
+   */
+  private void updateIndexes(int fromIndex) {
+    for (int i = fromIndex; i < entryList.size(); i++) {
+      entryList.get(i).index = i ;
+    }
+  }
+
+  private static int argMax(double[] values, boolean[] excluded) {
+    int index = -1 ;
+    for (int i = 0; i < values.length; i++) {
+      if (!excluded[i] && ((index == -1) || (values[i] > values[index]))) {
+        index = i ;
+      }
+    }
+    return index ;
+  }
+
+  private static double distance(double[] point1, double[] point2) {
+    double sum = 0.0 ;
+    for (int i = 0; i < point1.length; i++) {
+      sum += (point1[i] - point2[i]) * (point1[i] - point2[i]) ;
+    }
+    return Math.sqrt(sum) ;
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static double[] getObjectives(Solution<?> solution) {
+    double[] objectives = new double[solution.getNumberOfObjectives()] ;
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = solution.getObjective(i) ;
+    }
+    return objectives ;
+  }
+
+  private static class Entry<S> {
+    private final S solution ;
+    private final double[] point ;
+    private int index ;
+
+    public Entry(S solution, double[] point) {
+      this.solution = solution ;
+      this.point = point ;
+    }
+  }
+
+  /**
+   * Node of the tree. The ideal and nadir points bound the points of the subtree; they are not
+   * updated when points are removed, so they may be loose
+   */
+  private static class Node<S> {
+    private List<Entry<S>> entries ;
+    private List<Node<S>> children ;
+    private double[] ideal ;
+    private double[] nadir ;
+    private int size ;
+
+    public Node() {
+      entries = new ArrayList<>() ;
+    }
+
+    public boolean isLeaf() {
+      return children == null ;
+    }
+
+    public void update(double[] point) {
+      if (ideal == null) {
+        ideal = point.clone() ;
+        nadir = point.clone() ;
+      } else {
+        for (int i = 0; i < point.length; i++) {
+          ideal[i] = Math.min(ideal[i], point[i]) ;
+          nadir[i] = Math.max(nadir[i], point[i]) ;
+        }
+      }
+    }
+
+    public double distanceToMiddlePoint(double[] point) {
+      double sum = 0.0 ;
+      for (int i = 0; i < point.length; i++) {
+        double difference = point[i] - (ideal[i] + nadir[i]) / 2.0 ;
+        sum += difference * difference ;
+      }
+      return sum ;
+    }
+  }
+
+  /**
+   * Live view of the solution list which keeps the tree updated
+   */
+  private class SolutionListView extends AbstractList<S> {
+    @Override public S get(int index) {
+      return entryList.get(index).solution ;
+    }
+
+    @Override public int size() {
+      return entryList.size() ;
+    }
+
+    @Override public S set(int index, S solution) {
+      Entry<S> previous = entryList.get(index) ;
+      if (previous.solution != solution) {
+        removeFromTree(previous) ;
+        Entry<S> entry = new Entry<>(solution, getObjectives(solution)) ;
+        entry.index = index ;
+        entryList.set(index, entry) ;
+        insert(entry) ;
+      }
+      return previous.solution ;
+    }
+
+    @Override public void add(int index, S solution) {
+      Entry<S> entry = new Entry<>(solution, getObjectives(solution)) ;
+      entryList.add(index, entry) ;
+      updateIndexes(index) ;
+      insert(entry) ;
+      modCount++ ;
+    }
+
+    @Override public S remove(int index) {
+      Entry<S> entry = entryList.remove(index) ;
+      updateIndexes(index) ;
+      removeFromTree(entry) ;
+      modCount++ ;
+      return entry.solution ;
+    }
+
+    @Override public void clear() {
+      entryList.clear();
+      root = new Node<>() ;
+      modCount++ ;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluator which looks up the solutions in an {@link EvaluationCache} before evaluating them, so
+ * that a deterministic problem is not evaluated again with the same variables. The solutions
+ * which are not in the cache are evaluated with another evaluator (which can be a parallel one)
+ * and then stored in the cache; solutions of the list with the same variables are evaluated only
+ * once.
+ *
+ * The cache is cleared when the evaluator is used with a different problem. The algorithms count
+ * the evaluations as usual, so the evaluations found in the cache only save computing time.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class CachingSolutionListEvaluator<S extends Solution<?>> implements SolutionListEvaluator<S> {
+  private final SolutionListEvaluator<S> evaluator ;
+  private final EvaluationCache<S> cache ;
+  private Problem<S> problem ;
+
+  /**
+   * Constructor. The solutions not found in the cache are evaluated sequentially
+   *
+   * @param maximumSize Maximum number of evaluations stored in the cache
+   */
+  public CachingSolutionListEvaluator(int maximumSize) {
+    this(new SequentialSolutionListEvaluator<S>(), maximumSize) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param evaluator Evaluator of the solutions not found in the cache
+   * @param maximumSize Maximum number of evaluations stored in the cache
+   */
+  public CachingSolutionListEvaluator(SolutionListEvaluator<S> evaluator, int maximumSize) {
+    this(evaluator, new EvaluationCache<S>(maximumSize)) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param evaluator Evaluator of the solutions not found in the cache
+   * @param cache Cache of evaluations
+   */
+  public CachingSolutionListEvaluator(SolutionListEvaluator<S> evaluator, EvaluationCache<S> cache) {
+    this.evaluator = evaluator ;
+    this.cache = cache ;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    if (problem != this.problem) {
+      cache.clear();
+      this.problem = problem ;
+    }
+
+    List<S> solutionsToEvaluate = new ArrayList<>() ;
+    List<EvaluationCache.Key> keysToStore = new ArrayList<>() ;
+    Map<EvaluationCache.Key, S> pendingSolutions = new HashMap<>() ;
+    List<S> repeatedSolutions = new ArrayList<>() ;
+    List<EvaluationCache.Key> repeatedKeys = new ArrayList<>() ;
+
+    for (S solution : solutionList) {
+      EvaluationCache.Key key = cache.getKey(solution) ;
+      if (pendingSolutions.containsKey(key)) {
+        repeatedSolutions.add(solution) ;
+        repeatedKeys.add(key) ;
+      } else if (!cache.restore(key, solution)) {
+        pendingSolutions.put(key, solution) ;
+        solutionsToEvaluate.add(solution) ;
+        keysToStore.add(key) ;
+      }
+    }
+
+    if (!solutionsToEvaluate.isEmpty()) {
+      evaluator.evaluate(solutionsToEvaluate, problem) ;
+      for (int i = 0; i < solutionsToEvaluate.size(); i++) {
+        cache.store(keysToStore.get(i), solutionsToEvaluate.get(i));
+      }
+    }
+
+    for (int i = 0; i < repeatedSolutions.size(); i++) {
+      if (!cache.restore(repeatedKeys.get(i), repeatedSolutions.get(i))) {
+        cache.copyEvaluation(pendingSolutions.get(repeatedKeys.get(i)), repeatedSolutions.get(i));
+      }
+    }
+
+    return solutionList ;
+  }
+
+  public EvaluationCache<S> getCache() {
+    return cache ;
+  }
+
+  @Override public void shutdown() {
+    evaluator.shutdown();
+  }
+}
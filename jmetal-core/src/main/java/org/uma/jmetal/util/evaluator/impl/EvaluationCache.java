@@ -0,0 +1,304 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of the evaluations of a problem, which maps the variables of the solutions to
+ * their objective values and constraint violations (the {@link OverallConstraintViolation} and
+ * {@link NumberOfViolatedConstraints} attributes). It is intended for deterministic problems
+ * whose evaluation is expensive, when the algorithm evaluates the same decision vectors again.
+ *
+ * The variables of a solution are encoded in a {@link Key}: numbers are stored by value (the
+ * bits of the floating point ones), bit sets (such as {@link BinarySet}) by their words, and any
+ * other variable by its string representation. Therefore, the cache can be used with double,
+ * integer, binary and permutation solutions, and with the solutions mixing them.
+ *
+ * The cache is split into segments, each one keeping its entries in least recently used order
+ * and guarded by its own lock, so that it can be used concurrently by several threads. When a
+ * segment is full, its least recently used entry is removed.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class EvaluationCache<S extends Solution<?>> implements Serializable {
+  private static final int MAXIMUM_NUMBER_OF_SEGMENTS = 16 ;
+  private static final int MINIMUM_SEGMENT_SIZE = 64 ;
+
+  private final int maximumSize ;
+  private final Segment<Entry>[] segments ;
+  private final AtomicLong hits = new AtomicLong() ;
+  private final AtomicLong misses = new AtomicLong() ;
+
+  private final OverallConstraintViolation<S> overallConstraintViolation ;
+  private final NumberOfViolatedConstraints<S> numberOfViolatedConstraints ;
+
+  /**
+   * Constructor
+   *
+   * @param maximumSize Maximum number of evaluations stored
+   */
+  @SuppressWarnings("unchecked")
+  public EvaluationCache(int maximumSize) {
+    if (maximumSize < 1) {
+      throw new JMetalException("The maximum size must be positive: " + maximumSize) ;
+    }
+    this.maximumSize = maximumSize ;
+
+    int numberOfSegments = 1 ;
+    while ((numberOfSegments < MAXIMUM_NUMBER_OF_SEGMENTS)
+        && (maximumSize / (2 * numberOfSegments) >= MINIMUM_SEGMENT_SIZE)) {
+      numberOfSegments *= 2 ;
+    }
+    segments = (Segment<Entry>[]) new Segment<?>[numberOfSegments] ;
+    for (int i = 0; i < numberOfSegments; i++) {
+      int segmentSize = maximumSize / numberOfSegments
+          + ((i < maximumSize % numberOfSegments) ? 1 : 0) ;
+      segments[i] = new Segment<>(segmentSize) ;
+    }
+
+    overallConstraintViolation = new OverallConstraintViolation<S>() ;
+    numberOfViolatedConstraints = new NumberOfViolatedConstraints<S>() ;
+  }
+
+  /**
+   * Returns the key identifying the variables of a solution
+   */
+  public Key getKey(S solution) {
+    return new Key(solution) ;
+  }
+
+  /**
+   * Sets the objectives and the constraint violations of a solution if its evaluation is in the
+   * cache
+   *
+   * @return true if the evaluation was found in the cache
+   */
+  public boolean restore(Key key, S solution) {
+    Entry entry = getSegment(key).get(key) ;
+    if (entry == null) {
+      misses.incrementAndGet() ;
+      return false ;
+    }
+
+    hits.incrementAndGet() ;
+    entry.copyTo(solution);
+    return true ;
+  }
+
+  /**
+   * Stores the evaluation of a solution, which has been evaluated
+   */
+  public void store(Key key, S solution) {
+    getSegment(key).put(key, new Entry(solution)) ;
+  }
+
+  /**
+   * Copies the objectives and the constraint violations of an evaluated solution into another
+   * solution with the same variables
+   */
+  void copyEvaluation(S source, S target) {
+    new Entry(source).copyTo(target);
+  }
+
+  public long getHits() {
+    return hits.get() ;
+  }
+
+  public long getMisses() {
+    return misses.get() ;
+  }
+
+  /**
+   * Returns the ratio of lookups found in the cache, or zero if there has been no lookup
+   */
+  public double getHitRate() {
+    long hits = this.hits.get() ;
+    long lookups = hits + misses.get() ;
+
+    return (lookups == 0) ? 0.0 : (double) hits / lookups ;
+  }
+
+  public int getSize() {
+    int size = 0 ;
+    for (Segment<Entry> segment : segments) {
+      size += segment.getSize() ;
+    }
+    return size ;
+  }
+
+  public int getMaximumSize() {
+    return maximumSize ;
+  }
+
+  /**
+   * Removes all the entries and resets the statistics
+   */
+  public void clear() {
+    for (Segment<Entry> segment : segments) {
+      segment.clear();
+    }
+    hits.set(0);
+    misses.set(0);
+  }
+
+  private Segment<Entry> getSegment(Key key) {
+    int hash = key.hashCode() ;
+    return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)] ;
+  }
+
+  /**
+   * Encoding of the variables of a solution. The keys of solutions with different number or
+   * types of variables are not compared in a meaningful way, so a cache must be used with a
+   * single problem
+   */
+  public static final class Key implements Serializable {
+    private final long[] words ;
+    private final String[] strings ;
+    private final int hash ;
+
+    private Key(Solution<?> solution) {
+      long[] words = new long[solution.getNumberOfVariables()] ;
+      String[] strings = null ;
+      int length = 0 ;
+      for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+        Object value = solution.getVariableValue(i) ;
+        if (value instanceof BitSet) {
+          long[] bits = ((BitSet) value).toLongArray() ;
+          words = ensureCapacity(words, length + bits.length + 1) ;
+          words[length++] = bits.length ;
+          System.arraycopy(bits, 0, words, length, bits.length);
+          length += bits.length ;
+        } else {
+          words = ensureCapacity(words, length + 1) ;
+          if ((value instanceof Double) || (value instanceof Float)) {
+            words[length++] = Double.doubleToLongBits(((Number) value).doubleValue()) ;
+          } else if ((value instanceof Integer) || (value instanceof Long)
+              || (value instanceof Short) || (value instanceof Byte)) {
+            words[length++] = ((Number) value).longValue() ;
+          } else if (value instanceof Boolean) {
+            words[length++] = ((Boolean) value) ? 1 : 0 ;
+          } else {
+            if (strings == null) {
+              strings = new String[solution.getNumberOfVariables()] ;
+            }
+            strings[i] = solution.getVariableValueString(i) ;
+            words[length++] = 0 ;
+          }
+        }
+      }
+
+      this.words = (length == words.length) ? words : Arrays.copyOf(words, length) ;
+      this.strings = strings ;
+      this.hash = 31 * Arrays.hashCode(this.words) + Arrays.hashCode(strings) ;
+    }
+
+    private static long[] ensureCapacity(long[] words, int capacity) {
+      if (capacity <= words.length) {
+        return words ;
+      }
+      return Arrays.copyOf(words, Math.max(capacity, 2 * words.length)) ;
+    }
+
+    @Override public boolean equals(Object o) {
+      if (this == o) {
+        return true ;
+      }
+      if (!(o instanceof Key)) {
+        return false ;
+      }
+
+      Key key = (Key) o ;
+      return (hash == key.hash) && Arrays.equals(words, key.words)
+          && Arrays.equals(strings, key.strings) ;
+    }
+
+    @Override public int hashCode() {
+      return hash ;
+    }
+  }
+
+  /**
+   * Evaluation of a solution
+   */
+  private final class Entry implements Serializable {
+    private final double[] objectives ;
+    private final Double overallConstraintViolationDegree ;
+    private final Integer violatedConstraints ;
+
+    public Entry(S solution) {
+      objectives = new double[solution.getNumberOfObjectives()] ;
+      for (int i = 0; i < objectives.length; i++) {
+        objectives[i] = solution.getObjective(i) ;
+      }
+      overallConstraintViolationDegree = overallConstraintViolation.getAttribute(solution) ;
+      violatedConstraints = numberOfViolatedConstraints.getAttribute(solution) ;
+    }
+
+    public void copyTo(S solution) {
+      for (int i = 0; i < objectives.length; i++) {
+        solution.setObjective(i, objectives[i]);
+      }
+      if (overallConstraintViolationDegree != null) {
+        overallConstraintViolation.setAttribute(solution, overallConstraintViolationDegree);
+      }
+      if (violatedConstraints != null) {
+        numberOfViolatedConstraints.setAttribute(solution, violatedConstraints);
+      }
+    }
+  }
+
+  /**
+   * Part of the cache guarded by a lock, whose entries are kept in access order
+   */
+  private static final class Segment<V> implements Serializable {
+    private final LinkedHashMap<Key, V> entries ;
+
+    public Segment(final int maximumSize) {
+      entries = new LinkedHashMap<Key, V>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+          return size() > maximumSize ;
+        }
+      } ;
+    }
+
+    public synchronized V get(Key key) {
+      return entries.get(key) ;
+    }
+
+    public synchronized void put(Key key, V value) {
+      entries.put(key, value) ;
+    }
+
+    public synchronized int getSize() {
+      return entries.size() ;
+    }
+
+    public synchronized void clear() {
+      entries.clear();
+    }
+  }
+}
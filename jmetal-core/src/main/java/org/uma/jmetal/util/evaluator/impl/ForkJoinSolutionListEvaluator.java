@@ -0,0 +1,173 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Level;
+
+/**
+ * Evaluator using a {@link ForkJoinPool} to evaluate the solutions of a list in parallel.
+ *
+ * The list is not split into one task per solution: each task evaluates a range of the list,
+ * forking the upper half of its range only while the worker has not enough queued tasks to be
+ * stolen by the idle workers. In this way, the size of the chunks adapts to the cost of the
+ * evaluation: cheap problems are evaluated in a few large chunks, and expensive ones are balanced
+ * among all the workers. The constraints of {@link ConstrainedProblem}s are evaluated in the same
+ * pass.
+ *
+ * The problem must be thread-safe, as several solutions are evaluated concurrently.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class ForkJoinSolutionListEvaluator<S extends Solution<?>> implements SolutionListEvaluator<S> {
+  /** Number of queued tasks in a worker over which no more tasks are forked */
+  private static final int SURPLUS_THRESHOLD = 3 ;
+
+  private final int numberOfThreads ;
+  private transient ForkJoinPool pool ;
+
+  /**
+   * Constructor. All the available processors are used
+   */
+  public ForkJoinSolutionListEvaluator() {
+    this(0) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads. A value of 0 means using all the available
+   *                        processors
+   */
+  public ForkJoinSolutionListEvaluator(int numberOfThreads) {
+    if (numberOfThreads < 0) {
+      throw new JMetalException("The number of threads cannot be negative: " + numberOfThreads) ;
+    } else if (numberOfThreads == 0) {
+      this.numberOfThreads = Runtime.getRuntime().availableProcessors() ;
+    } else {
+      this.numberOfThreads = numberOfThreads ;
+    }
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) throws JMetalException {
+    List<S> list = solutionList ;
+    if (!(list instanceof RandomAccess)) {
+      list = new ArrayList<>(solutionList) ;
+    }
+
+    try {
+      if ((numberOfThreads == 1) || (list.size() < 2)) {
+        evaluate(list, 0, list.size(), problem) ;
+      } else {
+        getPool().invoke(new EvaluationAction<S>(list, 0, list.size(), problem, null)) ;
+      }
+    } catch (RuntimeException e) {
+      JMetalLogger.logger.log(Level.SEVERE, "Error evaluating solution", e);
+      throw new JMetalException("Error in ForkJoinSolutionListEvaluator.evaluate()", e) ;
+    }
+
+    return solutionList;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads ;
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    if (pool != null) {
+      pool.shutdown();
+      pool = null ;
+    }
+  }
+
+  private synchronized ForkJoinPool getPool() {
+    if (pool == null) {
+      pool = new ForkJoinPool(numberOfThreads) ;
+    }
+    return pool ;
+  }
+
+  private static <S extends Solution<?>> void evaluate(List<S> solutionList, int from, int to,
+      Problem<S> problem) {
+    if (problem instanceof ConstrainedProblem) {
+      ConstrainedProblem<S> constrainedProblem = (ConstrainedProblem<S>) problem ;
+      for (int i = from; i < to; i++) {
+        problem.evaluate(solutionList.get(i)) ;
+        constrainedProblem.evaluateConstraints(solutionList.get(i)) ;
+      }
+    } else {
+      for (int i = from; i < to; i++) {
+        problem.evaluate(solutionList.get(i)) ;
+      }
+    }
+  }
+
+  /**
+   * Task evaluating the range [from, to) of a list. The forked subtasks are linked through
+   * <code>next</code>, so they are joined without allocating any other structure
+   */
+  private static class EvaluationAction<S extends Solution<?>> extends RecursiveAction {
+    private final List<S> solutionList ;
+    private final int from ;
+    private final int to ;
+    private final Problem<S> problem ;
+    private final EvaluationAction<S> next ;
+
+    public EvaluationAction(List<S> solutionList, int from, int to, Problem<S> problem,
+        EvaluationAction<S> next) {
+      this.solutionList = solutionList ;
+      this.from = from ;
+      this.to = to ;
+      this.problem = problem ;
+      this.next = next ;
+    }
+
+    @Override
+    protected void compute() {
+      int high = to ;
+      EvaluationAction<S> forked = null ;
+      while ((high - from > 1) && (getSurplusQueuedTaskCount() <= SURPLUS_THRESHOLD)) {
+        int middle = (from + high) >>> 1 ;
+        forked = new EvaluationAction<S>(solutionList, middle, high, problem, forked) ;
+        forked.fork() ;
+        high = middle ;
+      }
+
+      evaluate(solutionList, from, high, problem) ;
+
+      while (forked != null) {
+        if (forked.tryUnfork()) {
+          forked.compute() ;
+        } else {
+          forked.join() ;
+        }
+        forked = forked.next ;
+      }
+    }
+  }
+}
@@ -16,33 +16,38 @@ package org.uma.jmetal.util.evaluator.impl;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.parallel.impl.MultithreadedEvaluator;
 
 import java.util.List;
 
 /**
+ * Evaluator using several threads. The evaluation is delegated to a
+ * {@link ForkJoinSolutionListEvaluator}, which splits the list into adaptive chunks instead of
+ * creating a task per solution.
+ *
  * @author Antonio J. Nebro
  */
+@SuppressWarnings("serial")
 public class MultithreadedSolutionListEvaluator<S extends Solution<?>> implements SolutionListEvaluator<S> {
-  private MultithreadedEvaluator<S> evaluator;
+  private ForkJoinSolutionListEvaluator<S> evaluator;
   private Problem<S> problem;
   private int numberOfThreads ;
 
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads. A value of 0 means using all the available
+   *                        processors
+   * @param problem Problem to solve
+   */
   public MultithreadedSolutionListEvaluator(int numberOfThreads, Problem<S> problem) {
-  	this.numberOfThreads = numberOfThreads ;
-    evaluator = new MultithreadedEvaluator<S>(numberOfThreads)  ;
+    evaluator = new ForkJoinSolutionListEvaluator<S>(numberOfThreads)  ;
+    this.numberOfThreads = evaluator.getNumberOfThreads() ;
     this.problem = problem ;
-    evaluator.start(problem) ;
   }
 
   @Override
-  public List<S> evaluate(List<S> SolutionList, Problem<S> problem) {
-    for (int i = 0 ; i < SolutionList.size(); i++) {
-      evaluator.addTask(new Object[] {SolutionList.get(i)});
-    }
-    evaluator.parallelExecution() ;
-
-    return SolutionList;
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    return evaluator.evaluate(solutionList, problem) ;
   }
 
   public int getNumberOfThreads() {
@@ -50,7 +55,7 @@ public class MultithreadedSolutionListEvaluator<S extends Solution<?>> implement
   }
   
   @Override public void shutdown() {
-    evaluator.stop();
+    evaluator.shutdown();
   }
 
 }
@@ -42,6 +42,7 @@ public class Experiment<S extends Solution<?>, Result> {
   private List<GenericIndicator<S>> indicatorList ;
 
   private int numberOfCores ;
+  private Long masterSeed ;
 
 	/** Constructor */
 	public Experiment(ExperimentBuilder<S, Result> builder) {
@@ -53,6 +54,7 @@ public class Experiment<S extends Solution<?>, Result> {
     this.outputParetoFrontFileName = builder.getOutputParetoFrontFileName() ;
     this.outputParetoSetFileName = builder.getOutputParetoSetFileName() ;
     this.numberOfCores = builder.getNumberOfCores() ;
+    this.masterSeed = builder.getMasterSeed() ;
     this.referenceFrontDirectory = builder.getReferenceFrontDirectory() ;
     this.referenceFrontFileNames = builder.getReferenceFrontFileNames() ;
     this.indicatorList = builder.getIndicatorList() ;
@@ -91,6 +93,14 @@ public class Experiment<S extends Solution<?>, Result> {
     return numberOfCores ;
   }
 
+  /**
+   * Returns the seed of the random streams of the runs, or null if the runs use the shared
+   * random generator
+   */
+  public Long getMasterSeed() {
+    return masterSeed ;
+  }
+
   public List<String> getReferenceFrontFileNames() {
     return referenceFrontFileNames;
   }
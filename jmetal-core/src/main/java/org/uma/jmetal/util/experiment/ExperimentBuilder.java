@@ -40,6 +40,7 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
   private List<GenericIndicator<S>> indicatorList ;
 
   private int numberOfCores ;
+  private Long masterSeed ;
 
   public ExperimentBuilder(String experimentName) {
     this.experimentName = experimentName ;
@@ -110,6 +111,16 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
     return this ;
   }
 
+  /**
+   * Sets the seed from which the random streams of the runs are derived. Each run uses its own
+   * stream, so the results of the experiment do not depend on the number of cores
+   */
+  public ExperimentBuilder<S, Result> setMasterSeed(long masterSeed) {
+    this.masterSeed = masterSeed ;
+
+    return this ;
+  }
+
   public Experiment<S, Result> build() {
     return new Experiment<S, Result>(this);
   }
@@ -147,6 +158,10 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
     return numberOfCores;
   }
 
+  public Long getMasterSeed() {
+    return masterSeed;
+  }
+
   public List<String> getReferenceFrontFileNames() {
     return referenceFrontFileNames;
   }
@@ -13,6 +13,7 @@
 
 package org.uma.jmetal.util.experiment.component;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.problem.Problem;
@@ -25,18 +26,26 @@ import org.uma.jmetal.util.experiment.ExperimentComponent;
 import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
 import org.uma.jmetal.util.front.util.FrontNormalizer;
 import org.uma.jmetal.util.front.util.FrontUtils;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING ;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * This class computes the {@link QualityIndicator}s of an experiment. Once the algorithms of an
@@ -46,111 +55,196 @@ import java.util.*;
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
  * in the same directory of the FUN files.
  *
+ * The combinations algorithm tag + problem are processed in parallel using the number of cores of
+ * the experiment. Each reference front is read and normalized only once, and each FUN file is read
+ * and normalized once and evaluated by all the indicators; the indicator files of a combination are
+ * written as soon as its values are computed. As indicators keep state while evaluating a front,
+ * each task works with its own copies of the indicators of the experiment.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("unchecked")
 public class ComputeQualityIndicators<Result> implements ExperimentComponent {
 
   private final Experiment<?, Result> experiment;
+  private final ConcurrentMap<Integer, Future<ReferenceFront>> referenceFronts ;
 
   public ComputeQualityIndicators(Experiment experiment) {
     this.experiment = experiment ;
     this.experiment.removeDuplicatedAlgorithms();
+    this.referenceFronts = new ConcurrentHashMap<>() ;
   }
 
   @Override
   public void run() throws IOException {
-    for (GenericIndicator indicator : experiment.getIndicatorList()) {
-      JMetalLogger.logger.info("Computing indicator: " + indicator.getName()); ;
+    if (experiment.getNumberOfCores() < 0) {
+      throw new JMetalException("The number of cores cannot be negative: "
+          + experiment.getNumberOfCores()) ;
+    }
+    int numberOfThreads = (experiment.getNumberOfCores() == 0) ?
+        Runtime.getRuntime().availableProcessors() : experiment.getNumberOfCores() ;
 
-      for (TaggedAlgorithm algorithm : experiment.getAlgorithmList()) {
-        String algorithmDirectory ;
-        algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-            algorithm.getTag() ;
+    referenceFronts.clear();
 
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    CompletionService<String> completionService = new ExecutorCompletionService<>(executor) ;
+    try {
+      int numberOfTasks = 0 ;
+      for (String algorithmTag : getAlgorithmTags(experiment)) {
         for (int problemId = 0; problemId < experiment.getProblemList().size(); problemId++) {
-          String problemDirectory = algorithmDirectory + "/" + experiment.getProblemList().get(problemId).getName() ;
+          completionService.submit(new IndicatorTask(algorithmTag, problemId)) ;
+          numberOfTasks++ ;
+        }
+      }
 
-          String referenceFrontDirectory = experiment.getReferenceFrontDirectory() ;
-          String referenceFrontName = referenceFrontDirectory +
-              "/" + experiment.getReferenceFrontFileNames().get(problemId) ;
+      for (int i = 0; i < numberOfTasks; i++) {
+        String problemDirectory = completionService.take().get() ;
+        JMetalLogger.logger.info("Computed indicators of " + problemDirectory +
+            ". Progress: " + (i + 1) + "/" + numberOfTasks);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while computing the quality indicators", e) ;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause() ;
+      }
+      throw new JMetalException("Error computing the quality indicators", e) ;
+    } finally {
+      executor.shutdownNow() ;
+    }
 
-          JMetalLogger.logger.info("RF: " + referenceFrontName); ;
-          Front referenceFront = new ArrayFront(referenceFrontName) ;
+    findBestIndicatorFronts(experiment) ;
+  }
 
-          FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront) ;
-          Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront) ;
+  /**
+   * Returns the tags of the algorithms of the experiment, without repetitions
+   */
+  private Set<String> getAlgorithmTags(Experiment<?, Result> experiment) {
+    Set<String> algorithmTags = new LinkedHashSet<>() ;
+    for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {
+      algorithmTags.add(algorithm.getTag()) ;
+    }
 
-          String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
-          resetFile(qualityIndicatorFile);
+    return algorithmTags ;
+  }
 
-          indicator.setReferenceParetoFront(normalizedReferenceFront);
-          for (int i = 0; i < experiment.getIndependentRuns(); i++) {
-            String frontFileName = problemDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + i + ".tsv";
-            String variableFileName = problemDirectory + "/" +
-                experiment.getOutputParetoSetFileName() + i + ".tsv";
+  /**
+   * Returns the reference front of a problem. The reference front file is read by the first thread
+   * requesting it; the rest of threads wait for the result
+   */
+  private ReferenceFront getReferenceFront(final int problemId) throws IOException, InterruptedException {
+    Future<ReferenceFront> future = referenceFronts.get(problemId) ;
+    if (future == null) {
+      FutureTask<ReferenceFront> task = new FutureTask<>(new Callable<ReferenceFront>() {
+        @Override public ReferenceFront call() throws IOException {
+          String referenceFrontName = experiment.getReferenceFrontDirectory() +
+              "/" + experiment.getReferenceFrontFileNames().get(problemId) ;
 
-            Front front = new ArrayFront(frontFileName) ;
-            Front normalizedFront = frontNormalizer.normalize(front) ;
-            List<DoubleSolution> normalizedPopulation = FrontUtils .convertFrontToSolutionList(normalizedFront) ;
-            Double indicatorValue = (Double)indicator.evaluate(normalizedPopulation) ;
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue) ;
+          JMetalLogger.logger.info("RF: " + referenceFrontName); ;
+          Front referenceFront = new FlatArrayFront(referenceFrontName) ;
 
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile) ;
-          }
+          return new ReferenceFront(referenceFront) ;
         }
+      }) ;
+      future = referenceFronts.putIfAbsent(problemId, task) ;
+      if (future == null) {
+        future = task ;
+        task.run();
       }
     }
-    findBestIndicatorFronts(experiment) ;
+
+    try {
+      return future.get() ;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause() ;
+      }
+      throw new JMetalException("Error reading the reference front", e) ;
+    }
   }
 
-  private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
-    FileWriter os;
+  private void writeQualityIndicatorValuesToFile(double[] indicatorValues, String qualityIndicatorFile) {
+    StringBuilder values = new StringBuilder() ;
+    for (double value : indicatorValues) {
+      values.append(value).append("\n") ;
+    }
+
     try {
-      os = new FileWriter(qualityIndicatorFile, true);
-      os.write("" + indicatorValue + "\n");
-      os.close();
+      Files.write(Paths.get(qualityIndicatorFile), values.toString().getBytes(StandardCharsets.UTF_8));
     } catch (IOException ex) {
       throw new JMetalException("Error writing indicator file" + ex) ;
     }
   }
 
   /**
-   * Deletes a file or directory if it does exist
-   * @param file
+   * Normalized reference front of a problem, together with the normalizer of the fronts of the problem
    */
-  private void resetFile(String file) {
-    File f = new File(file);
-    if (f.exists()) {
-      JMetalLogger.logger.info("File " + file + " exist.");
-
-      if (f.isDirectory()) {
-        JMetalLogger.logger.info("File " + file + " is a directory. Deleting directory.");
-        if (f.delete()) {
-          JMetalLogger.logger.info("Directory successfully deleted.");
-        } else {
-          JMetalLogger.logger.info("Error deleting directory.");
-        }
-      } else {
-        JMetalLogger.logger.info("File " + file + " is a file. Deleting file.");
-        if (f.delete()) {
-          JMetalLogger.logger.info("File succesfully deleted.");
-        } else {
-          JMetalLogger.logger.info("Error deleting file.");
+  private static class ReferenceFront {
+    private final FrontNormalizer normalizer ;
+    private final FlatArrayFront normalizedFront ;
+
+    public ReferenceFront(Front referenceFront) {
+      normalizer = new FrontNormalizer(referenceFront) ;
+      normalizedFront = new FlatArrayFront(referenceFront) ;
+      normalizer.normalizeInPlace(normalizedFront);
+    }
+  }
+
+  /**
+   * Computes the indicator values of the FUN files of an algorithm and a problem, returning the
+   * name of the directory containing them
+   */
+  private class IndicatorTask implements Callable<String> {
+    private final String algorithmTag ;
+    private final int problemId ;
+
+    public IndicatorTask(String algorithmTag, int problemId) {
+      this.algorithmTag = algorithmTag ;
+      this.problemId = problemId ;
+    }
+
+    @Override public String call() throws IOException, InterruptedException {
+      String problemDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
+          algorithmTag + "/" + experiment.getProblemList().get(problemId).getName() ;
+
+      ReferenceFront referenceFront = getReferenceFront(problemId) ;
+
+      List<List<DoubleSolution>> normalizedPopulations = new ArrayList<>() ;
+      for (int i = 0; i < experiment.getIndependentRuns(); i++) {
+        String frontFileName = problemDirectory + "/" +
+            experiment.getOutputParetoFrontFileName() + i + ".tsv";
+
+        FlatArrayFront front = new FlatArrayFront(frontFileName) ;
+        referenceFront.normalizer.normalizeInPlace(front) ;
+        normalizedPopulations.add(FrontUtils.convertFrontToSolutionList(front)) ;
+      }
+
+      for (GenericIndicator<?> experimentIndicator : experiment.getIndicatorList()) {
+        GenericIndicator<DoubleSolution> indicator =
+            (GenericIndicator<DoubleSolution>) SerializationUtils.clone(experimentIndicator) ;
+        indicator.setReferenceParetoFront(new FlatArrayFront(referenceFront.normalizedFront));
+
+        double[] indicatorValues = new double[normalizedPopulations.size()] ;
+        for (int i = 0; i < indicatorValues.length; i++) {
+          indicatorValues[i] = indicator.evaluate(normalizedPopulations.get(i)) ;
         }
+        JMetalLogger.logger.info(indicator.getName() + " (" + problemDirectory + "): " +
+            Arrays.toString(indicatorValues)) ;
+
+        writeQualityIndicatorValuesToFile(indicatorValues, problemDirectory + "/" + indicator.getName()) ;
       }
-    } else {
-      JMetalLogger.logger.info("File " + file + " does NOT exist.");
+
+      return problemDirectory ;
     }
   }
 
   public void findBestIndicatorFronts(Experiment<?, Result> experiment) throws IOException {
-    for (GenericIndicator indicator : experiment.getIndicatorList()) {
-      for (TaggedAlgorithm algorithm : experiment.getAlgorithmList()) {
+    for (GenericIndicator<?> indicator : experiment.getIndicatorList()) {
+      for (String algorithmTag : getAlgorithmTags(experiment)) {
         String algorithmDirectory;
         algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-            algorithm.getTag();
+            algorithmTag;
 
         for (Problem<?> problem :experiment.getProblemList()) {
           String indicatorFileName =
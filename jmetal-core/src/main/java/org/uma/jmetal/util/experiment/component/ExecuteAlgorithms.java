@@ -20,7 +20,7 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.experiment.ExperimentComponent;
 import org.uma.jmetal.util.experiment.Experiment;
-import org.uma.jmetal.util.experiment.util.MultithreadedExperimentExecutor;
+import org.uma.jmetal.util.experiment.util.ResumableExperimentExecutor;
 import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
 
 import java.io.File;
@@ -28,8 +28,9 @@ import java.io.File;
 /**
  * This class executes the algorithms the have been configured with a instance of class
  * {@link Experiment}. For each combination algorithm + problem + runId an instance
- * of {@link TaggedAlgorithm} is created and inserted as a task of a {@link MultithreadedExperimentExecutor},
- * which runs all the algorithms.
+ * of {@link TaggedAlgorithm} is created and inserted as a task of a {@link ResumableExperimentExecutor},
+ * which runs all the algorithms. The completed runs are recorded in a ledger in the experiment base
+ * directory, so if the experiment is executed again only the runs not completed are performed.
  *
  * The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per experiment, which are
  * stored in the directory {@link Experiment #getExperimentBaseDirectory()}/algorithmName/problemName.
@@ -49,19 +50,8 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result> implements Experim
     JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
     prepareOutputDirectory() ;
 
-    MultithreadedExperimentExecutor<S, Result> parallelExecutor ;
-
-    parallelExecutor = new MultithreadedExperimentExecutor<S, Result>(experiment.getNumberOfCores()) ;
-    parallelExecutor.start(this);
-
-    for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {
-      //for (int i = 0; i < experiment.getIndependentRuns(); i++) {
-      //TaggedAlgorithm<Result> clonedAlgorithm = SerializationUtils.clone(algorithm) ;
-      parallelExecutor.addTask(new Object[]{algorithm, algorithm.getRunId(), experiment});
-      //}
-    }
-    parallelExecutor.parallelExecution();
-    parallelExecutor.stop();  }
+    new ResumableExperimentExecutor<S, Result>(experiment).run();
+  }
 
   private void prepareOutputDirectory() {
     if (experimentDirectoryDoesNotExist()) {
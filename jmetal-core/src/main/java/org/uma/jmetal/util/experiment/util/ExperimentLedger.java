@@ -0,0 +1,129 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.experiment.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persistent record of the completed runs of an experiment. Each line of the ledger file contains
+ * the tag of an algorithm, the name of a problem, the run id and the time (in milliseconds) taken
+ * by the run, separated by tabs; a time of -1 means that it is unknown. Lines are appended as
+ * soon as the runs finish, so the ledger survives if the JVM dies; incomplete lines are ignored
+ * when it is read.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ExperimentLedger {
+  private static final String SEPARATOR = "\t" ;
+
+  private final File file ;
+  private final Map<String, Long> elapsedTimes ;
+
+  /**
+   * Constructor. The entries of the file are loaded if it exists
+   */
+  public ExperimentLedger(String fileName) {
+    file = new File(fileName) ;
+    elapsedTimes = new HashMap<>() ;
+    if (file.exists()) {
+      load() ;
+    }
+  }
+
+  private void load() {
+    try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+      String line ;
+      while ((line = reader.readLine()) != null) {
+        String[] fields = line.split(SEPARATOR) ;
+        if (fields.length == 4) {
+          try {
+            long elapsedTime = Long.parseLong(fields[3]) ;
+            elapsedTimes.put(getKey(fields[0], fields[1], Integer.parseInt(fields[2])), elapsedTime) ;
+          } catch (NumberFormatException e) {
+            JMetalLogger.logger.warning("ExperimentLedger: ignoring line " + line);
+          }
+        } else if (!line.isEmpty()) {
+          JMetalLogger.logger.warning("ExperimentLedger: ignoring line " + line);
+        }
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the ledger " + file, e) ;
+    }
+  }
+
+  /**
+   * Records a completed run, appending it to the file
+   */
+  public synchronized void record(String tag, String problemName, int runId, long elapsedTime) {
+    try (Writer writer = new FileWriter(file, true)) {
+      writer.write(tag + SEPARATOR + problemName + SEPARATOR + runId + SEPARATOR + elapsedTime
+          + "\n");
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the ledger " + file, e) ;
+    }
+    elapsedTimes.put(getKey(tag, problemName, runId), elapsedTime) ;
+  }
+
+  public synchronized boolean contains(String tag, String problemName, int runId) {
+    return elapsedTimes.containsKey(getKey(tag, problemName, runId)) ;
+  }
+
+  /**
+   * Returns the time taken by a run, or -1 if it is unknown
+   */
+  public synchronized long getElapsedTime(String tag, String problemName, int runId) {
+    Long elapsedTime = elapsedTimes.get(getKey(tag, problemName, runId)) ;
+    return (elapsedTime == null) ? -1 : elapsedTime ;
+  }
+
+  /**
+   * Returns the average time of the recorded runs of an algorithm on a problem (of any algorithm
+   * on the problem if the tag is null), or -1 if there are none with known time
+   */
+  public synchronized double getAverageElapsedTime(String tag, String problemName) {
+    double sum = 0.0 ;
+    int count = 0 ;
+    for (Map.Entry<String, Long> entry : elapsedTimes.entrySet()) {
+      String[] fields = entry.getKey().split(SEPARATOR) ;
+      if ((entry.getValue() >= 0) && fields[1].equals(problemName) &&
+          ((tag == null) || fields[0].equals(tag))) {
+        sum += entry.getValue() ;
+        count++ ;
+      }
+    }
+    return (count == 0) ? -1 : sum / count ;
+  }
+
+  public synchronized int size() {
+    return elapsedTimes.size() ;
+  }
+
+  public String getFileName() {
+    return file.getPath() ;
+  }
+
+  private String getKey(String tag, String problemName, int runId) {
+    return tag + SEPARATOR + problemName + SEPARATOR + runId ;
+  }
+}
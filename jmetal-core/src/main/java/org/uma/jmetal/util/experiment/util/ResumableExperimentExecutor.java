@@ -0,0 +1,342 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.experiment.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.experiment.Experiment;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.RandomStreams;
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Executes the independent runs of an experiment, recording the completed ones in an
+ * {@link ExperimentLedger} stored in the experiment base directory. When the experiment is
+ * executed again, the runs whose FUN and VAR files are present and valid are skipped, so an
+ * interrupted experiment is resumed where it stopped. The ledger only provides the elapsed time of
+ * the runs: a run recorded in it is executed again if its output files are missing or invalid.
+ *
+ * The pending runs are ordered by their expected time, taken from the ledger (the average time of
+ * the runs of the same algorithm and problem, or of the same problem), and the longest ones are
+ * executed first; runs with unknown time go before the rest. Only a bounded number of tasks are
+ * submitted to the thread pool at any time, and the number of completed, skipped and failed runs
+ * can be queried while the experiment is running. The FUN and VAR files are written to temporary
+ * files which are renamed when complete, so a run interrupted while writing its results is not
+ * taken as completed. Runs that fail are logged and not recorded, so they are executed again the
+ * next time.
+ *
+ * If the experiment has a master seed, each run draws its random numbers from its own stream of
+ * {@link RandomStreams}, identified by the run id and a 64-bit hash of the tag of the algorithm and
+ * the name of the problem, so the results are the same regardless of the number of threads and of the order in
+ * which the runs are executed (including resumed experiments).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ResumableExperimentExecutor<S extends Solution<?>, Result> {
+  public static final String LEDGER_FILE_NAME = "ledger.tsv" ;
+  private static final int TASKS_PER_THREAD = 2 ;
+
+  private final Experiment<S, Result> experiment ;
+  private final int numberOfThreads ;
+  private final ExperimentLedger ledger ;
+  private final RandomStreams randomStreams ;
+
+  private final AtomicInteger completedRuns ;
+  private final AtomicInteger skippedRuns ;
+  private final AtomicInteger failedRuns ;
+  private volatile int totalRuns ;
+
+  /** Constructor */
+  public ResumableExperimentExecutor(Experiment<S, Result> experiment) {
+    this.experiment = experiment ;
+    if (experiment.getNumberOfCores() < 0) {
+      throw new JMetalException("The number of cores cannot be negative: "
+          + experiment.getNumberOfCores()) ;
+    }
+    numberOfThreads = (experiment.getNumberOfCores() == 0) ?
+        Runtime.getRuntime().availableProcessors() : experiment.getNumberOfCores() ;
+    randomStreams = (experiment.getMasterSeed() == null) ?
+        null : new RandomStreams(experiment.getMasterSeed()) ;
+    ledger = new ExperimentLedger(experiment.getExperimentBaseDirectory() + "/" + LEDGER_FILE_NAME) ;
+
+    completedRuns = new AtomicInteger() ;
+    skippedRuns = new AtomicInteger() ;
+    failedRuns = new AtomicInteger() ;
+  }
+
+  /**
+   * Executes the pending runs of the experiment
+   */
+  public void run() {
+    List<TaggedAlgorithm<Result>> pendingRuns = new ArrayList<>() ;
+    for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {
+      if (isCompleted(algorithm)) {
+        skippedRuns.incrementAndGet() ;
+      } else {
+        pendingRuns.add(algorithm) ;
+      }
+    }
+    totalRuns = experiment.getAlgorithmList().size() ;
+    JMetalLogger.logger.info("ExecuteAlgorithms: " + skippedRuns.get() + " of " + totalRuns +
+        " runs already completed (ledger: " + ledger.getFileName() + ")");
+
+    sortByExpectedTime(pendingRuns) ;
+
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    CompletionService<Long> completionService = new ExecutorCompletionService<>(executor) ;
+    Map<Future<Long>, TaggedAlgorithm<Result>> runningTasks = new HashMap<>() ;
+    try {
+      Iterator<TaggedAlgorithm<Result>> iterator = pendingRuns.iterator() ;
+      while (iterator.hasNext() || !runningTasks.isEmpty()) {
+        while (iterator.hasNext() && (runningTasks.size() < TASKS_PER_THREAD * numberOfThreads)) {
+          TaggedAlgorithm<Result> algorithm = iterator.next() ;
+          runningTasks.put(completionService.submit(new RunTask(algorithm)), algorithm) ;
+        }
+
+        Future<Long> future = completionService.take() ;
+        processResult(future, runningTasks.remove(future)) ;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while executing the experiment", e) ;
+    } finally {
+      executor.shutdownNow() ;
+    }
+  }
+
+  private void processResult(Future<Long> future, TaggedAlgorithm<Result> algorithm)
+      throws InterruptedException {
+    String run = algorithm.getTag() + ", problem: " + algorithm.getProblem().getName() +
+        ", run: " + algorithm.getRunId() ;
+    try {
+      long elapsedTime = future.get() ;
+      ledger.record(algorithm.getTag(), algorithm.getProblem().getName(), algorithm.getRunId(),
+          elapsedTime);
+      completedRuns.incrementAndGet() ;
+      JMetalLogger.logger.info("ExecuteAlgorithms: finished " + run + " in " + elapsedTime +
+          " ms. Progress: " + (completedRuns.get() + skippedRuns.get()) + "/" + totalRuns +
+          (failedRuns.get() > 0 ? " (" + failedRuns.get() + " failed)" : ""));
+    } catch (ExecutionException e) {
+      failedRuns.incrementAndGet() ;
+      JMetalLogger.logger.log(Level.SEVERE, "ExecuteAlgorithms: failed " + run, e.getCause());
+    }
+  }
+
+  /**
+   * A run is completed if its output files are valid, whether it is recorded in the ledger or not.
+   * Runs with valid output files not recorded in the ledger (e.g., produced by a previous version)
+   * are recorded with unknown time
+   */
+  private boolean isCompleted(TaggedAlgorithm<Result> algorithm) {
+    String directory = getOutputDirectoryName(algorithm) ;
+    boolean valid = isValidOutput(new File(directory, "FUN" + algorithm.getRunId() + ".tsv"),
+        new File(directory, "VAR" + algorithm.getRunId() + ".tsv"),
+        algorithm.getProblem().getNumberOfObjectives()) ;
+
+    if (valid && !ledger.contains(algorithm.getTag(), algorithm.getProblem().getName(),
+        algorithm.getRunId())) {
+      ledger.record(algorithm.getTag(), algorithm.getProblem().getName(), algorithm.getRunId(), -1);
+    }
+
+    return valid ;
+  }
+
+  /**
+   * The FUN file must contain a line with the objective values of each solution, at least one, and
+   * the VAR file the same number of lines
+   */
+  static boolean isValidOutput(File funFile, File varFile, int numberOfObjectives) {
+    if (!funFile.isFile() || !varFile.isFile()) {
+      return false ;
+    }
+
+    try {
+      int numberOfSolutions = 0 ;
+      try (BufferedReader reader = new BufferedReader(new FileReader(funFile))) {
+        String line ;
+        while ((line = reader.readLine()) != null) {
+          String[] values = line.trim().split("\\s+") ;
+          if (values.length != numberOfObjectives) {
+            return false ;
+          }
+          for (String value : values) {
+            Double.parseDouble(value) ;
+          }
+          numberOfSolutions++ ;
+        }
+      }
+
+      int numberOfLines = 0 ;
+      try (BufferedReader reader = new BufferedReader(new FileReader(varFile))) {
+        while (reader.readLine() != null) {
+          numberOfLines++ ;
+        }
+      }
+
+      return (numberOfSolutions > 0) && (numberOfLines == numberOfSolutions) ;
+    } catch (IOException | NumberFormatException e) {
+      return false ;
+    }
+  }
+
+  private void sortByExpectedTime(List<TaggedAlgorithm<Result>> runs) {
+    final Map<TaggedAlgorithm<Result>, Double> expectedTimes = new HashMap<>() ;
+    for (TaggedAlgorithm<Result> algorithm : runs) {
+      String problemName = algorithm.getProblem().getName() ;
+      double time = ledger.getAverageElapsedTime(algorithm.getTag(), problemName) ;
+      if (time < 0) {
+        time = ledger.getAverageElapsedTime(null, problemName) ;
+      }
+      expectedTimes.put(algorithm, (time < 0) ? Double.POSITIVE_INFINITY : time) ;
+    }
+
+    Collections.sort(runs, new Comparator<TaggedAlgorithm<Result>>() {
+      @Override public int compare(TaggedAlgorithm<Result> algorithm1,
+          TaggedAlgorithm<Result> algorithm2) {
+        return Double.compare(expectedTimes.get(algorithm2), expectedTimes.get(algorithm1)) ;
+      }
+    });
+  }
+
+  private String getOutputDirectoryName(TaggedAlgorithm<Result> algorithm) {
+    return experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getTag() + "/" +
+        algorithm.getProblem().getName() ;
+  }
+
+  /**
+   * The stream of a run is a 64-bit hash of the tag of the algorithm and the name of the problem,
+   * so it does not depend on the position of the run, the algorithm or the problem in the lists of
+   * the experiment (which may change when an experiment is extended and resumed), and different
+   * pairs get the same stream with negligible probability (unlike a 32-bit String.hashCode())
+   */
+  static long getStreamId(TaggedAlgorithm<?> algorithm) {
+    return hash(algorithm.getProblem().getName(), hash(algorithm.getTag(), 0)) ;
+  }
+
+  /**
+   * Chains the hash of a string to a previous hash. The length of the string is hashed first, so
+   * two pairs of strings with the same concatenation get different hashes
+   */
+  private static long hash(String string, long previousHash) {
+    long hash = SplitMix64Generator.mix64(previousHash + string.length()) ;
+    for (int i = 0; i < string.length(); i++) {
+      hash = SplitMix64Generator.mix64(hash + string.charAt(i)) ;
+    }
+    return hash ;
+  }
+
+  public int getNumberOfCompletedRuns() {
+    return completedRuns.get() ;
+  }
+
+  public int getNumberOfSkippedRuns() {
+    return skippedRuns.get() ;
+  }
+
+  public int getNumberOfFailedRuns() {
+    return failedRuns.get() ;
+  }
+
+  public int getNumberOfRuns() {
+    return totalRuns ;
+  }
+
+  public ExperimentLedger getLedger() {
+    return ledger ;
+  }
+
+  /**
+   * Runs an algorithm and writes its FUN and VAR files, returning the elapsed time
+   */
+  private class RunTask implements Callable<Long> {
+    private final TaggedAlgorithm<Result> algorithm ;
+
+    public RunTask(TaggedAlgorithm<Result> algorithm) {
+      this.algorithm = algorithm ;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public Long call() {
+      File outputDirectory = new File(getOutputDirectoryName(algorithm)) ;
+      if (!outputDirectory.exists() && !outputDirectory.mkdirs() && !outputDirectory.exists()) {
+        throw new JMetalException("Error creating directory " + outputDirectory) ;
+      }
+
+      JMetalLogger.logger.info(" Running algorithm: " + algorithm.getTag() +
+          ", problem: " + algorithm.getProblem().getName() + ", run: " + algorithm.getRunId());
+
+      long startTime = System.currentTimeMillis() ;
+      if (randomStreams == null) {
+        algorithm.run();
+      } else {
+        randomStreams.bindToCurrentThread(algorithm.getRunId(), getStreamId(algorithm)) ;
+        try {
+          algorithm.run();
+        } finally {
+          JMetalRandom.getInstance().removeThreadRandomGenerator();
+        }
+      }
+      long elapsedTime = System.currentTimeMillis() - startTime ;
+
+      File funFile = new File(outputDirectory, "FUN" + algorithm.getRunId() + ".tsv") ;
+      File varFile = new File(outputDirectory, "VAR" + algorithm.getRunId() + ".tsv") ;
+      File temporaryFunFile = new File(outputDirectory, funFile.getName() + ".tmp") ;
+      File temporaryVarFile = new File(outputDirectory, varFile.getName() + ".tmp") ;
+
+      new SolutionListOutput((List<? extends S>) algorithm.getResult())
+          .setSeparator("\t")
+          .setVarFileOutputContext(new DefaultFileOutputContext(temporaryVarFile.getPath()))
+          .setFunFileOutputContext(new DefaultFileOutputContext(temporaryFunFile.getPath()))
+          .print();
+
+      rename(temporaryVarFile, varFile) ;
+      rename(temporaryFunFile, funFile) ;
+
+      return elapsedTime ;
+    }
+
+    private void rename(File source, File target) {
+      if (target.exists() && !target.delete()) {
+        throw new JMetalException("Error deleting " + target) ;
+      }
+      if (!source.renameTo(target)) {
+        throw new JMetalException("Error renaming " + source + " to " + target) ;
+      }
+    }
+  }
+}
@@ -14,6 +14,7 @@
 package org.uma.jmetal.util.fileinput.util;
 
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.util.BinaryFrontFile;
 
 import java.io.*;
 import java.util.ArrayList;
@@ -22,12 +23,17 @@ import java.util.StringTokenizer;
 
 /**
  * Utiliy class that reads a file containing a double value per line and returns an array with all of them.
+ * Binary files written with {@link BinaryFrontFile} are also accepted.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ReadDoubleDataFile {
 
   public double[] readFile(String fileName) throws FileNotFoundException {
+    if (BinaryFrontFile.isBinaryFrontFile(fileName)) {
+      return BinaryFrontFile.readValues(fileName) ;
+    }
+
     InputStream inputStream = getClass().getResourceAsStream("/" + fileName);
 
     if (inputStream == null) {
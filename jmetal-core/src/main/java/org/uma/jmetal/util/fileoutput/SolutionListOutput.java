@@ -15,6 +15,7 @@ package org.uma.jmetal.util.fileoutput;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.util.BinaryFrontFile;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 
 import java.io.BufferedWriter;
@@ -33,6 +34,7 @@ public class SolutionListOutput {
   private List<? extends Solution<?>> solutionList;
   private boolean selectFeasibleSolutions;
   private List<Boolean> isObjectiveToBeMinimized ;
+  private boolean binaryFormat ;
 
   public SolutionListOutput(List<? extends Solution<?>> solutionList) {
     varFileContext = new DefaultFileOutputContext(varFileName);
@@ -42,6 +44,7 @@ public class SolutionListOutput {
     this.solutionList = solutionList;
     selectFeasibleSolutions = false;
     isObjectiveToBeMinimized = null ;
+    binaryFormat = false ;
   }
 
   public SolutionListOutput setVarFileOutputContext(FileOutputContext fileContext) {
@@ -67,6 +70,16 @@ public class SolutionListOutput {
     return this;
   }
 
+  /**
+   * Selects the binary format of {@link BinaryFrontFile} instead of text. The files are written to
+   * the file names of the output contexts
+   */
+  public SolutionListOutput setBinaryFormat(boolean binaryFormat) {
+    this.binaryFormat = binaryFormat ;
+
+    return this;
+  }
+
   public SolutionListOutput setSeparator(String separator) {
     this.separator = separator;
     varFileContext.setSeparator(this.separator);
@@ -76,6 +89,12 @@ public class SolutionListOutput {
   }
 
   public void print() {
+    if (binaryFormat) {
+      BinaryFrontFile.writeObjectives(solutionList, isObjectiveToBeMinimized, funFileContext.getFileName());
+      BinaryFrontFile.writeVariables(solutionList, varFileContext.getFileName());
+      return ;
+    }
+
     if (isObjectiveToBeMinimized == null) {
       printObjectivesToFile(funFileContext, solutionList);
     } else {
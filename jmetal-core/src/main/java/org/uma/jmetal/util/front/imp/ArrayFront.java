@@ -17,6 +17,7 @@ package org.uma.jmetal.util.front.imp;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.util.BinaryFrontFile;
 import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.impl.ArrayPoint;
 
@@ -96,11 +97,20 @@ public class ArrayFront implements Front {
 
   /**
    * Constructor
-   * @param fileName File containing the data. Each line of the file is a list of objective values
+   * @param fileName File containing the data. Each line of the file is a list of objective values,
+   *                 unless it is a binary file written with {@link BinaryFrontFile}
    * @throws FileNotFoundException
    */
   public ArrayFront(String fileName) throws FileNotFoundException {
     this() ;
+    if (BinaryFrontFile.isBinaryFrontFile(fileName)) {
+      ArrayFront front = (ArrayFront) BinaryFrontFile.readFront(fileName) ;
+      points = front.points ;
+      numberOfPoints = front.numberOfPoints ;
+      pointDimensions = front.pointDimensions ;
+      return ;
+    }
+
     // TODO: investigate why no exception is raised if fileName == ""
     InputStream inputStream = createInputStream(fileName) ;
 
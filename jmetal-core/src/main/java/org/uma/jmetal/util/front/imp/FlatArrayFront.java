@@ -0,0 +1,393 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.front.imp;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.util.BinaryFrontFile;
+import org.uma.jmetal.util.point.Point;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringTokenizer;
+
+/**
+ * This class implements the {@link Front} interface by storing the values of all the points in a
+ * single array, ordered by points (all the values of the first point, then all the values of the
+ * second one, and so on). It uses less memory than {@link ArrayFront} and the values can be
+ * accessed directly with methods {@link #getValue(int, int)} and {@link #getValues()}, which is
+ * what the quality indicators do when they receive fronts of this class.
+ *
+ * The points returned by {@link #getPoint(int)} are views of the array, so changing their values
+ * changes the front.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class FlatArrayFront implements Front {
+  private double[] values ;
+  private int numberOfPoints ;
+  private int pointDimensions ;
+  private int modificationCount ;
+
+  /** Constructor */
+  public FlatArrayFront(int numberOfPoints, int dimensions) {
+    if (numberOfPoints < 0) {
+      throw new JMetalException("The number of points is negative: " + numberOfPoints) ;
+    } else if (dimensions < 0) {
+      throw new JMetalException("The number of dimensions is negative: " + dimensions) ;
+    }
+    this.numberOfPoints = numberOfPoints ;
+    this.pointDimensions = dimensions ;
+    this.values = new double[numberOfPoints * dimensions] ;
+  }
+
+  /**
+   * Constructor using an array of values ordered by points, which is not copied
+   */
+  public FlatArrayFront(double[] values, int dimensions) {
+    if (values == null) {
+      throw new JMetalException("The array of values is null") ;
+    } else if ((dimensions <= 0) || (values.length % dimensions != 0)) {
+      throw new JMetalException("The length of the array (" + values.length + ") is not a " +
+          "multiple of the number of dimensions (" + dimensions + ")") ;
+    }
+    this.values = values ;
+    this.pointDimensions = dimensions ;
+    this.numberOfPoints = values.length / dimensions ;
+  }
+
+  /** Constructor */
+  public FlatArrayFront(List<? extends Solution<?>> solutionList) {
+    if (solutionList == null) {
+      throw new JMetalException("The list of solutions is null") ;
+    } else if (solutionList.size() == 0) {
+      throw new JMetalException("The list of solutions is empty") ;
+    }
+
+    numberOfPoints = solutionList.size() ;
+    pointDimensions = solutionList.get(0).getNumberOfObjectives() ;
+    values = new double[numberOfPoints * pointDimensions] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      Solution<?> solution = solutionList.get(i) ;
+      for (int j = 0; j < pointDimensions; j++) {
+        values[i * pointDimensions + j] = solution.getObjective(j) ;
+      }
+    }
+  }
+
+  /** Copy constructor */
+  public FlatArrayFront(Front front) {
+    if (front == null) {
+      throw new JMetalException("The front is null") ;
+    } else if (front.getNumberOfPoints() == 0) {
+      throw new JMetalException("The front is empty") ;
+    }
+
+    numberOfPoints = front.getNumberOfPoints() ;
+    if (front instanceof FlatArrayFront) {
+      FlatArrayFront flatFront = (FlatArrayFront) front ;
+      pointDimensions = flatFront.pointDimensions ;
+      values = Arrays.copyOf(flatFront.values, numberOfPoints * pointDimensions) ;
+    } else {
+      pointDimensions = front.getPoint(0).getNumberOfDimensions() ;
+      values = new double[numberOfPoints * pointDimensions] ;
+      for (int i = 0; i < numberOfPoints; i++) {
+        Point point = front.getPoint(i) ;
+        for (int j = 0; j < pointDimensions; j++) {
+          values[i * pointDimensions + j] = point.getDimensionValue(j) ;
+        }
+      }
+    }
+  }
+
+  /**
+   * Constructor
+   * @param fileName File containing the data. Each line of the file is a list of objective values,
+   *                 unless it is a binary file written with {@link BinaryFrontFile}
+   * @throws FileNotFoundException
+   */
+  public FlatArrayFront(String fileName) throws FileNotFoundException {
+    if (BinaryFrontFile.isBinaryFrontFile(fileName)) {
+      boolean[] minimize = BinaryFrontFile.readObjectiveSenses(fileName) ;
+      values = BinaryFrontFile.readValues(fileName) ;
+      pointDimensions = minimize.length ;
+      numberOfPoints = (pointDimensions == 0) ? 0 : values.length / pointDimensions ;
+      for (int i = 0; i < values.length; i++) {
+        if (!minimize[i % pointDimensions]) {
+          values[i] = -values[i] ;
+        }
+      }
+      return ;
+    }
+
+    InputStream inputStream = new ArrayFront().createInputStream(fileName) ;
+    values = new double[1024] ;
+    int size = 0 ;
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+      String line ;
+      while ((line = reader.readLine()) != null) {
+        StringTokenizer tokenizer = new StringTokenizer(line) ;
+        if (numberOfPoints == 0) {
+          pointDimensions = tokenizer.countTokens() ;
+        } else if (pointDimensions != tokenizer.countTokens()) {
+          throw new JMetalException("Invalid number of points read. "
+              + "Expected: " + pointDimensions + ", received: " + tokenizer.countTokens()) ;
+        }
+
+        if (size + pointDimensions > values.length) {
+          values = Arrays.copyOf(values, Math.max(2 * values.length, size + pointDimensions)) ;
+        }
+        while (tokenizer.hasMoreTokens()) {
+          values[size++] = Double.parseDouble(tokenizer.nextToken()) ;
+        }
+        numberOfPoints++ ;
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file", e);
+    } catch (NumberFormatException e) {
+      throw new JMetalException("Format number exception when reading file", e);
+    }
+
+    values = Arrays.copyOf(values, size) ;
+  }
+
+  /**
+   * Returns a {@link FlatArrayFront} with the points of a front: the front itself if it is of this
+   * class, or a copy otherwise
+   */
+  public static FlatArrayFront valueOf(Front front) {
+    if (front instanceof FlatArrayFront) {
+      return (FlatArrayFront) front ;
+    }
+
+    return new FlatArrayFront(front) ;
+  }
+
+  @Override public int getNumberOfPoints() {
+    return numberOfPoints ;
+  }
+
+  @Override public int getPointDimensions() {
+    return pointDimensions ;
+  }
+
+  /**
+   * Returns the array with the values of the points, ordered by points. The array is not copied
+   */
+  public double[] getValues() {
+    return values ;
+  }
+
+  /**
+   * Returns the number of modifications of the values made through the methods of the front or
+   * of its points, so that the structures built from the front can find out whether they are up
+   * to date. The changes made directly on the array returned by {@link #getValues()} are not
+   * counted
+   */
+  public int getModificationCount() {
+    return modificationCount ;
+  }
+
+  public double getValue(int index, int dimension) {
+    return values[index * pointDimensions + dimension] ;
+  }
+
+  public void setValue(int index, int dimension, double value) {
+    values[index * pointDimensions + dimension] = value ;
+    modificationCount++ ;
+  }
+
+  @Override public Point getPoint(int index) {
+    checkIndex(index) ;
+
+    return new FlatPoint(index) ;
+  }
+
+  @Override public void setPoint(int index, Point point) {
+    checkIndex(index) ;
+    if (point == null) {
+      throw new JMetalException("The point is null") ;
+    } else if (point.getNumberOfDimensions() != pointDimensions) {
+      throw new JMetalException("The dimensions of the point (" + point.getNumberOfDimensions() +
+          ") are different from the dimensions of the front (" + pointDimensions + ")") ;
+    }
+
+    for (int j = 0; j < pointDimensions; j++) {
+      values[index * pointDimensions + j] = point.getDimensionValue(j) ;
+    }
+    modificationCount++ ;
+  }
+
+  @Override public void sort(Comparator<Point> comparator) {
+    Point[] points = new Point[numberOfPoints] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      points[i] = new ArrayPoint(getPoint(i)) ;
+    }
+    Arrays.sort(points, comparator);
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      System.arraycopy(points[i].getValues(), 0, values, i * pointDimensions, pointDimensions);
+    }
+    modificationCount++ ;
+  }
+
+  /**
+   * Gets the minimum values of each dimension
+   */
+  public double[] getMinimumValues() {
+    double[] minimumValues = new double[pointDimensions] ;
+    Arrays.fill(minimumValues, Double.MAX_VALUE);
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < pointDimensions; j++) {
+        if (values[i * pointDimensions + j] < minimumValues[j]) {
+          minimumValues[j] = values[i * pointDimensions + j] ;
+        }
+      }
+    }
+
+    return minimumValues ;
+  }
+
+  /**
+   * Gets the maximum values of each dimension
+   */
+  public double[] getMaximumValues() {
+    double[] maximumValues = new double[pointDimensions] ;
+    Arrays.fill(maximumValues, Double.NEGATIVE_INFINITY);
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < pointDimensions; j++) {
+        if (values[i * pointDimensions + j] > maximumValues[j]) {
+          maximumValues[j] = values[i * pointDimensions + j] ;
+        }
+      }
+    }
+
+    return maximumValues ;
+  }
+
+  /**
+   * Normalizes the values of the front in place, so the minimum and maximum values of each
+   * dimension are mapped to 0 and 1
+   */
+  public void normalize(double[] minimumValues, double[] maximumValues) {
+    if ((minimumValues.length != pointDimensions) || (maximumValues.length != pointDimensions)) {
+      throw new JMetalException("The length of the point dimensions (" + pointDimensions + ") "
+          + "is different from the length of the maximum array (" + maximumValues.length + ")") ;
+    }
+
+    double[] scale = new double[pointDimensions] ;
+    for (int j = 0; j < pointDimensions; j++) {
+      if ((maximumValues[j] - minimumValues[j]) == 0) {
+        throw new JMetalException("Maximum and minimum values of index " + j + " "
+            + "are the same: " + maximumValues[j]);
+      }
+      scale[j] = maximumValues[j] - minimumValues[j] ;
+    }
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < pointDimensions; j++) {
+        values[i * pointDimensions + j] = (values[i * pointDimensions + j] - minimumValues[j]) / scale[j] ;
+      }
+    }
+    modificationCount++ ;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0) {
+      throw new JMetalException("The index value is negative") ;
+    } else if (index >= numberOfPoints) {
+      throw new JMetalException("The index value (" + index + ") is greater than the number of "
+          + "points (" + numberOfPoints + ")") ;
+    }
+  }
+
+  @Override public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    FlatArrayFront that = (FlatArrayFront) o;
+
+    return (numberOfPoints == that.numberOfPoints) && (pointDimensions == that.pointDimensions) &&
+        Arrays.equals(values, that.values) ;
+  }
+
+  @Override public int hashCode() {
+    int result = Arrays.hashCode(values);
+    result = 31 * result + numberOfPoints;
+    result = 31 * result + pointDimensions;
+    return result;
+  }
+
+  @Override public String toString() {
+    StringBuilder result = new StringBuilder("[") ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      if (i > 0) {
+        result.append(", ") ;
+      }
+      result.append(getPoint(i)) ;
+    }
+    return result.append("]").toString() ;
+  }
+
+  /**
+   * Point backed by the array of the front
+   */
+  private class FlatPoint implements Point {
+    private final int offset ;
+
+    public FlatPoint(int index) {
+      this.offset = index * pointDimensions ;
+    }
+
+    @Override public int getNumberOfDimensions() {
+      return pointDimensions ;
+    }
+
+    @Override public double[] getValues() {
+      return Arrays.copyOfRange(values, offset, offset + pointDimensions) ;
+    }
+
+    @Override public double getDimensionValue(int index) {
+      if ((index < 0) || (index >= pointDimensions)) {
+        throw new JMetalException("Index value invalid: " + index +
+            ". The point length is " + pointDimensions) ;
+      }
+      return values[offset + index] ;
+    }
+
+    @Override public void setDimensionValue(int index, double value) {
+      if ((index < 0) || (index >= pointDimensions)) {
+        throw new JMetalException("Index value invalid: " + index +
+            ". The point length is " + pointDimensions) ;
+      }
+      values[offset + index] = value ;
+      modificationCount++ ;
+    }
+
+    @Override public String toString() {
+      return Arrays.toString(getValues()) ;
+    }
+  }
+}
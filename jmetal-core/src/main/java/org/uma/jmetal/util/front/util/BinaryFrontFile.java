@@ -0,0 +1,305 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Utilities to write and read fronts in a binary format, which is much faster to read than the
+ * text format produced by {@link org.uma.jmetal.util.fileoutput.SolutionListOutput}. The file
+ * has a header followed by the values, stored as little-endian doubles and by columns (all the
+ * values of the first dimension, then all the values of the second one, and so on):
+ *
+ * - magic number ("JMFB") and format version, as ints
+ * - number of points and number of dimensions, as ints
+ * - a byte per dimension: 1 if the objective is minimized and 0 if it is maximized
+ * - padding up to a multiple of eight bytes
+ *
+ * Files are written through a {@link FileChannel} using a fixed size buffer, and read by mapping
+ * them in memory, so no objects are created per value.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BinaryFrontFile {
+  public static final int MAGIC_NUMBER = 0x4A4D4642 ;
+  public static final int VERSION = 1 ;
+
+  private static final int BUFFER_SIZE = 64 * 1024 ;
+
+  /**
+   * Writes a front. All the dimensions are considered as minimized
+   */
+  public static void write(final Front front, String fileName) {
+    if (front == null) {
+      throw new JMetalException("The front is null") ;
+    }
+
+    write(fileName, front.getNumberOfPoints(), front.getPointDimensions(), null, new Values() {
+      @Override public double get(int point, int dimension) {
+        return front.getPoint(point).getDimensionValue(dimension) ;
+      }
+    });
+  }
+
+  /**
+   * Writes the objective values of a list of solutions
+   * @param isObjectiveToBeMinimized Senses of the objectives; if null, all of them are minimized
+   */
+  public static void writeObjectives(final List<? extends Solution<?>> solutionList,
+      List<Boolean> isObjectiveToBeMinimized, String fileName) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    }
+
+    int numberOfObjectives = solutionList.isEmpty() ?
+        (isObjectiveToBeMinimized == null ? 0 : isObjectiveToBeMinimized.size()) :
+        solutionList.get(0).getNumberOfObjectives() ;
+    boolean[] minimize = null ;
+    if (isObjectiveToBeMinimized != null) {
+      if (isObjectiveToBeMinimized.size() != numberOfObjectives) {
+        throw new JMetalException("The size of list isObjectiveToBeMinimized is not correct: "
+            + isObjectiveToBeMinimized.size()) ;
+      }
+      minimize = new boolean[numberOfObjectives] ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        minimize[i] = isObjectiveToBeMinimized.get(i) ;
+      }
+    }
+
+    write(fileName, solutionList.size(), numberOfObjectives, minimize, new Values() {
+      @Override public double get(int point, int dimension) {
+        return solutionList.get(point).getObjective(dimension) ;
+      }
+    });
+  }
+
+  /**
+   * Writes the variable values of a list of solutions, which must be numbers (e.g.,
+   * {@link org.uma.jmetal.solution.DoubleSolution} or {@link org.uma.jmetal.solution.IntegerSolution})
+   */
+  public static void writeVariables(final List<? extends Solution<?>> solutionList, String fileName) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    }
+
+    int numberOfVariables = solutionList.isEmpty() ? 0 : solutionList.get(0).getNumberOfVariables() ;
+    write(fileName, solutionList.size(), numberOfVariables, null, new Values() {
+      @Override public double get(int point, int dimension) {
+        Object value = solutionList.get(point).getVariableValue(dimension) ;
+        if (!(value instanceof Number)) {
+          throw new JMetalException("The variable " + dimension + " is not a number: " + value) ;
+        }
+        return ((Number) value).doubleValue() ;
+      }
+    });
+  }
+
+  private static void write(String fileName, int numberOfPoints, int dimensions, boolean[] minimize,
+      Values values) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN) ;
+    try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      buffer.putInt(MAGIC_NUMBER).putInt(VERSION).putInt(numberOfPoints).putInt(dimensions) ;
+      for (int j = 16; j < getHeaderSize(dimensions); j++) {
+        if (!buffer.hasRemaining()) {
+          flush(buffer, channel) ;
+        }
+        if (j - 16 < dimensions) {
+          buffer.put((minimize == null || minimize[j - 16]) ? (byte) 1 : (byte) 0) ;
+        } else {
+          buffer.put((byte) 0) ;
+        }
+      }
+
+      for (int j = 0; j < dimensions; j++) {
+        for (int i = 0; i < numberOfPoints; i++) {
+          if (buffer.remaining() < 8) {
+            flush(buffer, channel) ;
+          }
+          buffer.putDouble(values.get(i, j)) ;
+        }
+      }
+      flush(buffer, channel) ;
+    } catch (IOException e) {
+      throw new JMetalException("Error writing file " + fileName, e) ;
+    }
+  }
+
+  /**
+   * The buffers are cast to {@link Buffer} before calling the methods that JDK 9 overrides in
+   * {@link ByteBuffer} with a covariant return type, so the classes compiled with a newer JDK
+   * still run on Java 7 and 8
+   */
+  private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+    ((Buffer) buffer).flip() ;
+    while (buffer.hasRemaining()) {
+      channel.write(buffer) ;
+    }
+    ((Buffer) buffer).clear() ;
+  }
+
+  /**
+   * Returns true if the file exists and starts with the magic number of the binary format
+   */
+  public static boolean isBinaryFrontFile(String fileName) {
+    Path path = Paths.get(fileName) ;
+    if (!Files.isRegularFile(path)) {
+      return false ;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN) ;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          return false ;
+        }
+      }
+    } catch (IOException e) {
+      return false ;
+    }
+
+    return buffer.getInt(0) == MAGIC_NUMBER ;
+  }
+
+  /**
+   * Reads a front. The values of the maximized objectives are multiplied by -1, so the front can
+   * be used as a front of minimized objectives (as the text files written with the objective senses)
+   */
+  public static Front readFront(String fileName) {
+    BinaryFrontReader reader = new BinaryFrontReader(fileName) ;
+    int numberOfPoints = reader.getNumberOfPoints() ;
+    int dimensions = reader.getDimensions() ;
+
+    Front front = new ArrayFront(numberOfPoints, dimensions) ;
+    for (int j = 0; j < dimensions; j++) {
+      double sign = reader.isMinimized(j) ? 1.0 : -1.0 ;
+      for (int i = 0; i < numberOfPoints; i++) {
+        front.getPoint(i).setDimensionValue(j, sign * reader.getValue(i, j));
+      }
+    }
+
+    return front ;
+  }
+
+  /**
+   * Reads the values of a file, as stored (i.e., without changing the sign of maximized
+   * objectives), in an array ordered by points (all the values of the first point, then all the
+   * values of the second one, and so on)
+   */
+  public static double[] readValues(String fileName) {
+    BinaryFrontReader reader = new BinaryFrontReader(fileName) ;
+    int numberOfPoints = reader.getNumberOfPoints() ;
+    int dimensions = reader.getDimensions() ;
+
+    double[] values = new double[numberOfPoints * dimensions] ;
+    for (int j = 0; j < dimensions; j++) {
+      for (int i = 0; i < numberOfPoints; i++) {
+        values[i * dimensions + j] = reader.getValue(i, j) ;
+      }
+    }
+
+    return values ;
+  }
+
+  /**
+   * Reads the objective senses of a file: true if the objective is minimized
+   */
+  public static boolean[] readObjectiveSenses(String fileName) {
+    BinaryFrontReader reader = new BinaryFrontReader(fileName) ;
+    boolean[] minimize = new boolean[reader.getDimensions()] ;
+    for (int j = 0; j < minimize.length; j++) {
+      minimize[j] = reader.isMinimized(j) ;
+    }
+
+    return minimize ;
+  }
+
+  private static int getHeaderSize(int dimensions) {
+    return (16 + dimensions + 7) / 8 * 8 ;
+  }
+
+  private interface Values {
+    double get(int point, int dimension) ;
+  }
+
+  /**
+   * Memory mapped view of a binary front file
+   */
+  private static class BinaryFrontReader {
+    private final MappedByteBuffer buffer ;
+    private final DoubleBuffer values ;
+    private final int numberOfPoints ;
+    private final int dimensions ;
+
+    public BinaryFrontReader(String fileName) {
+      try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+        long size = channel.size() ;
+        if (size < 16) {
+          throw new JMetalException("The file " + fileName + " is not a binary front file") ;
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size) ;
+        buffer.order(ByteOrder.LITTLE_ENDIAN) ;
+
+        if (buffer.getInt(0) != MAGIC_NUMBER) {
+          throw new JMetalException("The file " + fileName + " is not a binary front file") ;
+        } else if (buffer.getInt(4) != VERSION) {
+          throw new JMetalException("Unsupported version of binary front file: " + buffer.getInt(4)) ;
+        }
+        numberOfPoints = buffer.getInt(8) ;
+        dimensions = buffer.getInt(12) ;
+        if ((numberOfPoints < 0) || (dimensions < 0) ||
+            (size != getHeaderSize(dimensions) + 8L * numberOfPoints * dimensions)) {
+          throw new JMetalException("The binary front file " + fileName + " is truncated or corrupted") ;
+        }
+
+        ((Buffer) buffer).position(getHeaderSize(dimensions)) ;
+        values = ((ByteBuffer) buffer).slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer() ;
+      } catch (IOException e) {
+        throw new JMetalException("Error reading file " + fileName, e) ;
+      }
+    }
+
+    public int getNumberOfPoints() {
+      return numberOfPoints ;
+    }
+
+    public int getDimensions() {
+      return dimensions ;
+    }
+
+    public boolean isMinimized(int dimension) {
+      return buffer.get(16 + dimension) != 0 ;
+    }
+
+    public double getValue(int point, int dimension) {
+      return values.get(dimension * numberOfPoints + point) ;
+    }
+  }
+}
@@ -0,0 +1,375 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
+
+import java.util.Arrays;
+
+/**
+ * k-d tree over the points of a front, used to find the closest point of the front to a given
+ * one without scanning the whole front. The tree is balanced: the points are recursively split
+ * by the median value of the dimension with the widest range, and the ranges of at most
+ * {@link #LEAF_SIZE} points are scanned sequentially.
+ *
+ * The distances are computed in the same way as in
+ * {@link FrontUtils#distanceToClosestPoint(FlatArrayFront, int, FlatArrayFront)} (the squared
+ * differences are added in the order of the dimensions and the square root is taken at the end),
+ * and a subtree is discarded only if none of its points can be closer than the best one found,
+ * so the results are the same as the ones of a sequential scan of the front.
+ *
+ * Subtrees are only discarded when the comparison with the split value is conclusive, so queries
+ * with NaN or infinite values also return the same results as a sequential scan.
+ *
+ * The tree keeps a reference to the values of the front, so the front must not be modified while
+ * the tree is in use. The objects caching a tree can check with {@link #isBuiltFrom(Front)}
+ * whether the front has been modified since the tree was built.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class FrontKdTree {
+  public static final int LEAF_SIZE = 8 ;
+  private static final int MINIMUM_NUMBER_OF_POINTS = 64 ;
+
+  private final double[] values ;
+  private final int dimensions ;
+  private final int numberOfPoints ;
+  private final Front front ;
+  private final int modificationCount ;
+
+  /** Offsets of the points in the array of values, ordered as the tree */
+  private final int[] offsets ;
+  /** Dimension used to split the range whose median is the index, or -1 in the leaves */
+  private final int[] splitDimensions ;
+
+  /**
+   * Constructor. If the front is not a {@link FlatArrayFront} it is copied
+   */
+  public FrontKdTree(Front front) {
+    if (front == null) {
+      throw new JMetalException("The front is null") ;
+    } else if (front.getNumberOfPoints() == 0) {
+      throw new JMetalException("The front is empty") ;
+    }
+
+    FlatArrayFront flatFront = FlatArrayFront.valueOf(front) ;
+    this.front = front ;
+    modificationCount = flatFront.getModificationCount() ;
+    values = flatFront.getValues() ;
+    dimensions = flatFront.getPointDimensions() ;
+
+    int[] pointOffsets = new int[flatFront.getNumberOfPoints()] ;
+    int size = 0 ;
+    for (int i = 0; i < flatFront.getNumberOfPoints(); i++) {
+      if (!hasNaN(i * dimensions)) {
+        pointOffsets[size++] = i * dimensions ;
+      }
+    }
+    numberOfPoints = size ;
+    offsets = (size == pointOffsets.length) ? pointOffsets : Arrays.copyOf(pointOffsets, size) ;
+    splitDimensions = new int[numberOfPoints] ;
+    build(0, numberOfPoints) ;
+  }
+
+  /**
+   * Returns true if a tree is expected to be faster than a sequential scan to find the closest
+   * points in a front. As the number of subtrees to explore grows with the number of dimensions,
+   * the front must have many more points than 2^dimensions
+   */
+  public static boolean isWorthUsing(int numberOfPoints, int dimensions) {
+    return (dimensions < 20) &&
+        (numberOfPoints >= Math.max(MINIMUM_NUMBER_OF_POINTS, 4L << dimensions)) ;
+  }
+
+  /**
+   * Points with NaN values are not added to the tree: their distances to any point are NaN and
+   * they are not equal to any point, so they are never the result of a query
+   */
+  private boolean hasNaN(int offset) {
+    for (int j = 0; j < dimensions; j++) {
+      if (Double.isNaN(values[offset + j])) {
+        return true ;
+      }
+    }
+    return false ;
+  }
+
+  /**
+   * Returns true if the tree has been built from the given front and, if it is a
+   * {@link FlatArrayFront}, the front has not been modified since then. The modifications of
+   * other kinds of fronts can not be detected
+   */
+  public boolean isBuiltFrom(Front front) {
+    if (front != this.front) {
+      return false ;
+    }
+
+    return !(front instanceof FlatArrayFront) ||
+        (((FlatArrayFront) front).getModificationCount() == modificationCount) ;
+  }
+
+  /**
+   * Returns the number of points of the tree, which does not include the points with NaN values
+   */
+  public int getNumberOfPoints() {
+    return numberOfPoints ;
+  }
+
+  public int getDimensions() {
+    return dimensions ;
+  }
+
+  private void build(int from, int to) {
+    if (to - from <= LEAF_SIZE) {
+      for (int i = from; i < to; i++) {
+        splitDimensions[i] = -1 ;
+      }
+      return ;
+    }
+
+    int splitDimension = 0 ;
+    double widestRange = -1.0 ;
+    for (int j = 0; j < dimensions; j++) {
+      double minimum = Double.POSITIVE_INFINITY ;
+      double maximum = Double.NEGATIVE_INFINITY ;
+      for (int i = from; i < to; i++) {
+        double value = values[offsets[i] + j] ;
+        if (value < minimum) {
+          minimum = value ;
+        }
+        if (value > maximum) {
+          maximum = value ;
+        }
+      }
+      if (maximum - minimum > widestRange) {
+        widestRange = maximum - minimum ;
+        splitDimension = j ;
+      }
+    }
+
+    int median = (from + to) >>> 1 ;
+    select(from, to - 1, median, splitDimension) ;
+    splitDimensions[median] = splitDimension ;
+
+    build(from, median) ;
+    build(median + 1, to) ;
+  }
+
+  /**
+   * Reorders the range [left, right] so that the point at index k has the value in the given
+   * dimension it would have if the range were sorted, the previous points have lower or equal
+   * values and the next ones have higher or equal values
+   */
+  private void select(int left, int right, int k, int dimension) {
+    while (right > left) {
+      int middle = (left + right) >>> 1 ;
+      if (value(middle, dimension) < value(left, dimension)) {
+        swap(middle, left) ;
+      }
+      if (value(right, dimension) < value(left, dimension)) {
+        swap(right, left) ;
+      }
+      if (value(right, dimension) < value(middle, dimension)) {
+        swap(right, middle) ;
+      }
+      double pivot = value(middle, dimension) ;
+
+      int i = left ;
+      int j = right ;
+      while (i <= j) {
+        while (value(i, dimension) < pivot) {
+          i++ ;
+        }
+        while (value(j, dimension) > pivot) {
+          j-- ;
+        }
+        if (i <= j) {
+          swap(i, j) ;
+          i++ ;
+          j-- ;
+        }
+      }
+
+      if (k <= j) {
+        right = j ;
+      } else if (k >= i) {
+        left = i ;
+      } else {
+        return ;
+      }
+    }
+  }
+
+  private double value(int index, int dimension) {
+    return values[offsets[index] + dimension] ;
+  }
+
+  private void swap(int i, int j) {
+    int offset = offsets[i] ;
+    offsets[i] = offsets[j] ;
+    offsets[j] = offset ;
+  }
+
+  /**
+   * Returns the Euclidean distance between a point and the closest point of the tree
+   *
+   * @param front The front containing the point
+   * @param index The index of the point in the front
+   */
+  public double distanceToClosestPoint(FlatArrayFront front, int index) {
+    checkDimensions(front) ;
+
+    return Math.sqrt(closestSquaredDistance(0, numberOfPoints, front.getValues(),
+        index * dimensions, Double.POSITIVE_INFINITY)) ;
+  }
+
+  private double closestSquaredDistance(int from, int to, double[] point, int offset, double best) {
+    if (to - from <= LEAF_SIZE) {
+      for (int i = from; i < to; i++) {
+        int pointOffset = offsets[i] ;
+        double distance = 0.0 ;
+        for (int j = 0; j < dimensions; j++) {
+          double difference = point[offset + j] - values[pointOffset + j] ;
+          distance += difference * difference ;
+        }
+        if (distance < best) {
+          best = distance ;
+        }
+      }
+      return best ;
+    }
+
+    int median = (from + to) >>> 1 ;
+    int splitDimension = splitDimensions[median] ;
+    double planeDifference = point[offset + splitDimension] - values[offsets[median] + splitDimension] ;
+
+    if (planeDifference < 0) {
+      best = closestSquaredDistance(from, median, point, offset, best) ;
+      best = closestSquaredDistance(median, median + 1, point, offset, best) ;
+      if (!(planeDifference * planeDifference >= best)) {
+        best = closestSquaredDistance(median + 1, to, point, offset, best) ;
+      }
+    } else {
+      best = closestSquaredDistance(median + 1, to, point, offset, best) ;
+      best = closestSquaredDistance(median, median + 1, point, offset, best) ;
+      if (!(planeDifference * planeDifference >= best)) {
+        best = closestSquaredDistance(from, median, point, offset, best) ;
+      }
+    }
+
+    return best ;
+  }
+
+  /**
+   * Returns the minimum distance between a point and the points of the tree according to the
+   * dominance relationship (as {@link org.uma.jmetal.util.point.util.distance.DominanceDistance},
+   * with the given point being the first one), i.e., the minimum of
+   * sqrt(sum_j max(b_j - point_j, 0)^2) for the points b of the tree
+   *
+   * @param front The front containing the point
+   * @param index The index of the point in the front
+   */
+  public double dominanceDistanceToClosestPoint(FlatArrayFront front, int index) {
+    checkDimensions(front) ;
+
+    return Math.sqrt(closestSquaredDominanceDistance(0, numberOfPoints, front.getValues(),
+        index * dimensions, Double.POSITIVE_INFINITY)) ;
+  }
+
+  private double closestSquaredDominanceDistance(int from, int to, double[] point, int offset,
+      double best) {
+    if (to - from <= LEAF_SIZE) {
+      for (int i = from; i < to; i++) {
+        int pointOffset = offsets[i] ;
+        double distance = 0.0 ;
+        for (int j = 0; j < dimensions; j++) {
+          double difference = Math.max(values[pointOffset + j] - point[offset + j], 0.0) ;
+          distance += difference * difference ;
+        }
+        if (distance < best) {
+          best = distance ;
+        }
+      }
+      return best ;
+    }
+
+    // The points after the median have values in the split dimension not lower than the one of
+    // the median, so their distances are not lower than the one in that dimension
+    int median = (from + to) >>> 1 ;
+    int splitDimension = splitDimensions[median] ;
+    double planeDifference =
+        Math.max(values[offsets[median] + splitDimension] - point[offset + splitDimension], 0.0) ;
+
+    best = closestSquaredDominanceDistance(from, median, point, offset, best) ;
+    best = closestSquaredDominanceDistance(median, median + 1, point, offset, best) ;
+    if (!(planeDifference * planeDifference >= best)) {
+      best = closestSquaredDominanceDistance(median + 1, to, point, offset, best) ;
+    }
+
+    return best ;
+  }
+
+  /**
+   * Returns true if the tree contains a point with exactly the same values as the given one
+   *
+   * @param front The front containing the point
+   * @param index The index of the point in the front
+   */
+  public boolean contains(FlatArrayFront front, int index) {
+    checkDimensions(front) ;
+
+    return contains(0, numberOfPoints, front.getValues(), index * dimensions) ;
+  }
+
+  private boolean contains(int from, int to, double[] point, int offset) {
+    if (to - from <= LEAF_SIZE) {
+      for (int i = from; i < to; i++) {
+        if (isEqual(offsets[i], point, offset)) {
+          return true ;
+        }
+      }
+      return false ;
+    }
+
+    int median = (from + to) >>> 1 ;
+    int splitDimension = splitDimensions[median] ;
+    double value = point[offset + splitDimension] ;
+    double splitValue = values[offsets[median] + splitDimension] ;
+
+    if (isEqual(offsets[median], point, offset)) {
+      return true ;
+    }
+
+    return (!(value > splitValue) && contains(from, median, point, offset)) ||
+        (!(value < splitValue) && contains(median + 1, to, point, offset)) ;
+  }
+
+  private void checkDimensions(FlatArrayFront front) {
+    if (front.getPointDimensions() != dimensions) {
+      throw new JMetalException("The dimensions of the points are different: "
+          + front.getPointDimensions() + ", " + dimensions) ;
+    }
+  }
+
+  private boolean isEqual(int pointOffset, double[] point, int offset) {
+    for (int j = 0; j < dimensions; j++) {
+      if (values[pointOffset + j] != point[offset + j]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+}
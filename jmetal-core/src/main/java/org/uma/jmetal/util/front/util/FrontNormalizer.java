@@ -17,6 +17,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
 
 import java.util.List;
 
@@ -98,9 +99,30 @@ public class FrontNormalizer {
       throw new JMetalException("The front is null") ;
     }
 
+    if (front instanceof FlatArrayFront) {
+      FlatArrayFront normalizedFront = new FlatArrayFront(front) ;
+      normalizeInPlace(normalizedFront);
+
+      return normalizedFront ;
+    }
+
     return getNormalizedFront(front, maximumValues, minimumValues);
   }
 
+  /**
+   * Normalizes a front without copying it
+   * @param front
+   */
+  public void normalizeInPlace(FlatArrayFront front) {
+    if (front == null) {
+      throw new JMetalException("The front is null") ;
+    } else if (front.getNumberOfPoints() == 0) {
+      throw new JMetalException("The front is empty") ;
+    }
+
+    front.normalize(minimumValues, maximumValues);
+  }
+
   private Front getNormalizedFront(Front front, double[] maximumValues, double[] minimumValues) {
    if (front.getNumberOfPoints() == 0) {
       throw new JMetalException("The front is empty") ;
@@ -19,6 +19,7 @@ import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
 import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.util.distance.EuclideanDistance;
 import org.uma.jmetal.util.point.util.distance.PointDistance;
@@ -44,6 +45,8 @@ public class FrontUtils {
       throw new JMetalException("The front is null") ;
     } else if (front.getNumberOfPoints() == 0) {
       throw new JMetalException("The front is empty") ;
+    } else if (front instanceof FlatArrayFront) {
+      return ((FlatArrayFront) front).getMaximumValues() ;
     }
 
     int numberOfObjectives = front.getPoint(0).getNumberOfDimensions() ;
@@ -75,6 +78,8 @@ public class FrontUtils {
       throw new JMetalException("The front is null") ;
     } else if (front.getNumberOfPoints() == 0) {
       throw new JMetalException("The front is empty") ;
+    } else if (front instanceof FlatArrayFront) {
+      return ((FlatArrayFront) front).getMinimumValues() ;
     }
 
     int numberOfObjectives = front.getPoint(0).getNumberOfDimensions() ;
@@ -178,6 +183,88 @@ public class FrontUtils {
     return minDistance;
   }
 
+  /**
+   * Gets the Euclidean distance between a point of a front and the nearest one in another front,
+   * working directly on the arrays of the fronts
+   *
+   * @param front The front containing the point
+   * @param index The index of the point in the front
+   * @param otherFront The front that contains the other points to calculate the distances
+   * @return The minimum distance between the point and the other front
+   */
+  public static double distanceToClosestPoint(FlatArrayFront front, int index, FlatArrayFront otherFront) {
+    if (otherFront == null) {
+      throw new JMetalException("The front is null");
+    } else if (otherFront.getNumberOfPoints() == 0) {
+      throw new JMetalException("The front is empty");
+    } else if (front.getPointDimensions() != otherFront.getPointDimensions()) {
+      throw new JMetalException("The dimensions of the points are different: "
+          + front.getPointDimensions() + ", " + otherFront.getPointDimensions()) ;
+    }
+
+    int dimensions = front.getPointDimensions() ;
+    double[] point = new double[dimensions] ;
+    System.arraycopy(front.getValues(), index * dimensions, point, 0, dimensions);
+    double[] otherPoints = otherFront.getValues() ;
+    int length = otherFront.getNumberOfPoints() * dimensions ;
+
+    double minDistance = Double.POSITIVE_INFINITY ;
+    for (int offset = 0; offset < length; offset += dimensions) {
+      double distance = 0.0 ;
+      for (int j = 0; j < dimensions; j++) {
+        double difference = point[j] - otherPoints[offset + j] ;
+        distance += difference * difference ;
+      }
+      if (distance < minDistance) {
+        minDistance = distance ;
+      }
+    }
+
+    return Math.sqrt(minDistance) ;
+  }
+
+  /**
+   * Gets the distance according to the dominance relationship (see
+   * {@link org.uma.jmetal.util.point.util.distance.DominanceDistance}) between a point of a front
+   * and the closest one in another front, working directly on the arrays of the fronts
+   *
+   * @param front The front containing the point
+   * @param index The index of the point in the front
+   * @param otherFront The front that contains the other points to calculate the distances
+   * @return The minimum distance between the point and the other front
+   */
+  public static double dominanceDistanceToClosestPoint(FlatArrayFront front, int index,
+      FlatArrayFront otherFront) {
+    if (otherFront == null) {
+      throw new JMetalException("The front is null");
+    } else if (otherFront.getNumberOfPoints() == 0) {
+      throw new JMetalException("The front is empty");
+    } else if (front.getPointDimensions() != otherFront.getPointDimensions()) {
+      throw new JMetalException("The dimensions of the points are different: "
+          + front.getPointDimensions() + ", " + otherFront.getPointDimensions()) ;
+    }
+
+    int dimensions = front.getPointDimensions() ;
+    double[] point = new double[dimensions] ;
+    System.arraycopy(front.getValues(), index * dimensions, point, 0, dimensions);
+    double[] otherPoints = otherFront.getValues() ;
+    int length = otherFront.getNumberOfPoints() * dimensions ;
+
+    double minDistance = Double.POSITIVE_INFINITY ;
+    for (int offset = 0; offset < length; offset += dimensions) {
+      double distance = 0.0 ;
+      for (int j = 0; j < dimensions; j++) {
+        double difference = Math.max(otherPoints[offset + j] - point[j], 0.0) ;
+        distance += difference * difference ;
+      }
+      if (distance < minDistance) {
+        minDistance = distance ;
+      }
+    }
+
+    return Math.sqrt(minDistance) ;
+  }
+
   /**
    * This method receives a normalized pareto front and return the inverted one.
    * This method is for minimization problems
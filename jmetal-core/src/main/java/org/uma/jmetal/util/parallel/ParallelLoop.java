@@ -0,0 +1,131 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package org.uma.jmetal.util.parallel;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes the iterations [0, n) of loops whose iterations are independent, distributing them
+ * dynamically among several threads. With one thread, or with fewer than two iterations per
+ * thread, a loop is executed sequentially in the calling thread.
+ *
+ * The threads belong to a pool which is created the first time a loop is executed in parallel and
+ * reused by the following loops, so a {@link ParallelLoop} is typically created by an algorithm at
+ * the beginning of a run and shared by its components. The pool is released by
+ * {@link #shutdown()}; if a loop is executed afterwards, a new pool is created.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ParallelLoop {
+  /**
+   * Body of the loop. It is executed once per iteration, possibly concurrently with other
+   * iterations
+   */
+  public interface Body {
+    void execute(int iteration) ;
+  }
+
+  private final int numberOfThreads ;
+  private ExecutorService executor ;
+
+  /**
+   * Constructor
+   *
+   * @param numberOfThreads Number of threads executing the iterations of a loop
+   */
+  public ParallelLoop(int numberOfThreads) {
+    if (numberOfThreads < 1) {
+      throw new JMetalException("The number of threads must be positive: " + numberOfThreads) ;
+    }
+    this.numberOfThreads = numberOfThreads ;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads ;
+  }
+
+  public void execute(final int numberOfIterations, final Body body) {
+    if ((numberOfThreads == 1) || (numberOfIterations < 2 * numberOfThreads)) {
+      for (int i = 0; i < numberOfIterations; i++) {
+        body.execute(i);
+      }
+      return ;
+    }
+
+    final AtomicInteger nextIteration = new AtomicInteger() ;
+    ExecutorService executor = getExecutor() ;
+    List<Future<Void>> futures = new ArrayList<>(numberOfThreads) ;
+    try {
+      for (int t = 0; t < numberOfThreads; t++) {
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override public Void call() {
+            int i ;
+            while ((i = nextIteration.getAndIncrement()) < numberOfIterations) {
+              body.execute(i);
+            }
+            return null ;
+          }
+        })) ;
+      }
+
+      for (Future<Void> future : futures) {
+        future.get() ;
+      }
+    } catch (InterruptedException e) {
+      nextIteration.set(numberOfIterations) ;
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while executing a parallel loop", e) ;
+    } catch (ExecutionException e) {
+      nextIteration.set(numberOfIterations) ;
+      throw new JMetalException("Error executing a parallel loop", e) ;
+    }
+  }
+
+  /**
+   * Releases the threads of the pool, if it has been created. They are daemon threads, so a pool
+   * which is not released does not prevent the JVM from exiting
+   */
+  public synchronized void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null ;
+    }
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = Executors.newFixedThreadPool(numberOfThreads, new ThreadFactory() {
+        private final ThreadFactory threadFactory = Executors.defaultThreadFactory() ;
+
+        @Override public Thread newThread(Runnable runnable) {
+          Thread thread = threadFactory.newThread(runnable) ;
+          thread.setDaemon(true);
+          return thread ;
+        }
+      }) ;
+    }
+    return executor ;
+  }
+}
@@ -30,7 +30,10 @@ import java.util.logging.Level;
  * Class for evaluating solutions in parallel using threads
  * @author Antonio J. Nebro
  * @modified by Jackson Antonio do Prado Lima 09/09/2015
+ * @deprecated Creates a task per solution; use
+ * {@link org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator} instead
  */
+@Deprecated
 public class MultithreadedEvaluator<S extends Solution<?>> implements SynchronousParallelTaskExecutor {
   private Problem<S> problem;
   private Collection<EvaluationTask> taskList;
@@ -13,12 +13,14 @@
 
 package org.uma.jmetal.util.point;
 
+import java.io.Serializable;
+
 /**
  * Interface representing a point
  *
  * @author Antonio J. Nebro
  */
-public interface Point {
+public interface Point extends Serializable {
   public int getNumberOfDimensions();
   public double[] getValues() ;
   public double getDimensionValue(int index) ;
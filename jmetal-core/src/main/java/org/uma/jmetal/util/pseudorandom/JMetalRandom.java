@@ -18,23 +18,36 @@ import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 import java.io.Serializable;
 
 /**
+ * Source of random numbers used by the operators and the algorithms. By default, all the threads
+ * share the same {@link PseudoRandomGenerator}, which is not synchronized. A thread can install
+ * its own generator with {@link #setThreadRandomGenerator(PseudoRandomGenerator)}; from then on,
+ * the methods of this class called from that thread use that generator, so the threads of a
+ * parallel execution do not compete for (and do not corrupt) a shared generator, and their results
+ * are reproducible when the generators are taken from {@link RandomStreams}.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
+@SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
-  private PseudoRandomGenerator randomGenerator ;
+  private static final ThreadLocal<PseudoRandomGenerator> threadRandomGenerator =
+      new ThreadLocal<>() ;
+  private volatile PseudoRandomGenerator randomGenerator ;
 
   private JMetalRandom() {
     randomGenerator = new JavaRandomGenerator() ;
   }
 
+  private static class InstanceHolder {
+    private static final JMetalRandom instance = new JMetalRandom() ;
+  }
+
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
-    return instance ;
+    return InstanceHolder.instance ;
   }
 
+  /**
+   * Sets the generator shared by the threads having no generator of their own
+   */
   public void setRandomGenerator(PseudoRandomGenerator randomGenerator) {
     this.randomGenerator = randomGenerator;
   }
@@ -43,27 +56,54 @@ public class JMetalRandom implements Serializable {
     return randomGenerator ;
   }
 
+  /**
+   * Sets the generator used by the current thread. A null value makes the thread use the shared
+   * generator again
+   */
+  public void setThreadRandomGenerator(PseudoRandomGenerator randomGenerator) {
+    if (randomGenerator == null) {
+      threadRandomGenerator.remove();
+    } else {
+      threadRandomGenerator.set(randomGenerator);
+    }
+  }
+
+  /**
+   * Removes the generator of the current thread, which uses the shared generator again
+   */
+  public void removeThreadRandomGenerator() {
+    threadRandomGenerator.remove();
+  }
+
+  /**
+   * Returns the generator used by the current thread: its own generator, if any, or the shared one
+   */
+  public PseudoRandomGenerator getCurrentRandomGenerator() {
+    PseudoRandomGenerator generator = threadRandomGenerator.get() ;
+    return (generator != null) ? generator : randomGenerator ;
+  }
+
   public int nextInt(int lowerBound, int upperBound) {
-    return randomGenerator.nextInt(lowerBound, upperBound) ;
+    return getCurrentRandomGenerator().nextInt(lowerBound, upperBound) ;
   }
 
   public double nextDouble() {
-    return randomGenerator.nextDouble() ;
+    return getCurrentRandomGenerator().nextDouble() ;
   }
 
   public double nextDouble(double lowerBound, double upperBound) {
-    return randomGenerator.nextDouble(lowerBound, upperBound) ;
+    return getCurrentRandomGenerator().nextDouble(lowerBound, upperBound) ;
   }
 
   public void setSeed(long seed) {
-    randomGenerator.setSeed(seed);
+    getCurrentRandomGenerator().setSeed(seed);
   }
 
   public long getSeed() {
-    return randomGenerator.getSeed() ;
+    return getCurrentRandomGenerator().getSeed() ;
   }
 
   public String getGeneratorName() {
-    return randomGenerator.getName() ;
+    return getCurrentRandomGenerator().getName() ;
   }
 }
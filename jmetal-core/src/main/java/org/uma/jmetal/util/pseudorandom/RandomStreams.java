@@ -0,0 +1,72 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom;
+
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+
+import java.io.Serializable;
+
+/**
+ * Family of independent random streams derived from a master seed. Each stream is identified by a
+ * run and a stream number (e.g., the index of the independent run of an experiment and the number
+ * of a worker in that run), and its seed depends only on the master seed and on that pair, so a
+ * parallel execution gives the same results regardless of the number of threads, their scheduling
+ * and the platform, provided that the work is assigned to the streams deterministically.
+ *
+ * The streams are {@link SplitMix64Generator} instances, which are not shared between threads;
+ * they are typically installed in the current thread with
+ * {@link JMetalRandom#setThreadRandomGenerator(PseudoRandomGenerator)}, so the operators draw
+ * from them through {@link JMetalRandom} without any locking.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class RandomStreams implements Serializable {
+  private final long masterSeed ;
+
+  /** Constructor */
+  public RandomStreams(long masterSeed) {
+    this.masterSeed = masterSeed ;
+  }
+
+  public long getMasterSeed() {
+    return masterSeed ;
+  }
+
+  /**
+   * Returns a new generator for stream (run, stream). Each call returns a new instance starting
+   * at the beginning of the stream
+   */
+  public SplitMix64Generator getStream(long run, long stream) {
+    return new SplitMix64Generator(getStreamSeed(run, stream)) ;
+  }
+
+  /**
+   * Returns the seed of stream (run, stream)
+   */
+  public long getStreamSeed(long run, long stream) {
+    long seed = SplitMix64Generator.mix64(masterSeed + SplitMix64Generator.GOLDEN_GAMMA * (run + 1)) ;
+    return SplitMix64Generator.mix64(seed + SplitMix64Generator.GOLDEN_GAMMA * (stream + 1)) ;
+  }
+
+  /**
+   * Installs stream (run, stream) as the random generator of the current thread in
+   * {@link JMetalRandom}, returning it
+   */
+  public PseudoRandomGenerator bindToCurrentThread(long run, long stream) {
+    PseudoRandomGenerator generator = getStream(run, stream) ;
+    JMetalRandom.getInstance().setThreadRandomGenerator(generator);
+    return generator ;
+  }
+}
@@ -0,0 +1,136 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Splittable pseudo random generator based on the SplitMix64 algorithm (the one used by
+ * java.util.SplittableRandom). Its state is a 64-bit value advanced by an odd increment (gamma),
+ * and the method {@link #split()} returns a new generator with a different state and gamma whose
+ * sequence is statistically independent from the one of this generator. Given the same seed, the
+ * generated values are the same in every platform.
+ *
+ * The generator is not thread-safe: each thread must use its own instance (see
+ * {@link org.uma.jmetal.util.pseudorandom.RandomStreams}).
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class SplitMix64Generator implements PseudoRandomGenerator {
+  public static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L ;
+  private static final double DOUBLE_UNIT = 1.0 / (1L << 53) ;
+  private static final String name = "SplitMix64" ;
+
+  private long seed ;
+  private long state ;
+  private long gamma ;
+
+  /** Constructor */
+  public SplitMix64Generator() {
+    this(System.currentTimeMillis()) ;
+  }
+
+  /** Constructor */
+  public SplitMix64Generator(long seed) {
+    setSeed(seed);
+  }
+
+  private SplitMix64Generator(long state, long gamma) {
+    this.seed = state ;
+    this.state = state ;
+    this.gamma = gamma ;
+  }
+
+  /**
+   * Returns a new generator whose sequence is independent from the one of this generator. The
+   * state of this generator is advanced, so consecutive calls return different generators
+   */
+  public SplitMix64Generator split() {
+    return new SplitMix64Generator(nextLong(), mixGamma(nextSeed())) ;
+  }
+
+  public long nextLong() {
+    return mix64(nextSeed()) ;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    long range = (long)upperBound - lowerBound + 1 ;
+    if (range <= 0) {
+      return lowerBound ;
+    }
+
+    long bits ;
+    long value ;
+    do {
+      bits = nextLong() >>> 1 ;
+      value = bits % range ;
+    } while (bits - value + (range - 1) < 0) ;
+
+    return (int)(lowerBound + value) ;
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + nextDouble() * (upperBound - lowerBound) ;
+  }
+
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> 11) * DOUBLE_UNIT ;
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    this.seed = seed ;
+    this.state = seed ;
+    this.gamma = GOLDEN_GAMMA ;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed ;
+  }
+
+  @Override
+  public String getName() {
+    return name ;
+  }
+
+  private long nextSeed() {
+    state += gamma ;
+    return state ;
+  }
+
+  /**
+   * Finalizer of the MurmurHash3 algorithm (variant 13 of David Stafford)
+   */
+  public static long mix64(long value) {
+    long z = value ;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L ;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL ;
+    return z ^ (z >>> 31) ;
+  }
+
+  /**
+   * Returns an odd gamma with enough bit transitions to produce a good sequence
+   */
+  private static long mixGamma(long value) {
+    long z = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL ;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L ;
+    z = (z ^ (z >>> 33)) | 1L ;
+    int transitions = Long.bitCount(z ^ (z >>> 1)) ;
+    return (transitions < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z ;
+  }
+}
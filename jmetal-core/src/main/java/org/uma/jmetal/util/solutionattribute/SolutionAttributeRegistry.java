@@ -0,0 +1,92 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry assigning a dense integer slot to each attribute identifier (see
+ * {@link SolutionAttribute#getAttributeID()}). Solutions can then store their attributes in arrays
+ * indexed by slot instead of in a hash map. The slots are assigned the first time an identifier is
+ * requested and are valid for the lifetime of the JVM.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public final class SolutionAttributeRegistry {
+  private static final ConcurrentHashMap<Object, Integer> slots = new ConcurrentHashMap<>() ;
+  private static final List<Object> identifiers = new ArrayList<>() ;
+
+  private SolutionAttributeRegistry() {
+  }
+
+  /**
+   * Returns the slot of an attribute identifier, registering it if needed
+   *
+   * @param id The attribute identifier
+   * @return The slot of the identifier
+   */
+  public static int getSlot(Object id) {
+    if (id == null) {
+      throw new JMetalException("The attribute identifier is null") ;
+    }
+
+    Integer slot = slots.get(id) ;
+    if (slot == null) {
+      slot = register(id) ;
+    }
+
+    return slot ;
+  }
+
+  /**
+   * Returns the slot of an attribute identifier, or -1 if it has not been registered
+   */
+  public static int findSlot(Object id) {
+    Integer slot = (id == null) ? null : slots.get(id) ;
+
+    return (slot == null) ? -1 : slot ;
+  }
+
+  /**
+   * Returns the identifier registered with a slot
+   */
+  public static synchronized Object getIdentifier(int slot) {
+    if ((slot < 0) || (slot >= identifiers.size())) {
+      throw new JMetalException("Invalid attribute slot: " + slot) ;
+    }
+    return identifiers.get(slot) ;
+  }
+
+  /**
+   * Returns the number of registered identifiers (i.e., the number of slots in use)
+   */
+  public static int getNumberOfSlots() {
+    return slots.size() ;
+  }
+
+  private static synchronized int register(Object id) {
+    Integer slot = slots.get(id) ;
+    if (slot == null) {
+      slot = identifiers.size() ;
+      identifiers.add(id) ;
+      slots.put(id, slot) ;
+    }
+
+    return slot ;
+  }
+}
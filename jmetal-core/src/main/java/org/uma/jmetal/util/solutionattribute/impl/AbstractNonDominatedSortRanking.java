@@ -0,0 +1,278 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for {@link Ranking} implementations working on a primitive snapshot of the
+ * objective values of the solutions (a <code>double[][]</code> matrix) instead of comparing
+ * {@link Solution} objects through comparators.
+ *
+ * The semantics are the same as in {@link DominanceRanking}: solutions are first ordered by
+ * their overall constraint violation degree (a feasible solution is better than an unfeasible
+ * one, and an unfeasible solution is better than other with a higher violation degree), and the
+ * solutions with the same violation degree are ranked by Pareto dominance. Subfront 0 contains
+ * the non-dominated solutions. The solutions of each subfront keep the order they have in the
+ * ranked list.
+ *
+ * Subclasses only have to implement {@link #computeRanks(double[][])}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractNonDominatedSortRanking<S extends Solution<?>>
+    extends GenericSolutionAttribute<S, Integer> implements Ranking<S> {
+
+  private final OverallConstraintViolation<S> overallConstraintViolation ;
+
+  private List<ArrayList<S>> rankedSubpopulations;
+
+  /**
+   * Constructor
+   */
+  public AbstractNonDominatedSortRanking() {
+    overallConstraintViolation = new OverallConstraintViolation<S>() ;
+    rankedSubpopulations = new ArrayList<>();
+  }
+
+  /**
+   * Computes the non-dominated rank of a set of points (minimization is assumed). Ranks start at
+   * 0 and are consecutive, so the number of subfronts is the maximum rank plus one.
+   *
+   * @param points Matrix of objective values; each row is a point
+   * @return An array containing the rank of each point
+   */
+  public abstract int[] computeRanks(double[][] points) ;
+
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    }
+
+    int size = solutionList.size() ;
+    int[] ranks = new int[size] ;
+
+    double[] violation = new double[size] ;
+    boolean constrained = false ;
+    for (int i = 0; i < size; i++) {
+      Double value = overallConstraintViolation.getAttribute(solutionList.get(i)) ;
+      violation[i] = (value == null) ? 0.0 : value ;
+      if (violation[i] < 0.0) {
+        constrained = true ;
+      }
+    }
+
+    if (!constrained) {
+      if (size > 0) {
+        ranks = computeRanks(getObjectiveMatrix(solutionList, 0, size, null)) ;
+      }
+    } else {
+      computeConstrainedRanks(solutionList, violation, ranks) ;
+    }
+
+    int numberOfSubfronts = 0 ;
+    for (int i = 0; i < size; i++) {
+      numberOfSubfronts = Math.max(numberOfSubfronts, ranks[i] + 1) ;
+    }
+
+    int[] subfrontSize = new int[numberOfSubfronts] ;
+    for (int i = 0; i < size; i++) {
+      subfrontSize[ranks[i]]++ ;
+    }
+
+    rankedSubpopulations = new ArrayList<>(numberOfSubfronts) ;
+    for (int i = 0; i < numberOfSubfronts; i++) {
+      rankedSubpopulations.add(new ArrayList<S>(subfrontSize[i])) ;
+    }
+
+    for (int i = 0; i < size; i++) {
+      S solution = solutionList.get(i) ;
+      setIntAttribute(solution, ranks[i]);
+      rankedSubpopulations.get(ranks[i]).add(solution) ;
+    }
+
+    return this;
+  }
+
+  /**
+   * The rank is stored with the same identifier used by {@link DominanceRanking}, so classes such
+   * as {@link org.uma.jmetal.util.comparator.RankingComparator} work with any implementation
+   */
+  @Override
+  public Object getAttributeID() {
+    return DominanceRanking.class ;
+  }
+
+  @Override
+  public List<S> getSubfront(int rank) {
+    if (rank >= rankedSubpopulations.size()) {
+      throw new JMetalException("Invalid rank: " + rank + ". Max rank = " + (rankedSubpopulations.size() -1)) ;
+    }
+    return rankedSubpopulations.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubfronts() {
+    return rankedSubpopulations.size();
+  }
+
+  /**
+   * Solutions having different violation degrees are always comparable, so each group of
+   * solutions sharing the same violation degree is ranked on its own and the ranks of a group are
+   * placed after the ranks of the groups having a lower violation
+   */
+  private void computeConstrainedRanks(List<S> solutionList, double[] violation, int[] ranks) {
+    int size = solutionList.size() ;
+
+    int[] order = new int[size] ;
+    double[] key = new double[size] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+      key[i] = -violation[i] ;
+    }
+    sortIndices(order, key) ;
+
+    int rankOffset = 0 ;
+    int groupStart = 0 ;
+    while (groupStart < size) {
+      int groupEnd = groupStart + 1 ;
+      while ((groupEnd < size) && (violation[order[groupEnd]] == violation[order[groupStart]])) {
+        groupEnd++ ;
+      }
+
+      int[] groupRanks = computeRanks(getObjectiveMatrix(solutionList, groupStart, groupEnd, order)) ;
+      int numberOfSubfronts = 0 ;
+      for (int i = 0; i < groupRanks.length; i++) {
+        ranks[order[groupStart + i]] = groupRanks[i] + rankOffset ;
+        numberOfSubfronts = Math.max(numberOfSubfronts, groupRanks[i] + 1) ;
+      }
+
+      rankOffset += numberOfSubfronts ;
+      groupStart = groupEnd ;
+    }
+  }
+
+  private double[][] getObjectiveMatrix(List<S> solutionList, int from, int to, int[] order) {
+    double[][] points = new double[to - from][] ;
+    for (int i = from; i < to; i++) {
+      S solution = solutionList.get(order == null ? i : order[i]) ;
+      double[] point = new double[solution.getNumberOfObjectives()] ;
+      for (int j = 0; j < point.length; j++) {
+        point[j] = solution.getObjective(j) ;
+      }
+      points[i - from] = point ;
+    }
+
+    return points ;
+  }
+
+  /**
+   * Sorts the indices of a set of points in lexicographical order of their objective values. The
+   * sort is stable, so identical points keep their relative order
+   *
+   * @param points Matrix of objective values
+   * @return The indices of the points, sorted
+   */
+  protected static int[] sortLexicographically(double[][] points) {
+    int[] indices = new int[points.length] ;
+    for (int i = 0; i < indices.length; i++) {
+      indices[i] = i ;
+    }
+    int[] buffer = new int[points.length] ;
+    mergeSort(indices, buffer, 0, indices.length, points, null) ;
+
+    return indices ;
+  }
+
+  /**
+   * Sorts (stable) an array of indices by the associated keys in ascending order
+   */
+  protected static void sortIndices(int[] indices, double[] keys) {
+    int[] buffer = new int[indices.length] ;
+    mergeSort(indices, buffer, 0, indices.length, null, keys) ;
+  }
+
+  /**
+   * Compares two points lexicographically
+   *
+   * @return A negative value, zero or a positive value if the first point is lower, equal or
+   * greater than the second one
+   */
+  protected static int compareLexicographically(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] < point2[i]) {
+        return -1 ;
+      } else if (point1[i] > point2[i]) {
+        return 1 ;
+      }
+    }
+
+    return 0 ;
+  }
+
+  private static void mergeSort(int[] indices, int[] buffer, int from, int to, double[][] points,
+      double[] keys) {
+    if (to - from < 2) {
+      return ;
+    }
+
+    if (to - from <= 16) {
+      for (int i = from + 1; i < to; i++) {
+        int index = indices[i] ;
+        int j = i - 1 ;
+        while ((j >= from) && (compare(indices[j], index, points, keys) > 0)) {
+          indices[j + 1] = indices[j] ;
+          j-- ;
+        }
+        indices[j + 1] = index ;
+      }
+      return ;
+    }
+
+    int middle = (from + to) >>> 1 ;
+    mergeSort(indices, buffer, from, middle, points, keys) ;
+    mergeSort(indices, buffer, middle, to, points, keys) ;
+
+    if (compare(indices[middle - 1], indices[middle], points, keys) <= 0) {
+      return ;
+    }
+
+    System.arraycopy(indices, from, buffer, from, to - from) ;
+    int left = from ;
+    int right = middle ;
+    for (int i = from; i < to; i++) {
+      if ((right >= to) ||
+          ((left < middle) && (compare(buffer[left], buffer[right], points, keys) <= 0))) {
+        indices[i] = buffer[left++] ;
+      } else {
+        indices[i] = buffer[right++] ;
+      }
+    }
+  }
+
+  private static int compare(int index1, int index2, double[][] points, double[] keys) {
+    if (points != null) {
+      return compareLexicographically(points[index1], points[index2]) ;
+    } else {
+      return Double.compare(keys[index1], keys[index2]) ;
+    }
+  }
+}
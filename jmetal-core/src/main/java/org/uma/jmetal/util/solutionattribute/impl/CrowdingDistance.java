@@ -45,13 +45,13 @@ public class CrowdingDistance<S extends Solution<?>>
     }
 
     if (size == 1) {
-      solutionList.get(0).setAttribute(getAttributeID(), Double.POSITIVE_INFINITY);
+      setDoubleAttribute(solutionList.get(0), Double.POSITIVE_INFINITY);
       return;
     }
 
     if (size == 2) {
-      solutionList.get(0).setAttribute(getAttributeID(), Double.POSITIVE_INFINITY);
-      solutionList.get(1).setAttribute(getAttributeID(), Double.POSITIVE_INFINITY);
+      setDoubleAttribute(solutionList.get(0), Double.POSITIVE_INFINITY);
+      setDoubleAttribute(solutionList.get(1), Double.POSITIVE_INFINITY);
 
       return;
     }
@@ -63,7 +63,7 @@ public class CrowdingDistance<S extends Solution<?>>
     }
 
     for (int i = 0; i < size; i++) {
-      front.get(i).setAttribute(getAttributeID(), 0.0);
+      setDoubleAttribute(front.get(i), 0.0);
     }
 
     double objetiveMaxn;
@@ -79,14 +79,14 @@ public class CrowdingDistance<S extends Solution<?>>
       objetiveMaxn = front.get(front.size() - 1).getObjective(i);
 
       //Set de crowding distance
-      front.get(0).setAttribute(getAttributeID(), Double.POSITIVE_INFINITY);
-      front.get(size - 1).setAttribute(getAttributeID(), Double.POSITIVE_INFINITY);
+      setDoubleAttribute(front.get(0), Double.POSITIVE_INFINITY);
+      setDoubleAttribute(front.get(size - 1), Double.POSITIVE_INFINITY);
 
       for (int j = 1; j < size - 1; j++) {
         distance = front.get(j + 1).getObjective(i) - front.get(j - 1).getObjective(i);
         distance = distance / (objetiveMaxn - objetiveMinn);
-        distance += (double)front.get(j).getAttribute(getAttributeID());
-        front.get(j).setAttribute(getAttributeID(), distance);
+        distance += getDoubleAttribute(front.get(j), 0.0);
+        setDoubleAttribute(front.get(j), distance);
       }
     }
   }
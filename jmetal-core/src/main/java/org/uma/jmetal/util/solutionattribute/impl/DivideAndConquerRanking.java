@@ -0,0 +1,388 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+
+import java.util.Arrays;
+
+/**
+ * This class implements the divide-and-conquer non-dominated sorting algorithm proposed by
+ * M.T. Jensen (Reducing the run-time complexity of multiobjective EAs: The NSGA-II and other
+ * algorithms. IEEE Transactions on Evolutionary Computation 7(5), 2003), including the handling
+ * of points sharing objective values proposed by F.A. Fortin et al. (Generalizing the improved
+ * run-time complexity algorithm for non-dominated sorting. GECCO 2013) and M. Buzdalov and
+ * A. Shalyto (A provably asymptotically fast version of the generalized Jensen algorithm for
+ * non-dominated sorting. PPSN XIII, 2014).
+ *
+ * Its complexity is O(N log^(M-1) N), so it is the preferred choice for two and three objectives;
+ * in the bi-objective case it reduces to a single O(N log N) sweep.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class DivideAndConquerRanking<S extends Solution<?>>
+    extends AbstractNonDominatedSortRanking<S> {
+  private static final int BRUTE_FORCE_THRESHOLD = 1 ;
+
+  /**
+   * The method is reentrant: the state of the sort is kept in a {@link Sort} object created by
+   * each call, so it can be called concurrently by several threads
+   */
+  @Override
+  public int[] computeRanks(double[][] allPoints) {
+    int[] result = new int[allPoints.length] ;
+    if (allPoints.length == 0) {
+      return result ;
+    }
+
+    int[] order = sortLexicographically(allPoints) ;
+
+    // Identical points are merged, so the algorithm only works with distinct points, indexed
+    // by their lexicographical order
+    int[] representative = new int[allPoints.length] ;
+    int numberOfDistinctPoints = 0 ;
+    double[][] distinctPoints = new double[allPoints.length][] ;
+    for (int i = 0; i < order.length; i++) {
+      double[] point = allPoints[order[i]] ;
+      if ((numberOfDistinctPoints == 0) ||
+          (compareLexicographically(distinctPoints[numberOfDistinctPoints - 1], point) != 0)) {
+        distinctPoints[numberOfDistinctPoints++] = point ;
+      }
+      representative[order[i]] = numberOfDistinctPoints - 1 ;
+    }
+
+    int[] ranks = new int[numberOfDistinctPoints] ;
+
+    int numberOfObjectives = allPoints[0].length ;
+    int[] set = new int[numberOfDistinctPoints] ;
+    for (int i = 0; i < set.length; i++) {
+      set[i] = i ;
+    }
+
+    if (numberOfObjectives == 1) {
+      for (int i = 0; i < set.length; i++) {
+        ranks[i] = i ;
+      }
+    } else {
+      new Sort(distinctPoints, ranks).helperA(set, numberOfObjectives - 1) ;
+    }
+
+    for (int i = 0; i < result.length; i++) {
+      result[i] = ranks[representative[i]] ;
+    }
+
+    return result ;
+  }
+
+  /**
+   * State of a sort: the distinct points, in lexicographical order, and their ranks
+   */
+  private static final class Sort {
+    private final double[][] points ;
+    private final int[] ranks ;
+
+    Sort(double[][] points, int[] ranks) {
+      this.points = points ;
+      this.ranks = ranks ;
+    }
+
+    /**
+     * Assigns the ranks of the points of a set considering the objectives 0..k. All the points of
+     * the set share the values of the objectives greater than k, and their ranks already take into
+     * account the points outside the set dominating them.
+     */
+    private void helperA(int[] set, int k) {
+      if (set.length < 2) {
+        return ;
+      } else if (set.length == 2) {
+        if (weaklyDominates(set[0], set[1], k)) {
+          updateRank(set[0], set[1]) ;
+        }
+      } else if (k == 1) {
+        sweepA(set) ;
+      } else if (allValuesAreEqual(set, k)) {
+        helperA(set, k - 1) ;
+      } else {
+        double median = median(set, k) ;
+        int[][] split = split(set, k, median) ;
+        int[] lower = split[0] ;
+        int[] equal = split[1] ;
+        int[] higher = split[2] ;
+
+        helperA(lower, k) ;
+        helperB(lower, equal, k - 1) ;
+        helperA(equal, k - 1) ;
+        helperB(merge(lower, equal), higher, k - 1) ;
+        helperA(higher, k) ;
+      }
+    }
+
+    /**
+     * Updates the ranks of the points of the set <code>high</code> with those of the set
+     * <code>low</code> considering the objectives 0..k. The ranks of the points in <code>low</code>
+     * are final, and no point of <code>low</code> is worse than a point of <code>high</code> in the
+     * objectives greater than k.
+     */
+    private void helperB(int[] low, int[] high, int k) {
+      if ((low.length == 0) || (high.length == 0)) {
+        return ;
+      } else if ((low.length <= BRUTE_FORCE_THRESHOLD) || (high.length <= BRUTE_FORCE_THRESHOLD)) {
+        for (int h : high) {
+          for (int l : low) {
+            if (weaklyDominates(l, h, k)) {
+              updateRank(l, h) ;
+            }
+          }
+        }
+      } else if (k == 1) {
+        sweepB(low, high) ;
+      } else {
+        double lowMin = Double.POSITIVE_INFINITY ;
+        double lowMax = Double.NEGATIVE_INFINITY ;
+        for (int l : low) {
+          lowMin = Math.min(lowMin, points[l][k]) ;
+          lowMax = Math.max(lowMax, points[l][k]) ;
+        }
+        double highMin = Double.POSITIVE_INFINITY ;
+        double highMax = Double.NEGATIVE_INFINITY ;
+        for (int h : high) {
+          highMin = Math.min(highMin, points[h][k]) ;
+          highMax = Math.max(highMax, points[h][k]) ;
+        }
+
+        if (lowMax <= highMin) {
+          helperB(low, high, k - 1) ;
+        } else if (lowMin <= highMax) {
+          double median = median(merge(low, high), k) ;
+          int[][] lowSplit = split(low, k, median) ;
+          int[][] highSplit = split(high, k, median) ;
+
+          helperB(lowSplit[0], highSplit[0], k) ;
+          helperB(merge(lowSplit[0], lowSplit[1]), merge(highSplit[1], highSplit[2]), k - 1) ;
+          helperB(lowSplit[2], highSplit[2], k) ;
+        }
+      }
+    }
+
+    /**
+     * Two objective case of helperA. The points are processed in lexicographical order, so the rank
+     * of a point is one plus the maximum rank of the previous points having a lower or equal value
+     * of the second objective
+     */
+    private void sweepA(int[] set) {
+      double[] keys = new double[set.length] ;
+      for (int i = 0; i < set.length; i++) {
+        keys[i] = points[set[i]][1] ;
+      }
+      Arrays.sort(keys) ;
+
+      int[] tree = newMaxTree(keys.length) ;
+      for (int p : set) {
+        int best = queryMaxTree(tree, upperBound(keys, points[p][1]) - 1) ;
+        if (best >= 0) {
+          ranks[p] = Math.max(ranks[p], best + 1) ;
+        }
+        updateMaxTree(tree, Arrays.binarySearch(keys, points[p][1]), ranks[p]) ;
+      }
+    }
+
+    /**
+     * Two objective case of helperB. Both sets are merged in lexicographical order (points of
+     * <code>low</code> first in case of ties in the first objective)
+     */
+    private void sweepB(int[] low, int[] high) {
+      double[] keys = new double[low.length] ;
+      for (int i = 0; i < low.length; i++) {
+        keys[i] = points[low[i]][1] ;
+      }
+      Arrays.sort(keys) ;
+
+      int[] tree = newMaxTree(keys.length) ;
+      int l = 0 ;
+      for (int h : high) {
+        while ((l < low.length) && (points[low[l]][0] <= points[h][0])) {
+          int position = Arrays.binarySearch(keys, points[low[l]][1]) ;
+          updateMaxTree(tree, position, ranks[low[l]]) ;
+          l++ ;
+        }
+
+        int position = upperBound(keys, points[h][1]) - 1 ;
+        if (position >= 0) {
+          int best = queryMaxTree(tree, position) ;
+          if (best >= 0) {
+            ranks[h] = Math.max(ranks[h], best + 1) ;
+          }
+        }
+      }
+    }
+
+    private void updateRank(int dominating, int dominated) {
+      ranks[dominated] = Math.max(ranks[dominated], ranks[dominating] + 1) ;
+    }
+
+    private boolean weaklyDominates(int point1, int point2, int k) {
+      for (int i = 0; i <= k; i++) {
+        if (points[point1][i] > points[point2][i]) {
+          return false ;
+        }
+      }
+      return true ;
+    }
+
+    private boolean allValuesAreEqual(int[] set, int k) {
+      double value = points[set[0]][k] ;
+      for (int i = 1; i < set.length; i++) {
+        if (points[set[i]][k] != value) {
+          return false ;
+        }
+      }
+      return true ;
+    }
+
+    /**
+     * Splits a set into the points having a value of objective k lower, equal and higher than the
+     * median. The lexicographical order of the points is preserved
+     */
+    private int[][] split(int[] set, int k, double median) {
+      int lowerSize = 0 ;
+      int equalSize = 0 ;
+      for (int p : set) {
+        if (points[p][k] < median) {
+          lowerSize++ ;
+        } else if (points[p][k] == median) {
+          equalSize++ ;
+        }
+      }
+
+      int[] lower = new int[lowerSize] ;
+      int[] equal = new int[equalSize] ;
+      int[] higher = new int[set.length - lowerSize - equalSize] ;
+      int lowerIndex = 0 ;
+      int equalIndex = 0 ;
+      int higherIndex = 0 ;
+      for (int p : set) {
+        if (points[p][k] < median) {
+          lower[lowerIndex++] = p ;
+        } else if (points[p][k] == median) {
+          equal[equalIndex++] = p ;
+        } else {
+          higher[higherIndex++] = p ;
+        }
+      }
+
+      return new int[][]{lower, equal, higher} ;
+    }
+
+    /**
+     * Merges two sets keeping the lexicographical order (i.e., the order of the indices)
+     */
+    private static int[] merge(int[] set1, int[] set2) {
+      int[] result = new int[set1.length + set2.length] ;
+      int i = 0 ;
+      int j = 0 ;
+      int k = 0 ;
+      while ((i < set1.length) && (j < set2.length)) {
+        result[k++] = (set1[i] < set2[j]) ? set1[i++] : set2[j++] ;
+      }
+      while (i < set1.length) {
+        result[k++] = set1[i++] ;
+      }
+      while (j < set2.length) {
+        result[k++] = set2[j++] ;
+      }
+
+      return result ;
+    }
+
+    /**
+     * Returns the median of the values of objective k of a set (quickselect)
+     */
+    private double median(int[] set, int k) {
+      double[] values = new double[set.length] ;
+      for (int i = 0; i < set.length; i++) {
+        values[i] = points[set[i]][k] ;
+      }
+
+      int target = values.length / 2 ;
+      int left = 0 ;
+      int right = values.length - 1 ;
+      while (left < right) {
+        double pivot = values[(left + right) >>> 1] ;
+        int i = left ;
+        int j = right ;
+        while (i <= j) {
+          while (values[i] < pivot) {
+            i++ ;
+          }
+          while (values[j] > pivot) {
+            j-- ;
+          }
+          if (i <= j) {
+            double swap = values[i] ;
+            values[i] = values[j] ;
+            values[j] = swap ;
+            i++ ;
+            j-- ;
+          }
+        }
+        if (target <= j) {
+          right = j ;
+        } else if (target >= i) {
+          left = i ;
+        } else {
+          break ;
+        }
+      }
+
+      return values[target] ;
+    }
+  }
+
+  private static int upperBound(double[] keys, double value) {
+    int low = 0 ;
+    int high = keys.length ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (keys[middle] <= value) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+    return low ;
+  }
+
+  /* Fenwick tree computing prefix maximums of the ranks */
+
+  private static int[] newMaxTree(int size) {
+    int[] tree = new int[size + 1] ;
+    Arrays.fill(tree, -1);
+    return tree ;
+  }
+
+  private static int queryMaxTree(int[] tree, int position) {
+    int result = -1 ;
+    for (int i = position + 1; i > 0; i -= i & (-i)) {
+      result = Math.max(result, tree[i]) ;
+    }
+    return result ;
+  }
+
+  private static void updateMaxTree(int[] tree, int position, int value) {
+    for (int i = position + 1; i < tree.length; i += i & (-i)) {
+      tree[i] = Math.max(tree[i], value) ;
+    }
+  }
+}
@@ -100,7 +100,7 @@ public class DominanceRanking <S extends Solution<?>>
 
         front[0].add(i);
         //RankingAndCrowdingAttr.getAttributes(solutionSet.get(0)).setRank(0);
-        solutionSet.get(i).setAttribute(getAttributeID(), 0);
+        setIntAttribute(solutionSet.get(i), 0);
       }
     }
 
@@ -118,7 +118,7 @@ public class DominanceRanking <S extends Solution<?>>
           if (dominateMe[index] == 0) {
             front[i].add(index);
             //RankingAndCrowdingAttr.getAttributes(solutionSet.get(index)).setRank(i);
-            solutionSet.get(index).setAttribute(getAttributeID(), i);
+            setIntAttribute(solutionSet.get(index), i);
           }
         }
       }
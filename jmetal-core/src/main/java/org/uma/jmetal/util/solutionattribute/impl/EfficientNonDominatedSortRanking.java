@@ -0,0 +1,147 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * This class implements the Efficient Non-dominated Sort (ENS) algorithm, described in:
+ * X. Zhang, Y. Tian, R. Cheng, Y. Jin. An Efficient Approach to Nondominated Sorting for
+ * Evolutionary Multiobjective Optimization. IEEE Transactions on Evolutionary Computation 19(2),
+ * 2015. DOI: 10.1109/TEVC.2014.2308305
+ *
+ * The points are processed in lexicographical order, so a point can only be dominated by points
+ * already assigned to a front. The front of a point is found either by a sequential search
+ * (ENS-SS), which is better suited for a low number of fronts, or by a binary search (ENS-BS),
+ * which is better suited when the number of fronts is high.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class EfficientNonDominatedSortRanking<S extends Solution<?>>
+    extends AbstractNonDominatedSortRanking<S> {
+  public enum SearchStrategy {SEQUENTIAL, BINARY}
+
+  private final SearchStrategy searchStrategy ;
+
+  /**
+   * Constructor
+   */
+  public EfficientNonDominatedSortRanking() {
+    this(SearchStrategy.BINARY) ;
+  }
+
+  /**
+   * Constructor
+   */
+  public EfficientNonDominatedSortRanking(SearchStrategy searchStrategy) {
+    this.searchStrategy = searchStrategy ;
+  }
+
+  public SearchStrategy getSearchStrategy() {
+    return searchStrategy ;
+  }
+
+  @Override
+  public int[] computeRanks(double[][] points) {
+    int[] ranks = new int[points.length] ;
+    if (points.length == 0) {
+      return ranks ;
+    }
+
+    int[] order = sortLexicographically(points) ;
+
+    int[][] fronts = new int[4][] ;
+    int[] frontSize = new int[4] ;
+    int numberOfFronts = 0 ;
+
+    for (int i = 0; i < order.length; i++) {
+      int index = order[i] ;
+
+      if ((i > 0) && (compareLexicographically(points[order[i - 1]], points[index]) == 0)) {
+        // Identical points do not dominate each other and share the same front
+        ranks[index] = ranks[order[i - 1]] ;
+        continue ;
+      }
+
+      int front ;
+      if (searchStrategy == SearchStrategy.SEQUENTIAL) {
+        front = 0 ;
+        while ((front < numberOfFronts) &&
+            isDominatedByFront(index, fronts[front], frontSize[front], points)) {
+          front++ ;
+        }
+      } else {
+        int low = 0 ;
+        int high = numberOfFronts ;
+        while (low < high) {
+          int middle = (low + high) >>> 1 ;
+          if (isDominatedByFront(index, fronts[middle], frontSize[middle], points)) {
+            low = middle + 1 ;
+          } else {
+            high = middle ;
+          }
+        }
+        front = low ;
+      }
+
+      if (front == numberOfFronts) {
+        if (numberOfFronts == fronts.length) {
+          int[][] newFronts = new int[numberOfFronts * 2][] ;
+          System.arraycopy(fronts, 0, newFronts, 0, numberOfFronts);
+          fronts = newFronts ;
+          int[] newFrontSize = new int[numberOfFronts * 2] ;
+          System.arraycopy(frontSize, 0, newFrontSize, 0, numberOfFronts);
+          frontSize = newFrontSize ;
+        }
+        fronts[numberOfFronts] = new int[8] ;
+        numberOfFronts++ ;
+      }
+
+      if (frontSize[front] == fronts[front].length) {
+        int[] newFront = new int[frontSize[front] * 2] ;
+        System.arraycopy(fronts[front], 0, newFront, 0, frontSize[front]);
+        fronts[front] = newFront ;
+      }
+      fronts[front][frontSize[front]++] = index ;
+      ranks[index] = front ;
+    }
+
+    return ranks ;
+  }
+
+  /**
+   * Checks if a point is dominated by any point of a front. The points of the front precede the
+   * point in lexicographical order and are different from it, so it is enough to check that all the
+   * objectives but the first one are not greater. The front is scanned backwards, as the last
+   * points added to it are the most likely to dominate the new one.
+   */
+  private boolean isDominatedByFront(int index, int[] front, int size, double[][] points) {
+    double[] point = points[index] ;
+    for (int i = size - 1; i >= 0; i--) {
+      double[] candidate = points[front[i]] ;
+      boolean dominates = true ;
+      for (int j = 1; dominates && (j < point.length); j++) {
+        if (candidate[j] > point[j]) {
+          dominates = false ;
+        }
+      }
+      if (dominates) {
+        return true ;
+      }
+    }
+
+    return false ;
+  }
+}
@@ -14,24 +14,94 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.impl.AttributedSolution;
 import org.uma.jmetal.util.solutionattribute.SolutionAttribute;
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
 
 /**
- * Generic class for implementing {@link SolutionAttribute} classes
+ * Generic class for implementing {@link SolutionAttribute} classes.
+ *
+ * The attribute identifier is mapped to a slot of the {@link SolutionAttributeRegistry} the first
+ * time it is used, so the attributes of solutions implementing {@link AttributedSolution} are
+ * accessed directly by slot. Numeric attributes can be also read and written as primitive values
+ * with the getDoubleAttribute/setDoubleAttribute and getIntAttribute/setIntAttribute methods.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class GenericSolutionAttribute <S extends Solution<?>, V> implements SolutionAttribute<S, V>{
+  /** Slot of the attribute plus one (zero if it has not been requested yet) */
+  private transient int slot ;
 
   @SuppressWarnings("unchecked")
   @Override
   public V getAttribute(S solution) {
+    if (solution instanceof AttributedSolution) {
+      return (V)((AttributedSolution) solution).getAttributes().get(getSlot()) ;
+    }
     return (V)solution.getAttribute(getAttributeID());
   }
 
   @Override
   public void setAttribute(S solution, V value) {
-     solution.setAttribute(getAttributeID(), value);
+    if (solution instanceof AttributedSolution) {
+      ((AttributedSolution) solution).getAttributes().set(getSlot(), value);
+    } else {
+      solution.setAttribute(getAttributeID(), value);
+    }
+  }
+
+  /**
+   * Returns the value of the attribute as a double
+   *
+   * @param solution The solution
+   * @param defaultValue Value returned if the solution has not the attribute
+   */
+  public double getDoubleAttribute(S solution, double defaultValue) {
+    if (solution instanceof AttributedSolution) {
+      return ((AttributedSolution) solution).getAttributes().getDouble(getSlot(), defaultValue) ;
+    }
+    Object value = solution.getAttribute(getAttributeID()) ;
+    return (value == null) ? defaultValue : ((Number) value).doubleValue() ;
+  }
+
+  public void setDoubleAttribute(S solution, double value) {
+    if (solution instanceof AttributedSolution) {
+      ((AttributedSolution) solution).getAttributes().setDouble(getSlot(), value);
+    } else {
+      solution.setAttribute(getAttributeID(), value);
+    }
+  }
+
+  /**
+   * Returns the value of the attribute as an int
+   *
+   * @param solution The solution
+   * @param defaultValue Value returned if the solution has not the attribute
+   */
+  public int getIntAttribute(S solution, int defaultValue) {
+    if (solution instanceof AttributedSolution) {
+      return ((AttributedSolution) solution).getAttributes().getInt(getSlot(), defaultValue) ;
+    }
+    Object value = solution.getAttribute(getAttributeID()) ;
+    return (value == null) ? defaultValue : ((Number) value).intValue() ;
+  }
+
+  public void setIntAttribute(S solution, int value) {
+    if (solution instanceof AttributedSolution) {
+      ((AttributedSolution) solution).getAttributes().setInt(getSlot(), value);
+    } else {
+      solution.setAttribute(getAttributeID(), value);
+    }
+  }
+
+  /**
+   * Returns the slot of the attribute in the {@link SolutionAttributeRegistry}
+   */
+  protected int getSlot() {
+    if (slot == 0) {
+      slot = SolutionAttributeRegistry.getSlot(getAttributeID()) + 1 ;
+    }
+    return slot - 1 ;
   }
 
   @Override
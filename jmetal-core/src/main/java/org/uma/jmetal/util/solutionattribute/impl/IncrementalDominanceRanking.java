@@ -0,0 +1,260 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Ranking keeping the subfronts of a set of solutions across insertions and removals, intended for
+ * steady-state algorithms, where only one solution changes at each step. Instead of re-ranking the
+ * whole population, only the subfronts affected by the change are updated, following the
+ * Efficient Non-domination Level Update approach described in:
+ * K. Li, K. Deb, Q. Zhang, S. Kwong. Efficient Non-domination Level Update Approach for
+ * Steady-State Evolutionary Multiobjective Optimization. COIN Report 2014014.
+ *
+ * The front of a new solution is found with a binary search over the subfronts; then, the
+ * solutions dominated by it are moved down one subfront, and so on. When a solution is removed,
+ * the solutions it dominated in the next subfront are moved up if no other solution of its
+ * subfront dominates them.
+ *
+ * The dominance relation and the constraint handling are the same as in {@link DominanceRanking},
+ * and the rank of each solution is stored with the same attribute identifier.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+@SuppressWarnings("serial")
+public class IncrementalDominanceRanking<S extends Solution<?>>
+    extends GenericSolutionAttribute<S, Integer> implements Ranking<S> {
+
+  private final Comparator<S> dominanceComparator ;
+  private final List<ArrayList<S>> subfronts ;
+  private int numberOfSolutions ;
+
+  /**
+   * Constructor
+   */
+  public IncrementalDominanceRanking() {
+    dominanceComparator = new DominanceComparator<S>() ;
+    subfronts = new ArrayList<>() ;
+    numberOfSolutions = 0 ;
+  }
+
+  /**
+   * Discards the current subfronts and ranks a new list of solutions from scratch
+   */
+  @Override
+  public Ranking<S> computeRanking(List<S> solutionList) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null") ;
+    }
+
+    subfronts.clear();
+    numberOfSolutions = 0 ;
+
+    if (!solutionList.isEmpty()) {
+      Ranking<S> ranking = new RankingFactory().createRanking(solutionList.size(),
+          solutionList.get(0).getNumberOfObjectives());
+      ranking.computeRanking(solutionList) ;
+
+      for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+        subfronts.add(new ArrayList<S>(ranking.getSubfront(i))) ;
+        numberOfSolutions += ranking.getSubfront(i).size() ;
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Inserts a solution, updating the subfronts
+   *
+   * @param solution The solution to insert
+   * @return The rank of the inserted solution
+   */
+  public int add(S solution) {
+    if (solution == null) {
+      throw new JMetalException("The solution is null") ;
+    }
+
+    int low = 0 ;
+    int high = subfronts.size() ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (isDominatedByAny(solution, subfronts.get(middle))) {
+        low = middle + 1 ;
+      } else {
+        high = middle ;
+      }
+    }
+    int rank = low ;
+
+    List<S> moved = new ArrayList<>(1) ;
+    moved.add(solution) ;
+    int level = rank ;
+    while (!moved.isEmpty()) {
+      if (level == subfronts.size()) {
+        subfronts.add(new ArrayList<S>(moved.size())) ;
+      }
+      ArrayList<S> subfront = subfronts.get(level) ;
+
+      List<S> dominated = new ArrayList<>() ;
+      int i = 0 ;
+      while (i < subfront.size()) {
+        if (isDominatedByAny(subfront.get(i), moved)) {
+          dominated.add(subfront.get(i)) ;
+          removeFast(subfront, i) ;
+        } else {
+          i++ ;
+        }
+      }
+
+      for (S s : moved) {
+        subfront.add(s) ;
+        setIntAttribute(s, level);
+      }
+
+      moved = dominated ;
+      level++ ;
+    }
+
+    numberOfSolutions++ ;
+
+    return rank ;
+  }
+
+  /**
+   * Removes a solution, updating the subfronts. Solutions are compared by identity.
+   *
+   * @param solution The solution to remove
+   * @return true if the solution was found
+   */
+  public boolean remove(S solution) {
+    int level = 0 ;
+    int position = -1 ;
+    while ((position == -1) && (level < subfronts.size())) {
+      position = indexOf(subfronts.get(level), solution) ;
+      if (position == -1) {
+        level++ ;
+      }
+    }
+
+    if (position == -1) {
+      return false ;
+    }
+
+    removeFast(subfronts.get(level), position) ;
+    numberOfSolutions-- ;
+
+    List<S> removed = new ArrayList<>(1) ;
+    removed.add(solution) ;
+    while (!removed.isEmpty() && (level + 1 < subfronts.size())) {
+      ArrayList<S> subfront = subfronts.get(level) ;
+      ArrayList<S> nextSubfront = subfronts.get(level + 1) ;
+
+      List<S> promoted = new ArrayList<>() ;
+      int i = 0 ;
+      while (i < nextSubfront.size()) {
+        S candidate = nextSubfront.get(i) ;
+        if (isDominatedByAny(candidate, removed) && !isDominatedByAny(candidate, subfront)) {
+          promoted.add(candidate) ;
+          removeFast(nextSubfront, i) ;
+        } else {
+          i++ ;
+        }
+      }
+
+      for (S s : promoted) {
+        subfront.add(s) ;
+        setIntAttribute(s, level);
+      }
+
+      removed = promoted ;
+      level++ ;
+    }
+
+    while (!subfronts.isEmpty() && subfronts.get(subfronts.size() - 1).isEmpty()) {
+      subfronts.remove(subfronts.size() - 1) ;
+    }
+
+    return true ;
+  }
+
+  /**
+   * Returns all the ranked solutions, sorted by subfront
+   */
+  public List<S> getSolutionList() {
+    List<S> solutionList = new ArrayList<>(numberOfSolutions) ;
+    for (List<S> subfront : subfronts) {
+      solutionList.addAll(subfront) ;
+    }
+
+    return solutionList ;
+  }
+
+  public int getNumberOfSolutions() {
+    return numberOfSolutions ;
+  }
+
+  @Override
+  public List<S> getSubfront(int rank) {
+    if (rank >= subfronts.size()) {
+      throw new JMetalException("Invalid rank: " + rank + ". Max rank = " + (subfronts.size() -1)) ;
+    }
+    return subfronts.get(rank);
+  }
+
+  @Override
+  public int getNumberOfSubfronts() {
+    return subfronts.size();
+  }
+
+  @Override
+  public Object getAttributeID() {
+    return DominanceRanking.class ;
+  }
+
+  private boolean isDominatedByAny(S solution, List<S> solutionList) {
+    for (int i = solutionList.size() - 1; i >= 0; i--) {
+      if (dominanceComparator.compare(solutionList.get(i), solution) < 0) {
+        return true ;
+      }
+    }
+    return false ;
+  }
+
+  private static <S> int indexOf(List<S> list, S solution) {
+    for (int i = 0; i < list.size(); i++) {
+      if (list.get(i) == solution) {
+        return i ;
+      }
+    }
+    return -1 ;
+  }
+
+  /**
+   * Removes an element in constant time (the order of the subfronts is not relevant)
+   */
+  private static <S> void removeFast(ArrayList<S> list, int index) {
+    int last = list.size() - 1 ;
+    list.set(index, list.get(last)) ;
+    list.remove(last) ;
+  }
+}
@@ -0,0 +1,63 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+/**
+ * The {@link RankingFactory} selects the fastest {@link Ranking} implementation for a given
+ * population size and number of objectives:
+ * - Two objectives: {@link DivideAndConquerRanking}, which is O(N log N)
+ * - Three objectives and large populations: {@link DivideAndConquerRanking}
+ * - Up to five objectives: {@link EfficientNonDominatedSortRanking} with binary search, as the
+ *   number of fronts is usually high
+ * - More than five objectives: {@link EfficientNonDominatedSortRanking} with sequential search,
+ *   as most of the solutions are usually non-dominated
+ *
+ * {@link DominanceRanking} is returned when the number of objectives is unknown.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class RankingFactory {
+  public static final int DIVIDE_AND_CONQUER_THREE_OBJECTIVES_THRESHOLD = 1000 ;
+  public static final int BINARY_SEARCH_MAX_NUMBER_OF_OBJECTIVES = 5 ;
+
+  /**
+   * Creates a ranking
+   *
+   * @param populationSize Number of solutions to rank
+   * @param numberOfObjectives Number of objectives of the solutions
+   * @return A {@link Ranking}
+   */
+  public <S extends Solution<?>> Ranking<S> createRanking(int populationSize, int numberOfObjectives) {
+    Ranking<S> ranking ;
+    if (numberOfObjectives < 1) {
+      ranking = new DominanceRanking<S>() ;
+    } else if (numberOfObjectives <= 2) {
+      ranking = new DivideAndConquerRanking<S>() ;
+    } else if ((numberOfObjectives == 3) &&
+        (populationSize >= DIVIDE_AND_CONQUER_THREE_OBJECTIVES_THRESHOLD)) {
+      ranking = new DivideAndConquerRanking<S>() ;
+    } else if (numberOfObjectives <= BINARY_SEARCH_MAX_NUMBER_OF_OBJECTIVES) {
+      ranking = new EfficientNonDominatedSortRanking<S>(
+          EfficientNonDominatedSortRanking.SearchStrategy.BINARY) ;
+    } else {
+      ranking = new EfficientNonDominatedSortRanking<S>(
+          EfficientNonDominatedSortRanking.SearchStrategy.SEQUENTIAL) ;
+    }
+
+    return ranking ;
+  }
+}
@@ -14,54 +14,100 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenSolutionsInObjectiveSpace;
+import org.uma.jmetal.util.parallel.ParallelLoop;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
+/**
+ * Fitness assignment of SPEA2: the raw fitness of a solution (the sum of the strengths of the
+ * solutions dominating it) plus a density value based on the distance to its nearest neighbour.
+ *
+ * Each solution is compared once with every other one, and neither the dominance relation nor the
+ * distance matrix are stored. The solutions can be processed by the threads of a {@link ParallelLoop}
+ * (sequentially by default); the result is the same for any number of threads.
+ */
 public class StrengthRawFitness <S extends Solution<?>>
     extends GenericSolutionAttribute<S, Double> implements DensityEstimator<S>{
   private static final Comparator<Solution<?>> DOMINANCE_COMPARATOR = new DominanceComparator<Solution<?>>();
+  private static final EuclideanDistanceBetweenSolutionsInObjectiveSpace<Solution<?>> DISTANCE =
+      new EuclideanDistanceBetweenSolutionsInObjectiveSpace<Solution<?>>() ;
 
-  @Override
-  public void computeDensityEstimator(List<S> solutionSet) {
-    double [][] distance = SolutionListUtils.distanceMatrix(solutionSet);
-    double []   strength    = new double[solutionSet.size()];
-    double []   rawFitness  = new double[solutionSet.size()];
-    double kDistance                                          ;
+  private final ParallelLoop parallelLoop ;
 
-    // strength(i) = |{j | j <- SolutionSet and i dominate j}|
-    for (int i = 0; i < solutionSet.size(); i++) {
-      for (int j = 0; j < solutionSet.size();j++) {
-        if (DOMINANCE_COMPARATOR.compare(solutionSet.get(i),solutionSet.get(j))==-1) {
-          strength[i] += 1.0;
-        }
-      }
+  public StrengthRawFitness() {
+    this(new ParallelLoop(1)) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param parallelLoop Loop computing the fitness of the solutions. It is not shut down by this
+   *                     class
+   */
+  public StrengthRawFitness(ParallelLoop parallelLoop) {
+    if (parallelLoop == null) {
+      throw new JMetalException("The parallel loop is null") ;
     }
+    this.parallelLoop = parallelLoop ;
+  }
 
+  public ParallelLoop getParallelLoop() {
+    return parallelLoop ;
+  }
 
-    //Calculate the raw fitness
-    // rawFitness(i) = |{sum strenght(j) | j <- SolutionSet and j dominate i}|
-    for (int i = 0;i < solutionSet.size(); i++) {
-      for (int j = 0; j < solutionSet.size();j++) {
-        if (DOMINANCE_COMPARATOR.compare(solutionSet.get(i),solutionSet.get(j))==1) {
-          rawFitness[i] += strength[j];
+  @Override
+  public void computeDensityEstimator(final List<S> solutionSet) {
+    final int size = solutionSet.size() ;
+    final double [] strength = new double[size];
+    final double [] nearestDistance = new double[size];
+    final double [] fitness = new double[size];
+
+    // strength(i) = |{j | j <- SolutionSet and i dominate j}|
+    parallelLoop.execute(size, new ParallelLoop.Body() {
+      @Override public void execute(int i) {
+        S solution = solutionSet.get(i) ;
+        double minimumDistance = Double.MAX_VALUE ;
+        for (int j = 0; j < size; j++) {
+          if (DOMINANCE_COMPARATOR.compare(solution, solutionSet.get(j)) == -1) {
+            strength[i] += 1.0;
+          }
+          if (j != i) {
+            double distance = DISTANCE.getDistance(solution, solutionSet.get(j)) ;
+            if (distance < minimumDistance) {
+              minimumDistance = distance ;
+            }
+          }
         }
+        nearestDistance[i] = minimumDistance ;
       }
-    }
-
+    });
 
+    // rawFitness(i) = |{sum strenght(j) | j <- SolutionSet and j dominate i}|
     // Add the distance to the k-th individual. In the reference paper of SPEA2,
     // k = sqrt(population.size()), but a value of k = 1 recommended. See
     // http://www.tik.ee.ethz.ch/pisa/selectors/spea2/spea2_documentation.txt
-    int k = 1 ;
-    for (int i = 0; i < distance.length; i++) {
-      Arrays.sort(distance[i]);
-      kDistance = 1.0 / (distance[i][k] + 2.0);
-      solutionSet.get(i).setAttribute(getAttributeID(), rawFitness[i] + kDistance);
+    parallelLoop.execute(size, new ParallelLoop.Body() {
+      @Override public void execute(int i) {
+        S solution = solutionSet.get(i) ;
+        double rawFitness = 0.0 ;
+        for (int j = 0; j < size; j++) {
+          if (DOMINANCE_COMPARATOR.compare(solution, solutionSet.get(j)) == 1) {
+            rawFitness += strength[j];
+          }
+        }
+
+        double kDistance = 1.0 / (nearestDistance[i] + 2.0);
+        fitness[i] = rawFitness + kDistance ;
+      }
+    });
+
+    for (int i = 0; i < size; i++) {
+      setDoubleAttribute(solutionSet.get(i), fitness[i]);
     }
   }
 }
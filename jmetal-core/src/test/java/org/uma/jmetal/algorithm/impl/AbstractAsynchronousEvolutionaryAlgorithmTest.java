@@ -0,0 +1,204 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class AbstractAsynchronousEvolutionaryAlgorithmTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfWorkersIsNotPositive() {
+    new MockAlgorithm(new MockProblem(), 0, 10, 100) ;
+  }
+
+  @Test public void shouldRunPerformExactlyTheMaximumNumberOfEvaluations() {
+    MockProblem problem = new MockProblem() ;
+    MockAlgorithm algorithm = new MockAlgorithm(problem, 4, 10, 1000) ;
+
+    algorithm.run();
+
+    assertEquals(1000, problem.numberOfEvaluations.get()) ;
+    assertEquals(1000, algorithm.getEvaluations()) ;
+    assertEquals(0, algorithm.getPendingEvaluations()) ;
+    assertEquals(10, algorithm.getPopulation().size()) ;
+    assertEquals(1, algorithm.numberOfInitProgressCalls) ;
+    assertEquals(990, algorithm.numberOfReplacements) ;
+    assertEquals(990, algorithm.numberOfUpdateProgressCalls) ;
+  }
+
+  @Test public void shouldRunEvaluateTheConstraintsOfAConstrainedProblem() {
+    MockProblem problem = new MockConstrainedProblem() ;
+    MockAlgorithm algorithm = new MockAlgorithm(problem, 4, 10, 100) ;
+
+    algorithm.run();
+
+    assertEquals(100, problem.numberOfEvaluations.get()) ;
+    assertEquals(100, problem.numberOfConstraintEvaluations.get()) ;
+  }
+
+  @Test public void shouldRunNotExceedTheMaximumNumberOfEvaluationsIfItIsLowerThanThePopulationSize() {
+    MockProblem problem = new MockProblem() ;
+    MockAlgorithm algorithm = new MockAlgorithm(problem, 4, 10, 5) ;
+
+    algorithm.run();
+
+    assertEquals(5, problem.numberOfEvaluations.get()) ;
+    assertEquals(5, algorithm.getPopulation().size()) ;
+    assertEquals(0, algorithm.numberOfInitProgressCalls) ;
+  }
+
+  @Test public void shouldRunNotWaitForTheSlowestEvaluations() {
+    MockProblem problem = new MockProblem() {
+      @Override public void evaluate(PointSolution solution) {
+        super.evaluate(solution);
+        if (numberOfEvaluations.get() == 1) {
+          try {
+            Thread.sleep(500);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }
+    } ;
+    MockAlgorithm algorithm = new MockAlgorithm(problem, 2, 4, 200) ;
+
+    algorithm.run();
+
+    /*
+    Rationale: while a worker is evaluating the first solution, the other one evaluates the rest
+    of them, so the slow solution is the last one inserted into the population
+    */
+    assertEquals(200, problem.numberOfEvaluations.get()) ;
+    assertTrue(algorithm.lastInsertedSolutionWasTheFirstOneEvaluated) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldRunRaiseAnExceptionIfAnEvaluationFails() {
+    MockProblem problem = new MockProblem() {
+      @Override public void evaluate(PointSolution solution) {
+        throw new RuntimeException("Evaluation error") ;
+      }
+    } ;
+
+    new MockAlgorithm(problem, 4, 10, 100).run();
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockAlgorithm
+      extends AbstractAsynchronousEvolutionaryAlgorithm<PointSolution, List<PointSolution>> {
+    private final int maxEvaluations ;
+    int numberOfInitProgressCalls ;
+    int numberOfUpdateProgressCalls ;
+    int numberOfReplacements ;
+    boolean lastInsertedSolutionWasTheFirstOneEvaluated ;
+
+    public MockAlgorithm(Problem<PointSolution> problem, int numberOfWorkers, int populationSize,
+        int maxEvaluations) {
+      super(problem, numberOfWorkers);
+      setMaxPopulationSize(populationSize);
+      this.maxEvaluations = maxEvaluations ;
+    }
+
+    @Override protected void initProgress() {
+      numberOfInitProgressCalls++ ;
+    }
+
+    @Override protected void updateProgress() {
+      numberOfUpdateProgressCalls++ ;
+    }
+
+    @Override protected boolean isStoppingConditionReached() {
+      return getEvaluations() + getPendingEvaluations() >= maxEvaluations ;
+    }
+
+    @Override protected PointSolution createOffspring(List<PointSolution> population) {
+      return new PointSolution(2) ;
+    }
+
+    @Override protected List<PointSolution> replacement(List<PointSolution> population,
+        PointSolution offspring) {
+      numberOfReplacements++ ;
+      lastInsertedSolutionWasTheFirstOneEvaluated = (offspring.getObjective(1) == 1.0) ;
+      population.set(0, offspring) ;
+      return population ;
+    }
+
+    @Override public List<PointSolution> getResult() {
+      return getPopulation() ;
+    }
+
+    @Override public String getName() {
+      return "MockAlgorithm" ;
+    }
+
+    @Override public String getDescription() {
+      return "" ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem implements Problem<PointSolution> {
+    final AtomicInteger numberOfEvaluations = new AtomicInteger() ;
+    final AtomicInteger numberOfConstraintEvaluations = new AtomicInteger() ;
+
+    @Override public int getNumberOfVariables() {
+      return 0;
+    }
+
+    @Override public int getNumberOfObjectives() {
+      return 2;
+    }
+
+    @Override public int getNumberOfConstraints() {
+      return 0;
+    }
+
+    @Override public String getName() {
+      return "MockProblem";
+    }
+
+    @Override public void evaluate(PointSolution solution) {
+      solution.setObjective(1, numberOfEvaluations.incrementAndGet());
+    }
+
+    @Override public PointSolution createSolution() {
+      return new PointSolution(2);
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockConstrainedProblem extends MockProblem
+      implements ConstrainedProblem<PointSolution> {
+    @Override public int getNumberOfConstraints() {
+      return 1;
+    }
+
+    @Override public void evaluateConstraints(PointSolution solution) {
+      numberOfConstraintEvaluations.incrementAndGet() ;
+    }
+  }
+}
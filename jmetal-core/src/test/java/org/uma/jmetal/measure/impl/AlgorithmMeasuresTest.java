@@ -0,0 +1,103 @@
+package org.uma.jmetal.measure.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AlgorithmMeasuresTest {
+
+	private final static long DEFAULT_LIMIT = 50;
+
+	@Test
+	public void testTimeIsAccountedToTheInnermostPhase() throws InterruptedException {
+		AlgorithmMeasures<DoubleSolution> measures = new AlgorithmMeasures<>();
+		measures.start();
+
+		PhaseDurationMeasure previousPhase = measures.enterPhase(measures.getReplacementTime());
+		assertEquals(null, previousPhase);
+		PhaseDurationMeasure innerPreviousPhase = measures.enterPhase(measures.getEvaluationTime());
+		assertEquals(measures.getReplacementTime(), innerPreviousPhase);
+		assertFalse(measures.getReplacementTime().isRunning());
+
+		Thread.sleep(DEFAULT_LIMIT);
+		measures.exitPhase(innerPreviousPhase);
+		assertFalse(measures.getEvaluationTime().isRunning());
+		assertTrue(measures.getReplacementTime().isRunning());
+		measures.exitPhase(previousPhase);
+		measures.stop();
+
+		assertFalse(measures.getReplacementTime().isRunning());
+		assertTrue(measures.getEvaluationTime().get() >= DEFAULT_LIMIT);
+		assertTrue(measures.getReplacementTime().get() < DEFAULT_LIMIT);
+	}
+
+	@Test
+	public void testStartResetsTheMeasures() {
+		AlgorithmMeasures<DoubleSolution> measures = new AlgorithmMeasures<>();
+		measures.start();
+		measures.getEvaluations().increment(10);
+		measures.exitPhase(measures.enterPhase(measures.getSelectionTime()));
+		measures.stop();
+
+		measures.start();
+		assertEquals(0, (long) measures.getEvaluations().get());
+		assertEquals(0, measures.getSelectionTime().getNanoseconds());
+	}
+
+	@Test
+	public void testMeasuredEvaluatorCountsTheEvaluations() {
+		AlgorithmMeasures<DoubleSolution> measures = new AlgorithmMeasures<>();
+		SolutionListEvaluator<DoubleSolution> evaluator = measures
+				.measureEvaluation(new SolutionListEvaluator<DoubleSolution>() {
+					@Override
+					public List<DoubleSolution> evaluate(List<DoubleSolution> solutionList,
+							Problem<DoubleSolution> problem) {
+						return solutionList;
+					}
+
+					@Override
+					public void shutdown() {
+					}
+				});
+
+		measures.start();
+		evaluator.evaluate(new ArrayList<DoubleSolution>(), null);
+		List<DoubleSolution> solutionList = new ArrayList<>();
+		solutionList.add(null);
+		solutionList.add(null);
+		evaluator.evaluate(solutionList, null);
+		measures.stop();
+
+		assertEquals(2, (long) measures.getEvaluations().get());
+		assertFalse(measures.getEvaluationTime().isRunning());
+	}
+
+	@Test
+	public void testPopulationIsPushedToTheListeners() {
+		AlgorithmMeasures<DoubleSolution> measures = new AlgorithmMeasures<>();
+		final List<List<DoubleSolution>> received = new ArrayList<>();
+		measures.getCurrentPopulation().register(
+				new MeasureListener<List<DoubleSolution>>() {
+					@Override
+					public void measureGenerated(List<DoubleSolution> value) {
+						received.add(value);
+					}
+				});
+
+		List<DoubleSolution> population = new ArrayList<>();
+		population.add(null);
+		measures.updatePopulation(population);
+
+		assertEquals(1, (int) measures.getPopulationSize().get());
+		assertEquals(1, received.size());
+	}
+}
@@ -0,0 +1,210 @@
+package org.uma.jmetal.measure.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.measure.impl.AsynchronousPushMeasure.Policy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsynchronousPushMeasureTest {
+
+	@Test
+	public void testValuesAreNotifiedInOrder() {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(4, Policy.DROP_NEWEST);
+		RecordingListener listener = new RecordingListener(null);
+		measure.register(listener);
+
+		measure.push(1);
+		measure.push(null);
+		measure.push(3);
+		measure.shutdown();
+
+		assertEquals(Arrays.asList(1, null, 3), listener.getValues());
+		assertEquals(0, measure.getDroppedValues());
+	}
+
+	@Test
+	public void testValuesAreNotifiedFromAnotherThread() {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(4, Policy.DROP_NEWEST);
+		final List<Thread> threads = new ArrayList<>();
+		measure.register(new MeasureListener<Integer>() {
+			@Override
+			public void measureGenerated(Integer value) {
+				threads.add(Thread.currentThread());
+			}
+		});
+
+		measure.push(1);
+		measure.shutdown();
+
+		assertEquals(1, threads.size());
+		assertTrue(threads.get(0) != Thread.currentThread());
+	}
+
+	@Test
+	public void testDropNewestDiscardsTheValuesPushedWhenTheBufferIsFull()
+			throws InterruptedException {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(2, Policy.DROP_NEWEST);
+		CountDownLatch latch = new CountDownLatch(1);
+		RecordingListener listener = new RecordingListener(latch);
+		measure.register(listener);
+
+		measure.push(0);
+		listener.awaitFirstValue();
+		for (int i = 1; i <= 5; i++) {
+			measure.push(i);
+		}
+		latch.countDown();
+		measure.shutdown();
+
+		assertEquals(Arrays.asList(0, 1, 2), listener.getValues());
+		assertEquals(3, measure.getDroppedValues());
+	}
+
+	@Test
+	public void testDropOldestDiscardsTheOldestValuesWhenTheBufferIsFull()
+			throws InterruptedException {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(2, Policy.DROP_OLDEST);
+		CountDownLatch latch = new CountDownLatch(1);
+		RecordingListener listener = new RecordingListener(latch);
+		measure.register(listener);
+
+		measure.push(0);
+		listener.awaitFirstValue();
+		for (int i = 1; i <= 5; i++) {
+			measure.push(i);
+		}
+		latch.countDown();
+		measure.shutdown();
+
+		assertEquals(Arrays.asList(0, 4, 5), listener.getValues());
+		assertEquals(3, measure.getDroppedValues());
+	}
+
+	@Test
+	public void testCoalesceKeepsOnlyTheLastValue() throws InterruptedException {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(2, Policy.COALESCE);
+		CountDownLatch latch = new CountDownLatch(1);
+		RecordingListener listener = new RecordingListener(latch);
+		measure.register(listener);
+
+		measure.push(0);
+		listener.awaitFirstValue();
+		for (int i = 1; i <= 5; i++) {
+			measure.push(i);
+		}
+		latch.countDown();
+		measure.shutdown();
+
+		assertEquals(Arrays.asList(0, 5), listener.getValues());
+		assertEquals(4, measure.getDroppedValues());
+	}
+
+	@Test
+	public void testValuesPushedWithoutListenersAreIgnored() {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(2, Policy.DROP_NEWEST);
+		measure.push(1);
+
+		RecordingListener listener = new RecordingListener(null);
+		measure.register(listener);
+		measure.push(2);
+		measure.shutdown();
+
+		assertEquals(Arrays.asList(2), listener.getValues());
+	}
+
+	@Test
+	public void testAFailingListenerDoesNotStopTheNotifications() {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(4, Policy.DROP_NEWEST);
+		measure.register(new MeasureListener<Integer>() {
+			@Override
+			public void measureGenerated(Integer value) {
+				throw new RuntimeException("Expected exception");
+			}
+		});
+		RecordingListener listener = new RecordingListener(null);
+		measure.register(listener);
+
+		measure.push(1);
+		measure.push(2);
+		measure.shutdown();
+
+		assertEquals(Arrays.asList(1, 2), listener.getValues());
+	}
+
+	@Test
+	public void testPushingAfterShutdownRestartsTheDispatcher() {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(4, Policy.DROP_OLDEST);
+		RecordingListener listener = new RecordingListener(null);
+		measure.register(listener);
+
+		measure.push(1);
+		measure.shutdown();
+		measure.push(2);
+		measure.shutdown();
+
+		assertEquals(Arrays.asList(1, 2), listener.getValues());
+	}
+
+	@Test
+	public void testManyValuesAreNotifiedWithoutLoss() {
+		AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>(16, Policy.DROP_OLDEST);
+		RecordingListener listener = new RecordingListener(null);
+		measure.register(listener);
+
+		for (int i = 0; i < 100000; i++) {
+			measure.push(i);
+		}
+		measure.shutdown();
+
+		List<Integer> values = listener.getValues();
+		assertEquals(100000, values.size() + measure.getDroppedValues());
+		assertEquals(99999, (int) values.get(values.size() - 1));
+		for (int i = 1; i < values.size(); i++) {
+			assertTrue(values.get(i - 1) < values.get(i));
+		}
+	}
+
+	/**
+	 * Listener recording the values, which can block after the first value
+	 * until a latch is released.
+	 */
+	private static class RecordingListener implements MeasureListener<Integer> {
+		private final List<Integer> values = Collections.synchronizedList(new ArrayList<Integer>());
+		private final CountDownLatch latch;
+		private final CountDownLatch firstValue = new CountDownLatch(1);
+
+		public RecordingListener(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@Override
+		public void measureGenerated(Integer value) {
+			values.add(value);
+			firstValue.countDown();
+			if (latch != null) {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		public void awaitFirstValue() throws InterruptedException {
+			assertTrue(firstValue.await(10, TimeUnit.SECONDS));
+		}
+
+		public List<Integer> getValues() {
+			return new ArrayList<>(values);
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package org.uma.jmetal.measure.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CsvMeasureExporterTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final BasicMeasure<Integer> a = new BasicMeasure<>();
+
+	@Test
+	public void testNumericPullMeasuresAreExportedByDefault() throws IOException {
+		SimpleMeasureManager manager = createManager();
+		File file = new File(folder.getRoot(), "measures.csv");
+		CsvMeasureExporter exporter = new CsvMeasureExporter(manager, file.getPath())
+				.setPeriod(60000);
+
+		exporter.start();
+		exporter.writeSample();
+		a.set(5);
+		exporter.stop();
+
+		List<String> lines = readLines(file);
+		assertEquals(3, lines.size());
+		assertEquals("timestamp,a,b", lines.get(0));
+		assertTrue(lines.get(1).endsWith(",1,"));
+		assertTrue(lines.get(2).endsWith(",5,"));
+	}
+
+	@Test
+	public void testKeysAreExportedInTheGivenOrder() throws IOException {
+		SimpleMeasureManager manager = createManager();
+		File file = new File(folder.getRoot(), "measures.csv");
+		CsvMeasureExporter exporter = new CsvMeasureExporter(manager, file.getPath())
+				.setPeriod(60000).setKeys(Arrays.asList("text", "a"));
+
+		exporter.start();
+		exporter.stop();
+
+		List<String> lines = readLines(file);
+		assertEquals("timestamp,text,a", lines.get(0));
+		assertTrue(lines.get(1).endsWith(",\"x,y\",1"));
+	}
+
+	@Test
+	public void testFileIsRolledWhenItReachesTheMaximumSize() throws IOException {
+		SimpleMeasureManager manager = createManager();
+		File file = new File(folder.getRoot(), "measures.csv");
+		CsvMeasureExporter exporter = new CsvMeasureExporter(manager, file.getPath())
+				.setPeriod(60000).setMaxFileSize(1).setMaxFiles(3);
+
+		exporter.start();
+		for (int i = 0; i < 5; i++) {
+			exporter.writeSample();
+		}
+		exporter.stop();
+
+		for (int i = 0; i < 3; i++) {
+			List<String> lines = readLines(exporter.getRolledFile(i));
+			assertEquals(2, lines.size());
+			assertEquals("timestamp,a,b", lines.get(0));
+		}
+		assertFalse(exporter.getRolledFile(3).exists());
+	}
+
+	@Test
+	public void testSamplesAreWrittenPeriodically() throws Exception {
+		SimpleMeasureManager manager = createManager();
+		File file = new File(folder.getRoot(), "measures.csv");
+		CsvMeasureExporter exporter = new CsvMeasureExporter(manager, file.getPath())
+				.setPeriod(10);
+
+		exporter.start();
+		Thread.sleep(200);
+		exporter.stop();
+
+		assertTrue(readLines(file).size() > 2);
+	}
+
+	@Test(expected = JMetalException.class)
+	public void testUnknownKeyIsRejected() {
+		new CsvMeasureExporter(createManager(), new File(folder.getRoot(),
+				"measures.csv").getPath()).setKeys(Arrays.asList("unknown")).start();
+	}
+
+	@Test(expected = JMetalException.class)
+	public void testNonPositivePeriodIsRejected() {
+		new CsvMeasureExporter(createManager(), "measures.csv").setPeriod(0);
+	}
+
+	private SimpleMeasureManager createManager() {
+		SimpleMeasureManager manager = new SimpleMeasureManager();
+		a.set(1);
+		manager.setPullMeasure("a", a);
+		manager.setPullMeasure("b", new BasicMeasure<Double>());
+		BasicMeasure<String> text = new BasicMeasure<>();
+		text.set("x,y");
+		manager.setPullMeasure("text", text);
+		return manager;
+	}
+
+	private List<String> readLines(File file) throws IOException {
+		return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+	}
+}
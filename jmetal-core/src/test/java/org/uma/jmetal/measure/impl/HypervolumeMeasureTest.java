@@ -0,0 +1,96 @@
+package org.uma.jmetal.measure.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class HypervolumeMeasureTest {
+
+	private static final double EPSILON = 0.000000001;
+
+	@Test
+	public void testValueIsNullBeforeTheFirstUpdate() {
+		assertNull(new HypervolumeMeasure().get());
+	}
+
+	@Test
+	public void testReferencePointIsTheMaximumPlusTheOffset() {
+		HypervolumeMeasure measure = new HypervolumeMeasure(1.0);
+		measure.update(createFront());
+
+		assertArrayEquals(new double[] { 4.0, 4.0 }, measure.getReferencePoint(), EPSILON);
+		assertEquals(6.0, measure.get(), EPSILON);
+	}
+
+	@Test
+	public void testReferencePointIsKeptBetweenUpdates() {
+		MockDoubleProblem problem = new MockDoubleProblem();
+		HypervolumeMeasure measure = new HypervolumeMeasure(1.0);
+		measure.update(createFront());
+		measure.update(Arrays.asList(createSolution(problem, 2.0, 2.0)));
+
+		assertArrayEquals(new double[] { 4.0, 4.0 }, measure.getReferencePoint(), EPSILON);
+		assertEquals(4.0, measure.get(), EPSILON);
+	}
+
+	@Test
+	public void testGivenReferencePointIsUsed() {
+		HypervolumeMeasure measure = new HypervolumeMeasure(new double[] { 5.0, 5.0 });
+		measure.update(createFront());
+
+		assertEquals(13.0, measure.get(), EPSILON);
+	}
+
+	@Test
+	public void testListChangesAfterTheUpdateAreIgnored() {
+		HypervolumeMeasure measure = new HypervolumeMeasure(1.0);
+		List<DoubleSolution> front = createFront();
+		measure.update(front);
+		front.get(1).setObjective(0, 1.5);
+		front.get(1).setObjective(1, 1.5);
+
+		assertEquals(6.0, measure.get(), EPSILON);
+	}
+
+	private List<DoubleSolution> createFront() {
+		MockDoubleProblem problem = new MockDoubleProblem();
+		return Arrays.asList(createSolution(problem, 1.0, 3.0),
+				createSolution(problem, 2.0, 2.0),
+				createSolution(problem, 3.0, 1.0));
+	}
+
+	private DoubleSolution createSolution(MockDoubleProblem problem, double... objectives) {
+		DoubleSolution solution = problem.createSolution();
+		for (int i = 0; i < objectives.length; i++) {
+			solution.setObjective(i, objectives[i]);
+		}
+		return solution;
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockDoubleProblem extends AbstractDoubleProblem {
+		public MockDoubleProblem() {
+			setNumberOfVariables(1);
+			setNumberOfObjectives(2);
+			setLowerLimit(Arrays.asList(0.0));
+			setUpperLimit(Arrays.asList(1.0));
+		}
+
+		@Override
+		public void evaluate(DoubleSolution solution) {
+		}
+
+		@Override
+		public DoubleSolution createSolution() {
+			return new DefaultDoubleSolution(this);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package org.uma.jmetal.measure.impl;
+
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JmxMeasureExporterTest {
+
+	private static final double EPSILON = 0.000000001;
+
+	@Test
+	public void testNumericMeasuresArePublishedAsAttributes() throws Exception {
+		SimpleMeasureManager manager = new SimpleMeasureManager();
+		BasicMeasure<Integer> size = new BasicMeasure<>();
+		size.set(100);
+		manager.setPullMeasure("populationSize", size);
+		manager.setPullMeasure("hypervolume", new BasicMeasure<Double>());
+		BasicMeasure<String> text = new BasicMeasure<>();
+		text.set("text");
+		manager.setPullMeasure("text", text);
+
+		JmxMeasureExporter exporter = new JmxMeasureExporter(manager, "test");
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		exporter.register();
+		try {
+			assertTrue(server.isRegistered(exporter.getObjectName()));
+			assertEquals(100.0, (Double) server.getAttribute(exporter.getObjectName(),
+					"populationSize"), EPSILON);
+			assertTrue(Double.isNaN((Double) server.getAttribute(exporter.getObjectName(),
+					"hypervolume")));
+			assertEquals(2, server.getMBeanInfo(exporter.getObjectName()).getAttributes().length);
+
+			size.set(50);
+			assertEquals(50.0, (Double) server.getAttribute(exporter.getObjectName(),
+					"populationSize"), EPSILON);
+		} finally {
+			exporter.unregister();
+		}
+		assertFalse(server.isRegistered(exporter.getObjectName()));
+	}
+}
@@ -392,4 +392,32 @@ public class MeasureFactoryTest {
 		assertFalse(measures.toString(), measures.containsKey("parentPrivate"));
 	}
 
+	@Test
+	public void testCreateAsynchronousPushForwardsTheValues()
+			throws InterruptedException {
+		MeasureFactory factory = new MeasureFactory();
+		SimplePushMeasure<Integer> push = new SimplePushMeasure<>("push", "description");
+		AsynchronousPushMeasure<Integer> asynchronousPush = factory
+				.createAsynchronousPush(push, 10,
+						AsynchronousPushMeasure.Policy.DROP_NEWEST);
+		final LinkedList<Integer> values = new LinkedList<>();
+		asynchronousPush.register(new MeasureListener<Integer>() {
+
+			@Override
+			public void measureGenerated(Integer value) {
+				values.add(value);
+			}
+		});
+
+		push.push(3);
+		push.push(5);
+		asynchronousPush.shutdown();
+
+		assertEquals("push", asynchronousPush.getName());
+		assertEquals("description", asynchronousPush.getDescription());
+		assertEquals(3, (Object) values.get(0));
+		assertEquals(5, (Object) values.get(1));
+		assertEquals(2, values.size());
+	}
+
 }
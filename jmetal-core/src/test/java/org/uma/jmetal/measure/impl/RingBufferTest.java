@@ -0,0 +1,108 @@
+package org.uma.jmetal.measure.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RingBufferTest {
+
+	@Test
+	public void testCapacityIsRoundedUpToAPowerOfTwo() {
+		assertEquals(2, new RingBuffer<Integer>(1).getCapacity());
+		assertEquals(4, new RingBuffer<Integer>(3).getCapacity());
+		assertEquals(8, new RingBuffer<Integer>(8).getCapacity());
+	}
+
+	@Test
+	public void testValuesAreTakenInTheOrderTheyAreAdded() {
+		RingBuffer<Integer> buffer = new RingBuffer<>(4);
+		assertTrue(buffer.isEmpty());
+		assertNull(buffer.poll());
+
+		for (int lap = 0; lap < 3; lap++) {
+			for (int i = 0; i < 4; i++) {
+				assertTrue(buffer.offer(i));
+			}
+			assertFalse(buffer.isEmpty());
+			for (int i = 0; i < 4; i++) {
+				assertEquals(i, (int) buffer.poll());
+			}
+			assertTrue(buffer.isEmpty());
+		}
+	}
+
+	@Test
+	public void testOfferFailsWhenTheBufferIsFull() {
+		RingBuffer<Integer> buffer = new RingBuffer<>(2);
+		assertTrue(buffer.offer(1));
+		assertTrue(buffer.offer(2));
+		assertFalse(buffer.offer(3));
+
+		assertEquals(1, (int) buffer.poll());
+		assertTrue(buffer.offer(3));
+		assertEquals(2, (int) buffer.poll());
+		assertEquals(3, (int) buffer.poll());
+	}
+
+	@Test(expected = JMetalException.class)
+	public void testNullValuesAreRejected() {
+		new RingBuffer<Integer>(2).offer(null);
+	}
+
+	@Test
+	public void testConcurrentProducersAndConsumersTransferEveryValueOnce()
+			throws InterruptedException {
+		final RingBuffer<Long> buffer = new RingBuffer<>(16);
+		final int valuesPerProducer = 100000;
+		final AtomicLong sum = new AtomicLong();
+		final AtomicLong count = new AtomicLong();
+
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < 2; t++) {
+			final long offset = t * valuesPerProducer;
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (long i = 1; i <= valuesPerProducer; i++) {
+						while (!buffer.offer(offset + i)) {
+							Thread.yield();
+						}
+					}
+				}
+			});
+		}
+		for (int t = 2; t < 4; t++) {
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					while (count.get() < 2 * valuesPerProducer) {
+						Long value = buffer.poll();
+						if (value == null) {
+							Thread.yield();
+						} else {
+							sum.addAndGet(value);
+							count.incrementAndGet();
+						}
+					}
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		long n = 2L * valuesPerProducer;
+		assertEquals(n, count.get());
+		assertEquals(n * (n + 1) / 2, sum.get());
+		assertTrue(buffer.isEmpty());
+	}
+}
@@ -0,0 +1,187 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.crossover;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BatchSBXCrossoverTest {
+  private static final int NUMBER_OF_VARIABLES = 10 ;
+
+  private double[] lowerBounds ;
+  private double[] upperBounds ;
+
+  @Before public void setup() {
+    JMetalRandom.getInstance().setThreadRandomGenerator(new SplitMix64Generator(1));
+    lowerBounds = new double[NUMBER_OF_VARIABLES] ;
+    upperBounds = new double[NUMBER_OF_VARIABLES] ;
+    for (int j = 0; j < NUMBER_OF_VARIABLES; j++) {
+      lowerBounds[j] = -j ;
+      upperBounds[j] = j + 1.0 ;
+    }
+  }
+
+  @After public void removeThreadGenerator() {
+    JMetalRandom.getInstance().removeThreadRandomGenerator();
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorFailWhenPassedANegativeProbabilityValue() {
+    new BatchSBXCrossover(-0.1, 20.0) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldExecuteFailIfTheMatricesAreTooSmall() {
+    new BatchSBXCrossover(0.9, 20.0).execute(new double[NUMBER_OF_VARIABLES],
+        new double[2 * NUMBER_OF_VARIABLES], 2, lowerBounds, upperBounds);
+  }
+
+  @Test public void shouldExecuteCopyTheParentsIfTheProbabilityIsZero() {
+    double[] parents = createMatrix(8, new Random(1)) ;
+    double[] offspring = new double[parents.length] ;
+    new BatchSBXCrossover(0.0, 20.0).execute(parents, offspring, 8, lowerBounds, upperBounds);
+
+    assertArrayEquals(parents, offspring, 0.0) ;
+  }
+
+  @Test public void shouldExecuteCopyTheLastRowIfTheNumberOfRowsIsOdd() {
+    double[] parents = createMatrix(5, new Random(1)) ;
+    double[] offspring = new double[parents.length] ;
+    new BatchSBXCrossover(1.0, 20.0).execute(parents, offspring, 5, lowerBounds, upperBounds);
+
+    assertArrayEquals(Arrays.copyOfRange(parents, 4 * NUMBER_OF_VARIABLES, 5 * NUMBER_OF_VARIABLES),
+        Arrays.copyOfRange(offspring, 4 * NUMBER_OF_VARIABLES, 5 * NUMBER_OF_VARIABLES), 0.0) ;
+    assertFalse(Arrays.equals(Arrays.copyOfRange(parents, 0, 4 * NUMBER_OF_VARIABLES),
+        Arrays.copyOfRange(offspring, 0, 4 * NUMBER_OF_VARIABLES))) ;
+  }
+
+  @Test public void shouldTheChildrenBeWithinTheBounds() {
+    double[] parents = createMatrix(200, new Random(2)) ;
+    double[] offspring = new double[parents.length] ;
+    new BatchSBXCrossover(1.0, 0.5).execute(parents, offspring, 200, lowerBounds, upperBounds);
+
+    for (int i = 0; i < offspring.length; i++) {
+      int j = i % NUMBER_OF_VARIABLES ;
+      assertTrue(offspring[i] >= lowerBounds[j] && offspring[i] <= upperBounds[j]) ;
+    }
+  }
+
+  @Test public void shouldTheChildrenBeTheParentsIfTheDistributionIndexIsVeryHigh() {
+    double[] parents = createMatrix(20, new Random(3)) ;
+    double[] offspring = new double[parents.length] ;
+    new BatchSBXCrossover(1.0, 1.0e9).execute(parents, offspring, 20, lowerBounds, upperBounds);
+
+    for (int i = 0; i < parents.length; i += 2 * NUMBER_OF_VARIABLES) {
+      for (int j = 0; j < NUMBER_OF_VARIABLES; j++) {
+        double x1 = parents[i + j] ;
+        double x2 = parents[i + NUMBER_OF_VARIABLES + j] ;
+        double c1 = offspring[i + j] ;
+        double c2 = offspring[i + NUMBER_OF_VARIABLES + j] ;
+        assertEquals(x1 + x2, c1 + c2, 1.0e-6) ;
+        assertEquals(Math.abs(x1 - x2), Math.abs(c1 - c2), 1.0e-6) ;
+      }
+    }
+  }
+
+  @Test public void shouldTheResultNotDependOnTheNumberOfThreads() {
+    double[] parents = createMatrix(500, new Random(4)) ;
+    double[] sequentialOffspring = new double[parents.length] ;
+    double[] parallelOffspring = new double[parents.length] ;
+
+    JMetalRandom.getInstance().setThreadRandomGenerator(new SplitMix64Generator(5));
+    new BatchSBXCrossover(0.9, 20.0).execute(parents, sequentialOffspring, 500, lowerBounds,
+        upperBounds);
+
+    JMetalRandom.getInstance().setThreadRandomGenerator(new SplitMix64Generator(5));
+    BatchSBXCrossover crossover = new BatchSBXCrossover(0.9, 20.0) ;
+    crossover.setNumberOfThreads(4);
+    crossover.execute(parents, parallelOffspring, 500, lowerBounds, upperBounds);
+    crossover.shutdown();
+
+    assertArrayEquals(sequentialOffspring, parallelOffspring, 0.0) ;
+  }
+
+  @Test public void shouldExecuteAListReturnCopiesOfTheParents() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    List<DoubleSolution> matingPool = new ArrayList<>() ;
+    for (int i = 0; i < 4; i++) {
+      matingPool.add(problem.createSolution()) ;
+    }
+
+    List<DoubleSolution> offspring = new BatchSBXCrossover(1.0, 20.0).execute(matingPool) ;
+
+    assertEquals(4, offspring.size()) ;
+    for (int i = 0; i < 4; i++) {
+      assertNotSame(matingPool.get(i), offspring.get(i)) ;
+      for (int j = 0; j < NUMBER_OF_VARIABLES; j++) {
+        double value = SolutionUtils.getVariableValueAsDouble(offspring.get(i), j) ;
+        assertTrue(value >= lowerBounds[j] && value <= upperBounds[j]) ;
+      }
+    }
+  }
+
+  private double[] createMatrix(int rows, Random random) {
+    double[] matrix = new double[rows * NUMBER_OF_VARIABLES] ;
+    for (int i = 0; i < matrix.length; i++) {
+      int j = i % NUMBER_OF_VARIABLES ;
+      matrix[i] = lowerBounds[j] + random.nextDouble() * (upperBounds[j] - lowerBounds[j]) ;
+    }
+    return matrix ;
+  }
+
+  @SuppressWarnings("serial")
+  private class MockDoubleProblem extends AbstractDoubleProblem {
+    public MockDoubleProblem() {
+      setNumberOfVariables(NUMBER_OF_VARIABLES);
+      setNumberOfObjectives(2);
+      List<Double> lower = new ArrayList<>() ;
+      List<Double> upper = new ArrayList<>() ;
+      for (int j = 0; j < NUMBER_OF_VARIABLES; j++) {
+        lower.add(lowerBounds[j]) ;
+        upper.add(upperBounds[j]) ;
+      }
+      setLowerLimit(lower);
+      setUpperLimit(upper);
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override public DoubleSolution createSolution() {
+      return new ArrayDoubleSolution(this) ;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.operator.impl.mutation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BatchPolynomialMutationTest {
+  private static final int NUMBER_OF_VARIABLES = 100 ;
+
+  private double[] lowerBounds ;
+  private double[] upperBounds ;
+
+  @Before public void setup() {
+    JMetalRandom.getInstance().setThreadRandomGenerator(new SplitMix64Generator(1));
+    lowerBounds = new double[NUMBER_OF_VARIABLES] ;
+    upperBounds = new double[NUMBER_OF_VARIABLES] ;
+    Arrays.fill(lowerBounds, -1.0);
+    Arrays.fill(upperBounds, 2.0);
+  }
+
+  @After public void removeThreadGenerator() {
+    JMetalRandom.getInstance().removeThreadRandomGenerator();
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorFailWhenPassedANegativeDistributionIndex() {
+    new BatchPolynomialMutation(0.1, -1.0) ;
+  }
+
+  @Test public void shouldExecuteNotChangeTheMatrixIfTheProbabilityIsZero() {
+    double[] matrix = createMatrix(10, new Random(1)) ;
+    double[] copy = matrix.clone() ;
+    new BatchPolynomialMutation(0.0, 20.0).execute(matrix, 10, lowerBounds, upperBounds);
+
+    assertArrayEquals(copy, matrix, 0.0) ;
+  }
+
+  @Test public void shouldExecuteMutateAllTheVariablesWithinTheBoundsIfTheProbabilityIsOne() {
+    double[] matrix = createMatrix(10, new Random(2)) ;
+    double[] copy = matrix.clone() ;
+    new BatchPolynomialMutation(1.0, 1.0).execute(matrix, 10, lowerBounds, upperBounds);
+
+    for (int i = 0; i < matrix.length; i++) {
+      assertTrue(matrix[i] != copy[i]) ;
+      assertTrue(matrix[i] >= -1.0 && matrix[i] <= 2.0) ;
+    }
+  }
+
+  @Test public void shouldTheNumberOfMutatedVariablesMatchTheProbability() {
+    int rows = 1000 ;
+    double[] matrix = createMatrix(rows, new Random(3)) ;
+    double[] copy = matrix.clone() ;
+    new BatchPolynomialMutation(0.05, 20.0).execute(matrix, rows, lowerBounds, upperBounds);
+
+    int mutated = 0 ;
+    for (int i = 0; i < matrix.length; i++) {
+      if (matrix[i] != copy[i]) {
+        mutated++ ;
+      }
+    }
+
+    double expected = 0.05 * rows * NUMBER_OF_VARIABLES ;
+    assertEquals(expected, mutated, 0.05 * expected) ;
+  }
+
+  @Test public void shouldVariablesWithEqualBoundsTakeTheBoundValue() {
+    double[] matrix = {0.5, 0.5} ;
+    new BatchPolynomialMutation(1.0, 20.0).execute(matrix, 1, new double[]{1.0, 0.0},
+        new double[]{1.0, 1.0});
+
+    assertEquals(1.0, matrix[0], 0.0) ;
+  }
+
+  @Test public void shouldTheResultNotDependOnTheNumberOfThreads() {
+    double[] sequentialMatrix = createMatrix(500, new Random(4)) ;
+    double[] parallelMatrix = sequentialMatrix.clone() ;
+
+    JMetalRandom.getInstance().setThreadRandomGenerator(new SplitMix64Generator(5));
+    new BatchPolynomialMutation(0.1, 20.0).execute(sequentialMatrix, 500, lowerBounds, upperBounds);
+
+    JMetalRandom.getInstance().setThreadRandomGenerator(new SplitMix64Generator(5));
+    BatchPolynomialMutation mutation = new BatchPolynomialMutation(0.1, 20.0) ;
+    mutation.setNumberOfThreads(3);
+    mutation.execute(parallelMatrix, 500, lowerBounds, upperBounds);
+    mutation.shutdown();
+
+    assertArrayEquals(sequentialMatrix, parallelMatrix, 0.0) ;
+  }
+
+  private double[] createMatrix(int rows, Random random) {
+    double[] matrix = new double[rows * NUMBER_OF_VARIABLES] ;
+    for (int i = 0; i < matrix.length; i++) {
+      matrix[i] = -1.0 + 3.0 * random.nextDouble() ;
+    }
+    return matrix ;
+  }
+}
@@ -0,0 +1,132 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.problem.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.IntegerSolution;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CachingProblemTest {
+  private static final double EPSILON = 0.0000000000001 ;
+
+  @Test public void shouldEvaluateNotEvaluateAgainASolutionInTheCache() {
+    MockIntegerProblem problem = new MockIntegerProblem() ;
+    CachingProblem<IntegerSolution> cachingProblem = new CachingProblem<>(problem, 100) ;
+    IntegerSolution solution = cachingProblem.createSolution() ;
+    IntegerSolution copy = (IntegerSolution) solution.copy() ;
+
+    cachingProblem.evaluate(solution);
+    cachingProblem.evaluate(copy);
+
+    assertEquals(1, problem.numberOfEvaluations.get()) ;
+    assertEquals(solution.getObjective(0), copy.getObjective(0), EPSILON) ;
+    assertEquals(0.5, cachingProblem.getCache().getHitRate(), EPSILON) ;
+  }
+
+  @Test public void shouldTheGettersReturnTheValuesOfTheDecoratedProblem() {
+    MockIntegerProblem problem = new MockIntegerProblem() ;
+    CachingProblem<IntegerSolution> cachingProblem = new CachingProblem<>(problem, 100) ;
+
+    assertEquals(problem.getNumberOfVariables(), cachingProblem.getNumberOfVariables()) ;
+    assertEquals(problem.getNumberOfObjectives(), cachingProblem.getNumberOfObjectives()) ;
+    assertEquals(problem.getNumberOfConstraints(), cachingProblem.getNumberOfConstraints()) ;
+    assertEquals(problem.getName(), cachingProblem.getName()) ;
+  }
+
+  @Test public void shouldCachingIntegerProblemReturnTheBoundsOfTheDecoratedProblem() {
+    MockIntegerProblem problem = new MockIntegerProblem() ;
+    CachingIntegerProblem cachingProblem = new CachingIntegerProblem(problem, 100) ;
+
+    for (int i = 0; i < problem.getNumberOfVariables(); i++) {
+      assertEquals(problem.getLowerBound(i), cachingProblem.getLowerBound(i)) ;
+      assertEquals(problem.getUpperBound(i), cachingProblem.getUpperBound(i)) ;
+    }
+  }
+
+  @Test public void shouldCachingBinaryProblemReturnTheNumberOfBitsOfTheDecoratedProblem() {
+    MockBinaryProblem problem = new MockBinaryProblem() ;
+    CachingBinaryProblem cachingProblem = new CachingBinaryProblem(problem, 100) ;
+
+    assertEquals(problem.getNumberOfBits(0), cachingProblem.getNumberOfBits(0)) ;
+    assertEquals(problem.getNumberOfBits(1), cachingProblem.getNumberOfBits(1)) ;
+    assertEquals(problem.getTotalNumberOfBits(), cachingProblem.getTotalNumberOfBits()) ;
+  }
+
+  @Test public void shouldCachingBinaryProblemNotEvaluateAgainASolutionInTheCache() {
+    MockBinaryProblem problem = new MockBinaryProblem() ;
+    CachingBinaryProblem cachingProblem = new CachingBinaryProblem(problem, 100) ;
+    BinarySolution solution = cachingProblem.createSolution() ;
+    BinarySolution copy = (BinarySolution) solution.copy() ;
+
+    cachingProblem.evaluate(solution);
+    cachingProblem.evaluate(copy);
+
+    assertEquals(1, problem.numberOfEvaluations.get()) ;
+    assertEquals(solution.getObjective(0), copy.getObjective(0), EPSILON) ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockIntegerProblem extends AbstractIntegerProblem {
+    final AtomicInteger numberOfEvaluations = new AtomicInteger() ;
+
+    public MockIntegerProblem() {
+      setNumberOfVariables(3);
+      setNumberOfObjectives(1);
+      setName("MockIntegerProblem");
+      setLowerLimit(Arrays.asList(0, 0, 0));
+      setUpperLimit(Arrays.asList(10, 10, 10));
+    }
+
+    @Override public void evaluate(IntegerSolution solution) {
+      int sum = 0 ;
+      for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+        sum += solution.getVariableValue(i) ;
+      }
+      solution.setObjective(0, sum);
+      numberOfEvaluations.incrementAndGet() ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockBinaryProblem extends AbstractBinaryProblem {
+    final AtomicInteger numberOfEvaluations = new AtomicInteger() ;
+
+    public MockBinaryProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(1);
+      setName("MockBinaryProblem");
+    }
+
+    @Override protected int getBitsPerVariable(int index) {
+      return 4 + index ;
+    }
+
+    @Override public void evaluate(BinarySolution solution) {
+      int ones = 0 ;
+      for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+        ones += solution.getVariableValue(i).cardinality() ;
+      }
+      solution.setObjective(0, ones);
+      numberOfEvaluations.incrementAndGet() ;
+    }
+  }
+}
@@ -21,6 +21,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
 import org.uma.jmetal.util.front.util.FrontUtils;
 import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.impl.ArrayPoint;
@@ -29,6 +30,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author Antonio J. Nebro
@@ -84,6 +86,19 @@ public class EpsilonTest {
     assertEquals(0.0, epsilon.evaluate(front), EPSILON);
   }
 
+  @Test
+  public void shouldTheReferenceFrontBeConvertedOnceToAFlatArrayFront() {
+    Front referenceFront = new ArrayFront(1, 2);
+    referenceFront.setPoint(0, new ArrayPoint(new double[]{1.0, 2.0}));
+
+    Epsilon<DoubleSolution> epsilon = new Epsilon<DoubleSolution>(referenceFront) ;
+    FlatArrayFront flatReferenceFront = epsilon.getFlatReferenceParetoFront() ;
+
+    assertSame(flatReferenceFront, epsilon.referenceParetoFront) ;
+    assertSame(flatReferenceFront, epsilon.getFlatReferenceParetoFront()) ;
+    assertEquals(2.0, flatReferenceFront.getPoint(0).getDimensionValue(1), EPSILON) ;
+  }
+
   /**
    * Given a front with point [2,3] and a Pareto front with point [1,2], the value of the
    * epsilon indicator is 1
@@ -0,0 +1,113 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ArrayWFGHypervolumeTest {
+  private static final double EPSILON = 0.000000001 ;
+
+  @Test public void shouldEvaluateReturnZeroIfTheListIsEmpty() {
+    assertEquals(0.0, new ArrayWFGHypervolume<DoubleSolution>()
+        .evaluate(new ArrayList<DoubleSolution>()), EPSILON) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldSetNumberOfThreadsRaiseAnExceptionIfTheValueIsZero() {
+    new ArrayWFGHypervolume<DoubleSolution>().setNumberOfThreads(0);
+  }
+
+  @Test public void shouldEvaluateUseTheMaximumValuesPlusTheOffsetAsReferencePoint() {
+    MockDoubleProblem problem = new MockDoubleProblem(3) ;
+    List<DoubleSolution> solutionList = Arrays.asList(
+        createSolution(problem, 1.0, 2.0, 2.0),
+        createSolution(problem, 2.0, 1.0, 2.0),
+        createSolution(problem, 2.0, 2.0, 1.0)) ;
+
+    ArrayWFGHypervolume<DoubleSolution> hypervolume = new ArrayWFGHypervolume<>() ;
+    hypervolume.setOffset(1.0);
+
+    assertEquals(4.0, hypervolume.evaluate(solutionList), EPSILON) ;
+  }
+
+  @Test public void shouldComputeHypervolumeUseTheGivenReferencePoint() {
+    MockDoubleProblem problem = new MockDoubleProblem(4) ;
+    List<DoubleSolution> solutionList = Arrays.asList(
+        createSolution(problem, 1.0, 1.0, 1.0, 1.0),
+        createSolution(problem, 3.0, 0.0, 0.0, 0.0)) ;
+
+    ArrayWFGHypervolume<DoubleSolution> hypervolume = new ArrayWFGHypervolume<>() ;
+    ArrayPoint referencePoint = new ArrayPoint(new double[]{2.0, 2.0, 2.0, 2.0}) ;
+
+    assertEquals(1.0, hypervolume.computeHypervolume(solutionList, referencePoint), EPSILON) ;
+  }
+
+  @Test public void shouldComputeHypervolumeContributionSortTheSolutionsByContribution() {
+    MockDoubleProblem problem = new MockDoubleProblem(2) ;
+    List<DoubleSolution> solutionList = new ArrayList<>(Arrays.asList(
+        createSolution(problem, 1.0, 3.0),
+        createSolution(problem, 1.5, 1.5),
+        createSolution(problem, 3.0, 1.0))) ;
+
+    ArrayWFGHypervolume<DoubleSolution> hypervolume = new ArrayWFGHypervolume<>() ;
+    hypervolume.setOffset(1.0);
+    hypervolume.computeHypervolumeContribution(solutionList, solutionList) ;
+
+    HypervolumeContributionAttribute<DoubleSolution> contribution =
+        new HypervolumeContributionAttribute<>() ;
+    assertEquals(1.5, solutionList.get(0).getObjective(0), EPSILON) ;
+    assertEquals(2.25, contribution.getAttribute(solutionList.get(0)), EPSILON) ;
+    assertEquals(0.5, contribution.getAttribute(solutionList.get(2)), EPSILON) ;
+  }
+
+  private DoubleSolution createSolution(MockDoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockDoubleProblem extends AbstractDoubleProblem {
+    public MockDoubleProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
@@ -0,0 +1,215 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class IncrementalHypervolumeTest {
+  private static final double EPSILON = 0.000000001 ;
+
+  private HypervolumeContributionAttribute<DoubleSolution> contribution =
+      new HypervolumeContributionAttribute<>() ;
+
+  @Test public void shouldEvaluateReturnZeroIfTheListIsEmpty() {
+    assertEquals(0.0, new IncrementalHypervolume<DoubleSolution>()
+        .evaluate(new ArrayList<DoubleSolution>()), EPSILON) ;
+  }
+
+  @Test public void shouldEvaluateUseTheMaximumValuesPlusTheOffsetAsReferencePoint() {
+    MockDoubleProblem problem = new MockDoubleProblem(2) ;
+    List<DoubleSolution> solutionList = Arrays.asList(
+        createSolution(problem, 1.0, 3.0),
+        createSolution(problem, 2.0, 2.0),
+        createSolution(problem, 3.0, 1.0)) ;
+
+    IncrementalHypervolume<DoubleSolution> hypervolume = new IncrementalHypervolume<>() ;
+    hypervolume.setOffset(1.0);
+
+    assertEquals(6.0, hypervolume.evaluate(solutionList), EPSILON) ;
+  }
+
+  @Test public void shouldEvaluateUseTheFixedReferencePoint() {
+    MockDoubleProblem problem = new MockDoubleProblem(2) ;
+    List<DoubleSolution> solutionList = Arrays.asList(
+        createSolution(problem, 1.0, 3.0),
+        createSolution(problem, 2.0, 2.0),
+        createSolution(problem, 3.0, 1.0)) ;
+
+    IncrementalHypervolume<DoubleSolution> hypervolume =
+        new IncrementalHypervolume<>(new double[]{5.0, 5.0}) ;
+
+    assertEquals(13.0, hypervolume.evaluate(solutionList), EPSILON) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldEvaluateRaiseAnExceptionIfTheReferencePointHasAWrongNumberOfObjectives() {
+    MockDoubleProblem problem = new MockDoubleProblem(2) ;
+    List<DoubleSolution> solutionList = Arrays.asList(createSolution(problem, 1.0, 3.0)) ;
+
+    new IncrementalHypervolume<DoubleSolution>(new double[]{5.0, 5.0, 5.0}).evaluate(solutionList) ;
+  }
+
+  @Test public void shouldComputeHypervolumeContributionSortTheSolutionsByContribution() {
+    MockDoubleProblem problem = new MockDoubleProblem(2) ;
+    List<DoubleSolution> solutionList = new ArrayList<>(Arrays.asList(
+        createSolution(problem, 1.0, 3.0),
+        createSolution(problem, 1.5, 1.5),
+        createSolution(problem, 3.0, 1.0))) ;
+
+    IncrementalHypervolume<DoubleSolution> hypervolume = new IncrementalHypervolume<>() ;
+    hypervolume.setOffset(1.0);
+    hypervolume.computeHypervolumeContribution(solutionList, solutionList) ;
+
+    assertEquals(1.5, solutionList.get(0).getObjective(0), EPSILON) ;
+    assertEquals(2.25, contribution.getAttribute(solutionList.get(0)), EPSILON) ;
+    assertEquals(0.5, contribution.getAttribute(solutionList.get(2)), EPSILON) ;
+  }
+
+  @Test public void shouldTheContributionsOfASteadyStateSequenceBeTheSameAsTheComputedFromScratch() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+      MockDoubleProblem problem = new MockDoubleProblem(numberOfObjectives) ;
+      List<DoubleSolution> population = new ArrayList<>() ;
+      for (int i = 0; i < 20; i++) {
+        population.add(createRandomSolution(problem, random)) ;
+      }
+      List<DoubleSolution> bounds = createBounds(problem) ;
+
+      IncrementalHypervolume<DoubleSolution> hypervolume = new IncrementalHypervolume<>() ;
+      hypervolume.setOffset(0.1);
+      for (int step = 0; step < 50; step++) {
+        population.add(createRandomSolution(problem, random)) ;
+        hypervolume.computeHypervolumeContribution(population, bounds) ;
+
+        double[] contributions = getContributions(population) ;
+        IncrementalHypervolume<DoubleSolution> referenceHypervolume = new IncrementalHypervolume<>() ;
+        referenceHypervolume.setOffset(0.1);
+        referenceHypervolume.computeHypervolumeContribution(new ArrayList<>(population), bounds) ;
+
+        for (int i = 0; i < population.size(); i++) {
+          assertEquals(contribution.getAttribute(population.get(i)), contributions[i], EPSILON) ;
+        }
+        for (int i = 1; i < population.size(); i++) {
+          assertTrue(contributions[i - 1] >= contributions[i]) ;
+        }
+
+        population.remove(population.size() - 1) ;
+      }
+    }
+  }
+
+  @Test public void shouldTheContributionsWithAFixedReferencePointBeTheSameAsTheComputedFromScratch() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+      MockDoubleProblem problem = new MockDoubleProblem(numberOfObjectives) ;
+      List<DoubleSolution> population = new ArrayList<>() ;
+      for (int i = 0; i < 20; i++) {
+        population.add(createRandomSolution(problem, random)) ;
+      }
+      double[] referencePoint = new double[numberOfObjectives] ;
+      Arrays.fill(referencePoint, 1.1);
+
+      IncrementalHypervolume<DoubleSolution> hypervolume =
+          new IncrementalHypervolume<>(referencePoint) ;
+      for (int step = 0; step < 50; step++) {
+        population.add(createRandomSolution(problem, random)) ;
+        hypervolume.computeHypervolumeContribution(population, population) ;
+
+        double[] contributions = getContributions(population) ;
+        IncrementalHypervolume<DoubleSolution> referenceHypervolume =
+            new IncrementalHypervolume<>(referencePoint) ;
+        referenceHypervolume.computeHypervolumeContribution(new ArrayList<>(population), population) ;
+
+        for (int i = 0; i < population.size(); i++) {
+          assertEquals(contribution.getAttribute(population.get(i)), contributions[i], EPSILON) ;
+        }
+
+        population.remove(population.size() - 1) ;
+      }
+    }
+  }
+
+  private double[] getContributions(List<DoubleSolution> solutionList) {
+    double[] contributions = new double[solutionList.size()] ;
+    for (int i = 0; i < contributions.length; i++) {
+      contributions[i] = contribution.getAttribute(solutionList.get(i)) ;
+    }
+    return contributions ;
+  }
+
+  /**
+   * Solutions fixing the reference point, so that the contributions can be updated incrementally
+   */
+  private List<DoubleSolution> createBounds(MockDoubleProblem problem) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      solution.setObjective(i, 1.0);
+    }
+    return Arrays.asList(solution) ;
+  }
+
+  private DoubleSolution createRandomSolution(MockDoubleProblem problem, Random random) {
+    DoubleSolution solution = problem.createSolution() ;
+    double sum = 0.0 ;
+    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      solution.setObjective(i, random.nextDouble());
+      sum += solution.getObjective(i) ;
+    }
+    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      solution.setObjective(i, solution.getObjective(i) / sum);
+    }
+    return solution ;
+  }
+
+  private DoubleSolution createSolution(MockDoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockDoubleProblem extends AbstractDoubleProblem {
+    public MockDoubleProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
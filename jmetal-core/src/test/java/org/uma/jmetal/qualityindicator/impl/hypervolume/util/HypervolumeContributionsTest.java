@@ -0,0 +1,189 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class HypervolumeContributionsTest {
+  private static final double EPSILON = 0.000000001 ;
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfThereIsOnlyOneObjective() {
+    new HypervolumeContributions(1) ;
+  }
+
+  @Test public void shouldComputeContributionsWorkWithASimpleBiObjectiveFront() {
+    List<double[]> points = new ArrayList<>() ;
+    points.add(new double[]{1.0, 3.0}) ;
+    points.add(new double[]{2.0, 2.0}) ;
+    points.add(new double[]{3.0, 1.0}) ;
+
+    HypervolumeContributions contributions = new HypervolumeContributions(2) ;
+    contributions.computeContributions(points, new double[]{4.0, 4.0});
+
+    assertEquals(1.0, contributions.getContribution(0), EPSILON) ;
+    assertEquals(1.0, contributions.getContribution(1), EPSILON) ;
+    assertEquals(1.0, contributions.getContribution(2), EPSILON) ;
+  }
+
+  @Test public void shouldComputeContributionsReturnZeroForDominatedAndRepeatedPoints() {
+    List<double[]> points = new ArrayList<>() ;
+    points.add(new double[]{1.0, 1.0, 1.0}) ;
+    points.add(new double[]{2.0, 2.0, 2.0}) ;
+    points.add(new double[]{0.5, 3.0, 3.0}) ;
+    points.add(new double[]{0.5, 3.0, 3.0}) ;
+
+    HypervolumeContributions contributions = new HypervolumeContributions(3) ;
+    contributions.computeContributions(points, new double[]{4.0, 4.0, 4.0});
+
+    assertEquals(0.0, contributions.getContribution(1), EPSILON) ;
+    assertEquals(0.0, contributions.getContribution(2), EPSILON) ;
+    assertEquals(0.0, contributions.getContribution(3), EPSILON) ;
+  }
+
+  @Test public void shouldComputeHypervolumeReturnTheSameValueAsTheInclusionExclusionFormula() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      for (int run = 0; run < 20; run++) {
+        double[][] points = createPoints(random, 8, numberOfObjectives, run % 2 == 0) ;
+        double[] referencePoint = createReferencePoint(numberOfObjectives) ;
+
+        double expected = inclusionExclusion(Arrays.asList(points), referencePoint) ;
+        double hv = HypervolumeContributions.computeHypervolume(points.clone(), points.length,
+            numberOfObjectives, referencePoint) ;
+
+        assertEquals(expected, hv, EPSILON) ;
+      }
+    }
+  }
+
+  @Test public void shouldComputeContributionsReturnTheDifferenceOfHypervolumes() {
+    Random random = new Random(2) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      for (int run = 0; run < 20; run++) {
+        List<double[]> points = Arrays.asList(createPoints(random, 8, numberOfObjectives,
+            run % 2 == 0)) ;
+        double[] referencePoint = createReferencePoint(numberOfObjectives) ;
+
+        HypervolumeContributions contributions = new HypervolumeContributions(numberOfObjectives) ;
+        contributions.computeContributions(points, referencePoint);
+
+        assertContributions(points, referencePoint, contributions) ;
+      }
+    }
+  }
+
+  @Test public void shouldAddAndRemoveKeepTheContributionsUpdated() {
+    Random random = new Random(3) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+      List<double[]> points = new ArrayList<>(Arrays.asList(createPoints(random, 8,
+          numberOfObjectives, true))) ;
+      double[] referencePoint = createReferencePoint(numberOfObjectives) ;
+
+      HypervolumeContributions contributions = new HypervolumeContributions(numberOfObjectives) ;
+      contributions.computeContributions(points, referencePoint);
+
+      for (int step = 0; step < 30; step++) {
+        double[] point = createPoints(random, 1, numberOfObjectives, step % 3 != 0)[0] ;
+        contributions.add(point);
+        points.add(point) ;
+        assertContributions(points, referencePoint, contributions) ;
+
+        int worst = 0 ;
+        for (int i = 1; i < contributions.size(); i++) {
+          if (contributions.getContribution(i) < contributions.getContribution(worst)) {
+            worst = i ;
+          }
+        }
+        contributions.remove(worst);
+        points.remove(worst) ;
+        assertContributions(points, referencePoint, contributions) ;
+      }
+    }
+  }
+
+  private void assertContributions(List<double[]> points, double[] referencePoint,
+      HypervolumeContributions contributions) {
+    assertEquals(points.size(), contributions.size()) ;
+
+    double hv = inclusionExclusion(points, referencePoint) ;
+    for (int i = 0; i < points.size(); i++) {
+      List<double[]> others = new ArrayList<>(points) ;
+      others.remove(i) ;
+
+      assertEquals(hv - inclusionExclusion(others, referencePoint),
+          contributions.getContribution(i), EPSILON) ;
+    }
+  }
+
+  /**
+   * Creates random points, placed on the unit simplex if they must be non-dominated
+   */
+  private double[][] createPoints(Random random, int numberOfPoints, int numberOfObjectives,
+      boolean nondominated) {
+    double[][] points = new double[numberOfPoints][numberOfObjectives] ;
+    for (double[] point : points) {
+      double sum = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] = random.nextDouble() ;
+        sum += point[j] ;
+      }
+      if (nondominated) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          point[j] /= sum ;
+        }
+      }
+    }
+    return points ;
+  }
+
+  private double[] createReferencePoint(int numberOfObjectives) {
+    double[] referencePoint = new double[numberOfObjectives] ;
+    Arrays.fill(referencePoint, 1.1);
+    return referencePoint ;
+  }
+
+  private double inclusionExclusion(List<double[]> points, double[] referencePoint) {
+    double hv = 0.0 ;
+    for (int subset = 1; subset < (1 << points.size()); subset++) {
+      double[] corner = new double[referencePoint.length] ;
+      Arrays.fill(corner, Double.NEGATIVE_INFINITY);
+      for (int i = 0; i < points.size(); i++) {
+        if ((subset & (1 << i)) != 0) {
+          for (int j = 0; j < corner.length; j++) {
+            corner[j] = Math.max(corner[j], points.get(i)[j]) ;
+          }
+        }
+      }
+
+      double volume = 1.0 ;
+      for (int j = 0; j < corner.length; j++) {
+        volume *= Math.max(0.0, referencePoint[j] - corner[j]) ;
+      }
+      hv += (Integer.bitCount(subset) % 2 == 1) ? volume : -volume ;
+    }
+    return hv ;
+  }
+}
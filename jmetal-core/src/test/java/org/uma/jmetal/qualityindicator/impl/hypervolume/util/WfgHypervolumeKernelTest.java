@@ -0,0 +1,127 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class WfgHypervolumeKernelTest {
+  private static final double EPSILON = 0.000000001 ;
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfObjectivesIsZero() {
+    new WfgHypervolumeKernel(0, 10) ;
+  }
+
+  @Test public void shouldComputeHypervolumeIgnoreThePointsOutsideTheReferencePoint() {
+    double[] points = {1.0, 3.0, 2.0, 2.0, 3.0, 1.0, 5.0, 0.5} ;
+
+    double hv = new WfgHypervolumeKernel(2, 4).computeHypervolume(points, 4,
+        new double[]{4.0, 4.0}) ;
+
+    assertEquals(6.0, hv, EPSILON) ;
+  }
+
+  @Test public void shouldComputeHypervolumeReturnTheSameValueAsTheInclusionExclusionFormula() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 1; numberOfObjectives <= 6; numberOfObjectives++) {
+      WfgHypervolumeKernel kernel = new WfgHypervolumeKernel(numberOfObjectives, 2) ;
+      for (int run = 0; run < 20; run++) {
+        int numberOfPoints = 1 + random.nextInt(10) ;
+        double[] points = createPoints(random, numberOfPoints, numberOfObjectives, run % 2 == 0) ;
+        double[] copy = points.clone() ;
+        double[] referencePoint = createReferencePoint(numberOfObjectives) ;
+
+        double hv = kernel.computeHypervolume(points, numberOfPoints, referencePoint) ;
+
+        assertEquals(inclusionExclusion(points, numberOfPoints, referencePoint), hv, EPSILON) ;
+        assertArrayEquals(copy, points, 0.0) ;
+      }
+    }
+  }
+
+  @Test public void shouldComputeHypervolumeInParallelReturnTheSameValueAsTheSequentialVersion() {
+    Random random = new Random(2) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 6; numberOfObjectives++) {
+      double[] points = createPoints(random, 60, numberOfObjectives, true) ;
+      double[] referencePoint = createReferencePoint(numberOfObjectives) ;
+
+      double sequential = new WfgHypervolumeKernel(numberOfObjectives, 60)
+          .computeHypervolume(points, 60, referencePoint) ;
+      double parallel = new WfgHypervolumeKernel(numberOfObjectives, 60)
+          .computeHypervolume(points, 60, referencePoint, 4) ;
+
+      assertEquals(sequential, parallel, 0.0) ;
+    }
+  }
+
+  /**
+   * Creates random points, placed on the unit simplex if they must be non-dominated
+   */
+  private double[] createPoints(Random random, int numberOfPoints, int numberOfObjectives,
+      boolean nondominated) {
+    double[] points = new double[numberOfPoints * numberOfObjectives] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      double sum = 0.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        points[i * numberOfObjectives + j] = random.nextDouble() ;
+        sum += points[i * numberOfObjectives + j] ;
+      }
+      if (nondominated) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          points[i * numberOfObjectives + j] /= sum ;
+        }
+      }
+    }
+    return points ;
+  }
+
+  private double[] createReferencePoint(int numberOfObjectives) {
+    double[] referencePoint = new double[numberOfObjectives] ;
+    Arrays.fill(referencePoint, 1.1);
+    return referencePoint ;
+  }
+
+  private double inclusionExclusion(double[] points, int numberOfPoints, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double hv = 0.0 ;
+    for (int subset = 1; subset < (1 << numberOfPoints); subset++) {
+      double[] corner = new double[numberOfObjectives] ;
+      Arrays.fill(corner, Double.NEGATIVE_INFINITY);
+      for (int i = 0; i < numberOfPoints; i++) {
+        if ((subset & (1 << i)) != 0) {
+          for (int j = 0; j < numberOfObjectives; j++) {
+            corner[j] = Math.max(corner[j], points[i * numberOfObjectives + j]) ;
+          }
+        }
+      }
+
+      double volume = 1.0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        volume *= Math.max(0.0, referencePoint[j] - corner[j]) ;
+      }
+      hv += (Integer.bitCount(subset) % 2 == 1) ? volume : -volume ;
+    }
+    return hv ;
+  }
+}
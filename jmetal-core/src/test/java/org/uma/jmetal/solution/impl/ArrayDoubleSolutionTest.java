@@ -0,0 +1,140 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.PrimitiveDoubleSolution;
+import org.uma.jmetal.util.SolutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ArrayDoubleSolutionTest {
+  private static final double EPSILON = 0.0000000000001 ;
+  private DoubleProblem problem ;
+
+  @Before public void setUp() {
+    problem = new MockDoubleProblem(4) ;
+  }
+
+  @Test public void shouldConstructorInitializeTheVariablesWithinTheBounds() {
+    PrimitiveDoubleSolution solution = (PrimitiveDoubleSolution) problem.createSolution() ;
+
+    assertEquals(4, solution.getNumberOfVariables());
+    assertEquals(2, solution.getNumberOfObjectives());
+    for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+      assertTrue(solution.getVariableValueAsDouble(i) >= solution.getLowerBound(i)) ;
+      assertTrue(solution.getVariableValueAsDouble(i) <= solution.getUpperBound(i)) ;
+    }
+  }
+
+  @Test public void shouldPrimitiveAndBoxedAccessorsReturnTheSameValue() {
+    PrimitiveDoubleSolution solution = (PrimitiveDoubleSolution) problem.createSolution() ;
+
+    solution.setVariableValueAsDouble(0, 1.5);
+    solution.setVariableValue(1, -2.5);
+
+    assertEquals(1.5, solution.getVariableValue(0), EPSILON) ;
+    assertEquals(-2.5, solution.getVariableValueAsDouble(1), EPSILON) ;
+    assertEquals("1.5", solution.getVariableValueString(0)) ;
+  }
+
+  @Test public void shouldCopyReturnAnIdenticalSolution() {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(0, 1.0);
+    solution.setObjective(1, 2.0);
+    solution.setAttribute("key", 3);
+
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+
+    assertNotSame(solution, copy) ;
+    assertEquals(solution, copy) ;
+    assertEquals(solution.hashCode(), copy.hashCode()) ;
+  }
+
+  @Test public void shouldModifyingACopyNotChangeTheOriginalSolution() {
+    PrimitiveDoubleSolution solution = (PrimitiveDoubleSolution) problem.createSolution() ;
+    solution.setVariableValueAsDouble(0, 1.0);
+    solution.setObjective(0, 1.0);
+
+    PrimitiveDoubleSolution copy = (PrimitiveDoubleSolution) solution.copy() ;
+    copy.setVariableValueAsDouble(0, 2.0);
+    copy.setObjective(0, 2.0);
+
+    assertEquals(1.0, solution.getVariableValueAsDouble(0), EPSILON) ;
+    assertEquals(1.0, solution.getObjective(0), EPSILON) ;
+  }
+
+  @Test public void shouldSolutionUtilsAccessTheVariablesOfAnySolution() {
+    DoubleSolution solution = new DefaultDoubleSolution(problem) ;
+    DoubleSolution arraySolution = problem.createSolution() ;
+
+    SolutionUtils.setVariableValueAsDouble(solution, 2, 0.25);
+    SolutionUtils.setVariableValueAsDouble(arraySolution, 2, 0.5);
+
+    assertFalse(solution instanceof PrimitiveDoubleSolution) ;
+    assertEquals(0.25, solution.getVariableValue(2), EPSILON) ;
+    assertEquals(0.25, SolutionUtils.getVariableValueAsDouble(solution, 2), EPSILON) ;
+    assertEquals(0.5, arraySolution.getVariableValue(2), EPSILON) ;
+    assertEquals(0.5, SolutionUtils.getVariableValueAsDouble(arraySolution, 2), EPSILON) ;
+  }
+
+  /**
+   * Mock class representing a double problem
+   */
+  @SuppressWarnings("serial")
+  private class MockDoubleProblem extends AbstractDoubleProblem {
+
+    /** Constructor */
+    public MockDoubleProblem(Integer numberOfVariables) {
+      setNumberOfVariables(numberOfVariables);
+      setNumberOfObjectives(2);
+
+      List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables()) ;
+      List<Double> upperLimit = new ArrayList<>(getNumberOfVariables()) ;
+
+      for (int i = 0; i < getNumberOfVariables(); i++) {
+        lowerLimit.add(-4.0);
+        upperLimit.add(4.0);
+      }
+
+      setLowerLimit(lowerLimit);
+      setUpperLimit(upperLimit);
+    }
+
+    @Override
+    public DoubleSolution createSolution() {
+      return new ArrayDoubleSolution(this) ;
+    }
+
+    /** Evaluate() method */
+    @Override
+    public void evaluate(DoubleSolution solution) {
+      solution.setObjective(0, 0);
+      solution.setObjective(1, 1);
+    }
+  }
+}
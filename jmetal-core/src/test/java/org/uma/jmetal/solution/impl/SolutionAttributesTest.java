@@ -0,0 +1,193 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.solutionattribute.SolutionAttributeRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class SolutionAttributesTest {
+  private static final double EPSILON = 0.0000000000001 ;
+
+  @Test public void shouldGetReturnNullIfTheAttributeHasNotBeenSet() {
+    SolutionAttributes attributes = new SolutionAttributes() ;
+
+    assertNull(attributes.getAttribute("shouldGetReturnNullIfTheAttributeHasNotBeenSet")) ;
+    assertEquals(-1.0, attributes.getDouble(1000, -1.0), EPSILON) ;
+    assertEquals(-1, attributes.getInt(1000, -1)) ;
+  }
+
+  @Test public void shouldGetReturnTheValueOfASetAttribute() {
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.setAttribute("key", "value") ;
+
+    assertEquals("value", attributes.getAttribute("key")) ;
+  }
+
+  @Test public void shouldPrimitiveValuesBeReturnedAsBoxedValuesOfTheRightType() {
+    int doubleSlot = SolutionAttributeRegistry.getSlot("double") ;
+    int intSlot = SolutionAttributeRegistry.getSlot("int") ;
+
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.setDouble(doubleSlot, 2.5);
+    attributes.setInt(intSlot, 3);
+
+    assertEquals(Double.valueOf(2.5), attributes.getAttribute("double")) ;
+    assertEquals(Integer.valueOf(3), attributes.getAttribute("int")) ;
+    assertEquals(2.5, attributes.getDouble(doubleSlot, 0.0), EPSILON) ;
+    assertEquals(3, attributes.getInt(intSlot, 0)) ;
+    assertTrue(attributes.contains(intSlot)) ;
+  }
+
+  @Test public void shouldUpdatingAPrimitiveValueDiscardThePreviousBoxedValue() {
+    int slot = SolutionAttributeRegistry.getSlot("updated") ;
+
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.setDouble(slot, 1.0);
+    assertEquals(Double.valueOf(1.0), attributes.get(slot)) ;
+
+    attributes.setDouble(slot, 2.0);
+    assertEquals(Double.valueOf(2.0), attributes.get(slot)) ;
+  }
+
+  @Test public void shouldObjectValuesBeReadableAsPrimitiveValues() {
+    int slot = SolutionAttributeRegistry.getSlot("boxed") ;
+
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.set(slot, 4) ;
+
+    assertEquals(4, attributes.getInt(slot, 0)) ;
+    assertEquals(4.0, attributes.getDouble(slot, 0.0), EPSILON) ;
+  }
+
+  @Test public void shouldModifyingACopyNotChangeTheOriginalAttributes() {
+    int slot = SolutionAttributeRegistry.getSlot("copied") ;
+
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.setDouble(slot, 1.0);
+
+    SolutionAttributes copy = new SolutionAttributes(attributes) ;
+    assertEquals(attributes, copy) ;
+
+    copy.setDouble(slot, 2.0);
+    assertEquals(1.0, attributes.getDouble(slot, 0.0), EPSILON) ;
+    assertFalse(attributes.equals(copy)) ;
+  }
+
+  @Test public void shouldTheHashCodeBeTheSameAsTheOneOfAnEquivalentMap() {
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.setAttribute("a", 1) ;
+    attributes.setDouble(SolutionAttributeRegistry.getSlot("b"), 2.0);
+
+    Map<Object, Object> map = new HashMap<>() ;
+    map.put("a", 1) ;
+    map.put("b", 2.0) ;
+
+    assertEquals(map.hashCode(), attributes.hashCode()) ;
+  }
+
+  @Test public void shouldEqualsIgnoreTheNumberOfAllocatedSlots() {
+    SolutionAttributes attributes1 = new SolutionAttributes() ;
+    SolutionAttributes attributes2 = new SolutionAttributes() ;
+    attributes2.setAttribute("unset", "value") ;
+    attributes2.setAttribute("unset", null) ;
+
+    assertEquals(attributes1, attributes2) ;
+    assertEquals(attributes1.hashCode(), attributes2.hashCode()) ;
+  }
+
+  @Test public void shouldTheAttributesBeEqualToAnEquivalentMap() {
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.setAttribute("a", 1) ;
+    attributes.setDouble(SolutionAttributeRegistry.getSlot("b"), 2.0);
+
+    Map<Object, Object> map = new HashMap<>() ;
+    map.put("a", 1) ;
+    map.put("b", 2.0) ;
+
+    assertEquals(map, attributes) ;
+    assertEquals(attributes, map) ;
+    assertEquals(attributes, new SolutionAttributes(map)) ;
+    assertEquals(map, new HashMap<>(attributes)) ;
+  }
+
+  @Test public void shouldTheMapMethodsUpdateTheAttributes() {
+    SolutionAttributes attributes = new SolutionAttributes() ;
+
+    assertNull(attributes.put("map", "value")) ;
+    assertEquals("value", attributes.put("map", "other value")) ;
+    assertTrue(attributes.containsKey("map")) ;
+    assertEquals(1, attributes.size()) ;
+    assertEquals("other value", attributes.remove("map")) ;
+    assertFalse(attributes.containsKey("map")) ;
+    assertTrue(attributes.isEmpty()) ;
+  }
+
+  @Test public void shouldLookingUpAnUnknownIdentifierNotRegisterIt() {
+    SolutionAttributes attributes = new SolutionAttributes() ;
+
+    assertNull(attributes.get("shouldLookingUpAnUnknownIdentifierNotRegisterIt")) ;
+    assertFalse(attributes.containsKey("shouldLookingUpAnUnknownIdentifierNotRegisterIt")) ;
+    assertEquals(-1, SolutionAttributeRegistry.findSlot("shouldLookingUpAnUnknownIdentifierNotRegisterIt")) ;
+  }
+
+  @Test public void shouldTheEntryIteratorRemoveAttributes() {
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.setAttribute("a", 1) ;
+    attributes.setAttribute("iterated", 2) ;
+
+    Iterator<Map.Entry<Object, Object>> iterator = attributes.entrySet().iterator() ;
+    while (iterator.hasNext()) {
+      if ("iterated".equals(iterator.next().getKey())) {
+        iterator.remove();
+      }
+    }
+
+    assertEquals(1, attributes.size()) ;
+    assertNull(attributes.getAttribute("iterated")) ;
+  }
+
+  @Test public void shouldSerializationKeepTheAttributes() throws Exception {
+    SolutionAttributes attributes = new SolutionAttributes() ;
+    attributes.setAttribute("serialized", "value") ;
+    attributes.setInt(SolutionAttributeRegistry.getSlot("serializedInt"), 5);
+
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream() ;
+    ObjectOutputStream outputStream = new ObjectOutputStream(byteStream) ;
+    outputStream.writeObject(attributes);
+    outputStream.close();
+
+    ObjectInputStream inputStream =
+        new ObjectInputStream(new ByteArrayInputStream(byteStream.toByteArray())) ;
+    SolutionAttributes result = (SolutionAttributes) inputStream.readObject() ;
+
+    assertEquals(attributes, result) ;
+    assertEquals(Integer.valueOf(5), result.getAttribute("serializedInt")) ;
+  }
+}
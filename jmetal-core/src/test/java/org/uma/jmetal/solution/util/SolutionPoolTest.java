@@ -0,0 +1,203 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package org.uma.jmetal.solution.util;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.ReusableSolution;
+import org.uma.jmetal.solution.impl.ArrayDoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultBinarySolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class SolutionPoolTest {
+  private static final double EPSILON = 0.0000000000001 ;
+
+  @Test (expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheCapacityIsNegative() {
+    new SolutionPool<DoubleSolution>(-1) ;
+  }
+
+  @Test public void shouldCopyIntoMakeADefaultDoubleSolutionEqualToTheSource() {
+    MockDoubleProblem problem = new MockDoubleProblem(false) ;
+    DoubleSolution source = createEvaluatedSolution(problem) ;
+    DoubleSolution target = problem.createSolution() ;
+
+    ((ReusableSolution) source).copyInto(target);
+
+    assertEquals(source, target) ;
+    assertEquals("attribute", target.getAttribute("key")) ;
+    assertNotSame(source, target) ;
+  }
+
+  @Test public void shouldCopyIntoMakeAnArrayDoubleSolutionEqualToTheSource() {
+    MockDoubleProblem problem = new MockDoubleProblem(true) ;
+    DoubleSolution source = createEvaluatedSolution(problem) ;
+    DoubleSolution target = problem.createSolution() ;
+
+    ((ReusableSolution) source).copyInto(target);
+
+    for (int i = 0; i < source.getNumberOfVariables(); i++) {
+      assertEquals(source.getVariableValue(i), target.getVariableValue(i), EPSILON) ;
+    }
+    for (int i = 0; i < source.getNumberOfObjectives(); i++) {
+      assertEquals(source.getObjective(i), target.getObjective(i), EPSILON) ;
+    }
+    assertEquals("attribute", target.getAttribute("key")) ;
+  }
+
+  @Test public void shouldCopyIntoMakeABinarySolutionEqualToTheSourceWithoutSharingTheBits() {
+    MockBinaryProblem problem = new MockBinaryProblem() ;
+    BinarySolution source = problem.createSolution() ;
+    BinarySolution target = problem.createSolution() ;
+
+    ((ReusableSolution) source).copyInto(target);
+
+    assertEquals(source, target) ;
+    for (int i = 0; i < source.getNumberOfVariables(); i++) {
+      assertNotSame(source.getVariableValue(i), target.getVariableValue(i)) ;
+    }
+
+    source.getVariableValue(0).flip(0);
+    assertEquals(!source.getVariableValue(0).get(0), target.getVariableValue(0).get(0)) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldCopyIntoRaiseAnExceptionIfTheClassesAreDifferent() {
+    DoubleSolution source = new MockDoubleProblem(false).createSolution() ;
+    DoubleSolution target = new MockDoubleProblem(true).createSolution() ;
+
+    ((ReusableSolution) source).copyInto(target);
+  }
+
+  @Test public void shouldCopyAllocateASolutionIfThePoolIsEmpty() {
+    MockDoubleProblem problem = new MockDoubleProblem(false) ;
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(10) ;
+    DoubleSolution source = createEvaluatedSolution(problem) ;
+
+    DoubleSolution copy = pool.copy(source) ;
+
+    assertEquals(source, copy) ;
+    assertEquals(1, pool.getNumberOfAllocatedSolutions()) ;
+    assertEquals(0, pool.getNumberOfReusedSolutions()) ;
+  }
+
+  @Test public void shouldCopyReuseAReleasedSolution() {
+    MockDoubleProblem problem = new MockDoubleProblem(false) ;
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(10) ;
+    DoubleSolution released = problem.createSolution() ;
+    DoubleSolution source = createEvaluatedSolution(problem) ;
+
+    pool.release(released);
+    DoubleSolution copy = pool.copy(source) ;
+
+    assertSame(released, copy) ;
+    assertEquals(source, copy) ;
+    assertEquals(0, pool.size()) ;
+    assertEquals(1, pool.getNumberOfReusedSolutions()) ;
+    assertEquals(0, pool.getNumberOfAllocatedSolutions()) ;
+  }
+
+  @Test public void shouldReleaseIgnoreTheSolutionsExceedingTheCapacity() {
+    MockDoubleProblem problem = new MockDoubleProblem(true) ;
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(2) ;
+
+    pool.releaseAll(Arrays.asList(problem.createSolution(), problem.createSolution(),
+        problem.createSolution()));
+
+    assertEquals(2, pool.size()) ;
+  }
+
+  @Test public void shouldReleaseAllExceptReleaseOnlyTheDiscardedSolutionsOnce() {
+    MockDoubleProblem problem = new MockDoubleProblem(false) ;
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(10) ;
+    List<DoubleSolution> jointPopulation = new ArrayList<>() ;
+    for (int i = 0; i < 4; i++) {
+      jointPopulation.add(problem.createSolution()) ;
+    }
+    jointPopulation.add(jointPopulation.get(0)) ;
+    List<DoubleSolution> population = Arrays.asList(jointPopulation.get(1), jointPopulation.get(3)) ;
+
+    pool.releaseAllExcept(jointPopulation, population);
+
+    assertEquals(2, pool.size()) ;
+  }
+
+  private DoubleSolution createEvaluatedSolution(MockDoubleProblem problem) {
+    DoubleSolution solution = problem.createSolution() ;
+    solution.setObjective(0, 1.5);
+    solution.setObjective(1, -2.0);
+    solution.setAttribute("key", "attribute");
+
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockDoubleProblem extends AbstractDoubleProblem {
+    private boolean arraySolutions ;
+
+    public MockDoubleProblem(boolean arraySolutions) {
+      this.arraySolutions = arraySolutions ;
+      setNumberOfVariables(3);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(-1.0, -1.0, -1.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0, 1.0));
+    }
+
+    @Override public DoubleSolution createSolution() {
+      if (arraySolutions) {
+        return new ArrayDoubleSolution(this) ;
+      } else {
+        return new DefaultDoubleSolution(this) ;
+      }
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockBinaryProblem extends AbstractBinaryProblem {
+    public MockBinaryProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+    }
+
+    @Override protected int getBitsPerVariable(int index) {
+      return 10 ;
+    }
+
+    @Override public BinarySolution createSolution() {
+      return new DefaultBinarySolution(this) ;
+    }
+
+    @Override public void evaluate(BinarySolution solution) {
+    }
+  }
+}
@@ -0,0 +1,202 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class NDTreeArchiveTest {
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfChildrenIsOne() {
+    new NDTreeArchive<DoubleSolution>(10, 1) ;
+  }
+
+  @Test public void shouldAddRejectDominatedAndRepeatedSolutions() {
+    MockDoubleProblem problem = new MockDoubleProblem(2) ;
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>() ;
+
+    assertTrue(archive.add(createSolution(problem, 1.0, 2.0))) ;
+    assertFalse(archive.add(createSolution(problem, 1.0, 2.0))) ;
+    assertFalse(archive.add(createSolution(problem, 2.0, 3.0))) ;
+    assertTrue(archive.add(createSolution(problem, 2.0, 1.0))) ;
+
+    assertEquals(2, archive.size()) ;
+  }
+
+  @Test public void shouldAddRemoveTheSolutionsDominatedByTheNewOne() {
+    MockDoubleProblem problem = new MockDoubleProblem(2) ;
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>() ;
+    archive.add(createSolution(problem, 1.0, 3.0)) ;
+    archive.add(createSolution(problem, 2.0, 2.0)) ;
+    archive.add(createSolution(problem, 3.0, 1.0)) ;
+
+    DoubleSolution solution = createSolution(problem, 1.5, 1.5) ;
+    assertTrue(archive.add(solution)) ;
+
+    assertEquals(3, archive.size()) ;
+    assertSame(solution, archive.get(2)) ;
+  }
+
+  @Test public void shouldAddKeepOnlyTheSolutionsWithTheLowestConstraintViolation() {
+    MockDoubleProblem problem = new MockDoubleProblem(2) ;
+    OverallConstraintViolation<DoubleSolution> violation = new OverallConstraintViolation<>() ;
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>() ;
+
+    DoubleSolution infeasible = createSolution(problem, 1.0, 1.0) ;
+    violation.setAttribute(infeasible, -2.0);
+    DoubleSolution lessInfeasible = createSolution(problem, 2.0, 2.0) ;
+    violation.setAttribute(lessInfeasible, -1.0);
+    DoubleSolution feasible = createSolution(problem, 3.0, 3.0) ;
+    violation.setAttribute(feasible, 0.0);
+
+    assertTrue(archive.add(infeasible)) ;
+    assertTrue(archive.add(lessInfeasible)) ;
+    assertEquals(1, archive.size()) ;
+    assertFalse(archive.add(infeasible)) ;
+    assertTrue(archive.add(feasible)) ;
+    assertEquals(1, archive.size()) ;
+    assertSame(feasible, archive.get(0)) ;
+  }
+
+  @Test public void shouldAddReturnTheSameResultsAsTheNonDominatedSolutionListArchive() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+      MockDoubleProblem problem = new MockDoubleProblem(numberOfObjectives) ;
+      NonDominatedSolutionListArchive<DoubleSolution> listArchive =
+          new NonDominatedSolutionListArchive<>() ;
+      NDTreeArchive<DoubleSolution> treeArchive = new NDTreeArchive<>(4, 0) ;
+
+      for (int i = 0; i < 2000; i++) {
+        DoubleSolution solution = createRandomSolution(problem, random) ;
+        assertEquals(listArchive.add(solution), treeArchive.add(solution)) ;
+      }
+
+      assertSameSolutions(listArchive.getSolutionList(), treeArchive.getSolutionList()) ;
+    }
+  }
+
+  @Test public void shouldTheSolutionListBeAViewOfTheArchive() {
+    Random random = new Random(2) ;
+    MockDoubleProblem problem = new MockDoubleProblem(3) ;
+    NDTreeArchive<DoubleSolution> archive = new NDTreeArchive<>(4, 0) ;
+    for (int i = 0; i < 500; i++) {
+      archive.add(createRandomSolution(problem, random)) ;
+    }
+
+    List<DoubleSolution> solutionList = archive.getSolutionList() ;
+    Collections.sort(solutionList, new ObjectiveComparator<DoubleSolution>(0));
+    for (int i = 1; i < solutionList.size(); i++) {
+      assertTrue(solutionList.get(i - 1).getObjective(0) <= solutionList.get(i).getObjective(0)) ;
+    }
+
+    DoubleSolution removed = solutionList.remove(solutionList.size() / 2) ;
+    int size = archive.size() ;
+    assertTrue(archive.add(removed)) ;
+    assertEquals(size + 1, archive.size()) ;
+    assertFalse(archive.add(removed)) ;
+  }
+
+  @Test public void shouldAddKeepTheSameResultsAsTheNonDominatedSolutionListArchiveAfterSortingTheView() {
+    Random random = new Random(3) ;
+    MockDoubleProblem problem = new MockDoubleProblem(3) ;
+    NonDominatedSolutionListArchive<DoubleSolution> listArchive =
+        new NonDominatedSolutionListArchive<>() ;
+    NDTreeArchive<DoubleSolution> treeArchive = new NDTreeArchive<>(4, 0) ;
+
+    for (int i = 0; i < 2000; i++) {
+      if (i % 500 == 250) {
+        Collections.sort(treeArchive.getSolutionList(),
+            new ObjectiveComparator<DoubleSolution>(i % 3));
+      }
+      DoubleSolution solution = createRandomSolution(problem, random) ;
+      assertEquals(listArchive.add(solution), treeArchive.add(solution)) ;
+    }
+
+    assertSameSolutions(listArchive.getSolutionList(), treeArchive.getSolutionList()) ;
+  }
+
+  private void assertSameSolutions(List<DoubleSolution> expected, List<DoubleSolution> actual) {
+    assertEquals(expected.size(), actual.size()) ;
+    Map<DoubleSolution, Boolean> solutions = new IdentityHashMap<>() ;
+    for (DoubleSolution solution : expected) {
+      solutions.put(solution, Boolean.TRUE) ;
+    }
+    for (DoubleSolution solution : actual) {
+      assertTrue(solutions.containsKey(solution)) ;
+    }
+  }
+
+  /**
+   * Creates solutions near the unit simplex, rounded to produce some repeated objective values
+   */
+  private DoubleSolution createRandomSolution(MockDoubleProblem problem, Random random) {
+    double[] objectives = new double[problem.getNumberOfObjectives()] ;
+    double sum = 0.0 ;
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = random.nextDouble() ;
+      sum += objectives[i] ;
+    }
+    double scale = 1.0 + random.nextDouble() * 0.2 ;
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = Math.round(100.0 * scale * objectives[i] / sum) / 100.0 ;
+    }
+    return createSolution(problem, objectives) ;
+  }
+
+  private DoubleSolution createSolution(MockDoubleProblem problem, double... objectives) {
+    DoubleSolution solution = problem.createSolution() ;
+    for (int i = 0; i < objectives.length; i++) {
+      solution.setObjective(i, objectives[i]);
+    }
+    return solution ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockDoubleProblem extends AbstractDoubleProblem {
+    public MockDoubleProblem(int numberOfObjectives) {
+      setNumberOfVariables(1);
+      setNumberOfObjectives(numberOfObjectives);
+      setLowerLimit(Arrays.asList(0.0));
+      setUpperLimit(Arrays.asList(1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.impl.EvaluationCacheTest.MockDoubleProblem;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class CachingSolutionListEvaluatorTest {
+  private static final double EPSILON = 0.0000000000001 ;
+
+  @Test public void shouldEvaluateNotEvaluateAgainTheSolutionsInTheCache() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    CachingSolutionListEvaluator<DoubleSolution> evaluator = new CachingSolutionListEvaluator<>(100) ;
+    List<DoubleSolution> solutionList = createSolutionList(problem, 10) ;
+    List<DoubleSolution> copies = copy(solutionList) ;
+
+    assertSame(solutionList, evaluator.evaluate(solutionList, problem)) ;
+    evaluator.evaluate(copies, problem) ;
+
+    assertEquals(10, problem.numberOfEvaluations.get()) ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      assertEquals(solutionList.get(i).getObjective(0), copies.get(i).getObjective(0), EPSILON) ;
+      assertEquals(solutionList.get(i).getObjective(1), copies.get(i).getObjective(1), EPSILON) ;
+    }
+    assertEquals(10, evaluator.getCache().getHits()) ;
+    assertEquals(10, evaluator.getCache().getMisses()) ;
+  }
+
+  @Test public void shouldEvaluateEvaluateOnceTheRepeatedSolutionsOfAList() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    CachingSolutionListEvaluator<DoubleSolution> evaluator = new CachingSolutionListEvaluator<>(100) ;
+    List<DoubleSolution> solutionList = createSolutionList(problem, 5) ;
+    solutionList.addAll(copy(solutionList)) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+
+    assertEquals(5, problem.numberOfEvaluations.get()) ;
+    for (int i = 0; i < 5; i++) {
+      assertEquals(solutionList.get(i).getObjective(0), solutionList.get(i + 5).getObjective(0), EPSILON) ;
+    }
+  }
+
+  @Test public void shouldEvaluateRestoreTheConstraintsOfAConstrainedProblem() {
+    MockConstrainedProblem problem = new MockConstrainedProblem() ;
+    OverallConstraintViolation<DoubleSolution> overallConstraintViolation =
+        new OverallConstraintViolation<>() ;
+    CachingSolutionListEvaluator<DoubleSolution> evaluator = new CachingSolutionListEvaluator<>(100) ;
+    List<DoubleSolution> solutionList = createSolutionList(problem, 10) ;
+    List<DoubleSolution> copies = copy(solutionList) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.evaluate(copies, problem) ;
+
+    assertEquals(10, problem.numberOfConstraintEvaluations.get()) ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      assertEquals(overallConstraintViolation.getAttribute(solutionList.get(i)),
+          overallConstraintViolation.getAttribute(copies.get(i)), EPSILON) ;
+    }
+  }
+
+  @Test public void shouldEvaluateClearTheCacheIfTheProblemChanges() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    MockDoubleProblem otherProblem = new MockDoubleProblem() ;
+    CachingSolutionListEvaluator<DoubleSolution> evaluator = new CachingSolutionListEvaluator<>(100) ;
+    List<DoubleSolution> solutionList = createSolutionList(problem, 10) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.evaluate(copy(solutionList), otherProblem) ;
+
+    assertEquals(10, otherProblem.numberOfEvaluations.get()) ;
+  }
+
+  @Test public void shouldEvaluateWorkWithAParallelEvaluator() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    ForkJoinSolutionListEvaluator<DoubleSolution> parallelEvaluator =
+        new ForkJoinSolutionListEvaluator<>(4) ;
+    CachingSolutionListEvaluator<DoubleSolution> evaluator =
+        new CachingSolutionListEvaluator<>(parallelEvaluator, 10000) ;
+    List<DoubleSolution> solutionList = createSolutionList(problem, 1000) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+    evaluator.evaluate(copy(solutionList), problem) ;
+    evaluator.shutdown();
+
+    assertEquals(1000, problem.numberOfEvaluations.get()) ;
+    assertEquals(0.5, evaluator.getCache().getHitRate(), EPSILON) ;
+  }
+
+  private static List<DoubleSolution> createSolutionList(MockDoubleProblem problem, int size) {
+    List<DoubleSolution> solutionList = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      solutionList.add(problem.createSolution()) ;
+    }
+    return solutionList ;
+  }
+
+  private static List<DoubleSolution> copy(List<DoubleSolution> solutionList) {
+    List<DoubleSolution> copies = new ArrayList<>(solutionList.size()) ;
+    for (DoubleSolution solution : solutionList) {
+      copies.add((DoubleSolution) solution.copy()) ;
+    }
+    return copies ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockConstrainedProblem extends MockDoubleProblem
+      implements ConstrainedProblem<DoubleSolution> {
+    final AtomicInteger numberOfConstraintEvaluations = new AtomicInteger() ;
+    private final OverallConstraintViolation<DoubleSolution> overallConstraintViolation =
+        new OverallConstraintViolation<>() ;
+
+    @Override public void evaluateConstraints(DoubleSolution solution) {
+      overallConstraintViolation.setAttribute(solution, -Math.abs(solution.getVariableValue(0)));
+      numberOfConstraintEvaluations.incrementAndGet() ;
+    }
+  }
+}
@@ -0,0 +1,243 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractIntegerPermutationProblem;
+import org.uma.jmetal.problem.impl.AbstractIntegerProblem;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.IntegerSolution;
+import org.uma.jmetal.solution.PermutationSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class EvaluationCacheTest {
+  private static final double EPSILON = 0.0000000000001 ;
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheMaximumSizeIsNotPositive() {
+    new EvaluationCache<DoubleSolution>(0) ;
+  }
+
+  @Test public void shouldTheKeysOfDoubleSolutionsDependOnTheVariables() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    DoubleSolution solution = problem.createSolution() ;
+    assertKeysDependOnTheVariables(solution, 0, -solution.getVariableValue(0) - 1.0) ;
+
+    DoubleSolution otherSolution = (DoubleSolution) solution.copy() ;
+    solution.setVariableValue(0, 0.0);
+    otherSolution.setVariableValue(0, -0.0);
+    EvaluationCache<DoubleSolution> cache = new EvaluationCache<>(10) ;
+    assertNotEquals(cache.getKey(solution), cache.getKey(otherSolution)) ;
+  }
+
+  @Test public void shouldTheKeysOfIntegerSolutionsDependOnTheVariables() {
+    IntegerSolution solution = new MockIntegerProblem().createSolution() ;
+    assertKeysDependOnTheVariables(solution, 1, solution.getVariableValue(1) + 1) ;
+  }
+
+  @Test public void shouldTheKeysOfPermutationSolutionsDependOnTheVariables() {
+    PermutationSolution<Integer> solution = new MockPermutationProblem().createSolution() ;
+    PermutationSolution<Integer> otherSolution = (PermutationSolution<Integer>) solution.copy() ;
+    EvaluationCache<PermutationSolution<Integer>> cache = new EvaluationCache<>(10) ;
+    assertEquals(cache.getKey(solution), cache.getKey(otherSolution)) ;
+    assertEquals(cache.getKey(solution).hashCode(), cache.getKey(otherSolution).hashCode()) ;
+
+    Integer value = otherSolution.getVariableValue(0) ;
+    otherSolution.setVariableValue(0, otherSolution.getVariableValue(1));
+    otherSolution.setVariableValue(1, value);
+    assertNotEquals(cache.getKey(solution), cache.getKey(otherSolution)) ;
+  }
+
+  @Test public void shouldTheKeysOfBinarySolutionsDependOnTheBits() {
+    BinarySolution solution = new MockBinaryProblem().createSolution() ;
+    BinarySolution otherSolution = (BinarySolution) solution.copy() ;
+    EvaluationCache<BinarySolution> cache = new EvaluationCache<>(10) ;
+    EvaluationCache.Key key = cache.getKey(solution) ;
+    assertEquals(key, cache.getKey(otherSolution)) ;
+
+    otherSolution.getVariableValue(1).flip(90);
+    assertNotEquals(key, cache.getKey(otherSolution)) ;
+    otherSolution.getVariableValue(1).flip(90);
+    assertEquals(key, cache.getKey(otherSolution)) ;
+
+    solution.getVariableValue(0).clear();
+    solution.getVariableValue(1).clear();
+    otherSolution.getVariableValue(0).clear();
+    otherSolution.getVariableValue(1).clear();
+    solution.getVariableValue(0).set(3);
+    otherSolution.getVariableValue(1).set(3);
+    assertNotEquals(cache.getKey(solution), cache.getKey(otherSolution)) ;
+  }
+
+  @Test public void shouldRestoreSetTheObjectivesAndTheConstraintsOfACachedSolution() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    OverallConstraintViolation<DoubleSolution> overallConstraintViolation =
+        new OverallConstraintViolation<>() ;
+    NumberOfViolatedConstraints<DoubleSolution> numberOfViolatedConstraints =
+        new NumberOfViolatedConstraints<>() ;
+    EvaluationCache<DoubleSolution> cache = new EvaluationCache<>(10) ;
+
+    DoubleSolution solution = problem.createSolution() ;
+    DoubleSolution copy = (DoubleSolution) solution.copy() ;
+    assertFalse(cache.restore(cache.getKey(solution), solution)) ;
+
+    problem.evaluate(solution);
+    overallConstraintViolation.setAttribute(solution, -2.0);
+    numberOfViolatedConstraints.setAttribute(solution, 1);
+    cache.store(cache.getKey(solution), solution);
+
+    assertTrue(cache.restore(cache.getKey(copy), copy)) ;
+    assertEquals(solution.getObjective(0), copy.getObjective(0), EPSILON) ;
+    assertEquals(solution.getObjective(1), copy.getObjective(1), EPSILON) ;
+    assertEquals(-2.0, overallConstraintViolation.getAttribute(copy), EPSILON) ;
+    assertEquals(1, (int) numberOfViolatedConstraints.getAttribute(copy)) ;
+
+    assertEquals(1, cache.getHits()) ;
+    assertEquals(1, cache.getMisses()) ;
+    assertEquals(0.5, cache.getHitRate(), EPSILON) ;
+  }
+
+  @Test public void shouldTheLeastRecentlyUsedEvaluationBeRemovedWhenTheCacheIsFull() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    EvaluationCache<DoubleSolution> cache = new EvaluationCache<>(2) ;
+    List<DoubleSolution> solutions = new ArrayList<>() ;
+    for (int i = 0; i < 3; i++) {
+      solutions.add(problem.createSolution()) ;
+      problem.evaluate(solutions.get(i));
+    }
+
+    cache.store(cache.getKey(solutions.get(0)), solutions.get(0));
+    cache.store(cache.getKey(solutions.get(1)), solutions.get(1));
+    assertTrue(cache.restore(cache.getKey(solutions.get(0)), solutions.get(0))) ;
+    cache.store(cache.getKey(solutions.get(2)), solutions.get(2));
+
+    assertEquals(2, cache.getSize()) ;
+    assertTrue(cache.restore(cache.getKey(solutions.get(0)), solutions.get(0))) ;
+    assertFalse(cache.restore(cache.getKey(solutions.get(1)), solutions.get(1))) ;
+    assertTrue(cache.restore(cache.getKey(solutions.get(2)), solutions.get(2))) ;
+  }
+
+  @Test public void shouldTheSizeOfASegmentedCacheNotExceedTheMaximumSize() {
+    MockDoubleProblem problem = new MockDoubleProblem() ;
+    EvaluationCache<DoubleSolution> cache = new EvaluationCache<>(1000) ;
+    for (int i = 0; i < 5000; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      problem.evaluate(solution);
+      cache.store(cache.getKey(solution), solution);
+    }
+
+    assertTrue(cache.getSize() <= 1000) ;
+    assertTrue(cache.getSize() > 900) ;
+
+    cache.clear();
+    assertEquals(0, cache.getSize()) ;
+    assertEquals(0.0, cache.getHitRate(), EPSILON) ;
+  }
+
+  private <S extends Solution<T>, T> void assertKeysDependOnTheVariables(S solution, int index,
+      T otherValue) {
+    @SuppressWarnings("unchecked")
+    S otherSolution = (S) solution.copy() ;
+    EvaluationCache<S> cache = new EvaluationCache<>(10) ;
+    assertEquals(cache.getKey(solution), cache.getKey(otherSolution)) ;
+    assertEquals(cache.getKey(solution).hashCode(), cache.getKey(otherSolution).hashCode()) ;
+
+    otherSolution.setVariableValue(index, otherValue);
+    assertNotEquals(cache.getKey(solution), cache.getKey(otherSolution)) ;
+  }
+
+  @SuppressWarnings("serial")
+  static class MockDoubleProblem extends AbstractDoubleProblem {
+    final AtomicInteger numberOfEvaluations = new AtomicInteger() ;
+
+    public MockDoubleProblem() {
+      setNumberOfVariables(3);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(-1.0, -1.0, -1.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0, 1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+      double sum = 0.0 ;
+      for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+        sum += solution.getVariableValue(i) ;
+      }
+      solution.setObjective(0, sum);
+      solution.setObjective(1, -sum);
+      numberOfEvaluations.incrementAndGet() ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockIntegerProblem extends AbstractIntegerProblem {
+    public MockIntegerProblem() {
+      setNumberOfVariables(3);
+      setNumberOfObjectives(1);
+      setLowerLimit(Arrays.asList(0, 0, 0));
+      setUpperLimit(Arrays.asList(10, 10, 10));
+    }
+
+    @Override public void evaluate(IntegerSolution solution) {
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockPermutationProblem extends AbstractIntegerPermutationProblem {
+    public MockPermutationProblem() {
+      setNumberOfVariables(10);
+      setNumberOfObjectives(1);
+    }
+
+    @Override public int getPermutationLength() {
+      return 10 ;
+    }
+
+    @Override public void evaluate(PermutationSolution<Integer> solution) {
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockBinaryProblem extends AbstractBinaryProblem {
+    public MockBinaryProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(1);
+    }
+
+    @Override protected int getBitsPerVariable(int index) {
+      return 100 ;
+    }
+
+    @Override public void evaluate(BinarySolution solution) {
+    }
+  }
+}
@@ -0,0 +1,170 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ForkJoinSolutionListEvaluatorTest {
+  private static final double EPSILON = 0.0000000000001 ;
+  private ForkJoinSolutionListEvaluator<PointSolution> evaluator ;
+
+  @Before public void setup() {
+    evaluator = new ForkJoinSolutionListEvaluator<>(4) ;
+  }
+
+  @After public void tearDown() {
+    evaluator.shutdown();
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsNegative() {
+    new ForkJoinSolutionListEvaluator<PointSolution>(-1) ;
+  }
+
+  @Test public void shouldConstructorUseAllTheProcessorsIfTheNumberOfThreadsIsZero() {
+    assertEquals(Runtime.getRuntime().availableProcessors(),
+        new ForkJoinSolutionListEvaluator<PointSolution>(0).getNumberOfThreads()) ;
+  }
+
+  @Test public void shouldEvaluateAnEmptyListReturnTheList() {
+    List<PointSolution> solutionList = new ArrayList<>() ;
+
+    assertSame(solutionList, evaluator.evaluate(solutionList, new MockProblem())) ;
+  }
+
+  @Test public void shouldEvaluateEvaluateEachSolutionOnce() {
+    MockProblem problem = new MockProblem() ;
+    List<PointSolution> solutionList = createSolutionList(10000) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+
+    assertEquals(10000, problem.numberOfEvaluations.get()) ;
+    assertEquals(0, problem.numberOfConstraintEvaluations.get()) ;
+    for (PointSolution solution : solutionList) {
+      assertEquals(1.0, solution.getObjective(0), EPSILON) ;
+    }
+  }
+
+  @Test public void shouldEvaluateEvaluateTheConstraintsOfAConstrainedProblem() {
+    MockProblem problem = new MockConstrainedProblem() ;
+    List<PointSolution> solutionList = createSolutionList(1000) ;
+
+    evaluator.evaluate(solutionList, problem) ;
+
+    assertEquals(1000, problem.numberOfEvaluations.get()) ;
+    assertEquals(1000, problem.numberOfConstraintEvaluations.get()) ;
+    for (PointSolution solution : solutionList) {
+      assertEquals(1.0, solution.getObjective(1), EPSILON) ;
+    }
+  }
+
+  @Test public void shouldEvaluateWorkWithListsWithoutRandomAccess() {
+    MockProblem problem = new MockProblem() ;
+    List<PointSolution> solutionList = new LinkedList<>(createSolutionList(100)) ;
+
+    assertSame(solutionList, evaluator.evaluate(solutionList, problem)) ;
+    assertEquals(100, problem.numberOfEvaluations.get()) ;
+  }
+
+  @Test public void shouldEvaluateWithASingleThreadEvaluateEachSolutionOnce() {
+    ForkJoinSolutionListEvaluator<PointSolution> sequentialEvaluator =
+        new ForkJoinSolutionListEvaluator<>(1) ;
+    MockProblem problem = new MockConstrainedProblem() ;
+
+    sequentialEvaluator.evaluate(createSolutionList(100), problem) ;
+
+    assertEquals(100, problem.numberOfEvaluations.get()) ;
+    assertEquals(100, problem.numberOfConstraintEvaluations.get()) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldEvaluateRaiseAnExceptionIfAnEvaluationFails() {
+    MockProblem problem = new MockProblem() {
+      @Override public void evaluate(PointSolution solution) {
+        throw new RuntimeException("Evaluation error") ;
+      }
+    } ;
+
+    evaluator.evaluate(createSolutionList(100), problem) ;
+  }
+
+  private static List<PointSolution> createSolutionList(int size) {
+    List<PointSolution> solutionList = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      solutionList.add(new PointSolution(2)) ;
+    }
+    return solutionList ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem implements Problem<PointSolution> {
+    final AtomicInteger numberOfEvaluations = new AtomicInteger() ;
+    final AtomicInteger numberOfConstraintEvaluations = new AtomicInteger() ;
+
+    @Override public int getNumberOfVariables() {
+      return 0;
+    }
+
+    @Override public int getNumberOfObjectives() {
+      return 2;
+    }
+
+    @Override public int getNumberOfConstraints() {
+      return 0;
+    }
+
+    @Override public String getName() {
+      return "MockProblem";
+    }
+
+    @Override public void evaluate(PointSolution solution) {
+      solution.setObjective(0, solution.getObjective(0) + 1.0);
+      numberOfEvaluations.incrementAndGet() ;
+    }
+
+    @Override public PointSolution createSolution() {
+      return new PointSolution(2);
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockConstrainedProblem extends MockProblem
+      implements ConstrainedProblem<PointSolution> {
+    @Override public int getNumberOfConstraints() {
+      return 1;
+    }
+
+    @Override public void evaluateConstraints(PointSolution solution) {
+      solution.setObjective(1, solution.getObjective(1) + 1.0);
+      numberOfConstraintEvaluations.incrementAndGet() ;
+    }
+  }
+}
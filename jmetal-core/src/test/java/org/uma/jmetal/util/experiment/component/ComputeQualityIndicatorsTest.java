@@ -0,0 +1,160 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.experiment.component;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.WFGHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.experiment.Experiment;
+import org.uma.jmetal.util.experiment.ExperimentBuilder;
+import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontNormalizer;
+import org.uma.jmetal.util.front.util.FrontUtils;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ComputeQualityIndicatorsTest {
+  private static final double EPSILON = 0.000000001 ;
+  private static final int NUMBER_OF_RUNS = 5 ;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder() ;
+
+  @Test public void shouldRunComputeTheSameValuesAsEvaluatingEachFrontSequentially() throws IOException {
+    Random random = new Random(1) ;
+    List<Problem<DoubleSolution>> problems = new ArrayList<>() ;
+    List<String> referenceFrontFileNames = new ArrayList<>() ;
+    for (int i = 0; i < 3; i++) {
+      problems.add(new MockProblem("Problem" + i)) ;
+      referenceFrontFileNames.add("Problem" + i + ".pf") ;
+      writeFront(new File(folder.getRoot(), "Problem" + i + ".pf"), 50, random) ;
+    }
+
+    List<TaggedAlgorithm<List<DoubleSolution>>> algorithms = new ArrayList<>() ;
+    for (int i = 0; i < 4; i++) {
+      for (Problem<DoubleSolution> problem : problems) {
+        algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(null, "Algorithm" + i, problem, 0)) ;
+      }
+    }
+
+    List<GenericIndicator<DoubleSolution>> indicators = Arrays.<GenericIndicator<DoubleSolution>>asList(
+        new Epsilon<DoubleSolution>(), new GenerationalDistance<DoubleSolution>(),
+        new InvertedGenerationalDistance<DoubleSolution>(), new WFGHypervolume<DoubleSolution>()) ;
+
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment =
+        new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Study")
+            .setAlgorithmList(algorithms)
+            .setProblemList(problems)
+            .setExperimentBaseDirectory(folder.getRoot().getPath())
+            .setReferenceFrontDirectory(folder.getRoot().getPath())
+            .setReferenceFrontFileNames(referenceFrontFileNames)
+            .setIndicatorList(indicators)
+            .setOutputParetoFrontFileName("FUN")
+            .setOutputParetoSetFileName("VAR")
+            .setIndependentRuns(NUMBER_OF_RUNS)
+            .setNumberOfCores(4)
+            .build() ;
+
+    for (int i = 0; i < 4; i++) {
+      for (Problem<DoubleSolution> problem : problems) {
+        File directory = new File(experiment.getExperimentBaseDirectory() + "/data/Algorithm" + i +
+            "/" + problem.getName()) ;
+        assertTrue(directory.mkdirs()) ;
+        for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+          writeFront(new File(directory, "FUN" + run + ".tsv"), 10, random) ;
+          writeFront(new File(directory, "VAR" + run + ".tsv"), 10, random) ;
+        }
+      }
+    }
+
+    new ComputeQualityIndicators<List<DoubleSolution>>(experiment).run() ;
+
+    for (int i = 0; i < 4; i++) {
+      for (int problemId = 0; problemId < problems.size(); problemId++) {
+        String directory = experiment.getExperimentBaseDirectory() + "/data/Algorithm" + i +
+            "/" + problems.get(problemId).getName() ;
+        Front referenceFront = new ArrayFront(folder.getRoot().getPath() + "/" +
+            referenceFrontFileNames.get(problemId)) ;
+        FrontNormalizer normalizer = new FrontNormalizer(referenceFront) ;
+
+        for (GenericIndicator<DoubleSolution> indicator : indicators) {
+          List<String> lines = Files.readAllLines(new File(directory, indicator.getName()).toPath(),
+              StandardCharsets.UTF_8) ;
+          assertEquals(NUMBER_OF_RUNS, lines.size()) ;
+
+          indicator.setReferenceParetoFront(normalizer.normalize(referenceFront));
+          for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+            Front front = normalizer.normalize(new ArrayFront(directory + "/FUN" + run + ".tsv")) ;
+            assertEquals(indicator.evaluate(FrontUtils.convertFrontToSolutionList(front)),
+                Double.parseDouble(lines.get(run)), EPSILON) ;
+          }
+          assertTrue(new File(directory, "BEST_" + indicator.getName() + "_FUN.tsv").isFile()) ;
+        }
+      }
+    }
+  }
+
+  private void writeFront(File file, int numberOfPoints, Random random) throws IOException {
+    try (Writer writer = new FileWriter(file)) {
+      for (int i = 0; i < numberOfPoints; i++) {
+        double value = random.nextDouble() ;
+        writer.write(value + "\t" + (1.0 - value) * random.nextDouble() + "\n") ;
+      }
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    public MockProblem(String name) {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setName(name);
+      setLowerLimit(Arrays.asList(0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
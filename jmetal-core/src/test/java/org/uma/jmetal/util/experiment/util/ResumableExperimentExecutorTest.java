@@ -0,0 +1,241 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.experiment.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.experiment.Experiment;
+import org.uma.jmetal.util.experiment.ExperimentBuilder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ResumableExperimentExecutorTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder() ;
+
+  private AtomicInteger executedRuns = new AtomicInteger() ;
+
+  @Test public void shouldRunExecuteAllTheRunsAndRecordThemInTheLedger() throws IOException {
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment = createExperiment(2, 3) ;
+
+    ResumableExperimentExecutor<DoubleSolution, List<DoubleSolution>> executor =
+        new ResumableExperimentExecutor<>(experiment) ;
+    executor.run();
+
+    assertEquals(6, executedRuns.get()) ;
+    assertEquals(6, executor.getNumberOfCompletedRuns()) ;
+    assertEquals(0, executor.getNumberOfSkippedRuns()) ;
+    assertEquals(6, executor.getLedger().size()) ;
+    assertTrue(new File(experiment.getExperimentBaseDirectory() + "/data/Mock1/MockProblem/FUN2.tsv")
+        .isFile()) ;
+    assertFalse(new File(experiment.getExperimentBaseDirectory()
+        + "/data/Mock1/MockProblem/FUN2.tsv.tmp").exists()) ;
+  }
+
+  @Test public void shouldRunSkipTheCompletedRunsWhenTheExperimentIsResumed() throws IOException {
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment = createExperiment(2, 3) ;
+    new ResumableExperimentExecutor<>(experiment).run();
+
+    File funFile = new File(experiment.getExperimentBaseDirectory()
+        + "/data/Mock0/MockProblem/FUN1.tsv") ;
+    try (Writer writer = new FileWriter(funFile)) {
+      writer.write("0.5\n") ;
+    }
+    assertTrue(new File(experiment.getExperimentBaseDirectory()
+        + "/data/Mock1/MockProblem/VAR0.tsv").delete()) ;
+
+    executedRuns.set(0);
+    ResumableExperimentExecutor<DoubleSolution, List<DoubleSolution>> executor =
+        new ResumableExperimentExecutor<>(experiment) ;
+    executor.run();
+
+    assertEquals(2, executedRuns.get()) ;
+    assertEquals(4, executor.getNumberOfSkippedRuns()) ;
+    assertTrue(ResumableExperimentExecutor.isValidOutput(funFile, new File(
+        experiment.getExperimentBaseDirectory() + "/data/Mock0/MockProblem/VAR1.tsv"), 2)) ;
+  }
+
+  @Test public void shouldRunExecuteAgainARunWithEmptyOutputFiles() throws IOException {
+    Experiment<DoubleSolution, List<DoubleSolution>> experiment = createExperiment(2, 3) ;
+    new ResumableExperimentExecutor<>(experiment).run();
+
+    File funFile = new File(experiment.getExperimentBaseDirectory()
+        + "/data/Mock1/MockProblem/FUN2.tsv") ;
+    File varFile = new File(experiment.getExperimentBaseDirectory()
+        + "/data/Mock1/MockProblem/VAR2.tsv") ;
+    new FileWriter(funFile).close();
+    new FileWriter(varFile).close();
+    assertFalse(ResumableExperimentExecutor.isValidOutput(funFile, varFile, 2)) ;
+
+    executedRuns.set(0);
+    ResumableExperimentExecutor<DoubleSolution, List<DoubleSolution>> executor =
+        new ResumableExperimentExecutor<>(experiment) ;
+    executor.run();
+
+    assertEquals(1, executedRuns.get()) ;
+    assertEquals(5, executor.getNumberOfSkippedRuns()) ;
+    assertTrue(ResumableExperimentExecutor.isValidOutput(funFile, varFile, 2)) ;
+  }
+
+  @Test public void shouldTheRunsWithAMasterSeedGiveTheSameResultsForAnyNumberOfCores()
+      throws IOException {
+    Experiment<DoubleSolution, List<DoubleSolution>> sequentialExperiment =
+        createExperiment(2, 3, 1, folder.newFolder("sequential").getPath(), 7L) ;
+    Experiment<DoubleSolution, List<DoubleSolution>> parallelExperiment =
+        createExperiment(2, 3, 2, folder.newFolder("parallel").getPath(), 7L) ;
+    Experiment<DoubleSolution, List<DoubleSolution>> otherSeedExperiment =
+        createExperiment(2, 3, 2, folder.newFolder("otherSeed").getPath(), 8L) ;
+    new ResumableExperimentExecutor<>(sequentialExperiment).run();
+    new ResumableExperimentExecutor<>(parallelExperiment).run();
+    new ResumableExperimentExecutor<>(otherSeedExperiment).run();
+
+    String varFile = "/data/Mock1/MockProblem/VAR2.tsv" ;
+    List<String> sequentialResult = Files.readAllLines(
+        Paths.get(sequentialExperiment.getExperimentBaseDirectory() + varFile), StandardCharsets.UTF_8) ;
+    assertEquals(sequentialResult, Files.readAllLines(
+        Paths.get(parallelExperiment.getExperimentBaseDirectory() + varFile), StandardCharsets.UTF_8)) ;
+    assertNotEquals(sequentialResult, Files.readAllLines(
+        Paths.get(otherSeedExperiment.getExperimentBaseDirectory() + varFile), StandardCharsets.UTF_8)) ;
+  }
+
+  @Test public void shouldTheStreamsNotCollideWhenTheStringHashCodesDo() {
+    MockProblem problem = new MockProblem() ;
+    // "Aa" and "BB" have the same String.hashCode()
+    TaggedAlgorithm<List<DoubleSolution>> algorithm1 =
+        new TaggedAlgorithm<List<DoubleSolution>>(new MockAlgorithm(problem), "Aa", problem, 0) ;
+    TaggedAlgorithm<List<DoubleSolution>> algorithm2 =
+        new TaggedAlgorithm<List<DoubleSolution>>(new MockAlgorithm(problem), "BB", problem, 0) ;
+
+    assertNotEquals(ResumableExperimentExecutor.getStreamId(algorithm1),
+        ResumableExperimentExecutor.getStreamId(algorithm2)) ;
+  }
+
+  @Test public void shouldTheLedgerIgnoreIncompleteLines() throws IOException {
+    File file = folder.newFile("ledger.tsv") ;
+    try (Writer writer = new FileWriter(file)) {
+      writer.write("NSGAII\tZDT1\t0\t1500\nNSGAII\tZDT1\t1\t2500\nNSGAII\tZD") ;
+    }
+
+    ExperimentLedger ledger = new ExperimentLedger(file.getPath()) ;
+
+    assertEquals(2, ledger.size()) ;
+    assertTrue(ledger.contains("NSGAII", "ZDT1", 1)) ;
+    assertEquals(2000.0, ledger.getAverageElapsedTime("NSGAII", "ZDT1"), 0.0) ;
+    assertEquals(-1.0, ledger.getAverageElapsedTime("SMPSO", "ZDT1"), 0.0) ;
+  }
+
+  private Experiment<DoubleSolution, List<DoubleSolution>> createExperiment(
+      int numberOfAlgorithms, int numberOfRuns) throws IOException {
+    return createExperiment(numberOfAlgorithms, numberOfRuns, 2, folder.getRoot().getPath(), null) ;
+  }
+
+  private Experiment<DoubleSolution, List<DoubleSolution>> createExperiment(
+      int numberOfAlgorithms, int numberOfRuns, int numberOfCores, String baseDirectory,
+      Long masterSeed) throws IOException {
+    MockProblem problem = new MockProblem() ;
+    List<TaggedAlgorithm<List<DoubleSolution>>> algorithms = new ArrayList<>() ;
+    for (int i = 0; i < numberOfAlgorithms; i++) {
+      for (int run = 0; run < numberOfRuns; run++) {
+        algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(new MockAlgorithm(problem),
+            "Mock" + i, problem, run)) ;
+      }
+    }
+
+    ExperimentBuilder<DoubleSolution, List<DoubleSolution>> builder =
+        new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Mock")
+        .setAlgorithmList(algorithms)
+        .setProblemList(Arrays.<org.uma.jmetal.problem.Problem<DoubleSolution>>asList(problem))
+        .setExperimentBaseDirectory(baseDirectory)
+        .setNumberOfCores(numberOfCores) ;
+    if (masterSeed != null) {
+      builder.setMasterSeed(masterSeed) ;
+    }
+
+    return builder.build() ;
+  }
+
+  @SuppressWarnings("serial")
+  private class MockAlgorithm implements Algorithm<List<DoubleSolution>> {
+    private MockProblem problem ;
+    private List<DoubleSolution> result ;
+
+    public MockAlgorithm(MockProblem problem) {
+      this.problem = problem ;
+    }
+
+    @Override public void run() {
+      executedRuns.incrementAndGet() ;
+      result = new ArrayList<>() ;
+      for (int i = 0; i < 3; i++) {
+        DoubleSolution solution = problem.createSolution() ;
+        solution.setObjective(0, i);
+        solution.setObjective(1, 3 - i);
+        result.add(solution) ;
+      }
+    }
+
+    @Override public List<DoubleSolution> getResult() {
+      return result ;
+    }
+
+    @Override public String getName() {
+      return "Mock" ;
+    }
+
+    @Override public String getDescription() {
+      return "Mock algorithm" ;
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    public MockProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setName("MockProblem");
+      setLowerLimit(Arrays.asList(0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
@@ -0,0 +1,168 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.front.imp;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.Spread;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.util.FrontNormalizer;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.point.util.comparator.LexicographicalPointComparator;
+
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class FlatArrayFrontTest {
+  private static final double EPSILON = 0.0000000001 ;
+
+  @Test public void shouldThePointsBeViewsOfTheArray() {
+    FlatArrayFront front = new FlatArrayFront(new double[] {1, 2, 3, 4, 5, 6}, 2) ;
+
+    assertEquals(3, front.getNumberOfPoints()) ;
+    assertEquals(2, front.getPointDimensions()) ;
+    assertEquals(4.0, front.getPoint(1).getDimensionValue(1), EPSILON) ;
+
+    front.getPoint(2).setDimensionValue(0, 10.0);
+    front.setPoint(0, new ArrayPoint(new double[] {-1, -2}));
+
+    assertArrayEquals(new double[] {-1, -2, 3, 4, 10, 6}, front.getValues(), EPSILON) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldGetPointRaiseAnExceptionIfTheIndexIsTooHigh() {
+    new FlatArrayFront(2, 3).getPoint(2) ;
+  }
+
+  @Test public void shouldSortReorderThePoints() {
+    FlatArrayFront front = new FlatArrayFront(new double[] {3, 1, 1, 5, 2, 0, 1, 4}, 2) ;
+    front.sort(new LexicographicalPointComparator());
+
+    assertArrayEquals(new double[] {1, 4, 1, 5, 2, 0, 3, 1}, front.getValues(), EPSILON) ;
+  }
+
+  @Test public void shouldReadTheSameFrontAsArrayFront() throws FileNotFoundException {
+    String fileName = "/arrayFront/fileWithFourPoints.dat" ;
+
+    assertEquals(new FlatArrayFront(new ArrayFront(fileName)), new FlatArrayFront(fileName)) ;
+  }
+
+  @Test public void shouldNormalizeInPlaceGiveTheSameValuesAsTheFrontNormalizer() {
+    Front referenceFront = createRandomFront(new Random(1), 100, 3) ;
+    Front front = createRandomFront(new Random(2), 50, 3) ;
+    FrontNormalizer normalizer = new FrontNormalizer(referenceFront) ;
+
+    FlatArrayFront flatFront = new FlatArrayFront(front) ;
+    normalizer.normalizeInPlace(flatFront);
+
+    assertEquals(new FlatArrayFront(normalizer.normalize(front)), flatFront) ;
+    assertArrayEquals(FrontUtils.getMaximumValues(referenceFront),
+        FrontUtils.getMaximumValues(new FlatArrayFront(referenceFront)), EPSILON) ;
+    assertArrayEquals(FrontUtils.getMinimumValues(referenceFront),
+        FrontUtils.getMinimumValues(new FlatArrayFront(referenceFront)), EPSILON) ;
+  }
+
+  @Test public void shouldTheIndicatorsComputeTheSameValuesAsWithArrayFronts() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+      Front referenceFront = createRandomFront(random, 500, numberOfObjectives) ;
+      Front front = createRandomFront(random, 100, numberOfObjectives) ;
+      List<DoubleSolution> solutionList = FrontUtils.convertFrontToSolutionList(front) ;
+
+      assertEquals(
+          computeInvertedGenerationalDistance(front, referenceFront),
+          new InvertedGenerationalDistance<DoubleSolution>(new FlatArrayFront(referenceFront))
+              .evaluate(solutionList), EPSILON) ;
+      assertEquals(
+          computeInvertedGenerationalDistance(referenceFront, front),
+          new GenerationalDistance<DoubleSolution>(referenceFront).evaluate(solutionList), EPSILON) ;
+      assertEquals(computeEpsilon(front, referenceFront),
+          new Epsilon<DoubleSolution>(new FlatArrayFront(referenceFront)).evaluate(solutionList),
+          EPSILON) ;
+    }
+  }
+
+  @Test public void shouldSpreadNotSortTheReferenceFront() {
+    Random random = new Random(1) ;
+    Front referenceFront = createRandomFront(random, 100, 2) ;
+    FlatArrayFront flatReferenceFront = new FlatArrayFront(referenceFront) ;
+    FlatArrayFront copy = new FlatArrayFront(flatReferenceFront) ;
+    List<DoubleSolution> solutionList =
+        FrontUtils.convertFrontToSolutionList(createRandomFront(random, 20, 2)) ;
+
+    double value = new Spread<DoubleSolution>(flatReferenceFront).evaluate(solutionList) ;
+
+    assertEquals(copy, flatReferenceFront) ;
+    assertEquals(new Spread<DoubleSolution>(referenceFront).evaluate(solutionList), value, EPSILON) ;
+  }
+
+  private double computeInvertedGenerationalDistance(Front front, Front referenceFront) {
+    double sum = 0.0 ;
+    for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+      double minimum = Double.MAX_VALUE ;
+      for (int j = 0; j < front.getNumberOfPoints(); j++) {
+        double distance = 0.0 ;
+        for (int k = 0; k < front.getPointDimensions(); k++) {
+          double difference = referenceFront.getPoint(i).getDimensionValue(k) -
+              front.getPoint(j).getDimensionValue(k) ;
+          distance += difference * difference ;
+        }
+        minimum = Math.min(minimum, Math.sqrt(distance)) ;
+      }
+      sum += minimum * minimum ;
+    }
+
+    return Math.sqrt(sum) / referenceFront.getNumberOfPoints() ;
+  }
+
+  private double computeEpsilon(Front front, Front referenceFront) {
+    double epsilon = Double.NEGATIVE_INFINITY ;
+    for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+      double minimum = Double.POSITIVE_INFINITY ;
+      for (int j = 0; j < front.getNumberOfPoints(); j++) {
+        double maximum = Double.NEGATIVE_INFINITY ;
+        for (int k = 0; k < front.getPointDimensions(); k++) {
+          maximum = Math.max(maximum, front.getPoint(j).getDimensionValue(k) -
+              referenceFront.getPoint(i).getDimensionValue(k)) ;
+        }
+        minimum = Math.min(minimum, maximum) ;
+      }
+      epsilon = Math.max(epsilon, minimum) ;
+    }
+
+    return epsilon ;
+  }
+
+  private Front createRandomFront(Random random, int numberOfPoints, int dimensions) {
+    Front front = new ArrayFront(numberOfPoints, dimensions) ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < dimensions; j++) {
+        front.getPoint(i).setDimensionValue(j, random.nextDouble());
+      }
+    }
+    return front ;
+  }
+}
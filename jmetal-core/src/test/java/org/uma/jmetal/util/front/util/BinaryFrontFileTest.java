@@ -0,0 +1,159 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.front.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.fileinput.util.ReadDoubleDataFile;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class BinaryFrontFileTest {
+  private static final double EPSILON = 0.0000000000001 ;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder() ;
+
+  @Test public void shouldReadFrontReturnTheWrittenFront() throws IOException {
+    Random random = new Random(1) ;
+    Front front = new ArrayFront(20000, 3) ;
+    for (int i = 0; i < front.getNumberOfPoints(); i++) {
+      for (int j = 0; j < front.getPointDimensions(); j++) {
+        front.getPoint(i).setDimensionValue(j, random.nextDouble());
+      }
+    }
+
+    String fileName = folder.newFile().getPath() ;
+    BinaryFrontFile.write(front, fileName);
+
+    assertTrue(BinaryFrontFile.isBinaryFrontFile(fileName)) ;
+    assertEquals(16 + 8 + 20000 * 3 * 8, new File(fileName).length()) ;
+    assertEquals(front, BinaryFrontFile.readFront(fileName)) ;
+    assertEquals(front, new ArrayFront(fileName)) ;
+  }
+
+  @Test public void shouldReadFrontChangeTheSignOfTheMaximizedObjectives() throws IOException {
+    MockProblem problem = new MockProblem() ;
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < 3; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      solution.setObjective(0, i);
+      solution.setObjective(1, 10 + i);
+      solutionList.add(solution) ;
+    }
+
+    String fileName = folder.newFile().getPath() ;
+    BinaryFrontFile.writeObjectives(solutionList, Arrays.asList(true, false), fileName);
+
+    Front front = BinaryFrontFile.readFront(fileName) ;
+    assertEquals(3, front.getNumberOfPoints()) ;
+    assertEquals(2.0, front.getPoint(2).getDimensionValue(0), EPSILON) ;
+    assertEquals(-12.0, front.getPoint(2).getDimensionValue(1), EPSILON) ;
+    assertArrayEquals(new double[] {0, 10, 1, 11, 2, 12}, BinaryFrontFile.readValues(fileName), EPSILON) ;
+    assertTrue(Arrays.equals(new boolean[] {true, false}, BinaryFrontFile.readObjectiveSenses(fileName))) ;
+  }
+
+  @Test public void shouldSolutionListOutputWriteBinaryFilesWhenRequested() throws IOException {
+    MockProblem problem = new MockProblem() ;
+    List<DoubleSolution> solutionList = new ArrayList<>() ;
+    for (int i = 0; i < 5; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      solution.setObjective(0, i);
+      solution.setObjective(1, -i);
+      solutionList.add(solution) ;
+    }
+
+    String funFileName = folder.newFile().getPath() ;
+    String varFileName = folder.newFile().getPath() ;
+    new SolutionListOutput(solutionList)
+        .setBinaryFormat(true)
+        .setFunFileOutputContext(new DefaultFileOutputContext(funFileName))
+        .setVarFileOutputContext(new DefaultFileOutputContext(varFileName))
+        .print();
+
+    assertEquals(new ArrayFront(solutionList), new ArrayFront(funFileName)) ;
+    double[] variables = new ReadDoubleDataFile().readFile(varFileName) ;
+    assertEquals(10, variables.length) ;
+    assertEquals(solutionList.get(4).getVariableValue(1), variables[9], EPSILON) ;
+  }
+
+  @Test public void shouldReadAnEmptyFront() throws IOException {
+    String fileName = folder.newFile().getPath() ;
+    BinaryFrontFile.writeObjectives(new ArrayList<DoubleSolution>(), null, fileName);
+
+    assertEquals(0, BinaryFrontFile.readFront(fileName).getNumberOfPoints()) ;
+  }
+
+  @Test public void shouldIsBinaryFrontFileReturnFalseWithTextFiles() throws IOException {
+    File file = folder.newFile() ;
+    try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+      output.writeBytes("1.0 2.0\n") ;
+    }
+
+    assertFalse(BinaryFrontFile.isBinaryFrontFile(file.getPath())) ;
+    assertFalse(BinaryFrontFile.isBinaryFrontFile(file.getPath() + ".missing")) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldReadFrontRaiseAnExceptionIfTheFileIsTruncated() throws IOException {
+    Front front = new ArrayFront(10, 2) ;
+    String fileName = folder.newFile().getPath() ;
+    BinaryFrontFile.write(front, fileName);
+    try (RandomAccessFile file = new RandomAccessFile(fileName, "rw")) {
+      file.setLength(file.length() - 8);
+    }
+
+    BinaryFrontFile.readFront(fileName) ;
+  }
+
+  @SuppressWarnings("serial")
+  private static class MockProblem extends AbstractDoubleProblem {
+    public MockProblem() {
+      setNumberOfVariables(2);
+      setNumberOfObjectives(2);
+      setLowerLimit(Arrays.asList(0.0, 0.0));
+      setUpperLimit(Arrays.asList(1.0, 1.0));
+    }
+
+    @Override public void evaluate(DoubleSolution solution) {
+    }
+
+    @Override public DoubleSolution createSolution() {
+      return new DefaultDoubleSolution(this) ;
+    }
+  }
+}
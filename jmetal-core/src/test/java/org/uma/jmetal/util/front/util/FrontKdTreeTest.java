@@ -0,0 +1,207 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.front.util;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.ErrorRatio;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.imp.FlatArrayFront;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class FrontKdTreeTest {
+
+  @Test public void shouldTheQueriesReturnTheSameValuesAsASequentialScan() {
+    Random random = new Random(1) ;
+    for (int dimensions = 1; dimensions <= 6; dimensions++) {
+      for (int numberOfPoints : new int[] {1, 7, 9, 100, 2000}) {
+        FlatArrayFront front = createRandomFront(random, numberOfPoints, dimensions) ;
+        FlatArrayFront queries = createRandomFront(random, 200, dimensions) ;
+        FrontKdTree tree = new FrontKdTree(front) ;
+
+        for (int i = 0; i < queries.getNumberOfPoints(); i++) {
+          assertEquals(FrontUtils.distanceToClosestPoint(queries, i, front),
+              tree.distanceToClosestPoint(queries, i), 0.0) ;
+          assertEquals(FrontUtils.dominanceDistanceToClosestPoint(queries, i, front),
+              tree.dominanceDistanceToClosestPoint(queries, i), 0.0) ;
+        }
+        for (int i = 0; i < numberOfPoints; i++) {
+          assertTrue(tree.contains(front, i)) ;
+          assertEquals(0.0, tree.distanceToClosestPoint(front, i), 0.0) ;
+        }
+      }
+    }
+  }
+
+  @Test public void shouldContainsReturnFalseIfThePointIsNotInTheTree() {
+    FlatArrayFront front = createRandomFront(new Random(1), 500, 3) ;
+    FrontKdTree tree = new FrontKdTree(front) ;
+    FlatArrayFront point = new FlatArrayFront(front.getPoint(100).getValues(), 3) ;
+    point.setValue(0, 2, point.getValue(0, 2) + 0.0000001);
+
+    assertFalse(tree.contains(point, 0)) ;
+  }
+
+  @Test public void shouldThePointsWithNaNValuesBeIgnored() {
+    Random random = new Random(1) ;
+    FlatArrayFront front = createRandomFront(random, 300, 2) ;
+    for (int i = 0; i < front.getNumberOfPoints(); i += 3) {
+      front.setValue(i, i % 2, Double.NaN);
+    }
+    FlatArrayFront queries = createRandomFront(random, 100, 2) ;
+    queries.setValue(0, 1, Double.NaN);
+    queries.setValue(1, 0, Double.POSITIVE_INFINITY);
+
+    FrontKdTree tree = new FrontKdTree(front) ;
+
+    assertEquals(200, tree.getNumberOfPoints()) ;
+    for (int i = 0; i < queries.getNumberOfPoints(); i++) {
+      assertEquals(FrontUtils.distanceToClosestPoint(queries, i, front),
+          tree.distanceToClosestPoint(queries, i), 0.0) ;
+      assertEquals(FrontUtils.dominanceDistanceToClosestPoint(queries, i, front),
+          tree.dominanceDistanceToClosestPoint(queries, i), 0.0) ;
+    }
+    assertFalse(tree.contains(front, 0)) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldAQueryWithADifferentNumberOfDimensionsRaiseAnException() {
+    Random random = new Random(1) ;
+    new FrontKdTree(createRandomFront(random, 10, 3))
+        .distanceToClosestPoint(createRandomFront(random, 1, 2), 0) ;
+  }
+
+  @Test public void shouldIsWorthUsingRequireMorePointsWithMoreDimensions() {
+    assertFalse(FrontKdTree.isWorthUsing(63, 2)) ;
+    assertTrue(FrontKdTree.isWorthUsing(64, 2)) ;
+    assertFalse(FrontKdTree.isWorthUsing(1000, 8)) ;
+    assertTrue(FrontKdTree.isWorthUsing(1024, 8)) ;
+    assertFalse(FrontKdTree.isWorthUsing(Integer.MAX_VALUE, 30)) ;
+  }
+
+  @Test public void shouldTheIndicatorsReturnTheSameValuesAsASequentialScan() {
+    Random random = new Random(1) ;
+    FlatArrayFront referenceFront = createRandomFront(random, 5000, 3) ;
+    FlatArrayFront front = createRandomFront(random, 300, 3) ;
+    for (int i = 0; i < 50; i++) {
+      for (int j = 0; j < 3; j++) {
+        front.setValue(i, j, referenceFront.getValue(10 * i, j));
+      }
+    }
+    List<DoubleSolution> solutionList = FrontUtils.convertFrontToSolutionList(front) ;
+
+    double gd = 0.0 ;
+    for (int i = 0; i < front.getNumberOfPoints(); i++) {
+      gd += Math.pow(FrontUtils.distanceToClosestPoint(front, i, referenceFront), 2.0) ;
+    }
+    double igd = 0.0 ;
+    double igdPlus = 0.0 ;
+    for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+      igd += Math.pow(FrontUtils.distanceToClosestPoint(referenceFront, i, front), 2.0) ;
+      igdPlus += FrontUtils.dominanceDistanceToClosestPoint(referenceFront, i, front) ;
+    }
+
+    GenerationalDistance<DoubleSolution> generationalDistance =
+        new GenerationalDistance<>(referenceFront) ;
+    assertEquals(Math.pow(gd, 0.5) / front.getNumberOfPoints(),
+        generationalDistance.evaluate(solutionList), 0.0) ;
+    assertEquals(Math.pow(gd, 0.5) / front.getNumberOfPoints(),
+        generationalDistance.evaluate(solutionList), 0.0) ;
+    assertEquals(Math.pow(igd, 0.5) / referenceFront.getNumberOfPoints(),
+        new InvertedGenerationalDistance<DoubleSolution>(referenceFront).evaluate(solutionList), 0.0) ;
+    assertEquals(igdPlus / referenceFront.getNumberOfPoints(),
+        new InvertedGenerationalDistancePlus<DoubleSolution>(referenceFront).evaluate(solutionList), 0.0) ;
+    assertEquals(countPointsNotInFront(front, referenceFront) / 300.0,
+        new ErrorRatio<List<DoubleSolution>>(referenceFront).evaluate(solutionList), 0.0) ;
+  }
+
+  @Test public void shouldIsBuiltFromReturnFalseIfTheFrontIsModified() {
+    Random random = new Random(1) ;
+    FlatArrayFront front = createRandomFront(random, 500, 3) ;
+    FrontKdTree tree = new FrontKdTree(front) ;
+
+    assertTrue(tree.isBuiltFrom(front)) ;
+    assertFalse(tree.isBuiltFrom(new FlatArrayFront(front))) ;
+
+    front.normalize(front.getMinimumValues(), front.getMaximumValues());
+    assertFalse(tree.isBuiltFrom(front)) ;
+
+    tree = new FrontKdTree(front) ;
+    front.getPoint(0).setDimensionValue(0, 0.5);
+    assertFalse(tree.isBuiltFrom(front)) ;
+  }
+
+  @Test public void shouldTheIndicatorsNotUseATreeOfTheReferenceFrontBuiltBeforeItIsModified() {
+    Random random = new Random(1) ;
+    FlatArrayFront referenceFront = createRandomFront(random, 5000, 3) ;
+    FlatArrayFront front = new FlatArrayFront(referenceFront) ;
+    List<DoubleSolution> solutionList = FrontUtils.convertFrontToSolutionList(front) ;
+
+    GenerationalDistance<DoubleSolution> generationalDistance =
+        new GenerationalDistance<>(referenceFront) ;
+    ErrorRatio<List<DoubleSolution>> errorRatio = new ErrorRatio<>(referenceFront) ;
+    assertEquals(0.0, generationalDistance.evaluate(solutionList), 0.0) ;
+    assertEquals(0.0, errorRatio.evaluate(solutionList), 0.0) ;
+
+    FlatArrayFront otherFront = createRandomFront(random, 2500, 3) ;
+    for (int i = 0; i < otherFront.getNumberOfPoints(); i++) {
+      referenceFront.setPoint(2 * i, otherFront.getPoint(i));
+    }
+
+    double gd = 0.0 ;
+    for (int i = 0; i < front.getNumberOfPoints(); i++) {
+      gd += Math.pow(FrontUtils.distanceToClosestPoint(front, i, referenceFront), 2.0) ;
+    }
+    assertEquals(Math.pow(gd, 0.5) / front.getNumberOfPoints(),
+        generationalDistance.evaluate(solutionList), 0.0) ;
+    assertEquals(countPointsNotInFront(front, referenceFront) / 5000.0,
+        errorRatio.evaluate(solutionList), 0.0) ;
+  }
+
+  private int countPointsNotInFront(FlatArrayFront front, FlatArrayFront otherFront) {
+    int count = 0 ;
+    for (int i = 0; i < front.getNumberOfPoints(); i++) {
+      if (FrontUtils.distanceToClosestPoint(front, i, otherFront) != 0.0) {
+        count++ ;
+      }
+    }
+    return count ;
+  }
+
+  /**
+   * Random front with some repeated values, so the tree has to deal with ties
+   */
+  private FlatArrayFront createRandomFront(Random random, int numberOfPoints, int dimensions) {
+    FlatArrayFront front = new FlatArrayFront(numberOfPoints, dimensions) ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int j = 0; j < dimensions; j++) {
+        double value = random.nextDouble() * 2.0 - 0.5 ;
+        front.setValue(i, j, (random.nextInt(4) == 0) ? Math.round(value * 4) / 4.0 : value);
+      }
+    }
+    return front ;
+  }
+}
@@ -0,0 +1,123 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.parallel;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class ParallelLoopTest {
+  @Test(expected = JMetalException.class)
+  public void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsZero() {
+    new ParallelLoop(0) ;
+  }
+
+  @Test
+  public void shouldExecuteRunEachIterationOnceWithOneThread() {
+    checkThatEachIterationIsExecutedOnce(100, 1) ;
+  }
+
+  @Test
+  public void shouldExecuteRunEachIterationOnceWithSeveralThreads() {
+    checkThatEachIterationIsExecutedOnce(1000, 4) ;
+  }
+
+  @Test
+  public void shouldExecuteRunEachIterationOnceIfThereAreMoreThreadsThanIterations() {
+    checkThatEachIterationIsExecutedOnce(3, 8) ;
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldExecuteRaiseAnExceptionIfAnIterationFails() {
+    ParallelLoop loop = new ParallelLoop(4) ;
+    try {
+      loop.execute(100, new ParallelLoop.Body() {
+        @Override public void execute(int iteration) {
+          if (iteration == 50) {
+            throw new RuntimeException("Iteration " + iteration) ;
+          }
+        }
+      });
+    } finally {
+      loop.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldTheLoopsOfAParallelLoopBeExecutedByTheSameThreads() {
+    final Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>()) ;
+    ParallelLoop loop = new ParallelLoop(2) ;
+    try {
+      for (int i = 0; i < 10; i++) {
+        loop.execute(100, new ParallelLoop.Body() {
+          @Override public void execute(int iteration) {
+            threads.add(Thread.currentThread()) ;
+          }
+        });
+      }
+    } finally {
+      loop.shutdown();
+    }
+
+    assertTrue(threads.size() <= 2) ;
+  }
+
+  @Test
+  public void shouldExecuteRunEachIterationOnceAfterTheLoopHasBeenShutDown() {
+    final AtomicIntegerArray counters = new AtomicIntegerArray(100) ;
+    ParallelLoop loop = new ParallelLoop(4) ;
+    loop.shutdown();
+    try {
+      loop.execute(100, new ParallelLoop.Body() {
+        @Override public void execute(int iteration) {
+          counters.incrementAndGet(iteration) ;
+        }
+      });
+    } finally {
+      loop.shutdown();
+    }
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals(1, counters.get(i)) ;
+    }
+  }
+
+  private void checkThatEachIterationIsExecutedOnce(int numberOfIterations, int numberOfThreads) {
+    final AtomicIntegerArray counters = new AtomicIntegerArray(numberOfIterations) ;
+    ParallelLoop loop = new ParallelLoop(numberOfThreads) ;
+    try {
+      loop.execute(numberOfIterations, new ParallelLoop.Body() {
+        @Override public void execute(int iteration) {
+          counters.incrementAndGet(iteration) ;
+        }
+      });
+    } finally {
+      loop.shutdown();
+    }
+
+    for (int i = 0; i < numberOfIterations; i++) {
+      assertEquals(1, counters.get(i)) ;
+    }
+  }
+}
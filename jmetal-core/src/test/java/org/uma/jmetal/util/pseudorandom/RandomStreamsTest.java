@@ -0,0 +1,158 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom;
+
+import org.junit.After;
+import org.junit.Test;
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class RandomStreamsTest {
+  @After public void removeThreadGenerator() {
+    JMetalRandom.getInstance().removeThreadRandomGenerator();
+  }
+
+  @Test public void shouldSplitMix64GenerateTheSequenceOfSplittableRandom() {
+    // First values of java.util.SplittableRandom(0).nextLong()
+    SplitMix64Generator generator = new SplitMix64Generator(0) ;
+    assertEquals(0xe220a8397b1dcdafL, generator.nextLong()) ;
+    assertEquals(0x6e789e6aa1b965f4L, generator.nextLong()) ;
+    assertEquals(0x06c45d188009454fL, generator.nextLong()) ;
+  }
+
+  @Test public void shouldSplitMix64ValuesBeInRange() {
+    SplitMix64Generator generator = new SplitMix64Generator(1) ;
+    int[] counts = new int[5] ;
+    for (int i = 0; i < 10000; i++) {
+      int value = generator.nextInt(3, 7) ;
+      assertTrue(value >= 3 && value <= 7) ;
+      counts[value - 3]++ ;
+
+      double real = generator.nextDouble(-1.0, 1.0) ;
+      assertTrue(real >= -1.0 && real < 1.0) ;
+    }
+    for (int count : counts) {
+      assertTrue(count > 1800 && count < 2200) ;
+    }
+
+    int value = generator.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE) ;
+    assertTrue(value >= Integer.MIN_VALUE) ;
+  }
+
+  @Test public void shouldSetSeedRestartTheSequence() {
+    SplitMix64Generator generator = new SplitMix64Generator(5) ;
+    double first = generator.nextDouble() ;
+    generator.nextDouble() ;
+    generator.setSeed(5);
+
+    assertEquals(first, generator.nextDouble(), 0.0) ;
+    assertEquals(5, generator.getSeed()) ;
+  }
+
+  @Test public void shouldSplitReturnADifferentSequence() {
+    SplitMix64Generator generator = new SplitMix64Generator(3) ;
+    SplitMix64Generator split = generator.split() ;
+
+    assertNotEquals(generator.nextLong(), split.nextLong()) ;
+  }
+
+  @Test public void shouldTheStreamsDependOnlyOnTheMasterSeedTheRunAndTheStream() {
+    RandomStreams streams = new RandomStreams(42) ;
+
+    assertEquals(streams.getStreamSeed(1, 2), new RandomStreams(42).getStreamSeed(1, 2)) ;
+    assertNotEquals(streams.getStreamSeed(1, 2), streams.getStreamSeed(2, 1)) ;
+    assertNotEquals(streams.getStreamSeed(1, 2), streams.getStreamSeed(1, 3)) ;
+    assertNotEquals(streams.getStreamSeed(1, 2), new RandomStreams(43).getStreamSeed(1, 2)) ;
+    assertEquals(streams.getStream(0, 0).nextLong(), streams.getStream(0, 0).nextLong()) ;
+  }
+
+  @Test public void shouldJMetalRandomUseTheGeneratorOfTheCurrentThread() throws Exception {
+    final JMetalRandom random = JMetalRandom.getInstance() ;
+    PseudoRandomGenerator sharedGenerator = random.getRanndomGenerator() ;
+    final RandomStreams streams = new RandomStreams(11) ;
+    PseudoRandomGenerator generator = streams.bindToCurrentThread(0, 0) ;
+
+    assertSame(generator, random.getCurrentRandomGenerator()) ;
+    assertEquals(streams.getStream(0, 0).nextDouble(), random.nextDouble(), 0.0) ;
+
+    ExecutorService executor = Executors.newSingleThreadExecutor() ;
+    try {
+      Future<PseudoRandomGenerator> otherThreadGenerator = executor.submit(
+          new Callable<PseudoRandomGenerator>() {
+            @Override public PseudoRandomGenerator call() {
+              return random.getCurrentRandomGenerator() ;
+            }
+          }) ;
+      assertSame(sharedGenerator, otherThreadGenerator.get()) ;
+    } finally {
+      executor.shutdown();
+    }
+
+    random.removeThreadRandomGenerator();
+    assertSame(sharedGenerator, random.getCurrentRandomGenerator()) ;
+  }
+
+  @Test public void shouldParallelStreamsBeReproducible() throws Exception {
+    double[] first = drawInParallel(3) ;
+    double[] second = drawInParallel(1) ;
+
+    assertArrayEquals(first, second, 0.0) ;
+    assertFalse(first[0] == first[1]) ;
+  }
+
+  private double[] drawInParallel(int numberOfThreads) throws Exception {
+    final RandomStreams streams = new RandomStreams(2017) ;
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads) ;
+    try {
+      @SuppressWarnings("unchecked")
+      Future<Double>[] futures = new Future[6] ;
+      for (int i = 0; i < futures.length; i++) {
+        final int stream = i ;
+        futures[i] = executor.submit(new Callable<Double>() {
+          @Override public Double call() {
+            streams.bindToCurrentThread(0, stream) ;
+            double sum = 0.0 ;
+            for (int j = 0; j < 1000; j++) {
+              sum += JMetalRandom.getInstance().nextDouble() ;
+            }
+            JMetalRandom.getInstance().removeThreadRandomGenerator();
+            return sum ;
+          }
+        }) ;
+      }
+
+      double[] sums = new double[futures.length] ;
+      for (int i = 0; i < futures.length; i++) {
+        sums[i] = futures[i].get() ;
+      }
+      return sums ;
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,140 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class DivideAndConquerRankingTest {
+
+  @Test
+  public void shouldRankingOfAnEmptyPopulationHaveNoSubfronts() {
+    List<Solution<?>> population = Collections.emptyList() ;
+    Ranking<Solution<?>> ranking = new DivideAndConquerRanking<Solution<?>>() ;
+    ranking.computeRanking(population) ;
+
+    assertEquals(0, ranking.getNumberOfSubfronts()) ;
+  }
+
+  @Test
+  public void shouldComputeRanksReturnTheCorrectRanksOfATwoObjectiveFront() {
+    double[][] points = {{1.0, 5.0}, {2.0, 4.0}, {2.0, 6.0}, {1.0, 5.0}, {3.0, 7.0}, {0.5, 9.0}} ;
+    int[] expectedRanks = {0, 0, 1, 0, 2, 0} ;
+
+    assertArrayEquals(expectedRanks, new DivideAndConquerRanking<Solution<?>>().computeRanks(points));
+  }
+
+  @Test
+  public void shouldComputeRankingReturnTheSameSubfrontsAsDominanceRanking() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 1; numberOfObjectives <= 5; numberOfObjectives++) {
+      for (int run = 0; run < 10; run++) {
+        List<PointSolution> population = createRandomPopulation(random, 200, numberOfObjectives) ;
+
+        Ranking<PointSolution> expected = new DominanceRanking<PointSolution>().computeRanking(population) ;
+        Ranking<PointSolution> ranking = new DivideAndConquerRanking<PointSolution>().computeRanking(population) ;
+
+        assertSameSubfronts(expected, ranking) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldComputeRanksBeCallableConcurrentlyOnTheSameRanking() throws Exception {
+    final DivideAndConquerRanking<Solution<?>> ranking = new DivideAndConquerRanking<Solution<?>>() ;
+    Random random = new Random(1) ;
+    List<double[][]> pointSets = new ArrayList<>() ;
+    List<int[]> expectedRanks = new ArrayList<>() ;
+    for (int i = 0; i < 8; i++) {
+      double[][] points = new double[2000][3] ;
+      for (double[] point : points) {
+        for (int j = 0; j < point.length; j++) {
+          point[j] = random.nextInt(50) ;
+        }
+      }
+      pointSets.add(points) ;
+      expectedRanks.add(new DivideAndConquerRanking<Solution<?>>().computeRanks(points)) ;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4) ;
+    try {
+      for (int repetition = 0; repetition < 5; repetition++) {
+        List<Future<int[]>> futures = new ArrayList<>() ;
+        for (final double[][] points : pointSets) {
+          futures.add(executor.submit(new Callable<int[]>() {
+            @Override public int[] call() {
+              return ranking.computeRanks(points) ;
+            }
+          })) ;
+        }
+        for (int i = 0; i < futures.size(); i++) {
+          assertArrayEquals(expectedRanks.get(i), futures.get(i).get()) ;
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  static List<PointSolution> createRandomPopulation(Random random, int size, int numberOfObjectives) {
+    List<PointSolution> population = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      PointSolution solution = new PointSolution(numberOfObjectives) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        // Few different values, so that there are many ties and duplicated points
+        solution.setObjective(j, random.nextInt(8));
+      }
+      population.add(solution) ;
+    }
+
+    return population ;
+  }
+
+  static <S extends Solution<?>> void assertSameSubfronts(Ranking<S> expected, Ranking<S> ranking) {
+    assertEquals(expected.getNumberOfSubfronts(), ranking.getNumberOfSubfronts()) ;
+    for (int i = 0; i < expected.getNumberOfSubfronts(); i++) {
+      assertEquals(expected.getSubfront(i).size(), ranking.getSubfront(i).size()) ;
+      for (S solution : ranking.getSubfront(i)) {
+        assertEquals(true, containsSameInstance(expected.getSubfront(i), solution)) ;
+      }
+    }
+  }
+
+  private static <S> boolean containsSameInstance(List<S> list, S solution) {
+    for (S s : list) {
+      if (s == solution) {
+        return true ;
+      }
+    }
+    return false ;
+  }
+}
@@ -0,0 +1,78 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.EfficientNonDominatedSortRanking.SearchStrategy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class EfficientNonDominatedSortRankingTest {
+
+  @Test
+  public void shouldRankingOfAnEmptyPopulationHaveNoSubfronts() {
+    List<Solution<?>> population = Collections.emptyList() ;
+    Ranking<Solution<?>> ranking = new EfficientNonDominatedSortRanking<Solution<?>>() ;
+    ranking.computeRanking(population) ;
+
+    assertEquals(0, ranking.getNumberOfSubfronts()) ;
+  }
+
+  @Test (expected = JMetalException.class)
+  public void shouldGetSubfrontRaiseAnExceptionIfTheRankIsInvalid() {
+    List<Solution<?>> population = Collections.emptyList() ;
+    Ranking<Solution<?>> ranking = new EfficientNonDominatedSortRanking<Solution<?>>() ;
+    ranking.computeRanking(population) ;
+
+    ranking.getSubfront(0) ;
+  }
+
+  @Test
+  public void shouldComputeRankingReturnTheSameSubfrontsAsDominanceRanking() {
+    Random random = new Random(1) ;
+    for (SearchStrategy strategy : SearchStrategy.values()) {
+      for (int numberOfObjectives = 1; numberOfObjectives <= 5; numberOfObjectives++) {
+        for (int run = 0; run < 10; run++) {
+          List<PointSolution> population =
+              DivideAndConquerRankingTest.createRandomPopulation(random, 200, numberOfObjectives) ;
+
+          Ranking<PointSolution> expected = new DominanceRanking<PointSolution>().computeRanking(population) ;
+          Ranking<PointSolution> ranking =
+              new EfficientNonDominatedSortRanking<PointSolution>(strategy).computeRanking(population) ;
+
+          DivideAndConquerRankingTest.assertSameSubfronts(expected, ranking) ;
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldTheRankBeReadableThroughTheDominanceRankingAttribute() {
+    Ranking<PointSolution> ranking = new EfficientNonDominatedSortRanking<PointSolution>() ;
+
+    assertEquals(new DominanceRanking<PointSolution>().getAttributeID(), ranking.getAttributeID()) ;
+  }
+}
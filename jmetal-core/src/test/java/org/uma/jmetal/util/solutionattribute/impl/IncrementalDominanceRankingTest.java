@@ -0,0 +1,78 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro
+ * @version 1.0
+ */
+public class IncrementalDominanceRankingTest {
+
+  @Test
+  public void shouldAddASolutionToAnEmptyRankingCreateOneSubfront() {
+    IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+    ranking.computeRanking(new ArrayList<PointSolution>()) ;
+
+    PointSolution solution = new PointSolution(2) ;
+    assertEquals(0, ranking.add(solution)) ;
+    assertEquals(1, ranking.getNumberOfSubfronts()) ;
+    assertEquals(1, ranking.getNumberOfSolutions()) ;
+  }
+
+  @Test
+  public void shouldRemoveReturnFalseIfTheSolutionIsNotRanked() {
+    IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+
+    assertFalse(ranking.remove(new PointSolution(2))) ;
+  }
+
+  @Test
+  public void shouldAddAndRemoveKeepTheSameSubfrontsAsDominanceRanking() {
+    Random random = new Random(1) ;
+    for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+      List<PointSolution> population =
+          DivideAndConquerRankingTest.createRandomPopulation(random, 100, numberOfObjectives) ;
+
+      IncrementalDominanceRanking<PointSolution> ranking = new IncrementalDominanceRanking<>() ;
+      ranking.computeRanking(population) ;
+
+      for (int step = 0; step < 200; step++) {
+        PointSolution solution =
+            DivideAndConquerRankingTest.createRandomPopulation(random, 1, numberOfObjectives).get(0) ;
+        ranking.add(solution) ;
+        population.add(solution) ;
+
+        PointSolution removed = population.remove(random.nextInt(population.size())) ;
+        assertTrue(ranking.remove(removed)) ;
+
+        Ranking<PointSolution> expected = new DominanceRanking<PointSolution>().computeRanking(population) ;
+
+        assertEquals(population.size(), ranking.getNumberOfSolutions()) ;
+        DivideAndConquerRankingTest.assertSameSubfronts(expected, ranking) ;
+      }
+    }
+  }
+}
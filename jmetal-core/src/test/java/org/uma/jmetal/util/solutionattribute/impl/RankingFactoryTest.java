@@ -0,0 +1,85 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
+public class RankingFactoryTest {
+  private final RankingFactory factory = new RankingFactory() ;
+
+  @Test
+  public void shouldCreateRankingReturnADominanceRankingIfTheNumberOfObjectivesIsUnknown() {
+    assertTrue(factory.<PointSolution>createRanking(100, 0) instanceof DominanceRanking) ;
+  }
+
+  @Test
+  public void shouldCreateRankingReturnADivideAndConquerRankingWithTwoObjectives() {
+    assertTrue(factory.<PointSolution>createRanking(100, 2) instanceof DivideAndConquerRanking) ;
+    assertTrue(factory.<PointSolution>createRanking(10000, 2) instanceof DivideAndConquerRanking) ;
+  }
+
+  @Test
+  public void shouldCreateRankingWithThreeObjectivesDependOnThePopulationSize() {
+    int threshold = RankingFactory.DIVIDE_AND_CONQUER_THREE_OBJECTIVES_THRESHOLD ;
+
+    assertEquals(EfficientNonDominatedSortRanking.SearchStrategy.BINARY,
+        getSearchStrategy(factory.<PointSolution>createRanking(threshold - 1, 3))) ;
+    assertTrue(factory.<PointSolution>createRanking(threshold, 3) instanceof DivideAndConquerRanking) ;
+  }
+
+  @Test
+  public void shouldCreateRankingUseTheBinarySearchUpToTheMaximumNumberOfObjectives() {
+    int maximum = RankingFactory.BINARY_SEARCH_MAX_NUMBER_OF_OBJECTIVES ;
+
+    assertEquals(EfficientNonDominatedSortRanking.SearchStrategy.BINARY,
+        getSearchStrategy(factory.<PointSolution>createRanking(100, 4))) ;
+    assertEquals(EfficientNonDominatedSortRanking.SearchStrategy.BINARY,
+        getSearchStrategy(factory.<PointSolution>createRanking(100, maximum))) ;
+    assertEquals(EfficientNonDominatedSortRanking.SearchStrategy.SEQUENTIAL,
+        getSearchStrategy(factory.<PointSolution>createRanking(100, maximum + 1))) ;
+  }
+
+  @Test
+  public void shouldTheRankingsCreatedReturnTheSameSubfrontsAsDominanceRanking() {
+    Random random = new Random(1) ;
+    int[][] configurations = {{100, 2}, {50, 3}, {1000, 3}, {100, 5}, {100, 8}} ;
+    for (int[] configuration : configurations) {
+      List<PointSolution> population = DivideAndConquerRankingTest.createRandomPopulation(random,
+          configuration[0], configuration[1]) ;
+
+      Ranking<PointSolution> expected = new DominanceRanking<PointSolution>().computeRanking(population) ;
+      Ranking<PointSolution> ranking = factory.<PointSolution>createRanking(configuration[0],
+          configuration[1]).computeRanking(population) ;
+
+      DivideAndConquerRankingTest.assertSameSubfronts(expected, ranking) ;
+    }
+  }
+
+  private static EfficientNonDominatedSortRanking.SearchStrategy getSearchStrategy(
+      Ranking<PointSolution> ranking) {
+    assertTrue(ranking instanceof EfficientNonDominatedSortRanking) ;
+    return ((EfficientNonDominatedSortRanking<PointSolution>) ranking).getSearchStrategy() ;
+  }
+}
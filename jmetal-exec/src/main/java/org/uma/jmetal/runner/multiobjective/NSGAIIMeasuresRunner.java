@@ -25,9 +25,11 @@ import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder;
 import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIMeasures;
 import org.uma.jmetal.measure.MeasureListener;
 import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.AsynchronousPushMeasure;
 import org.uma.jmetal.measure.impl.BasicMeasure;
 import org.uma.jmetal.measure.impl.CountingMeasure;
 import org.uma.jmetal.measure.impl.DurationMeasure;
+import org.uma.jmetal.measure.impl.MeasureFactory;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
@@ -113,7 +115,12 @@ public class NSGAIIMeasuresRunner extends AbstractAlgorithmRunner {
     CountingMeasure iteration2 =
         (CountingMeasure) measureManager.<Long>getPushMeasure("currentEvaluation");
 
-    solutionListMeasure.register(new Listener());
+    /* The population is printed from another thread, without delaying the algorithm */
+    AsynchronousPushMeasure<List<DoubleSolution>> asynchronousSolutionListMeasure =
+        new MeasureFactory().createAsynchronousPush(solutionListMeasure, 1,
+            AsynchronousPushMeasure.Policy.COALESCE) ;
+
+    asynchronousSolutionListMeasure.register(new Listener());
     iteration2.register(new Listener2());
     /* End of measure management */
 
@@ -131,6 +138,7 @@ public class NSGAIIMeasuresRunner extends AbstractAlgorithmRunner {
     }
 
     algorithmThread.join();
+    asynchronousSolutionListMeasure.shutdown();
 
     List<DoubleSolution> population = algorithm.getResult() ;
     long computingTime = currentComputingTime.get() ;
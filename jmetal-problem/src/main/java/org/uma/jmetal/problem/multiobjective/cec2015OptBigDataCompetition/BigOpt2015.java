@@ -2,7 +2,9 @@ package org.uma.jmetal.problem.multiobjective.cec2015OptBigDataCompetition;
 
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.ArrayDoubleSolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -50,6 +52,12 @@ public class BigOpt2015 extends AbstractDoubleProblem {
     setUpperLimit(upperLimit);
   }
 
+  /** The number of variables is large, so the solutions are backed by a double[] */
+  @Override
+  public DoubleSolution createSolution() {
+    return new ArrayDoubleSolution(this) ;
+  }
+
   /** Evaluate() method */
   @Override
   public void evaluate(DoubleSolution solution) {
@@ -61,7 +69,7 @@ public class BigOpt2015 extends AbstractDoubleProblem {
     for (int i = 0 ; i < dTypeG; i++) {
       s1Temp = new ArrayList<>() ;
       for (int j = 0 ; j < icaComponent.get(0).size(); j++) {
-        s1Temp.add(solution.getVariableValue(i*(icaComponent.get(0).size())+j)) ;
+        s1Temp.add(SolutionUtils.getVariableValueAsDouble(solution, i*(icaComponent.get(0).size())+j)) ;
       }
       s1.add(s1Temp) ;
     }
@@ -24,6 +24,7 @@ package org.uma.jmetal.problem.multiobjective.dtlz;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -70,7 +71,7 @@ public class DTLZ2 extends AbstractDoubleProblem {
     double[] x = new double[numberOfVariables] ;
 
     for (int i = 0; i < numberOfVariables; i++) {
-      x[i] = solution.getVariableValue(i) ;
+      x[i] = SolutionUtils.getVariableValueAsDouble(solution, i) ;
     }
 
     int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
@@ -23,6 +23,7 @@ package org.uma.jmetal.problem.multiobjective.zdt;
 
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.SolutionUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -61,7 +62,7 @@ public class ZDT1 extends AbstractDoubleProblem {
   public void evaluate(DoubleSolution solution) {
     double[] f = new double[getNumberOfObjectives()];
 
-    f[0] = solution.getVariableValue(0);
+    f[0] = SolutionUtils.getVariableValueAsDouble(solution, 0);
     double g = this.evalG(solution);
     double h = this.evalH(f[0], g);
     f[1] = h * g;
@@ -78,7 +79,7 @@ public class ZDT1 extends AbstractDoubleProblem {
   private double evalG(DoubleSolution solution) {
     double g = 0.0;
     for (int i = 1; i < solution.getNumberOfVariables(); i++) {
-      g += solution.getVariableValue(i);
+      g += SolutionUtils.getVariableValueAsDouble(solution, i);
     }
     double constant = 9.0 / (solution.getNumberOfVariables() - 1);
     g = constant * g;
@@ -23,6 +23,7 @@ package org.uma.jmetal.problem.multiobjective.zdt;
 
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.SolutionUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -68,7 +69,7 @@ public class ZDT4 extends AbstractDoubleProblem {
     double[] f = new double[getNumberOfObjectives()];
     double[] x = new double[numberOfVariables] ;
 
-    f[0] = solution.getVariableValue(0);
+    f[0] = SolutionUtils.getVariableValueAsDouble(solution, 0);
     double g = this.evalG(solution);
     double h = this.evalH(f[0], g);
     f[1] = h * g;
@@ -85,8 +86,8 @@ public class ZDT4 extends AbstractDoubleProblem {
   public double evalG(DoubleSolution solution) {
     double g = 0.0;
     for (int var = 1; var < solution.getNumberOfVariables(); var++) {
-      g += Math.pow(solution.getVariableValue(var), 2.0) +
-        -10.0 * Math.cos(4.0 * Math.PI * solution.getVariableValue(var));
+      g += Math.pow(SolutionUtils.getVariableValueAsDouble(solution, var), 2.0) +
+        -10.0 * Math.cos(4.0 * Math.PI * SolutionUtils.getVariableValueAsDouble(solution, var));
     }
 
     double constant = 1.0 + 10.0 * (solution.getNumberOfVariables() - 1);